@@ -0,0 +1,93 @@
+package controller;
+
+import model.dungeonsanddragons.Game;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * CommandHistory class keeps the commands run against a game so that they can be taken back and
+ * made again one at a time, the way a player practicing a dungeon or a bot trying out moves
+ * would step back. Each command keeps only the changes it made, so a step back or forward costs
+ * the same however long the game has been played, and the dungeon is never generated again.
+ * Running a new command forgets the commands that were taken back. Class is kept as
+ * package-private since this class is used only internally by the controllers.
+ */
+class CommandHistory {
+
+  private final Deque<GameCommand> done;
+  private final Deque<GameCommand> undone;
+
+  /**
+   * A constructor to initialize an empty history.
+   */
+  CommandHistory() {
+    this.done = new ArrayDeque<>();
+    this.undone = new ArrayDeque<>();
+  }
+
+  /**
+   * Runs the command against the game and keeps it so that it can be taken back. A command that
+   * fails isn't kept.
+   *
+   * @param command represents the command to run.
+   * @param model represents the game to run the command against.
+   * @throws IllegalStateException depending on the exact command that is executed.
+   * @throws IllegalArgumentException if the command or the model is invalid.
+   */
+  void execute(GameCommand command, Game model)
+      throws IllegalStateException, IllegalArgumentException {
+    if (command == null) {
+      throw new IllegalArgumentException("Null arguments not allowed");
+    }
+    command.execute(model);
+    done.push(command);
+    undone.clear();
+  }
+
+  /**
+   * Takes back the last command that was run.
+   *
+   * @throws IllegalStateException if there is no command to take back.
+   */
+  void undo() throws IllegalStateException {
+    if (done.isEmpty()) {
+      throw new IllegalStateException("Nothing to undo!");
+    }
+    GameCommand command = done.pop();
+    command.undo();
+    undone.push(command);
+  }
+
+  /**
+   * Runs the last command that was taken back again.
+   *
+   * @throws IllegalStateException if there is no command to run again.
+   */
+  void redo() throws IllegalStateException {
+    if (undone.isEmpty()) {
+      throw new IllegalStateException("Nothing to redo!");
+    }
+    GameCommand command = undone.pop();
+    command.redo();
+    done.push(command);
+  }
+
+  /**
+   * Checks if there is a command that can be taken back.
+   *
+   * @return true if a command can be undone, false otherwise.
+   */
+  boolean canUndo() {
+    return !done.isEmpty();
+  }
+
+  /**
+   * Checks if there is a command that can be run again.
+   *
+   * @return true if a command can be redone, false otherwise.
+   */
+  boolean canRedo() {
+    return !undone.isEmpty();
+  }
+}
@@ -0,0 +1,168 @@
+package controller;
+
+import model.dungeonsanddragons.Game;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CommandLatencies class keeps a latency histogram for every type of command on every size of
+ * dungeon it was run on, along with one for the work the controller does after the command, such
+ * as taking the game state and updating the view. The histograms of every type of command are
+ * looked up by name once for the size of dungeon it last ran on and kept by the class of the
+ * command, so timing a command builds no names and running it only records the latency, until
+ * the size of the dungeon changes. The percentiles can be read
+ * from any thread while commands are being timed. Since the drivers dump the latencies of the
+ * controllers on demand, this class is kept as public.
+ */
+public final class CommandLatencies {
+
+  private static final String FOLLOW_UP = " follow-up";
+
+  private final Map<String, LatencyHistogram> histograms;
+  private final Map<Class<?>, Timings> timings;
+
+  /**
+   * A constructor to initialize the latencies without anything recorded.
+   */
+  public CommandLatencies() {
+    this.histograms = new ConcurrentHashMap<>();
+    this.timings = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Gets the histogram of the given type of command on the given size of dungeon.
+   *
+   * @param command represents the type of command.
+   * @param rows represents the number of rows of the dungeon.
+   * @param columns represents the number of columns of the dungeon.
+   * @return the histogram, null if nothing was recorded for it.
+   */
+  public LatencyHistogram getHistogram(String command, int rows, int columns) {
+    return histograms.get(key(command, rows, columns));
+  }
+
+  /**
+   * Gets the histogram of the work done after the given type of command on the given size of
+   * dungeon.
+   *
+   * @param command represents the type of command.
+   * @param rows represents the number of rows of the dungeon.
+   * @param columns represents the number of columns of the dungeon.
+   * @return the histogram, null if nothing was recorded for it.
+   */
+  public LatencyHistogram getFollowUpHistogram(String command, int rows, int columns) {
+    return histograms.get(key(command + FOLLOW_UP, rows, columns));
+  }
+
+  /**
+   * Writes a table of the count, the median, the 90th, 99th and 99.9th percentiles and the
+   * longest latency of every histogram, in microseconds.
+   *
+   * @return the table of latencies.
+   */
+  public String report() {
+    StringBuilder report = new StringBuilder(256);
+    report.append(String.format(Locale.ROOT, "%-32s %8s %9s %9s %9s %9s %9s%n", "command",
+        "count", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "max(us)"));
+    for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(histograms).entrySet()) {
+      LatencyHistogram histogram = entry.getValue();
+      report.append(String.format(Locale.ROOT, "%-32s %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+          entry.getKey(), histogram.getCount(), micros(histogram.getValueAtPercentile(50)),
+          micros(histogram.getValueAtPercentile(90)), micros(histogram.getValueAtPercentile(99)),
+          micros(histogram.getValueAtPercentile(99.9)), micros(histogram.getMax())));
+    }
+    return report.toString();
+  }
+
+  /**
+   * Wraps the command so that every execution of it is recorded in the histogram of its type and
+   * the size of the dungeon of the game.
+   *
+   * @param command represents the command to time.
+   * @param model represents the game the command is run against.
+   * @return the timed command.
+   * @throws IllegalArgumentException if the command or the model is null.
+   */
+  TimedCommand time(GameCommand command, Game model) throws IllegalArgumentException {
+    if (Objects.isNull(command) || Objects.isNull(model)) {
+      throw new IllegalArgumentException("Null arguments not allowed");
+    }
+    int rows = model.getRows();
+    int columns = model.getColumns();
+    Timings cached = timings.get(command.getClass());
+    if (cached == null || cached.rows != rows || cached.columns != columns) {
+      String type = command.getClass().getSimpleName();
+      cached = new Timings(rows, columns, histogram(type, rows, columns),
+          histogram(type + FOLLOW_UP, rows, columns));
+      timings.put(command.getClass(), cached);
+    }
+    return new TimedCommand(command, cached.latencies, cached.followUps);
+  }
+
+  /**
+   * Private helper method to get the histogram of the given name and size of dungeon, creating
+   * it the first time.
+   *
+   * @param name represents the name of the histogram.
+   * @param rows represents the number of rows of the dungeon.
+   * @param columns represents the number of columns of the dungeon.
+   * @return the histogram.
+   */
+  private LatencyHistogram histogram(String name, int rows, int columns) {
+    return histograms.computeIfAbsent(key(name, rows, columns), key -> new LatencyHistogram());
+  }
+
+  /**
+   * Private helper method to build the key of a histogram.
+   *
+   * @param name represents the name of the histogram.
+   * @param rows represents the number of rows of the dungeon.
+   * @param columns represents the number of columns of the dungeon.
+   * @return the key of the histogram.
+   */
+  private static String key(String name, int rows, int columns) {
+    return name + " " + rows + "x" + columns;
+  }
+
+  /**
+   * Private helper method to turn nanoseconds into microseconds.
+   *
+   * @param nanos represents the time in nanoseconds.
+   * @return the time in microseconds.
+   */
+  private static double micros(long nanos) {
+    return nanos / 1000.0;
+  }
+
+  /**
+   * Timings class holds the histograms of a type of command on the size of dungeon it last ran
+   * on.
+   */
+  private static final class Timings {
+
+    private final int rows;
+    private final int columns;
+    private final LatencyHistogram latencies;
+    private final LatencyHistogram followUps;
+
+    /**
+     * A constructor to initialize the histograms of the size of dungeon.
+     *
+     * @param rows represents the number of rows of the dungeon.
+     * @param columns represents the number of columns of the dungeon.
+     * @param latencies represents the histogram of the command.
+     * @param followUps represents the histogram of the work done after the command.
+     */
+    private Timings(int rows, int columns, LatencyHistogram latencies,
+        LatencyHistogram followUps) {
+      this.rows = rows;
+      this.columns = columns;
+      this.latencies = latencies;
+      this.followUps = followUps;
+    }
+  }
+}
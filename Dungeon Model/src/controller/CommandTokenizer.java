@@ -0,0 +1,77 @@
+package controller;
+
+import java.util.Locale;
+
+/**
+ * CommandTokenizer class splits the contents of a command script into whitespace separated
+ * tokens. It walks the characters directly instead of matching patterns the way a Scanner does,
+ * which keeps the replay of large scripts cheap. Class is kept as package-private since this class
+ * is used only internally by the controller.
+ */
+class CommandTokenizer {
+
+  private final CharSequence script;
+  private int position;
+
+  /**
+   * Initializes the tokenizer with the contents of the script.
+   *
+   * @param script represents the contents of the script.
+   * @throws IllegalArgumentException if the script is null.
+   */
+  public CommandTokenizer(CharSequence script) {
+    if (script == null) {
+      throw new IllegalArgumentException("Script can't be null!");
+    }
+    this.script = script;
+    this.position = 0;
+  }
+
+  /**
+   * Checks if there are more tokens left in the script.
+   *
+   * @return true if there is at least one more token, false otherwise.
+   */
+  public boolean hasNext() {
+    skipWhitespace();
+    return position < script.length();
+  }
+
+  /**
+   * Gets the next token without consuming it, converted to upper case.
+   *
+   * @return the next token, null if the script has no more tokens.
+   */
+  public String peek() {
+    int mark = position;
+    String token = next();
+    position = mark;
+    return token;
+  }
+
+  /**
+   * Gets the next token and consumes it, converted to upper case.
+   *
+   * @return the next token, null if the script has no more tokens.
+   */
+  public String next() {
+    skipWhitespace();
+    if (position >= script.length()) {
+      return null;
+    }
+    int start = position;
+    while (position < script.length() && !Character.isWhitespace(script.charAt(position))) {
+      position++;
+    }
+    return script.subSequence(start, position).toString().toUpperCase(Locale.ROOT);
+  }
+
+  /**
+   * Private helper method to move past the whitespace in front of the next token.
+   */
+  private void skipWhitespace() {
+    while (position < script.length() && Character.isWhitespace(script.charAt(position))) {
+      position++;
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package controller;
+
+import java.nio.file.Path;
+
+/**
+ * GameBatchController interface represents a non-interactive controller for Dungeons and Dragons
+ * game. It replays recorded command scripts against seeded games and reports the outcome of every
+ * script in a machine-readable form, which allows recorded sessions to be used as regression
+ * runs. Since this acts as a controller that the driver makes use of, a decision was made to keep
+ * the interface public.
+ */
+public interface GameBatchController {
+
+  /**
+   * Runs a single command script or every command script inside a directory. Each script is
+   * played against its own seeded game and one line describing the outcome is written per script.
+   *
+   * @param scripts represents a script file or a directory containing the script files.
+   * @throws IllegalArgumentException if the path is null or does not exist.
+   * @throws IllegalStateException if the outcomes can't be written.
+   */
+  void runScripts(Path scripts) throws IllegalArgumentException, IllegalStateException;
+}
@@ -0,0 +1,276 @@
+package controller;
+
+import model.dungeonsanddragons.FantasyRolePlayingGame;
+import model.dungeonsanddragons.Game;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * GameBatchControllerImpl class represents a controller that replays command scripts without any
+ * interaction. Scripts use the same commands as the console game (M, P, S, Q followed by their
+ * options, and Z or Y to undo or redo) and may start with 'SEED n' to override the default
+ * seed. Scripts are spread across all the available cores and the outcome of every script is
+ * written as a single JSON line, in the order of the script names. Since the driver uses this
+ * class to run the batch mode, this class is kept as public.
+ */
+public class GameBatchControllerImpl implements GameBatchController {
+
+  private final Appendable out;
+  private final int rows;
+  private final int columns;
+  private final boolean wrapping;
+  private final int interconnectivity;
+  private final int treasure;
+  private final int monsters;
+  private final long seed;
+  private final int threads;
+
+  /**
+   * Constructor to initialize the batch controller with the settings of the dungeon that every
+   * script is played against, and the appendable that the outcomes are written to.
+   *
+   * @param out               represents the target to write the outcomes to.
+   * @param rows              represents the number of rows in the dungeon.
+   * @param columns           represents the number of columns in the dungeon.
+   * @param wrapping          represents the wrapping status of the dungeon.
+   * @param interconnectivity represents the degree of interconnectivity of the dungeon.
+   * @param treasure          represents the percentage of caves that hold treasure.
+   * @param monsters          represents the number of monsters in the dungeon.
+   * @param seed              represents the seed used for scripts that don't specify one.
+   * @throws IllegalArgumentException if the appendable is null.
+   */
+  public GameBatchControllerImpl(Appendable out, int rows, int columns, boolean wrapping,
+      int interconnectivity, int treasure, int monsters, long seed) {
+    if (out == null) {
+      throw new IllegalArgumentException("Appendable can't be null");
+    }
+    this.out = out;
+    this.rows = rows;
+    this.columns = columns;
+    this.wrapping = wrapping;
+    this.interconnectivity = interconnectivity;
+    this.treasure = treasure;
+    this.monsters = monsters;
+    this.seed = seed;
+    this.threads = Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Runs a single command script or every command script inside a directory. Each script is
+   * played against its own seeded game and one line describing the outcome is written per script.
+   *
+   * @param scripts represents a script file or a directory containing the script files.
+   * @throws IllegalArgumentException if the path is null or does not exist.
+   * @throws IllegalStateException if the outcomes can't be written.
+   */
+  @Override
+  public void runScripts(Path scripts) {
+    if (Objects.isNull(scripts) || !Files.exists(scripts)) {
+      throw new IllegalArgumentException("Script path is invalid!");
+    }
+
+    List<Path> files;
+    if (Files.isDirectory(scripts)) {
+      try (Stream<Path> listing = Files.list(scripts)) {
+        files = listing.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+      } catch (IOException e) {
+        throw new IllegalArgumentException("Script directory can't be read!", e);
+      }
+    } else {
+      files = new ArrayList<>();
+      files.add(scripts);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1,
+        Math.min(threads, files.size())));
+    try {
+      List<Future<String>> outcomes = new ArrayList<>();
+      for (Path file : files) {
+        outcomes.add(executor.submit(() -> runScript(file)));
+      }
+
+      StringBuilder lines = new StringBuilder();
+      for (Future<String> outcome : outcomes) {
+        lines.append(outcome.get()).append('\n');
+      }
+      out.append(lines);
+    } catch (IOException e) {
+      throw new IllegalStateException("Append failed!", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Batch run interrupted!", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Batch run failed!", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Private helper method to play a single script and describe its outcome.
+   *
+   * @param file represents the script file.
+   * @return the outcome of the script as a JSON line.
+   */
+  private String runScript(Path file) {
+    String name = file.getFileName().toString();
+    CommandTokenizer tokens;
+    try {
+      tokens = new CommandTokenizer(new String(Files.readAllBytes(file),
+          StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      return errorLine(name, seed, "Script can't be read!");
+    }
+
+    long gameSeed = seed;
+    if ("SEED".equals(tokens.peek())) {
+      tokens.next();
+      try {
+        gameSeed = Long.parseLong(tokens.next());
+      } catch (NumberFormatException | NullPointerException e) {
+        return errorLine(name, seed, "Seed takes a numerical value!");
+      }
+    }
+
+    Game g;
+    try {
+      g = new FantasyRolePlayingGame(rows, columns, wrapping, interconnectivity, treasure,
+          monsters, 1, 1, new Random(gameSeed));
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      return errorLine(name, gameSeed, e.getMessage());
+    }
+
+    CommandHistory history = new CommandHistory();
+    int executed = 0;
+    int rejected = 0;
+    boolean isQuit = false;
+
+    //Mirrors the checks made by the console controller so that recorded sessions replay exactly.
+    while (!g.isReachedEnd() && !g.isKilled() && !isQuit && tokens.hasNext()) {
+      String input = tokens.next();
+      GameCommand cmd = null;
+
+      try {
+        switch (input) {
+          case "M":
+            if (tokens.hasNext()) {
+              cmd = new MovePlayer(tokens.next());
+            }
+            break;
+
+          case "P":
+            if (tokens.hasNext()) {
+              String opt = tokens.next();
+              cmd = opt.equals("A") ? new PickArrow() : new PickTreasure(opt);
+            }
+            break;
+
+          case "S":
+            if (tokens.hasNext()) {
+              int distance;
+              try {
+                distance = Integer.parseInt(tokens.peek());
+              } catch (NumberFormatException e) {
+                //Like the console, the offending token is left to be read as the next command.
+                rejected++;
+                continue;
+              }
+              tokens.next();
+              if (tokens.hasNext()) {
+                cmd = new ShootArrow(distance, tokens.next());
+              }
+            }
+            break;
+
+          case "Z":
+            history.undo();
+            executed++;
+            break;
+
+          case "Y":
+            history.redo();
+            executed++;
+            break;
+
+          case "Q":
+            isQuit = true;
+            break;
+
+          default:
+            rejected++;
+            break;
+        }
+
+        if (cmd != null) {
+          history.execute(cmd, g);
+          executed++;
+        }
+      } catch (IllegalStateException | IllegalArgumentException e) {
+        rejected++;
+      }
+    }
+
+    String outcome;
+    if (g.isKilled()) {
+      outcome = "KILLED";
+    } else if (g.isReachedEnd()) {
+      outcome = "WON";
+    } else if (isQuit) {
+      outcome = "QUIT";
+    } else {
+      outcome = "INCOMPLETE";
+    }
+
+    return String.format("{\"script\":\"%s\",\"seed\":%d,\"outcome\":\"%s\",\"executed\":%d,"
+            + "\"rejected\":%d,\"location\":%d,\"treasure\":%d,\"arrows\":%d}", escape(name),
+        gameSeed, outcome, executed, rejected, g.gameState().getLocationId(),
+        g.getTreasureCollectedByPlayer().size(), g.getArrowsInPlayerBag().size());
+  }
+
+  /**
+   * Private helper method to describe a script that could not be played.
+   *
+   * @param name represents the name of the script.
+   * @param gameSeed represents the seed of the script.
+   * @param message represents the reason the script could not be played.
+   * @return the outcome of the script as a JSON line.
+   */
+  private String errorLine(String name, long gameSeed, String message) {
+    return String.format("{\"script\":\"%s\",\"seed\":%d,\"outcome\":\"ERROR\","
+        + "\"message\":\"%s\"}", escape(name), gameSeed, escape(String.valueOf(message)));
+  }
+
+  /**
+   * Private helper method to escape a value so that it can be placed inside a JSON string.
+   *
+   * @param value represents the value to be escaped.
+   * @return the escaped value.
+   */
+  private String escape(String value) {
+    StringBuilder escaped = new StringBuilder(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        escaped.append('\\').append(c);
+      } else if (c < ' ') {
+        escaped.append(String.format("\\u%04x", (int) c));
+      } else {
+        escaped.append(c);
+      }
+    }
+    return escaped.toString();
+  }
+}
@@ -17,4 +17,18 @@ interface GameCommand {
    * @throws IllegalArgumentException if the model is invalid.
    */
   void execute(Game model) throws IllegalStateException, IllegalArgumentException;
+
+  /**
+   * Takes back the changes made by the last execution of the command.
+   *
+   * @throws IllegalStateException if the command hasn't been executed or was already undone.
+   */
+  void undo() throws IllegalStateException;
+
+  /**
+   * Makes the changes of the last execution of the command again, after they were undone.
+   *
+   * @throws IllegalStateException if the command hasn't been undone.
+   */
+  void redo() throws IllegalStateException;
 }
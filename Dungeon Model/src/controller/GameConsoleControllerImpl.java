@@ -1,9 +1,10 @@
 package controller;
 
 import model.dungeonsanddragons.Game;
+import model.dungeonsanddragons.ReadOnlyGame;
 import model.dungeonsanddragons.Smell;
-import model.dungeonsanddragons.Treasure;
 
+import java.io.Flushable;
 import java.io.IOException;
 import java.util.InputMismatchException;
 import java.util.Locale;
@@ -20,6 +21,8 @@ public class GameConsoleControllerImpl implements GameConsoleController {
 
   private final Appendable out;
   private final Scanner scan;
+  private final StringBuilder buffer;
+  private final CommandLatencies latencies;
 
   /**
    * Constructor to initialize the controller with the readable for input and the appendable
@@ -30,16 +33,38 @@ public class GameConsoleControllerImpl implements GameConsoleController {
    * @throws IllegalArgumentException if the readable or appendable is null.
    */
   public GameConsoleControllerImpl(Readable in, Appendable out) {
+    this(in, out, new CommandLatencies());
+  }
+
+  /**
+   * Constructor to initialize the controller with the readable for input, the appendable for
+   * output and the latencies every command is timed into. The latencies are written out when
+   * the user enters T.
+   *
+   * @param in  the source to read from.
+   * @param out the target to print to.
+   * @param latencies the latencies to time the commands into.
+   * @throws IllegalArgumentException if the readable, appendable or latencies are null.
+   */
+  public GameConsoleControllerImpl(Readable in, Appendable out, CommandLatencies latencies) {
     if (in == null || out == null) {
       throw new IllegalArgumentException("Readable and Appendable can't be null");
     }
+    if (latencies == null) {
+      throw new IllegalArgumentException("Latencies can't be null");
+    }
     this.out = out;
+    this.latencies = latencies;
     scan = new Scanner(in);
+    buffer = new StringBuilder(512);
   }
 
   /**
    * Plays out a full game of dungeons and dragons until the player wins or gets killed or quits
-   * the game. Command pattern is used to execute the user inputs.
+   * the game. Command pattern is used to execute the user inputs. Output of every turn is rendered
+   * into a reusable buffer from a single game state snapshot and is written out to the appendable
+   * only when the controller is about to wait for the next input. Every command is timed, along
+   * with the rendering of the turn that follows it.
    *
    * @param g is a non-null Game ModelM
    * @throws IllegalArgumentException if the game model is invalid.
@@ -52,97 +77,180 @@ public class GameConsoleControllerImpl implements GameConsoleController {
       throw new IllegalArgumentException("Model is invalid!");
     }
 
-    GameCommand cmd;
+    TimedCommand cmd = null;
+    CommandHistory history = new CommandHistory();
     boolean isQuit = false;
+    buffer.setLength(0);
+
+    while (!g.isReachedEnd() && !g.isKilled() && !isQuit) {
+
+      //Displaying Game State and Player Description at every move.
+      long started = System.nanoTime();
+      ReadOnlyGame state = g.gameState();
+      gameState(state);
+      playerDescription(state);
+      if (cmd != null) {
+        cmd.followedUp(started);
+        cmd = null;
+      }
 
-    try {
-      while (!g.isReachedEnd() && !g.isKilled() && !isQuit) {
-
-        //Displaying Game State and Player Description at every move.
-        gameState(g);
-        playerDescription(g);
-
-        out.append("What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? ");
-        String input = scan.next().toUpperCase(Locale.ROOT);
-
-        switch (input) {
-          case "M":
-            out.append("Where to (Up - U, Down - D, Left - L, Right - R)? ");
-            String opt = scan.next().toUpperCase(Locale.ROOT);
-            try {
-              cmd = new MovePlayer(opt);
-              cmd.execute(g);
-            } catch (IllegalStateException e) {
-              out.append(String.format("%s\n",e.getMessage()));
-            } catch (IllegalArgumentException a) {
-              out.append(String.format("%s\n",a.getMessage()));
+      buffer.append("What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, "
+          + "Hint - H, Undo - Z, Redo - Y, Timings - T, Quit - Q)? ");
+      flush();
+      String input = scan.next().toUpperCase(Locale.ROOT);
+
+      switch (input) {
+        case "M":
+          buffer.append("Where to (Up - U, Down - D, Left - L, Right - R)? ");
+          flush();
+          String opt = scan.next().toUpperCase(Locale.ROOT);
+          try {
+            TimedCommand timed = latencies.time(new MovePlayer(opt), g);
+            history.execute(timed, g);
+            cmd = timed;
+          } catch (IllegalStateException e) {
+            buffer.append(e.getMessage()).append('\n');
+          } catch (IllegalArgumentException a) {
+            buffer.append(a.getMessage()).append('\n');
+          }
+          break;
+
+        case "P":
+          buffer.append("What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? ");
+          flush();
+          opt = scan.next().toUpperCase(Locale.ROOT);
+
+          try {
+            if (opt.equals("A")) {
+              TimedCommand timed = latencies.time(new PickArrow(), g);
+              history.execute(timed, g);
+              cmd = timed;
             }
-            break;
-
-          case "P":
-            out.append("What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? ");
-            opt = scan.next().toUpperCase(Locale.ROOT);
-
-            try {
-              if (opt.equals("A")) {
-                cmd = new PickArrow();
-                cmd.execute(g);
-              }
-              else {
-                cmd = new PickTreasure(opt);
-                cmd.execute(g);
-                break;
-              }
-            } catch (IllegalStateException s) {
-              out.append("Can't find that in here!\n");
-            } catch (IllegalArgumentException a) {
-              out.append(String.format("%s\n",a.getMessage()));
+            else {
+              TimedCommand timed = latencies.time(new PickTreasure(opt), g);
+              history.execute(timed, g);
+              cmd = timed;
+              break;
             }
-            break;
+          } catch (IllegalStateException s) {
+            buffer.append("Can't find that in here!\n");
+          } catch (IllegalArgumentException a) {
+            buffer.append(a.getMessage()).append('\n');
+          }
+          break;
+
+        case "S":
+          try {
+            buffer.append("How far? ");
+            flush();
+            int dis = scan.nextInt();
+            buffer.append("Which direction (Up - U, Down - D, Left - L, Right - R)? ");
+            flush();
+            String dir = scan.next().toUpperCase(Locale.ROOT);
+            TimedCommand timed = latencies.time(new ShootArrow(dis, dir), g);
+            history.execute(timed, g);
+            cmd = timed;
+            buffer.append("You shot the arrow into the darkness!\n");
+          } catch (IllegalStateException e) {
+            buffer.append(e.getMessage()).append('\n');
+          } catch (IllegalArgumentException a) {
+            buffer.append(a.getMessage()).append('\n');
+          } catch (InputMismatchException e) {
+            buffer.append("Distance takes a numerical value!\n");
+          }
+          break;
+
+        case "G":
+          buffer.append("Which way (Down - D, Up - U)? ");
+          flush();
+          opt = scan.next().toUpperCase(Locale.ROOT);
+          try {
+            TimedCommand timed = latencies.time(new TakeStairs(opt), g);
+            timed.execute(g);
+            //The level that was left may be put away, so its actions can't be taken back.
+            history = new CommandHistory();
+            cmd = timed;
+            buffer.append("You took the stairs!\n");
+          } catch (IllegalStateException e) {
+            buffer.append(e.getMessage()).append('\n');
+          } catch (IllegalArgumentException a) {
+            buffer.append(a.getMessage()).append('\n');
+          }
+          break;
 
-          case "S":
-            try {
-              out.append("How far? ");
-              int dis = scan.nextInt();
-              out.append("Which direction (Up - U, Down - D, Left - L, Right - R)? ");
-              String dir = scan.next().toUpperCase(Locale.ROOT);
-              cmd = new ShootArrow(dis, dir);
-              cmd.execute(g);
-              out.append("You shot the arrow into the darkness!\n");
-            } catch (IllegalStateException e) {
-              out.append(String.format("%s\n",e.getMessage()));
-            } catch (IllegalArgumentException a) {
-              out.append(String.format("%s\n",a.getMessage()));
-            } catch (InputMismatchException e) {
-              out.append("Distance takes a numerical value!\n");
-            }
+        case "H":
+          int moves = g.getDistanceToEnd();
+          if (moves == 0) {
+            buffer.append("You are already at the exit!\n");
             break;
+          }
+          buffer.append("The exit is ").append(moves).append(moves == 1 ? " move" : " moves")
+              .append(" away. Try going ").append(g.getNextStepToEnd()).append("!\n");
+          break;
+
+        case "Z":
+          try {
+            history.undo();
+            buffer.append("You took back your last action!\n");
+          } catch (IllegalStateException e) {
+            buffer.append(e.getMessage()).append('\n');
+          }
+          break;
+
+        case "Y":
+          try {
+            history.redo();
+            buffer.append("You made your last action again!\n");
+          } catch (IllegalStateException e) {
+            buffer.append(e.getMessage()).append('\n');
+          }
+          break;
 
-          case "Q":
-            isQuit = true;
-            break;
+        case "T":
+          buffer.append(latencies.report());
+          break;
 
-          default:
-            out.append("Didn't offer that Option!\n");
-            break;
-        }
-      }
+        case "Q":
+          isQuit = true;
+          break;
 
-      if (g.isKilled()) {
-        out.append("\nOops!!!!! An hungry monster just obliterated you!\n");
+        default:
+          buffer.append("Didn't offer that Option!\n");
+          break;
       }
+    }
 
-      if (g.isReachedEnd()) {
-        out.append("\nYayy!!!!! You've conquered the dungeon by slaying the boss Otyugh!\n");
-      }
+    if (g.isKilled()) {
+      buffer.append("\nOops!!!!! An hungry monster just obliterated you!\n");
+    }
 
-      if (isQuit) {
-        out.append("\nBooo!!!!! You just gave up!\n");
-      }
-      out.append("You might wanna play again!");
+    if (g.isReachedEnd()) {
+      buffer.append("\nYayy!!!!! You've conquered the dungeon by slaying the boss Otyugh!\n");
+    }
 
+    if (isQuit) {
+      buffer.append("\nBooo!!!!! You just gave up!\n");
+    }
+    buffer.append("You might wanna play again!");
+    flush();
+  }
+
+  /**
+   * Private helper method to write everything rendered so far to the appendable in a single
+   * call. The buffer is cleared afterwards so that it can be reused for the next turn.
+   *
+   * @throws IllegalStateException if the append fails.
+   */
+  private void flush() {
+    try {
+      out.append(buffer);
+      if (out instanceof Flushable) {
+        ((Flushable) out).flush();
+      }
     } catch (IOException e) {
       throw new IllegalStateException("Append failed!", e);
+    } finally {
+      buffer.setLength(0);
     }
   }
 
@@ -150,64 +258,41 @@ public class GameConsoleControllerImpl implements GameConsoleController {
    * Private helper method to parse the game state returned by the model. Since an independent
    * view doesn't exist, controller is responsible for generating the view to the user.
    *
-   * @param g represents the game model
+   * @param state represents the snapshot of the game model for the current turn.
    */
-  private void gameState(Game g) {
-    boolean treasureFound = false;
-    boolean weaponFound = false;
+  private void gameState(ReadOnlyGame state) {
+    String type = state.getLocationType();
+    boolean treasureFound = state.getTreasure().size() > 0;
+    int arrows = state.getArrowCount();
 
-    try {
-
-      out.append("\n");
+    buffer.append('\n');
 
-      if (g.getSmell() != null && g.getSmell().equals(Smell.PUNGENT)) {
-        out.append("You take a whiff and smell something foul nearby!\n");
-      } else if (g.getSmell() != null && g.getSmell().equals(Smell.MOREPUNGENT)) {
-        out.append("You are smelling something terrible! Threat Looming!\n");
-      }
+    if (Smell.PUNGENT.toString().equals(state.getSmell())) {
+      buffer.append("You take a whiff and smell something foul nearby!\n");
+    } else if (Smell.MOREPUNGENT.toString().equals(state.getSmell())) {
+      buffer.append("You are smelling something terrible! Threat Looming!\n");
+    }
 
-      out.append(String.format("You are in a %s and can move %s\n",
-          g.gameState().getLocationType(), parseMoves(g)));
+    buffer.append("You are in a ").append(type).append(" and can move ");
+    parseMoves(state);
+    buffer.append('\n');
 
-      if (g.gameState().getTreasure().size() > 0) {
-        treasureFound = true;
-      }
-      if (g.gameState().getArrows().size() > 0) {
-        weaponFound = true;
+    if (treasureFound || arrows > 0) {
+      buffer.append("This ").append(type).append(" has ");
+      if (treasureFound) {
+        parseCaveTreasure(state);
       }
-
-      if (treasureFound && weaponFound) {
-        if (g.gameState().getArrows().size() == 1) {
-          out.append(String.format("This %s has %s and %s arrow\n",
-              g.gameState().getLocationType(), parseCaveTreasure(g),
-              g.gameState().getArrows().size()));
-        } else {
-          out.append(String.format("This %s has %s and %s arrows\n",
-              g.gameState().getLocationType(), parseCaveTreasure(g),
-              g.gameState().getArrows().size()));
-        }
-      } else if (treasureFound && !weaponFound) {
-        out.append(String.format("This %s has %s\n",
-            g.gameState().getLocationType(),
-            parseCaveTreasure(g)));
-      } else if (!treasureFound && weaponFound) {
-        if (g.gameState().getArrows().size() == 1) {
-          out.append(String.format("This %s has %s arrow\n",
-              g.gameState().getLocationType(),
-              g.gameState().getArrows().size()));
-        } else {
-          out.append(String.format("This %s has %s arrows\n",
-              g.gameState().getLocationType(),
-              g.gameState().getArrows().size()));
-        }
+      if (treasureFound && arrows > 0) {
+        buffer.append(" and ");
       }
-
-      if (g.gameState().getMonsterHealth() == 0) {
-        out.append("You spot a trophy. The monster you have slayed!\n");
+      if (arrows > 0) {
+        buffer.append(arrows).append(arrows == 1 ? " arrow" : " arrows");
       }
+      buffer.append('\n');
     }
-    catch (IOException e) {
-      throw new IllegalStateException("Append failed!", e);
+
+    if (state.getMonsterHealth() == 0) {
+      buffer.append("You spot a trophy. The monster you have slayed!\n");
     }
   }
 
@@ -216,162 +301,97 @@ public class GameConsoleControllerImpl implements GameConsoleController {
    * independent view doesn't exist, controller is responsible for generating the view to the
    * user.
    *
-   * @param g represents the game model
+   * @param state represents the snapshot of the game model for the current turn.
    */
-  private void playerDescription(Game g) {
-    try {
-      if (g.getArrowsInPlayerBag().size() > 0) {
-        if (g.getArrowsInPlayerBag().size() == 1) {
-          out.append(String.format("\nYou currently have %s arrow in your bag "
-              + "that you can use.\n", g.getArrowsInPlayerBag().size()));
-        } else {
-          out.append(String.format("\nYou currently have %s arrows in your bag "
-              + "that you can use.\n", g.getArrowsInPlayerBag().size()));
-        }
-      } else if (g.getArrowsInPlayerBag().size() == 0) {
-        out.append("\nYou are out of arrows. Explore to find more!.\n");
-      }
+  private void playerDescription(ReadOnlyGame state) {
+    int arrows = state.getPlayerArrowCount();
 
-      if (g.getTreasureCollectedByPlayer().size() == 0) {
-        out.append("You have not picked any treasure yet.\n");
-      } else {
-        out.append(String.format("So far, You have picked %s\n", parsePlayerTreasure(g)));
-      }
-    }
-    catch (IOException e) {
-      throw new IllegalStateException("Append failed!", e);
+    if (arrows > 0) {
+      buffer.append("\nYou currently have ").append(arrows)
+          .append(arrows == 1 ? " arrow" : " arrows")
+          .append(" in your bag that you can use.\n");
+    } else {
+      buffer.append("\nYou are out of arrows. Explore to find more!.\n");
     }
-  }
-
-  /**
-   * Private helper method to parse the treasure objects of the cave.
-   *
-   * @param g represents the game model.
-   * @return the treasure in the caves as a String.
-   */
-  private String parseCaveTreasure(Game g) {
-    String diamonds = "";
-    String rubies = "";
-    String sapphires = "";
-
-
-    if (g.gameState().getLocationType().equals("CAVE")) {
-
-      if (g.gameState().getTreasure().size() > 0) {
-        int rCount = 0;
-        int dCount = 0;
-        int sCount = 0;
-
-        for (Treasure treasure : g.gameState().getTreasure()) {
-          if (treasure.toString().equals("RUBY")) {
-            rCount += 1;
-          } else if (treasure.toString().equals("DIAMOND")) {
-            dCount += 1;
-          } else if (treasure.toString().equals("SAPPHIRE")) {
-            sCount += 1;
-          }
-        }
 
-        diamonds = treasureCountHelper(dCount, "Diamond");
-        rubies = treasureCountHelper(rCount, "Ruby");
-        sapphires = treasureCountHelper(sCount, "Sapphire");
-      }
+    if (state.getPlayerDiamondCount() + state.getPlayerRubyCount()
+        + state.getPlayerSapphireCount() == 0) {
+      buffer.append("You have not picked any treasure yet.\n");
+    } else {
+      buffer.append("So far, You have picked ");
+      treasureDisplayHelper(state.getPlayerDiamondCount(), state.getPlayerRubyCount(),
+          state.getPlayerSapphireCount());
+      buffer.append('\n');
     }
-    return treasureDisplayHelper(diamonds, rubies, sapphires);
   }
 
   /**
-   * Private helper method to parse the treasure objects of the player.
+   * Private helper method to parse the treasure objects of the cave.
    *
-   * @param g represents the game model.
-   * @return the treasure in the players bag as a String.
+   * @param state represents the snapshot of the game model for the current turn.
    */
-  private String parsePlayerTreasure(Game g) {
-
-    int rCount = 0;
-    int dCount = 0;
-    int sCount = 0;
-
-    for (Treasure treasure : g.getTreasureCollectedByPlayer()) {
-      if (treasure.toString().equals("RUBY")) {
-        rCount += 1;
-      } else if (treasure.toString().equals("DIAMOND")) {
-        dCount += 1;
-      } else if (treasure.toString().equals("SAPPHIRE")) {
-        sCount += 1;
-      }
+  private void parseCaveTreasure(ReadOnlyGame state) {
+    if (state.getLocationType().equals("CAVE")) {
+      treasureDisplayHelper(state.getDiamondCount(), state.getRubyCount(),
+          state.getSapphireCount());
+    } else {
+      treasureDisplayHelper(0, 0, 0);
     }
-
-    String diamonds = "";
-    String rubies = "";
-    String sapphires = "";
-
-    diamonds = treasureCountHelper(dCount, "Diamond");
-    rubies = treasureCountHelper(rCount, "Ruby");
-    sapphires = treasureCountHelper(sCount, "Sapphire");
-
-    return treasureDisplayHelper(diamonds, rubies, sapphires);
   }
 
   /**
    * Private helper method to parse the available moves in the location returned by the game model.
    *
-   * @param g represents the game model.
-   * @return the possible available moves as a String.
+   * @param state represents the snapshot of the game model for the current turn.
    */
-  private String parseMoves(Game g) {
-    String moves = "";
+  private void parseMoves(ReadOnlyGame state) {
+    boolean first = true;
 
-    for (String move : g.gameState().getPossibleMoves()) {
-      moves += String.format("%s, ", move);
+    for (String move : state.getPossibleMoves()) {
+      if (!first) {
+        buffer.append(", ");
+      }
+      buffer.append(move);
+      first = false;
     }
-
-    moves = moves.substring(0, moves.length() - 2);
-    return moves;
   }
 
   /**
-   * Private helper method to calculate the count of treasure.
+   * Private helper method to write the count of a single type of treasure.
    *
    * @param count represents the number of treasure items.
    * @param type represents the treasure type
-   * @return the number of arrows with appropriate plural form.
+   * @param first represents if this is the first treasure type that is being written.
+   * @return true if nothing has been written so far, false otherwise.
    */
-  private String treasureCountHelper(int count, String type) {
-    String treasure = "";
-    if (count == 1) {
-      treasure = String.format("%d %s",count, type);
-    } else if (count > 1) {
-      treasure = String.format("%d %ss",count, type);
+  private boolean treasureCountHelper(int count, String type, boolean first) {
+    if (count < 1) {
+      return first;
+    }
+    if (!first) {
+      buffer.append(", ");
+    }
+    buffer.append(count).append(' ').append(type);
+    if (count > 1) {
+      buffer.append('s');
     }
-    return treasure;
+    return false;
   }
 
   /**
-   * Private helper method to parse the treasure to a readable format.
+   * Private helper method to write the treasure in a readable format.
    *
-   * @param diamonds represents the treasure type diamond.
-   * @param rubies represents the treasure type ruby.
-   * @param sapphires represents the treasure type sapphire.
-   * @return the total treasure contained
+   * @param diamonds represents the count of treasure type diamond.
+   * @param rubies represents the count of treasure type ruby.
+   * @param sapphires represents the count of treasure type sapphire.
    */
-  private String treasureDisplayHelper(String diamonds, String rubies, String sapphires) {
-    String total = "";
-    if (diamonds.length() > 1) {
-      total += String.format("%s, ", diamonds);
-    }
-    if (rubies.length() > 1) {
-      total += String.format("%s, ", rubies);
-    }
-    if (sapphires.length() > 1) {
-      total += String.format("%s, ", sapphires);
-    }
+  private void treasureDisplayHelper(int diamonds, int rubies, int sapphires) {
+    boolean first = treasureCountHelper(diamonds, "Diamond", true);
+    first = treasureCountHelper(rubies, "Ruby", first);
+    first = treasureCountHelper(sapphires, "Sapphire", first);
 
-    if (total.length() > 1) {
-      total = total.substring(0, total.length() - 2);
-      return total;
-    } else {
-      return "no treasure!";
+    if (first) {
+      buffer.append("no treasure!");
     }
   }
 
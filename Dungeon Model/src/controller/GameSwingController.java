@@ -34,6 +34,35 @@ public interface GameSwingController {
    */
   void pickArrow();
 
+  /**
+   * Takes the mouse click or keyboard input and displays how far the end cave is along with the
+   * move that takes the player closer to it.
+   */
+  void hint();
+
+  /**
+   * Takes the keyboard input and displays the latencies of the commands run so far.
+   */
+  void latencies();
+
+  /**
+   * Takes the keyboard input and takes back the last move, pick or shot of the player.
+   */
+  void undo();
+
+  /**
+   * Takes the keyboard input and makes the last move, pick or shot that was taken back again.
+   */
+  void redo();
+
+  /**
+   * Takes the keyboard input and takes the stairs down to the next level or up to the level
+   * above, in a game of more than one level.
+   *
+   * @param way represents whether the player goes Down or Up the stairs.
+   */
+  void stairs(String way);
+
   /**
    * Takes the mouse click or keyboard input and calls the shoot arrow method of the model.
    *
@@ -2,8 +2,14 @@ package controller;
 
 import model.dungeonsanddragons.FantasyRolePlayingGame;
 import model.dungeonsanddragons.Game;
+import model.dungeonsanddragons.GameEventType;
+import model.dungeonsanddragons.GameListener;
+import model.dungeonsanddragons.SpectatorHub;
+import model.dungeonsanddragons.SplittableGameRandom;
+import model.dungeonsanddragons.TimerWheel;
 import view.GameView;
 
+import java.util.Objects;
 import java.util.Random;
 
 /**
@@ -17,6 +23,11 @@ public class GameSwingControllerImpl implements GameSwingController {
 
   private Game model;
   private final GameView view;
+  private final TimerWheel timers;
+  private final SpectatorHub spectators;
+  private final CommandLatencies latencies;
+  private GameListener thefts;
+  private CommandHistory history;
   private int seed;
 
   /**
@@ -27,6 +38,81 @@ public class GameSwingControllerImpl implements GameSwingController {
   public GameSwingControllerImpl(Game model, GameView view) {
     this.model = model;
     this.view = view;
+    this.timers = null;
+    this.spectators = null;
+    this.latencies = new CommandLatencies();
+    this.history = new CommandHistory();
+  }
+
+  /**
+   * A constructor to initialize the controller with a Graphical User Interface(GUI) view and the
+   * timer wheel that fires the timed rules of every game played through it.
+   *
+   * @param model represents the game model.
+   * @param view represents the GUI view.
+   * @param timers represents the timer wheel that fires the timed rules.
+   * @throws IllegalArgumentException if the timer wheel is null.
+   */
+  public GameSwingControllerImpl(Game model, GameView view, TimerWheel timers) {
+    if (Objects.isNull(timers)) {
+      throw new IllegalArgumentException("Timer wheel can't be null!");
+    }
+    this.model = model;
+    this.view = view;
+    this.timers = timers;
+    this.spectators = null;
+    this.latencies = new CommandLatencies();
+    this.history = new CommandHistory();
+  }
+
+  /**
+   * A constructor to initialize the controller with a Graphical User Interface(GUI) view and the
+   * hub that spectators watch the games through. The changes made by every command are published
+   * to the spectators once the command is done.
+   *
+   * @param model represents the game model.
+   * @param view represents the GUI view.
+   * @param spectators represents the hub that spectators watch the games through.
+   * @throws IllegalArgumentException if the hub is null.
+   */
+  public GameSwingControllerImpl(Game model, GameView view, SpectatorHub spectators) {
+    if (Objects.isNull(spectators)) {
+      throw new IllegalArgumentException("Spectator hub can't be null!");
+    }
+    this.model = model;
+    this.view = view;
+    this.timers = null;
+    this.spectators = spectators;
+    this.latencies = new CommandLatencies();
+    this.history = new CommandHistory();
+  }
+
+  /**
+   * A constructor to initialize the controller with a Graphical User Interface(GUI) view, the
+   * timer wheel that fires the timed rules of every game played through it and the hub that
+   * spectators watch the games through. The changes made by every command are published to the
+   * spectators once the command is done.
+   *
+   * @param model represents the game model.
+   * @param view represents the GUI view.
+   * @param timers represents the timer wheel that fires the timed rules.
+   * @param spectators represents the hub that spectators watch the games through.
+   * @throws IllegalArgumentException if the timer wheel or the hub is null.
+   */
+  public GameSwingControllerImpl(Game model, GameView view, TimerWheel timers,
+      SpectatorHub spectators) {
+    if (Objects.isNull(timers)) {
+      throw new IllegalArgumentException("Timer wheel can't be null!");
+    }
+    if (Objects.isNull(spectators)) {
+      throw new IllegalArgumentException("Spectator hub can't be null!");
+    }
+    this.model = model;
+    this.view = view;
+    this.timers = timers;
+    this.spectators = spectators;
+    this.latencies = new CommandLatencies();
+    this.history = new CommandHistory();
   }
 
   /**
@@ -36,6 +122,8 @@ public class GameSwingControllerImpl implements GameSwingController {
   public void playGame() {
     this.view.setFeatures(this);
     this.view.resetFocus();
+    attachTimers();
+    attachSpectators();
     view.generateDungeonPanel(model.getRows(), model.getColumns(),
         model.gameState());
     view.updateDungeonPanel(model.gameState());
@@ -49,12 +137,14 @@ public class GameSwingControllerImpl implements GameSwingController {
   @Override
   public void move(String direction) {
     try {
-      GameCommand cmd;
-      cmd = new MovePlayer(direction);
-      cmd.execute(model);
+      TimedCommand cmd = latencies.time(new MovePlayer(direction), model);
+      history.execute(cmd, model);
+      long started = System.nanoTime();
       model.checkTreasureStolen(System.currentTimeMillis());
+      publishChanges();
       view.updateDungeonPanel(model.gameState());
       view.displayPlayerAction("Player moved " + direction);
+      cmd.followedUp(started);
       if (model.isKilled()) {
         view.gameOver(this, model.gameState(), " YOU GOT KILLED!!!!");
       }
@@ -93,11 +183,13 @@ public class GameSwingControllerImpl implements GameSwingController {
   @Override
   public void pickTreasure(String treasure) {
     try {
-      GameCommand cmd;
-      cmd = new PickTreasure(treasure);
-      cmd.execute(model);
+      TimedCommand cmd = latencies.time(new PickTreasure(treasure), model);
+      history.execute(cmd, model);
+      long started = System.nanoTime();
+      publishChanges();
       view.updateDungeonPanel(model.gameState());
       view.displayPlayerAction("Player picked a " + treasure);
+      cmd.followedUp(started);
     }
     catch (IllegalStateException e) {
       /*
@@ -125,11 +217,13 @@ public class GameSwingControllerImpl implements GameSwingController {
   @Override
   public void pickArrow() {
     try {
-      GameCommand cmd;
-      cmd = new PickArrow();
-      cmd.execute(model);
+      TimedCommand cmd = latencies.time(new PickArrow(), model);
+      history.execute(cmd, model);
+      long started = System.nanoTime();
+      publishChanges();
       view.updateDungeonPanel(model.gameState());
       view.displayPlayerAction("Player picked an arrow");
+      cmd.followedUp(started);
     }
     catch (IllegalArgumentException a) {
        /*
@@ -151,6 +245,97 @@ public class GameSwingControllerImpl implements GameSwingController {
     }
   }
 
+  /**
+   * Takes the mouse click or keyboard input and displays how far the end cave is along with the
+   * move that takes the player closer to it, or that the player is already there.
+   */
+  @Override
+  public void hint() {
+    int moves = model.getDistanceToEnd();
+    if (moves == 0) {
+      view.displayPlayerAction("You are already at the exit!", 1500);
+      return;
+    }
+    view.displayPlayerAction("The exit is " + moves + (moves == 1 ? " move" : " moves")
+        + " away. Try going " + model.getNextStepToEnd() + "!", 1500);
+  }
+
+  /**
+   * Takes the keyboard input and displays the latencies of the commands run so far, including
+   * the updates of the view that follow them.
+   */
+  @Override
+  public void latencies() {
+    view.displayPlayerAction("<html><pre>" + latencies.report() + "</pre></html>", 4000);
+  }
+
+  /**
+   * Takes the keyboard input and takes back the last move, pick or shot of the player, without
+   * generating the dungeon again.
+   */
+  @Override
+  public void undo() {
+    try {
+      history.undo();
+      publishChanges();
+      view.updateDungeonPanel(model.gameState());
+      view.displayPlayerAction("Took back the last action");
+    }
+    catch (IllegalStateException e) {
+      view.displayPlayerAction(e.getMessage(), 1500);
+    }
+  }
+
+  /**
+   * Takes the keyboard input and makes the last move, pick or shot that was taken back again.
+   */
+  @Override
+  public void redo() {
+    try {
+      history.redo();
+      publishChanges();
+      view.updateDungeonPanel(model.gameState());
+      view.displayPlayerAction("Made the last action again");
+    }
+    catch (IllegalStateException e) {
+      view.displayPlayerAction(e.getMessage(), 1500);
+    }
+  }
+
+  /**
+   * Takes the keyboard input and takes the stairs down to the next level or up to the level
+   * above. The level that is left may be put away, so the actions taken on it are forgotten and
+   * can't be taken back any more.
+   *
+   * @param way represents whether the player goes Down or Up the stairs.
+   */
+  @Override
+  public void stairs(String way) {
+    try {
+      TimedCommand cmd = latencies.time(new TakeStairs(way), model);
+      cmd.execute(model);
+      this.history = new CommandHistory();
+      long started = System.nanoTime();
+      publishChanges();
+      view.generateDungeonPanel(model.getRows(), model.getColumns(), model.gameState());
+      view.updateDungeonPanel(model.gameState());
+      view.displayPlayerAction("Player took the stairs " + way);
+      cmd.followedUp(started);
+    }
+    catch (IllegalStateException | IllegalArgumentException e) {
+      view.displayPlayerAction(e.getMessage(), 1500);
+    }
+  }
+
+  /**
+   * Gets the latencies of the commands run so far, so the driver can write them out.
+   *
+   * @return the latencies of the commands.
+   */
+  public CommandLatencies getLatencies() {
+    return latencies;
+  }
+
   /**
    * Takes the mouse click or keyboard input and calls the shoot arrow method of the model.
    *
@@ -160,12 +345,14 @@ public class GameSwingControllerImpl implements GameSwingController {
   @Override
   public void shootArrow(String direction, int distance) {
     try {
-      GameCommand cmd;
-      cmd = new ShootArrow(distance, direction);
-      cmd.execute(model);
+      TimedCommand cmd = latencies.time(new ShootArrow(distance, direction), model);
+      history.execute(cmd, model);
+      long started = System.nanoTime();
+      publishChanges();
       view.updateDungeonPanel(model.gameState());
       view.displayPlayerAction("Arrow shot towards " + direction + " by distance "
           + distance, 1500);
+      cmd.followedUp(started);
     }
     catch (IllegalArgumentException a) {
        /*
@@ -204,8 +391,13 @@ public class GameSwingControllerImpl implements GameSwingController {
       int treasure, int monster, int thieves, int pits) {
     try {
       seed = new Random().nextInt(10000);
-      this.model = new FantasyRolePlayingGame(row, column, wrapping, interconnectivity,
-          treasure, monster, thieves, pits, new Random(seed));
+      Game game = new FantasyRolePlayingGame(row, column, wrapping, interconnectivity,
+          treasure, monster, thieves, pits, new SplittableGameRandom(seed));
+      detachTimers();
+      this.model = game;
+      this.history = new CommandHistory();
+      attachTimers();
+      attachSpectators();
       view.generateDungeonPanel(row, column, model.gameState());
       view.updateDungeonPanel(model.gameState());
     }
@@ -231,8 +423,13 @@ public class GameSwingControllerImpl implements GameSwingController {
   public void resetModel(int row, int column, boolean wrapping,
       int interconnectivity, int treasure, int monster, int thieves, int pits) {
     try {
-      this.model = new FantasyRolePlayingGame(row, column, wrapping, interconnectivity,
-          treasure, monster, thieves, pits, new Random(seed));
+      Game game = new FantasyRolePlayingGame(row, column, wrapping, interconnectivity,
+          treasure, monster, thieves, pits, new SplittableGameRandom(seed));
+      detachTimers();
+      this.model = game;
+      this.history = new CommandHistory();
+      attachTimers();
+      attachSpectators();
       view.generateDungeonPanel(row, column, model.gameState());
       view.updateDungeonPanel(model.gameState());
     }
@@ -241,4 +438,56 @@ public class GameSwingControllerImpl implements GameSwingController {
     }
   }
 
+  /**
+   * Private helper method to let the timer wheel fire the timed rules of the current game, and
+   * to redraw the view when the thief robs the player between two actions.
+   */
+  private void attachTimers() {
+    if (timers == null) {
+      return;
+    }
+
+    Game game = model;
+    game.useTimerWheel(timers, 0);
+    thefts = event -> {
+      if (event.getType() == GameEventType.TREASURE_STOLEN && game == model) {
+        view.updateDungeonPanel(model.gameState());
+        view.displayPlayerAction("The thief stole your treasure!", 1500);
+        publishChanges();
+      }
+    };
+    game.addGameListener(thefts);
+  }
+
+  /**
+   * Private helper method to cancel the timeouts of the current game and stop listening to it
+   * before it is replaced, so that the timer wheel doesn't keep the old game alive.
+   */
+  private void detachTimers() {
+    if (timers == null || thefts == null) {
+      return;
+    }
+
+    model.detachTimerWheel();
+    model.removeGameListener(thefts);
+    thefts = null;
+  }
+
+  /**
+   * Private helper method to let the spectators watch the current game.
+   */
+  private void attachSpectators() {
+    if (spectators != null) {
+      spectators.watch(model);
+    }
+  }
+
+  /**
+   * Private helper method to publish the changes made by the last command to the spectators.
+   */
+  private void publishChanges() {
+    if (spectators != null) {
+      spectators.publish();
+    }
+  }
 }
@@ -0,0 +1,136 @@
+package controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram class represents how long something took, counted in buckets of nanoseconds.
+ * Below 32 nanoseconds every value has a bucket of its own. Above that, every power of two is
+ * split into 32 buckets of the same width, so a bucket is never wider than about 3% of the values
+ * it holds, however long they are, in the same way as an HDR histogram. Recording a latency only
+ * bumps a few counters and allocates nothing, and may be done from any thread. Since the drivers
+ * read the percentiles of the commands through this class, it is kept as public.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  private final AtomicLongArray counts;
+  private final AtomicLong count;
+  private final AtomicLong sum;
+  private final AtomicLong max;
+
+  /**
+   * A constructor to initialize an empty histogram.
+   */
+  LatencyHistogram() {
+    this.counts = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS);
+    this.count = new AtomicLong();
+    this.sum = new AtomicLong();
+    this.max = new AtomicLong();
+  }
+
+  /**
+   * Records a latency. A negative latency, which a clock going backwards could give, is recorded
+   * as 0.
+   *
+   * @param nanos represents the latency in nanoseconds.
+   */
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts.incrementAndGet(bucket(value));
+    count.incrementAndGet();
+    sum.addAndGet(value);
+    long highest = max.get();
+    while (value > highest && !max.compareAndSet(highest, value)) {
+      highest = max.get();
+    }
+  }
+
+  /**
+   * Gets the number of latencies recorded.
+   *
+   * @return the number of latencies.
+   */
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * Gets the longest latency recorded.
+   *
+   * @return the longest latency in nanoseconds, 0 if nothing was recorded.
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Gets the mean of the latencies recorded.
+   *
+   * @return the mean latency in nanoseconds, 0 if nothing was recorded.
+   */
+  public double getMean() {
+    long recorded = count.get();
+    return recorded == 0 ? 0 : (double) sum.get() / recorded;
+  }
+
+  /**
+   * Gets the latency that the given percentage of the latencies recorded are at or below. The
+   * latency is the highest one of its bucket, so it's never below the real one by more than the
+   * width of the bucket.
+   *
+   * @param percentile represents the percentage, between 0 and 100.
+   * @return the latency in nanoseconds, 0 if nothing was recorded.
+   * @throws IllegalArgumentException if the percentage is out of range.
+   */
+  public long getValueAtPercentile(double percentile) throws IllegalArgumentException {
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Illegal percentile!");
+    }
+
+    long recorded = count.get();
+    if (recorded == 0) {
+      return 0;
+    }
+    long target = Math.max(1, (long) Math.ceil(percentile / 100 * recorded));
+    long seen = 0;
+    for (int i = 0; i < counts.length(); i++) {
+      seen += counts.get(i);
+      if (seen >= target) {
+        return Math.min(highest(i), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * Private helper method to find the bucket of a latency.
+   *
+   * @param value represents the latency, not negative.
+   * @return the index of the bucket.
+   */
+  private static int bucket(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return shift * SUB_BUCKETS + (int) (value >>> shift);
+  }
+
+  /**
+   * Private helper method to find the highest latency of a bucket.
+   *
+   * @param bucket represents the index of the bucket.
+   * @return the highest latency the bucket holds.
+   */
+  private static long highest(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long sub = bucket - (long) shift * SUB_BUCKETS;
+    return ((sub + 1) << shift) - 1;
+  }
+}
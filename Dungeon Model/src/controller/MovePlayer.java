@@ -9,7 +9,7 @@ import model.dungeonsanddragons.Game;
  * dungeon. Class is kept as package-private since this class is used only internally by the
  * controller.
  */
-class MovePlayer implements GameCommand {
+class MovePlayer extends ReversibleCommand {
 
   private final Direction direction;
 
@@ -39,18 +39,14 @@ class MovePlayer implements GameCommand {
   }
 
   /**
-   * Executes the specified command by calling on the specified method of the model.
+   * Calls on the specified method of the model.
    *
    * @param model represents the game model that'll interact with the controller.
    * @throws IllegalStateException depending on the exact command that is executed.
-   * @throws IllegalArgumentException if the model is invalid.
+   * @throws IllegalArgumentException if the arguments of the command are invalid for the model.
    */
   @Override
-  public void execute(Game model)
-      throws IllegalStateException, IllegalArgumentException {
-    if (model == null) {
-      throw new IllegalArgumentException("Null arguments not allowed");
-    }
+  void apply(Game model) throws IllegalStateException, IllegalArgumentException {
     model.movePlayer(direction);
   }
 }
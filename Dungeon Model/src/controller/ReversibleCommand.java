@@ -0,0 +1,67 @@
+package controller;
+
+import model.dungeonsanddragons.Game;
+import model.dungeonsanddragons.GameEdit;
+
+/**
+ * ReversibleCommand class represents a command that records the changes it makes to the game as
+ * an edit, so that the command can be taken back and made again without generating the dungeon
+ * again. The commands only say what they do to the game. Class is kept as package-private since
+ * this class is used only internally by the controller.
+ */
+abstract class ReversibleCommand implements GameCommand {
+
+  private GameEdit edit;
+
+  /**
+   * Executes the command against the game, keeping the changes it makes as an edit.
+   *
+   * @param model represents the game model that'll interact with the controller.
+   * @throws IllegalStateException depending on the exact command that is executed.
+   * @throws IllegalArgumentException if the model is invalid.
+   */
+  @Override
+  public void execute(Game model)
+      throws IllegalStateException, IllegalArgumentException {
+    if (model == null) {
+      throw new IllegalArgumentException("Null arguments not allowed");
+    }
+    edit = model.record(() -> apply(model));
+  }
+
+  /**
+   * Takes back the changes made by the last execution of the command.
+   *
+   * @throws IllegalStateException if the command hasn't been executed or was already undone.
+   */
+  @Override
+  public void undo() throws IllegalStateException {
+    if (edit == null) {
+      throw new IllegalStateException("Nothing to undo!");
+    }
+    edit.undo();
+  }
+
+  /**
+   * Makes the changes of the last execution of the command again, after they were undone.
+   *
+   * @throws IllegalStateException if the command hasn't been undone.
+   */
+  @Override
+  public void redo() throws IllegalStateException {
+    if (edit == null) {
+      throw new IllegalStateException("Nothing to redo!");
+    }
+    edit.redo();
+  }
+
+  /**
+   * Calls on the method of the model that the command stands for. The changes it makes are
+   * recorded by {@link #execute(Game)}.
+   *
+   * @param model represents the game model that'll interact with the controller.
+   * @throws IllegalStateException depending on the exact command that is executed.
+   * @throws IllegalArgumentException if the arguments of the command are invalid for the model.
+   */
+  abstract void apply(Game model) throws IllegalStateException, IllegalArgumentException;
+}
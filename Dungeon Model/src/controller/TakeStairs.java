@@ -0,0 +1,74 @@
+package controller;
+
+import model.dungeonsanddragons.Game;
+
+/**
+ * TakeStairs command represents the player going down the stairs in the ending cave to the next
+ * level, or climbing the stairs in the starting cave back to the level above, by the controller.
+ * Taking the stairs moves the player to another dungeon, so it can't be taken back, and the
+ * controller forgets the commands run on the level that was left. Class is kept as
+ * package-private since this class is used only internally by the controller.
+ */
+class TakeStairs implements GameCommand {
+
+  private final boolean down;
+
+  /**
+   * Initializes the command with the way the player takes the stairs.
+   *
+   * @param way represents whether the player goes down or up the stairs.
+   * @throws IllegalArgumentException if the way is invalid.
+   */
+  public TakeStairs(String way) {
+
+    if (way.equals("D") || way.equals("Down")) {
+      this.down = true;
+    }
+    else if (way.equals("U") || way.equals("Up")) {
+      this.down = false;
+    }
+    else {
+      throw new IllegalArgumentException("Didn't offer that Option!");
+    }
+  }
+
+  /**
+   * Calls on the descend or climb method of the model.
+   *
+   * @param model represents the game model that'll interact with the controller.
+   * @throws IllegalStateException if there are no stairs that way where the player is.
+   * @throws IllegalArgumentException if the model is invalid.
+   */
+  @Override
+  public void execute(Game model) throws IllegalStateException, IllegalArgumentException {
+    if (model == null) {
+      throw new IllegalArgumentException("Null arguments not allowed");
+    }
+    if (down) {
+      model.descend();
+    }
+    else {
+      model.climb();
+    }
+  }
+
+  /**
+   * Taking the stairs can't be taken back.
+   *
+   * @throws IllegalStateException always, since the stairs can't be taken back.
+   */
+  @Override
+  public void undo() throws IllegalStateException {
+    throw new IllegalStateException("Can't take back the stairs!");
+  }
+
+  /**
+   * Taking the stairs can't be made again once taken back.
+   *
+   * @throws IllegalStateException always, since the stairs can't be taken back.
+   */
+  @Override
+  public void redo() throws IllegalStateException {
+    throw new IllegalStateException("Can't take back the stairs!");
+  }
+}
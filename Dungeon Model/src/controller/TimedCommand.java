@@ -0,0 +1,76 @@
+package controller;
+
+import model.dungeonsanddragons.Game;
+
+/**
+ * TimedCommand class wraps a command and records how long every execution of it takes, along
+ * with how long the controller takes to catch up on the game afterwards. Taking back and making
+ * the command again are passed on without being timed. Class is kept as package-private since
+ * this class is used only internally by the controllers.
+ */
+class TimedCommand implements GameCommand {
+
+  private final GameCommand command;
+  private final LatencyHistogram latencies;
+  private final LatencyHistogram followUps;
+
+  /**
+   * Initializes the command with the command it wraps and the histograms it records to.
+   *
+   * @param command represents the command to time.
+   * @param latencies represents the histogram of the executions of the command.
+   * @param followUps represents the histogram of the work done after the command.
+   */
+  TimedCommand(GameCommand command, LatencyHistogram latencies, LatencyHistogram followUps) {
+    this.command = command;
+    this.latencies = latencies;
+    this.followUps = followUps;
+  }
+
+  /**
+   * Executes the command it wraps and records how long it took, whether it succeeded or not.
+   *
+   * @param model represents the game model that'll interact with the controller.
+   * @throws IllegalStateException depending on the exact command that is executed.
+   * @throws IllegalArgumentException if the model is invalid.
+   */
+  @Override
+  public void execute(Game model) throws IllegalStateException, IllegalArgumentException {
+    long started = System.nanoTime();
+    try {
+      command.execute(model);
+    } finally {
+      latencies.record(System.nanoTime() - started);
+    }
+  }
+
+  /**
+   * Takes back the changes made by the last execution of the command.
+   *
+   * @throws IllegalStateException if the command hasn't been executed or was already undone.
+   */
+  @Override
+  public void undo() throws IllegalStateException {
+    command.undo();
+  }
+
+  /**
+   * Makes the changes of the last execution of the command again, after they were undone.
+   *
+   * @throws IllegalStateException if the command hasn't been undone.
+   */
+  @Override
+  public void redo() throws IllegalStateException {
+    command.redo();
+  }
+
+  /**
+   * Records how long the controller took to catch up on the game after the command, such as
+   * taking the game state and updating the view.
+   *
+   * @param started represents the time the work started at, from {@link System#nanoTime()}.
+   */
+  void followedUp(long started) {
+    followUps.record(System.nanoTime() - started);
+  }
+}
@@ -2,39 +2,84 @@ package driver;
 
 import static java.lang.Boolean.parseBoolean;
 import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
 
+import controller.GameBatchControllerImpl;
 import controller.GameConsoleControllerImpl;
 import controller.GameSwingControllerImpl;
+import model.dungeonsanddragons.DifficultyBand;
 import model.dungeonsanddragons.FantasyRolePlayingGame;
 import model.dungeonsanddragons.Game;
+import model.dungeonsanddragons.GameEventLog;
+import model.dungeonsanddragons.LoggedGame;
+import model.dungeonsanddragons.MazeAlgorithm;
+import model.dungeonsanddragons.MultiLevelGame;
+import model.dungeonsanddragons.SplittableGameRandom;
+import model.dungeonsanddragons.TimerWheel;
 import view.GameView;
 import view.GameViewImpl;
 
 import java.io.InputStreamReader;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Locale;
+import javax.swing.SwingUtilities;
 
 /**
- * Runs a Dungeons and Dragons game interactively on the console.
+ * Runs a Dungeons and Dragons game interactively on the console. Passing '--batch' as the first
+ * argument replays command scripts non-interactively instead. Passing '--levels' and a number
+ * first plays a game of that many levels joined by stairs, on the GUI or the console.
  */
 public class Driver {
 
+  private static final int RESIDENT_LEVELS = 2;
+
   /**
    * Represents a starting point for the execution of the game.
    */
   public static void main(String [] args) {
 
+    int levels = 1;
+    if (args.length > 1 && args[0].equals("--levels")) {
+      levels = parseInt(args[1]);
+      args = Arrays.copyOfRange(args, 2, args.length);
+    }
+
     if (args.length == 0) {
       /*
       GUI game begins here. Game starts of with a 'challenging' dungeon. Player can later use
-      in game menu settings to modify or continue with the same game.
+      in game menu settings to modify or continue with the same game, which then has one level.
        */
-      Game model = new FantasyRolePlayingGame(5, 5, false, 5, 60, 2, 2, 1);
+      Game model = levels > 1
+          ? new MultiLevelGame(5, 5, false, 5, 60, 2, 2, 1, System.nanoTime(), levels,
+              RESIDENT_LEVELS)
+          : new FantasyRolePlayingGame(5, 5, false, 5, 60, 2, 2, 1);
       GameView view = new GameViewImpl();
-      new GameSwingControllerImpl(model, view).playGame();
+      TimerWheel timers = new TimerWheel(100, 512, SwingUtilities::invokeLater);
+      timers.start();
+      new GameSwingControllerImpl(model, view, timers).playGame();
+    }
+    else if (args[0].equals("--batch")) {
+      /*
+      Batch game begins here. Scripts are replayed against seeded games and the outcome of each
+      script is written as a JSON line. Seed is optional and defaults to 0.
+       */
+      if (args.length < 8) {
+        throw new IllegalArgumentException("\n\n>> Illegal Arguments. Please enter script path, "
+            + "row, column, wrapping status, interconnectivity degree, treasure percentage, "
+            + "number of monsters and optionally the seed. <<\n\n");
+      }
+      new GameBatchControllerImpl(System.out, parseInt(args[2]), parseInt(args[3]),
+          parseBoolean(args[4]), parseInt(args[5]), parseInt(args[6]), parseInt(args[7]),
+          args.length > 8 ? parseLong(args[8]) : 0).runScripts(Paths.get(args[1]));
+      System.out.flush();
     }
     else {
       /*
       Console game begins here. Parameters/Settings of the game are taken in as arguments from
-      the player.
+      the player. The maze algorithm is optional and defaults to Kruskal's, and isn't used by a
+      game of more than one level. Setting the dungeon.eventLog property to a file logs the game
+      to it, rotating it every 10 MB.
        */
       if (args.length < 6) {
         throw new IllegalArgumentException("\n\n>> Illegal Arguments. Please enter row, column, "
@@ -45,10 +90,28 @@ public class Driver {
         try {
           Readable input = new InputStreamReader(System.in);
           Appendable output = System.out;
-          new GameConsoleControllerImpl(input, output)
-              .playGame(new FantasyRolePlayingGame(parseInt(args[0]), parseInt(args[1]),
+          MazeAlgorithm algorithm = args.length > 6
+              ? MazeAlgorithm.valueOf(args[6].toUpperCase(Locale.ROOT)) : MazeAlgorithm.KRUSKAL;
+          Game game = levels > 1
+              ? new MultiLevelGame(parseInt(args[0]), parseInt(args[1]), parseBoolean(args[2]),
+                  parseInt(args[3]), parseInt(args[4]), parseInt(args[5]), 1, 1,
+                  System.nanoTime(), levels, RESIDENT_LEVELS)
+              : new FantasyRolePlayingGame(parseInt(args[0]), parseInt(args[1]),
                   parseBoolean(args[2]), parseInt(args[3]), parseInt(args[4]),
-                  parseInt(args[5]), 1, 1));
+                  parseInt(args[5]), 1, 1, new SplittableGameRandom(System.nanoTime()), algorithm,
+                  Long.MAX_VALUE, DifficultyBand.ANY);
+          String eventLog = System.getProperty("dungeon.eventLog");
+          if (eventLog == null) {
+            new GameConsoleControllerImpl(input, output).playGame(game);
+          }
+          else {
+            GameEventLog log = new GameEventLog(Paths.get(eventLog), 8192, 10 << 20, 5);
+            try {
+              new GameConsoleControllerImpl(input, output).playGame(new LoggedGame(game, log));
+            } finally {
+              log.close();
+            }
+          }
         } catch (IllegalArgumentException e) {
           /*Throwing the exception so that the game doesn't start when there are invalid arguments
           for a model.
@@ -0,0 +1,68 @@
+package model.dungeonsanddragons;
+
+/**
+ * BacktrackerStrategy class builds the spanning tree with the recursive backtracker, walking to a
+ * random unvisited neighbour for as long as possible and backing up when stuck. The recursion is
+ * replaced by an explicit stack so large grids don't overflow the call stack. This gives long
+ * winding corridors with few dead ends. Since the generation of the dungeon is an internal
+ * implementation, this class is kept as package-private.
+ */
+class BacktrackerStrategy implements SpanningTreeStrategy {
+
+  /**
+   * Orders the edges by walking from a random location to a random unvisited neighbour, backing
+   * up along the walk whenever every neighbour has been visited.
+   *
+   * @param nodes represents the number of locations in the grid.
+   * @param sources represents the source location of every edge.
+   * @param destinations represents the destination location of every edge.
+   * @param random represents the random generator used to pick the edges.
+   * @return the indices of the edges with the tree edges first.
+   * @throws IllegalArgumentException if the edges don't connect every location.
+   */
+  @Override
+  public int[] orderEdges(int nodes, int[] sources, int[] destinations, GameRandom random) {
+    EdgeIncidence incidence = new EdgeIncidence(nodes, sources, destinations);
+
+    boolean[] visited = new boolean[nodes];
+    int[] stack = new int[nodes];
+    int[] tree = new int[nodes - 1];
+    int[] choices = new int[4];
+    int treeEdges = 0;
+    int top = 0;
+
+    stack[top++] = random.nextInt(nodes);
+    visited[stack[0]] = true;
+
+    while (top > 0) {
+      int current = stack[top - 1];
+      int degree = incidence.degree(current);
+      if (choices.length < degree) {
+        choices = new int[degree];
+      }
+
+      int count = 0;
+      for (int i = 0; i < degree; i++) {
+        int edge = incidence.edge(current, i);
+        if (!visited[incidence.other(edge, current)]) {
+          choices[count++] = edge;
+        }
+      }
+
+      if (count == 0) {
+        top--;
+      } else {
+        int edge = choices[random.nextInt(count)];
+        int neighbour = incidence.other(edge, current);
+        visited[neighbour] = true;
+        tree[treeEdges++] = edge;
+        stack[top++] = neighbour;
+      }
+    }
+
+    if (treeEdges != nodes - 1) {
+      throw new IllegalArgumentException("Edges don't connect every location!");
+    }
+    return incidence.withLeftover(tree);
+  }
+}
@@ -0,0 +1,297 @@
+package model.dungeonsanddragons;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ChunkedExplorationWorld class generates the endless world in square chunks. The inside of every
+ * chunk is carved with a maze algorithm from a random generator seeded by the world seed and the
+ * chunk coordinate, so a chunk always comes out the same. Doors on the border between two chunks
+ * are seeded by the border alone, so both chunks agree on them without generating each other.
+ * Every chunk is connected on the inside and every border has at least one door, which keeps the
+ * whole world connected. Only as many chunks as fit around the focus of the player are kept in
+ * memory: moving the focus drops the chunks far from it, and looking at a location away from the
+ * focus drops the chunk used longest ago once there are too many. The memory used depends on the
+ * area around the player and not on the size of the world, however it's explored. Since
+ * the user creates the world to explore it, this class is kept as public.
+ */
+public class ChunkedExplorationWorld implements ExplorationWorld {
+
+  private static final int SOUTH_BORDER = 1;
+  private static final int EAST_BORDER = 2;
+  private static final int BORDER_DOOR_ODDS = 8;
+
+  private final long seed;
+  private final int chunkSize;
+  private final int radius;
+  private final int capacity;
+  private final int interconnectivity;
+  private final SpanningTreeStrategy strategy;
+  private final int[] sources;
+  private final int[] destinations;
+  private final LinkedHashMap<Long, byte[]> chunks;
+
+  /**
+   * A constructor to create a world of 32 x 32 chunks, keeping the chunks within 2 chunks of the
+   * player in memory.
+   *
+   * @param seed represents the seed of the world.
+   * @param algorithm represents the algorithm used to carve every chunk.
+   * @throws IllegalArgumentException if the algorithm is null.
+   */
+  public ChunkedExplorationWorld(long seed, MazeAlgorithm algorithm) {
+    this(seed, 32, 2, 8, algorithm);
+  }
+
+  /**
+   * A constructor to create a world with the given size of chunks.
+   *
+   * @param seed represents the seed of the world.
+   * @param chunkSize represents the number of rows and columns of every chunk.
+   * @param radius represents the number of chunks around the player that are kept in memory.
+   * @param interconnectivity represents the number of extra edges added inside every chunk.
+   * @param algorithm represents the algorithm used to carve every chunk.
+   * @throws IllegalArgumentException if any of the parameters are illegal.
+   */
+  public ChunkedExplorationWorld(long seed, int chunkSize, int radius, int interconnectivity,
+      MazeAlgorithm algorithm) {
+    if (chunkSize < 2 || chunkSize > 256 || radius < 0 || interconnectivity < 0
+        || interconnectivity > (chunkSize - 1) * (chunkSize - 1) || Objects.isNull(algorithm)) {
+      throw new IllegalArgumentException("Invalid data in the parameters!");
+    }
+
+    this.seed = seed;
+    this.chunkSize = chunkSize;
+    this.radius = radius;
+    this.capacity = (2 * radius + 1) * (2 * radius + 1);
+    this.interconnectivity = interconnectivity;
+    this.strategy = algorithm.createStrategy();
+    this.chunks = new LinkedHashMap<>(16, 0.75f, true);
+
+    int edges = 2 * chunkSize * (chunkSize - 1);
+    sources = new int[edges];
+    destinations = new int[edges];
+    int count = 0;
+    for (int r = 0; r < chunkSize; r++) {
+      for (int c = 0; c < chunkSize; c++) {
+        if (c + 1 < chunkSize) {
+          sources[count] = r * chunkSize + c;
+          destinations[count++] = r * chunkSize + c + 1;
+        }
+        if (r + 1 < chunkSize) {
+          sources[count] = r * chunkSize + c;
+          destinations[count++] = (r + 1) * chunkSize + c;
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the moves out of a location, generating its chunk if it isn't in memory.
+   *
+   * @param row represents the row of the location.
+   * @param column represents the column of the location.
+   * @return the directions with a door out of the location.
+   */
+  @Override
+  public List<Direction> getMoves(int row, int column) {
+    byte doors = doors(row, column);
+    List<Direction> moves = new ArrayList<>();
+    for (Direction direction : Direction.values()) {
+      if ((doors & (1 << direction.ordinal())) != 0) {
+        moves.add(direction);
+      }
+    }
+    return moves;
+  }
+
+  /**
+   * Checks if the location is a cave, generating its chunk if it isn't in memory. A location with
+   * exactly 2 doors is a tunnel, otherwise it's a cave.
+   *
+   * @param row represents the row of the location.
+   * @param column represents the column of the location.
+   * @return true if the location is a cave, false if it's a tunnel.
+   */
+  @Override
+  public boolean isCave(int row, int column) {
+    return Integer.bitCount(doors(row, column)) != 2;
+  }
+
+  /**
+   * Moves the focus to the chunk of the player, dropping every chunk more than the radius away
+   * from it and generating the chunks within the radius.
+   *
+   * @param row represents the row of the player.
+   * @param column represents the column of the player.
+   */
+  @Override
+  public void focus(int row, int column) {
+    int chunkRow = Math.floorDiv(row, chunkSize);
+    int chunkColumn = Math.floorDiv(column, chunkSize);
+
+    chunks.keySet().removeIf(key -> Math.abs((int) (key >> 32) - chunkRow) > radius
+        || Math.abs(key.intValue() - chunkColumn) > radius);
+
+    for (int r = chunkRow - radius; r <= chunkRow + radius; r++) {
+      for (int c = chunkColumn - radius; c <= chunkColumn + radius; c++) {
+        chunk(r, c);
+      }
+    }
+  }
+
+  /**
+   * Gets the number of chunks currently kept in memory. It never goes over the number of chunks
+   * within the radius of the focus.
+   *
+   * @return the number of generated chunks.
+   */
+  @Override
+  public int getLoadedChunks() {
+    return chunks.size();
+  }
+
+  /**
+   * Private helper method to get the doors of a location as a bit for every direction.
+   *
+   * @param row represents the row of the location.
+   * @param column represents the column of the location.
+   * @return the doors of the location.
+   */
+  private byte doors(int row, int column) {
+    byte[] chunk = chunk(Math.floorDiv(row, chunkSize), Math.floorDiv(column, chunkSize));
+    return chunk[Math.floorMod(row, chunkSize) * chunkSize + Math.floorMod(column, chunkSize)];
+  }
+
+  /**
+   * Private helper method to get a chunk, generating it if it isn't in memory. Once more chunks
+   * are in memory than fit around the focus, the chunk used longest ago is dropped.
+   *
+   * @param chunkRow represents the row of the chunk.
+   * @param chunkColumn represents the column of the chunk.
+   * @return the doors of every location in the chunk.
+   */
+  private byte[] chunk(int chunkRow, int chunkColumn) {
+    long key = ((long) chunkRow << 32) | (chunkColumn & 0xffffffffL);
+    byte[] chunk = chunks.get(key);
+    if (chunk == null) {
+      chunk = generate(chunkRow, chunkColumn);
+      chunks.put(key, chunk);
+      Iterator<byte[]> eldest = chunks.values().iterator();
+      while (chunks.size() > capacity) {
+        eldest.next();
+        eldest.remove();
+      }
+    }
+    return chunk;
+  }
+
+  /**
+   * Private helper method to carve a chunk and open the doors on its four borders.
+   *
+   * @param chunkRow represents the row of the chunk.
+   * @param chunkColumn represents the column of the chunk.
+   * @return the doors of every location in the chunk.
+   */
+  private byte[] generate(int chunkRow, int chunkColumn) {
+    byte[] doors = new byte[chunkSize * chunkSize];
+    GameRandom random = new SplittableGameRandom(mix(chunkRow, chunkColumn, 0));
+
+    int[] order = strategy.orderEdges(chunkSize * chunkSize, sources, destinations, random);
+    int treeEdges = chunkSize * chunkSize - 1;
+    for (int i = 0; i < treeEdges; i++) {
+      open(doors, order[i]);
+    }
+    for (int i = 0; i < interconnectivity; i++) {
+      int picked = treeEdges + i + random.nextInt(order.length - treeEdges - i);
+      int edge = order[picked];
+      order[picked] = order[treeEdges + i];
+      open(doors, edge);
+    }
+
+    int last = chunkSize - 1;
+    for (int i : borderDoors(chunkRow, chunkColumn, EAST_BORDER)) {
+      doors[i * chunkSize + last] |= 1 << Direction.RIGHT.ordinal();
+    }
+    for (int i : borderDoors(chunkRow, chunkColumn - 1, EAST_BORDER)) {
+      doors[i * chunkSize] |= 1 << Direction.LEFT.ordinal();
+    }
+    for (int i : borderDoors(chunkRow, chunkColumn, SOUTH_BORDER)) {
+      doors[last * chunkSize + i] |= 1 << Direction.DOWN.ordinal();
+    }
+    for (int i : borderDoors(chunkRow - 1, chunkColumn, SOUTH_BORDER)) {
+      doors[i] |= 1 << Direction.UP.ordinal();
+    }
+    return doors;
+  }
+
+  /**
+   * Private helper method to open the doors on both ends of an edge inside a chunk.
+   *
+   * @param doors represents the doors of every location in the chunk.
+   * @param edge represents the index of the edge.
+   */
+  private void open(byte[] doors, int edge) {
+    int source = sources[edge];
+    int destination = destinations[edge];
+    if (destination == source + 1) {
+      doors[source] |= 1 << Direction.RIGHT.ordinal();
+      doors[destination] |= 1 << Direction.LEFT.ordinal();
+    }
+    else {
+      doors[source] |= 1 << Direction.DOWN.ordinal();
+      doors[destination] |= 1 << Direction.UP.ordinal();
+    }
+  }
+
+  /**
+   * Private helper method to find the doors on the east or south border of a chunk. There is
+   * always at least one door.
+   *
+   * @param chunkRow represents the row of the chunk.
+   * @param chunkColumn represents the column of the chunk.
+   * @param border represents the border of the chunk.
+   * @return the positions of the doors along the border.
+   */
+  private List<Integer> borderDoors(int chunkRow, int chunkColumn, int border) {
+    GameRandom random = new SplittableGameRandom(mix(chunkRow, chunkColumn, border));
+    List<Integer> positions = new ArrayList<>();
+    int first = random.nextInt(chunkSize);
+    for (int i = 0; i < chunkSize; i++) {
+      if (i == first || random.nextInt(BORDER_DOOR_ODDS) == 0) {
+        positions.add(i);
+      }
+    }
+    return positions;
+  }
+
+  /**
+   * Private helper method to derive the seed of a chunk or border from the world seed.
+   *
+   * @param chunkRow represents the row of the chunk.
+   * @param chunkColumn represents the column of the chunk.
+   * @param salt represents what the seed is used for.
+   * @return the derived seed.
+   */
+  private long mix(int chunkRow, int chunkColumn, int salt) {
+    long hash = splitMix(seed + chunkRow * 0x9E3779B97F4A7C15L);
+    hash = splitMix(hash + chunkColumn * 0xC2B2AE3D27D4EB4FL);
+    return splitMix(hash + salt);
+  }
+
+  /**
+   * Private helper method to scramble the bits of a value.
+   *
+   * @param value represents the value to scramble.
+   * @return the scrambled value.
+   */
+  private static long splitMix(long value) {
+    long z = value + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
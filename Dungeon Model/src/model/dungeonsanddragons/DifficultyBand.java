@@ -0,0 +1,91 @@
+package model.dungeonsanddragons;
+
+/**
+ * DifficultyBand class represents the range of difficulty scores a generated dungeon should fall
+ * in. When a band is given, the monsters, pits, thieves, treasure, arrows and the start and end
+ * caves are placed again on the same network of caves and tunnels until the difficulty of the
+ * dungeon falls in the band or the attempts run out, in which case the last placement is kept.
+ * Since the user picks the band when creating the game, this class is kept as public.
+ */
+public final class DifficultyBand {
+
+  /**
+   * The band that accepts every dungeon, so the placement is never repeated.
+   */
+  public static final DifficultyBand ANY = new DifficultyBand(0, Integer.MAX_VALUE, 1);
+
+  private final int minScore;
+  private final int maxScore;
+  private final int maxAttempts;
+
+  /**
+   * A constructor to initialize the band with the lowest and highest accepted scores and the
+   * number of placements that may be tried.
+   *
+   * @param minScore represents the lowest accepted difficulty score.
+   * @param maxScore represents the highest accepted difficulty score.
+   * @param maxAttempts represents the most number of placements that may be tried.
+   * @throws IllegalArgumentException if the scores or the attempts are illegal.
+   */
+  public DifficultyBand(int minScore, int maxScore, int maxAttempts)
+      throws IllegalArgumentException {
+    if (minScore < 0 || maxScore < minScore) {
+      throw new IllegalArgumentException("Illegal difficulty band!");
+    }
+
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("Illegal number of attempts!");
+    }
+
+    this.minScore = minScore;
+    this.maxScore = maxScore;
+    this.maxAttempts = maxAttempts;
+  }
+
+  /**
+   * Gets the lowest accepted difficulty score.
+   *
+   * @return the lowest accepted difficulty score.
+   */
+  public int getMinScore() {
+    return minScore;
+  }
+
+  /**
+   * Gets the highest accepted difficulty score.
+   *
+   * @return the highest accepted difficulty score.
+   */
+  public int getMaxScore() {
+    return maxScore;
+  }
+
+  /**
+   * Gets the most number of placements that may be tried.
+   *
+   * @return the most number of placements that may be tried.
+   */
+  public int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  /**
+   * Checks if the given difficulty falls in the band.
+   *
+   * @param difficulty represents the difficulty of a dungeon.
+   * @return true if the score of the difficulty is in the band, false otherwise.
+   */
+  public boolean contains(DifficultyEstimate difficulty) {
+    return difficulty.getScore() >= minScore && difficulty.getScore() <= maxScore;
+  }
+
+  /**
+   * String representation of the band.
+   *
+   * @return the string representation of the band.
+   */
+  @Override
+  public String toString() {
+    return String.format("%d-%d in %d attempts", minScore, maxScore, maxAttempts);
+  }
+}
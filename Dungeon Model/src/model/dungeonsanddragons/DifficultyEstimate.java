@@ -0,0 +1,246 @@
+package model.dungeonsanddragons;
+
+import java.util.Objects;
+
+/**
+ * DifficultyEstimate class represents how hard a generated dungeon is to win, worked out right
+ * after the monsters, pits and arrows are placed. It counts the pits and monsters sitting on the
+ * shortest routes from the start to the end, whether the end can be reached without walking into
+ * one, how many arrows can be picked up before the first monster has to be faced and how many of
+ * the approaches to the end cave are safe. These are folded into a single score where 0 is a
+ * dungeon with nothing in the way and higher scores are harder. Every measure takes two breadth
+ * first searches and one pass over the locations, so the estimate is cheap enough to be worked out
+ * for every placement that is tried. Since the user reads the difficulty of the game, this class
+ * is kept as public.
+ */
+public final class DifficultyEstimate {
+
+  private static final int STARTING_ARROWS = 3;
+  private static final int ARROWS_PER_MONSTER = 2;
+  private static final int HAZARD_ON_ROUTE_SCORE = 3;
+  private static final int NO_SAFE_ROUTE_SCORE = 10;
+  private static final int MISSING_ARROW_SCORE = 2;
+  private static final int UNSAFE_APPROACH_SCORE = 2;
+  private static final int NO_SAFE_APPROACH_SCORE = 6;
+
+  private final int hazardsOnShortestPaths;
+  private final int monstersOnShortestPaths;
+  private final boolean hazardFreeRoute;
+  private final int arrowsBeforeFirstMonster;
+  private final int exitApproaches;
+  private final int safeExitApproaches;
+
+  /**
+   * A constructor to initialize the estimate with the measures of the dungeon.
+   *
+   * @param hazardsOnShortestPaths represents the pits and monsters on the shortest routes.
+   * @param monstersOnShortestPaths represents the monsters on the shortest routes.
+   * @param hazardFreeRoute represents whether the end can be reached without any hazard.
+   * @param arrowsBeforeFirstMonster represents the arrows that can be picked up safely.
+   * @param exitApproaches represents the number of locations the end cave is entered from.
+   * @param safeExitApproaches represents the approaches to the end cave without a hazard.
+   * @throws IllegalArgumentException if any of the measures is illegal.
+   */
+  DifficultyEstimate(int hazardsOnShortestPaths, int monstersOnShortestPaths,
+      boolean hazardFreeRoute, int arrowsBeforeFirstMonster, int exitApproaches,
+      int safeExitApproaches) {
+    if (hazardsOnShortestPaths < 0 || monstersOnShortestPaths < 0
+        || monstersOnShortestPaths > hazardsOnShortestPaths || arrowsBeforeFirstMonster < 0
+        || safeExitApproaches < 0 || exitApproaches < safeExitApproaches) {
+      throw new IllegalArgumentException("Illegal measures of difficulty!");
+    }
+
+    this.hazardsOnShortestPaths = hazardsOnShortestPaths;
+    this.monstersOnShortestPaths = monstersOnShortestPaths;
+    this.hazardFreeRoute = hazardFreeRoute;
+    this.arrowsBeforeFirstMonster = arrowsBeforeFirstMonster;
+    this.exitApproaches = exitApproaches;
+    this.safeExitApproaches = safeExitApproaches;
+  }
+
+  /**
+   * Estimates the difficulty of the dungeon for a player walking from the start to the end. The
+   * monster that always guards the end cave isn't counted as a hazard on the way.
+   *
+   * @param grid represents the 2d representation of the dungeon.
+   * @param start represents the starting cave.
+   * @param end represents the ending cave.
+   * @return the difficulty of the dungeon.
+   * @throws IllegalArgumentException if any of the parameters is null.
+   */
+  static DifficultyEstimate of(DungeonNode[][] grid, DungeonNode start, DungeonNode end) {
+    if (Objects.isNull(grid) || Objects.isNull(start) || Objects.isNull(end)) {
+      throw new IllegalArgumentException("Illegal parameters for the difficulty!");
+    }
+
+    int rows = grid.length;
+    int columns = grid[0].length;
+    int startId = start.getDungeonNodeIdentifier();
+    int endId = end.getDungeonNodeIdentifier();
+    DistanceField fromStart = new DistanceField(grid, start);
+    DistanceField fromEnd = new DistanceField(grid, end);
+    int shortest = fromEnd.getDistance(startId);
+
+    int hazards = 0;
+    int monsters = 0;
+    for (int id = 0; id < rows * columns; id++) {
+      DungeonNode node = grid[id / columns][id % columns];
+      if (id != startId && id != endId && isHazard(node)
+          && fromStart.getDistance(id) + fromEnd.getDistance(id) == shortest) {
+        hazards++;
+        monsters += node.getMonster() != null ? 1 : 0;
+      }
+    }
+
+    boolean[] reached = new boolean[rows * columns];
+    int[] queue = new int[rows * columns];
+    int head = 0;
+    int tail = 0;
+    int arrows = 0;
+    boolean safeRoute = false;
+    queue[tail++] = startId;
+    reached[startId] = true;
+
+    while (head < tail) {
+      int current = queue[head++];
+      DungeonNode node = grid[current / columns][current % columns];
+      arrows += node.getArrows().size();
+
+      for (Direction direction : Direction.values()) {
+        int next = DistanceField.neighbour(node, direction, current / columns,
+            current % columns, rows, columns);
+        if (next < 0 || reached[next]) {
+          continue;
+        }
+        if (next == endId) {
+          safeRoute = true;
+          continue;
+        }
+        if (!isHazard(grid[next / columns][next % columns])) {
+          reached[next] = true;
+          queue[tail++] = next;
+        }
+      }
+    }
+
+    int approaches = 0;
+    int safeApproaches = 0;
+    for (Direction direction : Direction.values()) {
+      int next = DistanceField.neighbour(end, direction, endId / columns, endId % columns,
+          rows, columns);
+      if (next >= 0) {
+        approaches++;
+        safeApproaches += isHazard(grid[next / columns][next % columns]) ? 0 : 1;
+      }
+    }
+
+    return new DifficultyEstimate(hazards, monsters, safeRoute, arrows, approaches,
+        safeApproaches);
+  }
+
+  /**
+   * Gets the number of pits and monsters lying on at least one of the shortest routes from the
+   * start to the end.
+   *
+   * @return the number of hazards on the shortest routes.
+   */
+  public int getHazardsOnShortestPaths() {
+    return hazardsOnShortestPaths;
+  }
+
+  /**
+   * Gets the number of monsters lying on at least one of the shortest routes from the start to
+   * the end, not counting the one in the end cave.
+   *
+   * @return the number of monsters on the shortest routes.
+   */
+  public int getMonstersOnShortestPaths() {
+    return monstersOnShortestPaths;
+  }
+
+  /**
+   * Checks if the end cave can be reached without walking into a pit or another monster.
+   *
+   * @return true if there is a route without any hazard, false otherwise.
+   */
+  public boolean isHazardFreeRouteAvailable() {
+    return hazardFreeRoute;
+  }
+
+  /**
+   * Gets the number of arrows lying in the locations that can be reached from the start without
+   * walking into a pit or a monster.
+   *
+   * @return the number of arrows that can be picked up before the first monster.
+   */
+  public int getArrowsBeforeFirstMonster() {
+    return arrowsBeforeFirstMonster;
+  }
+
+  /**
+   * Gets the number of locations that the end cave can be entered from.
+   *
+   * @return the number of approaches to the end cave.
+   */
+  public int getExitApproaches() {
+    return exitApproaches;
+  }
+
+  /**
+   * Gets the number of locations without a pit or a monster that the end cave can be entered
+   * from.
+   *
+   * @return the number of safe approaches to the end cave.
+   */
+  public int getSafeExitApproaches() {
+    return safeExitApproaches;
+  }
+
+  /**
+   * Gets the arrows the player is short of to slay the monsters on the shortest route and the
+   * one in the end cave, counting the arrows the player starts with.
+   *
+   * @return the number of missing arrows, 0 if there are enough.
+   */
+  public int getArrowShortfall() {
+    int needed = ARROWS_PER_MONSTER * (monstersOnShortestPaths + 1);
+    return Math.max(0, needed - STARTING_ARROWS - arrowsBeforeFirstMonster);
+  }
+
+  /**
+   * Gets the difficulty of the dungeon as a single score, 0 being a dungeon with nothing in the
+   * way of the player.
+   *
+   * @return the difficulty score.
+   */
+  public int getScore() {
+    return HAZARD_ON_ROUTE_SCORE * hazardsOnShortestPaths
+        + (hazardFreeRoute ? 0 : NO_SAFE_ROUTE_SCORE)
+        + MISSING_ARROW_SCORE * getArrowShortfall()
+        + UNSAFE_APPROACH_SCORE * (exitApproaches - safeExitApproaches)
+        + (safeExitApproaches == 0 ? NO_SAFE_APPROACH_SCORE : 0);
+  }
+
+  /**
+   * String representation of the estimate.
+   *
+   * @return the string representation of the estimate.
+   */
+  @Override
+  public String toString() {
+    return String.format("Difficulty %d (hazards on route: %d, safe route: %s, "
+        + "arrows before first monster: %d, safe approaches to the end: %d of %d)",
+        getScore(), hazardsOnShortestPaths, hazardFreeRoute ? "yes" : "no",
+        arrowsBeforeFirstMonster, safeExitApproaches, exitApproaches);
+  }
+
+  /**
+   * Private helper method to check if walking into the given location can end the game.
+   *
+   * @param node represents the location.
+   * @return true if the location holds a pit or a monster, false otherwise.
+   */
+  private static boolean isHazard(DungeonNode node) {
+    return node.getPit() != null || node.getMonster() != null;
+  }
+}
@@ -0,0 +1,152 @@
+package model.dungeonsanddragons;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * DistanceField class represents the number of moves from every location of the dungeon to a
+ * single target location, along with the move that takes a player one step closer to it. The
+ * field is computed with one breadth first search from the target, so that the remaining distance
+ * and the next step for any location can be looked up in constant time afterwards. Since the
+ * field is built from the internal dungeon nodes, this class is kept as package-private.
+ */
+class DistanceField {
+
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final int[] distance;
+  private final byte[] nextStep;
+
+  /**
+   * A constructor to compute the distance field towards the given target location.
+   *
+   * @param grid represents the 2d representation of the dungeon.
+   * @param target represents the location that the distances are measured to.
+   * @throws IllegalArgumentException if the grid or the target is null.
+   */
+  public DistanceField(DungeonNode[][] grid, DungeonNode target) {
+
+    if (Objects.isNull(grid) || Objects.isNull(target) || grid.length == 0) {
+      throw new IllegalArgumentException("Illegal parameters for the distance field!");
+    }
+
+    int rows = grid.length;
+    int columns = grid[0].length;
+    distance = new int[rows * columns];
+    nextStep = new byte[rows * columns];
+    Arrays.fill(distance, -1);
+    Arrays.fill(nextStep, (byte) -1);
+
+    int[] queue = new int[rows * columns];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = target.getDungeonNodeIdentifier();
+    distance[target.getDungeonNodeIdentifier()] = 0;
+
+    while (head < tail) {
+      int current = queue[head++];
+      int row = current / columns;
+      int column = current % columns;
+      DungeonNode node = grid[row][column];
+
+      for (Direction direction : DIRECTIONS) {
+        int neighbour = neighbour(node, direction, row, column, rows, columns);
+        if (neighbour >= 0 && distance[neighbour] < 0) {
+          distance[neighbour] = distance[current] + 1;
+          nextStep[neighbour] = (byte) opposite(direction).ordinal();
+          queue[tail++] = neighbour;
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the number of moves from the given location to the target.
+   *
+   * @param location represents the identifier of the location.
+   * @return the number of moves to the target, -1 if the target can't be reached.
+   * @throws IllegalArgumentException if the location doesn't exist.
+   */
+  public int getDistance(int location) throws IllegalArgumentException {
+    if (location < 0 || location >= distance.length) {
+      throw new IllegalArgumentException("Illegal location!");
+    }
+    return distance[location];
+  }
+
+  /**
+   * Gets the bytes of heap held by the field.
+   *
+   * @return the retained bytes.
+   */
+  public long getRetainedBytes() {
+    return MemoryFootprint.object(2 * MemoryFootprint.REFERENCE)
+        + MemoryFootprint.array(distance.length, Integer.BYTES)
+        + MemoryFootprint.array(nextStep.length, 1);
+  }
+
+  /**
+   * Gets the move that takes the player from the given location one step closer to the target.
+   *
+   * @param location represents the identifier of the location.
+   * @return the move towards the target, null if the location is the target itself.
+   * @throws IllegalArgumentException if the location doesn't exist.
+   */
+  public Direction getNextStep(int location) throws IllegalArgumentException {
+    if (location < 0 || location >= nextStep.length) {
+      throw new IllegalArgumentException("Illegal location!");
+    }
+    return nextStep[location] < 0 ? null : DIRECTIONS[nextStep[location]];
+  }
+
+  /**
+   * Finds the identifier of the location reached by moving from a node in the given direction,
+   * wrapping around the edges of the grid the same way the player does.
+   *
+   * @param node represents the node that the move starts from.
+   * @param direction represents the direction of the move.
+   * @param row represents the row of the node.
+   * @param column represents the column of the node.
+   * @param rows represents the number of rows of the grid.
+   * @param columns represents the number of columns of the grid.
+   * @return the identifier of the adjacent location, -1 if there is no path in that direction.
+   */
+  static int neighbour(DungeonNode node, Direction direction, int row, int column, int rows,
+      int columns) {
+    switch (direction) {
+      case UP:
+        return node.getNorthConnection() == 1
+            ? ((row + rows - 1) % rows) * columns + column : -1;
+      case DOWN:
+        return node.getSouthConnection() == 1
+            ? ((row + 1) % rows) * columns + column : -1;
+      case LEFT:
+        return node.getWestConnection() == 1
+            ? row * columns + (column + columns - 1) % columns : -1;
+      case RIGHT:
+        return node.getEastConnection() == 1
+            ? row * columns + (column + 1) % columns : -1;
+      default:
+        return -1;
+    }
+  }
+
+  /**
+   * Gets the direction that undoes a move in the given direction.
+   *
+   * @param direction represents the direction of the move.
+   * @return the opposite direction.
+   */
+  static Direction opposite(Direction direction) {
+    switch (direction) {
+      case UP:
+        return Direction.DOWN;
+      case DOWN:
+        return Direction.UP;
+      case LEFT:
+        return Direction.RIGHT;
+      default:
+        return Direction.LEFT;
+    }
+  }
+}
@@ -0,0 +1,378 @@
+package model.dungeonsanddragons;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DistanceOracle class answers the shortest distance between any two locations of the dungeon.
+ * The dungeon is a spanning tree with a few extra edges added for interconnectivity, so the
+ * distance is the smaller of the distance along the tree, found through the lowest common
+ * ancestor of the two locations, and the best route through an end point of one of the extra
+ * edges, found from distances that are computed for every such end point up front. A query costs
+ * O(log V + k) for k extra end points. The end points are kept as long as their distances fit in
+ * 2^22 ints, which is about 400 end points on the largest dungeon of 100 x 100. Past that the
+ * oracle falls back to a breadth first search that is remembered for the last 8 locations it
+ * searched from. In that case a query that starts or ends at a remembered location is answered
+ * in O(1), but any other query costs a full O(V + E) search, so callers asking about many
+ * unrelated pairs on such a dungeon should expect a search per query. Since the oracle is built
+ * from the internal dungeon edges, this class is kept as package-private.
+ */
+class DistanceOracle {
+
+  private static final int LANDMARK_BUDGET = 1 << 22;
+  private static final int CACHED_ROWS = 8;
+
+  private final int nodes;
+  private final int[] adjacencyStart;
+  private final int[] adjacency;
+  private final int[] depth;
+  private final int[][] ancestors;
+  private final int[][] landmarkDistance;
+  private final AtomicInteger searches;
+  private final LinkedHashMap<Integer, int[]> rows;
+
+  /**
+   * A constructor to build the oracle from the edges of the dungeon.
+   *
+   * @param nodes represents the number of locations in the dungeon.
+   * @param treeEdges represents the edges that form the spanning tree.
+   * @param extraEdges represents the edges added on top of the spanning tree.
+   * @throws IllegalArgumentException if the edges don't form a spanning tree over the locations.
+   */
+  public DistanceOracle(int nodes, List<Interconnection> treeEdges,
+      List<Interconnection> extraEdges) {
+
+    if (nodes < 1 || Objects.isNull(treeEdges) || Objects.isNull(extraEdges)
+        || treeEdges.size() != nodes - 1) {
+      throw new IllegalArgumentException("Illegal edges for the distance oracle!");
+    }
+
+    this.nodes = nodes;
+    this.searches = new AtomicInteger();
+    this.rows = new LinkedHashMap<>(16, 0.75f, true);
+
+    int[] degree = new int[nodes + 1];
+    for (Interconnection edge : treeEdges) {
+      degree[edge.getSource().getDungeonNodeIdentifier()]++;
+      degree[edge.getDestination().getDungeonNodeIdentifier()]++;
+    }
+    for (Interconnection edge : extraEdges) {
+      degree[edge.getSource().getDungeonNodeIdentifier()]++;
+      degree[edge.getDestination().getDungeonNodeIdentifier()]++;
+    }
+
+    adjacencyStart = new int[nodes + 1];
+    for (int i = 0; i < nodes; i++) {
+      adjacencyStart[i + 1] = adjacencyStart[i] + degree[i];
+    }
+    adjacency = new int[adjacencyStart[nodes]];
+    int[] fill = Arrays.copyOf(adjacencyStart, nodes);
+
+    //Tree edges are placed first in every adjacency range so the tree can be walked on its own.
+    int[] treeDegree = new int[nodes];
+    for (Interconnection edge : treeEdges) {
+      int source = edge.getSource().getDungeonNodeIdentifier();
+      int destination = edge.getDestination().getDungeonNodeIdentifier();
+      adjacency[fill[source]++] = destination;
+      adjacency[fill[destination]++] = source;
+      treeDegree[source]++;
+      treeDegree[destination]++;
+    }
+    for (Interconnection edge : extraEdges) {
+      int source = edge.getSource().getDungeonNodeIdentifier();
+      int destination = edge.getDestination().getDungeonNodeIdentifier();
+      adjacency[fill[source]++] = destination;
+      adjacency[fill[destination]++] = source;
+    }
+
+    depth = new int[nodes];
+    int levels = 32 - Integer.numberOfLeadingZeros(nodes);
+    ancestors = new int[levels][nodes];
+    rootTree(treeDegree);
+
+    int[] landmarks = findLandmarks(extraEdges);
+    if (landmarks.length <= LANDMARK_BUDGET / nodes) {
+      landmarkDistance = new int[landmarks.length][];
+      for (int i = 0; i < landmarks.length; i++) {
+        landmarkDistance[i] = breadthFirstSearch(landmarks[i]);
+      }
+    }
+    else {
+      landmarkDistance = null;
+    }
+  }
+
+  /**
+   * Gets the number of moves along the shortest path between two locations. Without the
+   * distances of the extra end points in memory, this searches the dungeon unless one of the
+   * locations is one of the last few searches started from.
+   *
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @return the number of moves between the two locations.
+   * @throws IllegalArgumentException if either location doesn't exist.
+   */
+  public int distance(int source, int destination) throws IllegalArgumentException {
+    if (source < 0 || source >= nodes || destination < 0 || destination >= nodes) {
+      throw new IllegalArgumentException("Illegal location!");
+    }
+
+    if (landmarkDistance == null) {
+      synchronized (rows) {
+        int[] row = rows.get(source);
+        if (row != null) {
+          return row[destination];
+        }
+        row = rows.get(destination);
+        if (row != null) {
+          return row[source];
+        }
+      }
+      int[] row = breadthFirstSearch(source);
+      searches.incrementAndGet();
+      synchronized (rows) {
+        rows.put(source, row);
+        Iterator<int[]> eldest = rows.values().iterator();
+        while (rows.size() > CACHED_ROWS) {
+          eldest.next();
+          eldest.remove();
+        }
+      }
+      return row[destination];
+    }
+
+    int best = treeDistance(source, destination);
+    for (int[] landmark : landmarkDistance) {
+      int through = landmark[source] + landmark[destination];
+      if (through < best) {
+        best = through;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Gets every location that is at most the given number of moves away from a location. The
+   * search stops at that many moves, so it only looks at the nearby locations and its cost
+   * doesn't grow with the size of the dungeon.
+   *
+   * @param source represents the identifier of the location.
+   * @param radius represents the most number of moves away.
+   * @return the identifiers of the nearby locations, including the location itself.
+   * @throws IllegalArgumentException if the location doesn't exist or the radius is negative.
+   */
+  public Set<Integer> locationsWithin(int source, int radius) throws IllegalArgumentException {
+    if (source < 0 || source >= nodes || radius < 0) {
+      throw new IllegalArgumentException("Illegal location!");
+    }
+
+    Map<Integer, Integer> distance = new HashMap<>();
+    Queue<Integer> queue = new ArrayDeque<>();
+    distance.put(source, 0);
+    queue.add(source);
+
+    while (!queue.isEmpty()) {
+      int current = queue.remove();
+      int moves = distance.get(current);
+      if (moves == radius) {
+        continue;
+      }
+      for (int i = adjacencyStart[current]; i < adjacencyStart[current + 1]; i++) {
+        int next = adjacency[i];
+        if (!distance.containsKey(next)) {
+          distance.put(next, moves + 1);
+          queue.add(next);
+        }
+      }
+    }
+    return distance.keySet();
+  }
+
+  /**
+   * Gets the number of breadth first searches the queries have run so far. It stays 0 when the
+   * distances of the extra end points are kept in memory.
+   *
+   * @return the number of searches.
+   */
+  public int getSearches() {
+    return searches.get();
+  }
+
+  /**
+   * Gets the bytes of heap held by the oracle.
+   *
+   * @return the retained bytes.
+   */
+  public long getRetainedBytes() {
+    return estimateBytes(nodes, adjacency.length / 2,
+        landmarkDistance == null ? Long.MAX_VALUE : landmarkDistance.length);
+  }
+
+  /**
+   * Estimates the bytes of heap the oracle holds for a dungeon of the given size.
+   *
+   * @param nodes represents the number of locations.
+   * @param edges represents the number of edges in the dungeon.
+   * @param landmarks represents the number of end points of the extra edges.
+   * @return the estimated bytes.
+   */
+  static long estimateBytes(long nodes, long edges, long landmarks) {
+    int levels = 64 - Long.numberOfLeadingZeros(nodes);
+    long bytes = MemoryFootprint.object(7 * MemoryFootprint.REFERENCE + Integer.BYTES)
+        + MemoryFootprint.object(Integer.BYTES)
+        + MemoryFootprint.array(nodes + 1, Integer.BYTES)
+        + MemoryFootprint.array(2 * edges, Integer.BYTES)
+        + MemoryFootprint.array(nodes, Integer.BYTES)
+        + MemoryFootprint.array(levels, MemoryFootprint.REFERENCE)
+        + levels * MemoryFootprint.array(nodes, Integer.BYTES);
+    if (landmarks <= LANDMARK_BUDGET / nodes) {
+      bytes += MemoryFootprint.array(landmarks, MemoryFootprint.REFERENCE)
+          + landmarks * MemoryFootprint.array(nodes, Integer.BYTES);
+    }
+    else {
+      bytes += MemoryFootprint.object(6 * MemoryFootprint.REFERENCE + 3 * Integer.BYTES + 1)
+          + MemoryFootprint.array(16, MemoryFootprint.REFERENCE)
+          + CACHED_ROWS * (MemoryFootprint.object(5 * MemoryFootprint.REFERENCE + Integer.BYTES)
+          + MemoryFootprint.object(Integer.BYTES) + MemoryFootprint.array(nodes, Integer.BYTES));
+    }
+    return bytes;
+  }
+
+  /**
+   * Private helper method to root the spanning tree at location 0 and fill in the depth and the
+   * ancestors of every location used to find the lowest common ancestor.
+   *
+   * @param treeDegree represents the number of tree edges of every location.
+   */
+  private void rootTree(int[] treeDegree) {
+    int[] queue = new int[nodes];
+    boolean[] seen = new boolean[nodes];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = 0;
+    seen[0] = true;
+
+    while (head < tail) {
+      int current = queue[head++];
+      int end = adjacencyStart[current] + treeDegree[current];
+      for (int i = adjacencyStart[current]; i < end; i++) {
+        int next = adjacency[i];
+        if (!seen[next]) {
+          seen[next] = true;
+          depth[next] = depth[current] + 1;
+          ancestors[0][next] = current;
+          queue[tail++] = next;
+        }
+      }
+    }
+
+    if (tail != nodes) {
+      throw new IllegalArgumentException("Tree edges don't connect every location!");
+    }
+
+    for (int level = 1; level < ancestors.length; level++) {
+      for (int i = 0; i < nodes; i++) {
+        ancestors[level][i] = ancestors[level - 1][ancestors[level - 1][i]];
+      }
+    }
+  }
+
+  /**
+   * Private helper method to find the distance between two locations along the spanning tree.
+   *
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @return the number of tree edges between the two locations.
+   */
+  private int treeDistance(int source, int destination) {
+    int u = source;
+    int v = destination;
+    if (depth[u] < depth[v]) {
+      int swap = u;
+      u = v;
+      v = swap;
+    }
+
+    int climb = depth[u] - depth[v];
+    for (int level = 0; climb > 0; level++, climb >>= 1) {
+      if ((climb & 1) == 1) {
+        u = ancestors[level][u];
+      }
+    }
+
+    if (u != v) {
+      for (int level = ancestors.length - 1; level >= 0; level--) {
+        if (ancestors[level][u] != ancestors[level][v]) {
+          u = ancestors[level][u];
+          v = ancestors[level][v];
+        }
+      }
+      u = ancestors[0][u];
+    }
+
+    return depth[source] + depth[destination] - 2 * depth[u];
+  }
+
+  /**
+   * Private helper method to collect the distinct end points of the extra edges.
+   *
+   * @param extraEdges represents the edges added on top of the spanning tree.
+   * @return the identifiers of the end points.
+   */
+  private int[] findLandmarks(List<Interconnection> extraEdges) {
+    boolean[] chosen = new boolean[nodes];
+    int[] landmarks = new int[extraEdges.size() * 2];
+    int count = 0;
+
+    for (Interconnection edge : extraEdges) {
+      int source = edge.getSource().getDungeonNodeIdentifier();
+      int destination = edge.getDestination().getDungeonNodeIdentifier();
+      if (!chosen[source]) {
+        chosen[source] = true;
+        landmarks[count++] = source;
+      }
+      if (!chosen[destination]) {
+        chosen[destination] = true;
+        landmarks[count++] = destination;
+      }
+    }
+    return Arrays.copyOf(landmarks, count);
+  }
+
+  /**
+   * Private helper method to find the distance from a location to every other location.
+   *
+   * @param source represents the identifier of the location.
+   * @return the distances indexed by the location identifier.
+   */
+  private int[] breadthFirstSearch(int source) {
+    int[] distance = new int[nodes];
+    Arrays.fill(distance, -1);
+    int[] queue = new int[nodes];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = source;
+    distance[source] = 0;
+
+    while (head < tail) {
+      int current = queue[head++];
+      for (int i = adjacencyStart[current]; i < adjacencyStart[current + 1]; i++) {
+        int next = adjacency[i];
+        if (distance[next] < 0) {
+          distance[next] = distance[current] + 1;
+          queue[tail++] = next;
+        }
+      }
+    }
+    return distance;
+  }
+}
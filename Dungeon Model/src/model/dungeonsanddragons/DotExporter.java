@@ -0,0 +1,99 @@
+package model.dungeonsanddragons;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * DotExporter class writes the dungeon as an undirected graph in the DOT language of Graphviz.
+ * Every location is a node named after its identifier with its position and contents as
+ * attributes, and every edge carries whether it is part of the spanning tree or an extra path.
+ * Since the exporter is picked through the graph format, this class is kept as package-private.
+ */
+class DotExporter implements GraphExporter {
+
+  /**
+   * Writes the opening of the graph along with the size of the dungeon.
+   *
+   * @param out represents the writer to write to.
+   * @param rows represents the number of rows in the dungeon.
+   * @param columns represents the number of columns in the dungeon.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void begin(Writer out, int rows, int columns) throws IOException {
+    out.write("graph dungeon {\n  graph [rows=");
+    out.write(Integer.toString(rows));
+    out.write(", columns=");
+    out.write(Integer.toString(columns));
+    out.write("];\n");
+  }
+
+  /**
+   * Writes a location as a node named after its identifier, with its position and contents
+   * as attributes.
+   *
+   * @param out represents the writer to write to.
+   * @param node represents the location and its contents.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void node(Writer out, NodeRecord node) throws IOException {
+    out.write("  n");
+    out.write(Integer.toString(node.getId()));
+    out.write(" [row=");
+    out.write(Integer.toString(node.getRow()));
+    out.write(", column=");
+    out.write(Integer.toString(node.getColumn()));
+    out.write(", type=");
+    out.write(node.getType().name());
+    if (node.getRole() != null) {
+      out.write(", role=");
+      out.write(node.getRole());
+    }
+    for (int kind = 0; kind < NodeRecord.getTreasureKinds(); kind++) {
+      out.write(", ");
+      out.write(NodeRecord.getTreasureKey(kind));
+      out.write('=');
+      out.write(Integer.toString(node.getTreasure(kind)));
+    }
+    out.write(", arrows=");
+    out.write(Integer.toString(node.getArrows()));
+    if (node.getMonsterHealth() >= 0) {
+      out.write(", monster=");
+      out.write(Integer.toString(node.getMonsterHealth()));
+    }
+    out.write(node.hasPit() ? ", pit=true" : ", pit=false");
+    out.write(node.hasThief() ? ", thief=true];\n" : ", thief=false];\n");
+  }
+
+  /**
+   * Writes an edge between two locations as an undirected DOT edge whose kind tells the
+   * spanning tree apart from the extra paths.
+   *
+   * @param out represents the writer to write to.
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @param extra represents whether the edge was added on top of the spanning tree.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void edge(Writer out, int source, int destination, boolean extra)
+      throws IOException {
+    out.write("  n");
+    out.write(Integer.toString(source));
+    out.write(" -- n");
+    out.write(Integer.toString(destination));
+    out.write(extra ? " [kind=extra];\n" : " [kind=tree];\n");
+  }
+
+  /**
+   * Writes the closing of the graph.
+   *
+   * @param out represents the writer to write to.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void end(Writer out) throws IOException {
+    out.write("}\n");
+  }
+}
@@ -1,6 +1,9 @@
 package model.dungeonsanddragons;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 /**
  * Dungeon represents an interface that provides the framework for creation of Dungeon. The dungeon
@@ -30,7 +33,28 @@ interface Dungeon {
       int thieves, int pits) throws IllegalStateException, IllegalArgumentException;
 
   /**
-   * Gets all the edges when N x M nodes are created initially.
+   * Creates a wrapped or an unwrapped dungeon with given degree of interconnectivity, placing
+   * the start, the end, the treasure, arrows, monsters, thieves and pits again on the same
+   * network until the difficulty of the dungeon falls in the given band or its attempts run out.
+   *
+   * @param interconnectivity represents the degree of interconnectivity of dungeon.
+   * @param treasurePercentage represents the percentage of caves that the treasure needs to be
+   *                           allocated.
+   * @param numberOfMonsters represents the number of monsters in the dungeon.
+   * @param thieves represents the number of thieves in the game.
+   * @param pits represents the number of pits that should be added to the dungeon.
+   * @param band represents the band of difficulty the dungeon should fall in.
+   * @throws IllegalStateException if the dungeon size is too small to enforce 5 as minimum
+   *          distance between execute and end.
+   * @throws IllegalArgumentException if the parameters are invalid
+   */
+  void create(int interconnectivity, int treasurePercentage, int numberOfMonsters,
+      int thieves, int pits, DifficultyBand band) throws IllegalStateException,
+      IllegalArgumentException;
+
+  /**
+   * Gets all the edges when N x M nodes are created initially. These are only needed while the
+   * dungeon is being created and the list is empty once it is created.
    *
    * @return the list of horizontal and vertical edges between all the nodes.
    */
@@ -46,7 +70,8 @@ interface Dungeon {
 
   /**
    * Gets the remaining edges that are leftover after the spanning edges are created. These edges
-   * are used to modify the degree of interconnectivity.
+   * are used to modify the degree of interconnectivity and the list is empty once the dungeon is
+   * created.
    *
    * @return the remaining edges that are leftover after the spanning edges are created.
    */
@@ -61,7 +86,8 @@ interface Dungeon {
 
   /**
    * Gets all the possible execute and end cave pairs that can be chosen as the execute or end cave.
-   * Minimum distance between execute and end cave is 5.
+   * Minimum distance between execute and end cave is 5. The pairs are only needed to pick the
+   * caves and the list is empty once the dungeon is created.
    *
    * @return the all possible execute and end cave pairs.
    */
@@ -138,20 +164,6 @@ interface Dungeon {
    */
   void allocateArrowsToDungeon(int arrowPercentage) throws IllegalArgumentException;
 
-  /**
-   * Gets all the locations of all the caves that are one spot away.
-   *
-   * @return the locations of all the caves that are one spot away.
-   */
-  List<Interconnection> getOneLocationAway();
-
-  /**
-   * Gets all the locations of all the caves that are two spots away.
-   *
-   * @return the locations of all the caves that are two spots away.
-   */
-  List<Interconnection> getTwoLocationAway();
-
   /**
    * Adds thieves to the dungeon. Thieves can only exist in the tunnels and one tunnel can
    * occupy only one thief.
@@ -168,4 +180,51 @@ interface Dungeon {
    */
   void allocatePitsToCaves(int pits);
 
+  /**
+   * Gets the distance of every location to the ending cave along with the next move towards it.
+   * The field is computed once and is only recomputed when the connections of the dungeon change.
+   *
+   * @return the distance field towards the ending cave.
+   * @throws IllegalStateException if the dungeon hasn't been created yet.
+   */
+  DistanceField getDistanceToEndingCave() throws IllegalStateException;
+
+  /**
+   * Gets the oracle that answers the shortest distance between any two locations of the dungeon.
+   *
+   * @return the distance oracle of the dungeon.
+   * @throws IllegalStateException if the dungeon hasn't been created yet.
+   */
+  DistanceOracle getDistanceOracle() throws IllegalStateException;
+
+  /**
+   * Gets the bytes of heap held by the dungeon, broken down by the structures that hold them.
+   *
+   * @return the memory footprint of the dungeon.
+   */
+  MemoryFootprint getMemoryFootprint();
+
+  /**
+   * Gets the difficulty of the dungeon worked out once its occupants were placed.
+   *
+   * @return the difficulty of the dungeon.
+   * @throws IllegalStateException if the dungeon hasn't been created yet.
+   */
+  DifficultyEstimate getDifficulty() throws IllegalStateException;
+
+  /**
+   * Writes the locations of the dungeon with their contents, followed by the edges of the
+   * spanning tree and the extra edges, to the writer in the given format. Everything is written
+   * as it is visited, so the export doesn't build the document in memory.
+   *
+   * @param format represents the format to write.
+   * @param out represents the writer to write to.
+   * @param contents represents the node holding the current contents of each location, since a
+   *                 forked game keeps the locations it changed apart from the shared dungeon.
+   * @throws IOException if the writer fails.
+   * @throws IllegalArgumentException if the format or the writer is null.
+   * @throws IllegalStateException if the dungeon hasn't been created yet.
+   */
+  void export(GraphFormat format, Writer out, UnaryOperator<DungeonNode> contents)
+      throws IOException, IllegalArgumentException, IllegalStateException;
 }
@@ -1,11 +1,18 @@
 package model.dungeonsanddragons;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
-import java.util.Vector;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 /**
  * DungeonImpl class represents the dungeon in the fantasy-based role-playing game. In the game,
@@ -21,22 +28,22 @@ class DungeonImpl implements Dungeon {
   private final int locations;
   private final DungeonNodeFactory dungeonNodeFactory;
   private final List<DungeonNode> allDungeonNodes;
-  private final List<Interconnection> allEdges;
+  private List<Interconnection> allEdges;
   private final List<Interconnection> spanningTreeEdges;
-  private final List<Interconnection> remainingEdges;
-  private final Random random;
-  private final List<Interconnection> possibleStartEndPairs;
-  private final List<Integer>[] adjacentEdges;
-  private int minimumEdges;
-  private int edgeCount;
+  private List<Interconnection> remainingEdges;
+  private final Map<RandomStream, GameRandom> streams;
+  private final SpanningTreeStrategy spanningTreeStrategy;
+  private List<Interconnection> possibleStartEndPairs;
+  private DistanceOracle distanceOracle;
+  private PlacementEngine placementEngine;
   private DungeonNode startingCave;
   private DungeonNode endingCave;
   private final DungeonNode[][] dungeonAs2D;
   private final int noOfRows;
   private final int noOfColumns;
   private final boolean wrapping;
-  private final List<Interconnection> oneLocationAway;
-  private final List<Interconnection> twoLocationAway;
+  private DistanceField distanceToEnd;
+  private DifficultyEstimate difficulty;
 
   /**
    * A constructor to initialize the Dungeon with size N rows x M columns. This also creates a
@@ -48,9 +55,42 @@ class DungeonImpl implements Dungeon {
    * @throws IllegalArgumentException if rows, columns or wrapping status is illegal.
    */
   public DungeonImpl(int noOfRows, int noOfColumns, boolean wrapping, Random random) {
+    this(noOfRows, noOfColumns, wrapping, random, MazeAlgorithm.KRUSKAL);
+  }
+
+  /**
+   * A constructor to initialize the Dungeon with size N rows x M columns, carved out of the grid
+   * with the given algorithm.
+   *
+   * @param noOfRows represents the number of rows in the dungeon.
+   * @param noOfColumns represents the number of columns in the dungeon.
+   * @param wrapping represents the status of wrap with which the dungeon needs to be created.
+   * @param random represents the random generator used to create the dungeon.
+   * @param algorithm represents the algorithm used to pick the spanning tree of the dungeon.
+   * @throws IllegalArgumentException if rows, columns, wrapping status or algorithm is illegal.
+   */
+  public DungeonImpl(int noOfRows, int noOfColumns, boolean wrapping, Random random,
+      MazeAlgorithm algorithm) {
+    this(noOfRows, noOfColumns, wrapping, SharedGameRandom.wrap(random), algorithm);
+  }
+
+  /**
+   * A constructor to initialize the Dungeon with size N rows x M columns, carved out of the grid
+   * with the given algorithm. Every phase of creating the dungeon draws from its own stream of
+   * the random generator.
+   *
+   * @param noOfRows represents the number of rows in the dungeon.
+   * @param noOfColumns represents the number of columns in the dungeon.
+   * @param wrapping represents the status of wrap with which the dungeon needs to be created.
+   * @param random represents the random generator used to create the dungeon.
+   * @param algorithm represents the algorithm used to pick the spanning tree of the dungeon.
+   * @throws IllegalArgumentException if rows, columns, wrapping status or algorithm is illegal.
+   */
+  public DungeonImpl(int noOfRows, int noOfColumns, boolean wrapping, GameRandom random,
+      MazeAlgorithm algorithm) {
 
     if (!(noOfRows >= 5 && noOfRows <= 100) || !(noOfColumns >= 5 && noOfColumns <= 100)
-        || Objects.isNull(random) || !(!wrapping || wrapping)) {
+        || Objects.isNull(random) || !(!wrapping || wrapping) || Objects.isNull(algorithm)) {
       throw new IllegalArgumentException("Invalid data in the parameters!");
     }
 
@@ -59,24 +99,17 @@ class DungeonImpl implements Dungeon {
     this.noOfColumns = noOfColumns;
     this.wrapping = wrapping;
     allDungeonNodes = new ArrayList<>();
-    this.random = random;
+    streams = new EnumMap<>(RandomStream.class);
+    for (RandomStream stream : RandomStream.values()) {
+      streams.put(stream, random.split(stream));
+    }
+    this.spanningTreeStrategy = algorithm.createStrategy();
     allEdges = new ArrayList<>();
     spanningTreeEdges = new ArrayList<>();
     remainingEdges = new ArrayList<>();
     dungeonNodeFactory = new DungeonNodeFactory();
     possibleStartEndPairs = new ArrayList<>();
-    adjacentEdges = new Vector[locations];
     dungeonAs2D = new DungeonNodeImpl[noOfRows][noOfColumns];
-    minimumEdges = 0;
-    edgeCount = 0;
-    oneLocationAway = new ArrayList<>();
-    twoLocationAway = new ArrayList<>();
-
-    //Initializing vector
-
-    for (int i = 0; i < locations; i++) {
-      adjacentEdges[i] = new Vector<>();
-    }
   }
 
   /**
@@ -170,34 +203,34 @@ class DungeonImpl implements Dungeon {
   }
 
   /**
-   * Using Kruskal's algorithm to build the edges in the dungeon.
+   * Builds the edges in the dungeon with the spanning tree strategy, then adds leftover edges at
+   * random to increase the interconnectivity.
    *
    * @param interconnectivity represents the degree with which the interconnectivity needs to
    *                          be increased.
    */
-  private void randomKruskalSpanningTree(int interconnectivity) {
+  private void buildSpanningTree(int interconnectivity) {
 
     if (interconnectivity < 0) {
       throw new IllegalArgumentException("Illegal interconnectivity!");
     }
 
-    int[] parent = new int[locations];
-    setParents(parent);
-
+    int[] sources = new int[allEdges.size()];
+    int[] destinations = new int[allEdges.size()];
+    for (int i = 0; i < allEdges.size(); i++) {
+      sources[i] = allEdges.get(i).getSource().getDungeonNodeIdentifier();
+      destinations[i] = allEdges.get(i).getDestination().getDungeonNodeIdentifier();
+    }
 
-    while (allEdges.size() > 0) {
-      int randomPicker = (random.nextInt(allEdges.size()));
-      Interconnection edge = allEdges.get(randomPicker);
-      int setOfX = findParent(parent, edge.getSource().getDungeonNodeIdentifier());
-      int setOfY = findParent(parent, edge.getDestination().getDungeonNodeIdentifier());
+    int[] order = spanningTreeStrategy.orderEdges(locations, sources, destinations,
+        streams.get(RandomStream.MAZE));
 
-      if (setOfX == setOfY) {
-        remainingEdges.add(allEdges.get(randomPicker));
+    for (int i = 0; i < order.length; i++) {
+      if (i < locations - 1) {
+        spanningTreeEdges.add(allEdges.get(order[i]));
       } else {
-        spanningTreeEdges.add(edge);
-        union(parent, setOfX, setOfY);
+        remainingEdges.add(allEdges.get(order[i]));
       }
-      allEdges.remove(randomPicker);
     }
 
     if (interconnectivity <= remainingEdges.size()) {
@@ -205,7 +238,8 @@ class DungeonImpl implements Dungeon {
       int addFromLeftover = 1;
 
       while (addFromLeftover <= interconnectivity) {
-        int randomPicker = (random.nextInt(remainingEdges.size()));
+        int randomPicker = (streams.get(RandomStream.INTERCONNECTIVITY)
+            .nextInt(remainingEdges.size()));
         Interconnection edge = remainingEdges.get(randomPicker);
         spanningTreeEdges.add(edge);
         remainingEdges.remove(randomPicker);
@@ -217,60 +251,6 @@ class DungeonImpl implements Dungeon {
     }
   }
 
-  /**
-   * Sets all the nodes as parents individually. This is done in the beginning before spanning
-   * tree is created.
-   *
-   * @param parent represents all the nodes in the graph.
-   */
-  private void setParents(int[] parent) {
-
-    if (parent.length < 0) {
-      throw new IllegalArgumentException("Illegal number of parents");
-    }
-
-    for (int i = 0; i < locations; i++) {
-      parent[i] = i;
-    }
-  }
-
-  /**
-   * Finds the parent of the given node.
-   *
-   * @param parent represents all the nodes in the graph.
-   * @param location represents the node whose parent needs to be found.
-   * @return the parent of the given node.
-   */
-  private int findParent(int[] parent, int location) {
-
-    if (parent.length < 0 || location < 0) {
-      throw new IllegalArgumentException("Illegal arguments");
-    }
-
-    if (parent[location] != location) {
-      return findParent(parent, parent[location]);
-    }
-    return location;
-  }
-
-  /**
-   * Forms a set with the parents of 2 given nodes.
-   *
-   * @param parent represents all the nodes in the graph.
-   * @param src represents the source node whose parent needs to be combined with destination.
-   * @param dst represents the destination node whose parent needs to be combined with source.
-   */
-  private void union(int[] parent, int src, int dst) {
-
-    if (parent.length < 0 || src < 0 || dst < 0) {
-      throw new IllegalArgumentException("Illegal arguments");
-    }
-
-    int setParentOfX = findParent(parent, src);
-    int setParentOfY = findParent(parent, dst);
-    parent[setParentOfY] = setParentOfX;
-  }
-
   /**
    * Sets the north, east, west, south connections of each node.
    *
@@ -283,6 +263,9 @@ class DungeonImpl implements Dungeon {
       throw new IllegalArgumentException("MST Edge Tree is empty!");
     }
 
+    //Connections are changing, so the distances computed so far no longer hold.
+    distanceToEnd = null;
+
     for (int i = 0; i < edgeList.size(); i++) {
       if (edgeList.get(i).getDestination().getDungeonNodeIdentifier()
           - edgeList.get(i).getSource().getDungeonNodeIdentifier() == 1) {
@@ -342,43 +325,31 @@ class DungeonImpl implements Dungeon {
 
     int i = 0;
     List<Treasure> treasures = new ArrayList<>(Arrays.asList(Treasure.values()));
-    List<Integer> caveCount = new ArrayList<>();
-
-    for (DungeonNode dungeonNode : allDungeonNodes) {
-      if (dungeonNode.getNodeIsA().equals(DungeonNodeType.CAVE)) {
-        caveCount.add(dungeonNode.getDungeonNodeIdentifier());
-      }
-    }
+    PlacementPool caves = placementEngine().caves();
 
-    int noOfCaves = caveCount.size();
+    int noOfCaves = caves.size();
     double treas = Math.ceil(((double) noOfCaves * (double) treasurePercentage) / 100);
 
+    GameRandom random = streams.get(RandomStream.TREASURE);
     while (i < treas) {
-      int randomCave = random.nextInt(caveCount.size());
+      int randomCave = random.nextInt(caves.size());
       int noOfTreasuresPerCave = random.nextInt(5) + 1;
+      DungeonNode cave = allDungeonNodes.get(caves.take(randomCave));
 
       for (int k = 0; k < noOfTreasuresPerCave; k++) {
         int randomTreasure = random.nextInt(treasures.size());
-        allDungeonNodes.get(caveCount.get(randomCave))
-            .addCaveTreasure(treasures.get(randomTreasure));
+        cave.addCaveTreasure(treasures.get(randomTreasure));
       }
-      caveCount.remove(randomCave);
       i++;
     }
   }
 
   /**
    * Finds all the possible pair of execute and end caves which have a minimum distance as 5.
+   * Only the locations within 4 moves of a cave are searched, so every cave costs the same
+   * however large the dungeon is.
    */
-  private void findStartEndPairsWithDepthFirstSearch() {
-
-    for (Interconnection edge : spanningTreeEdges) {
-      adjacentEdges[edge.getSource().getDungeonNodeIdentifier()]
-          .add(edge.getDestination().getDungeonNodeIdentifier());
-      adjacentEdges[edge.getDestination().getDungeonNodeIdentifier()]
-          .add(edge.getSource().getDungeonNodeIdentifier());
-    }
-
+  private void findStartEndPairs() {
 
     List<Integer> caveNodes = new ArrayList<>();
 
@@ -388,23 +359,12 @@ class DungeonImpl implements Dungeon {
       }
     }
 
-    int i = 0;
-
-    for (int k = 0; k < caveNodes.size(); k++) {
+    for (int start : caveNodes) {
 
-      for (int j = 0; j < caveNodes.size(); j++) {
+      Set<Integer> nearby = distanceOracle.locationsWithin(start, 4);
+      for (int end : caveNodes) {
 
-        boolean[] node = new boolean[this.locations];
-        Arrays.fill(node, false);
-        int start = caveNodes.get(k);
-        int end = caveNodes.get(j);
-
-        minimumEdges = Integer.MAX_VALUE;
-        edgeCount = 0;
-
-        minimumEdgeDepthFirstSearchUtil(node, start, end);
-
-        if (minimumEdges >= 5) {
+        if (!nearby.contains(end)) {
           Interconnection edge = new InterconnectionImpl(allDungeonNodes.get(start),
               allDungeonNodes.get(end));
           possibleStartEndPairs.add(edge);
@@ -414,42 +374,6 @@ class DungeonImpl implements Dungeon {
     }
   }
 
-  /**
-   * Finds the map containing each location and corresponding destination locations that are 1
-   * positions and 2 positions away in 2 different lists.
-   */
-  private void findOneAndTwoSpotsAway() {
-    for (int k = 0; k < allDungeonNodes.size(); k++) {
-
-      if (allDungeonNodes.get(k).getMonster() != null || allDungeonNodes.get(k).getPit() != null) {
-
-        for (int j = 0; j < allDungeonNodes.size(); j++) {
-
-          boolean[] node = new boolean[this.locations];
-          Arrays.fill(node, false);
-          int start = allDungeonNodes.get(k).getDungeonNodeIdentifier();
-          int end = allDungeonNodes.get(j).getDungeonNodeIdentifier();
-
-          minimumEdges = Integer.MAX_VALUE;
-          edgeCount = 0;
-          minimumEdgeDepthFirstSearchUtilToFindSpots(node, start, end);
-
-          if (minimumEdges == 1) {
-            Interconnection edge = new InterconnectionImpl(allDungeonNodes.get(start),
-                allDungeonNodes.get(end));
-            oneLocationAway.add(edge);
-          }
-
-          if (minimumEdges == 2) {
-            Interconnection edge = new InterconnectionImpl(allDungeonNodes.get(start),
-                allDungeonNodes.get(end));
-            twoLocationAway.add(edge);
-          }
-        }
-      }
-    }
-  }
-
   /**
    * Sets a execute and end cave selected randomly from the list of possible execute end pairs.
    *
@@ -458,7 +382,7 @@ class DungeonImpl implements Dungeon {
    */
   private void setStartAndEndNode() {
     if (possibleStartEndPairs.size() > 0) {
-      int r = random.nextInt(possibleStartEndPairs.size());
+      int r = streams.get(RandomStream.START_AND_END).nextInt(possibleStartEndPairs.size());
 
       startingCave = possibleStartEndPairs.get(r).getSource();
       endingCave = possibleStartEndPairs.get(r).getDestination();
@@ -471,78 +395,18 @@ class DungeonImpl implements Dungeon {
   }
 
   /**
-   * Find minimum number of edges between all caves of the dungeon.
-   * Util Source:
-   * http://www.geeksforgeeks.org/minimum-number-of-edges-between-two-vertices-of-a-graph-using-dfs
+   * Gets the placement engine of the dungeon, collecting the caves and tunnels the first time it
+   * is needed once the locations are known.
    *
-   * @param node represents the status of visitation of each nodes while traversing in DFS.
-   * @param source represents the source cave identifier.
-   * @param destination represents the destination cave identifier.
+   * @return the placement engine of the dungeon.
    */
-  private void minimumEdgeDepthFirstSearchUtil(boolean[] node, int source, int destination) {
-
-    if (source < 0 || destination < 0) {
-      throw new IllegalArgumentException("Illegal percentage of treasure!");
-    }
-
-    node[source] = true;
-
-    if (source == destination || edgeCount == 5) {
-      if (minimumEdges > edgeCount) {
-        minimumEdges = edgeCount;
-      }
-    } else {
-      for (int i : adjacentEdges[source]) {
-        int visitedNode = i;
-
-        if (!node[visitedNode]) {
-          edgeCount++;
-          minimumEdgeDepthFirstSearchUtil(node, visitedNode, destination);
-        }
-      }
+  private PlacementEngine placementEngine() {
+    if (placementEngine == null) {
+      placementEngine = new PlacementEngine(allDungeonNodes);
     }
-    node[source] = false;
-    edgeCount--;
+    return placementEngine;
   }
 
-  /**
-   * Find minimum number of edges between all caves of the dungeon that has a monster or a pit.
-   * Util Source:
-   * http://www.geeksforgeeks.org/minimum-number-of-edges-between-two-vertices-of-a-graph-using-dfs
-   *
-   * @param node represents the status of visitation of each nodes while traversing in DFS.
-   * @param source represents the source cave identifier.
-   * @param destination represents the destination cave identifier.
-   */
-  private void minimumEdgeDepthFirstSearchUtilToFindSpots(boolean[] node,
-      int source, int destination) {
-
-    if (source < 0 || destination < 0) {
-      throw new IllegalArgumentException("Illegal percentage of treasure!");
-    }
-
-
-    node[source] = true;
-
-    if (source == destination) {
-      if (minimumEdges > edgeCount) {
-        minimumEdges = edgeCount;
-      }
-    } else {
-      for (int i : adjacentEdges[source]) {
-        int visitedNode = i;
-
-        if (!node[visitedNode]) {
-          edgeCount++;
-          minimumEdgeDepthFirstSearchUtilToFindSpots(node, visitedNode, destination);
-        }
-      }
-    }
-    node[source] = false;
-    edgeCount--;
-  }
-
-
   /**
    * Represent the initially created list of Dungeon Nodes as a 2d representation.
    */
@@ -722,30 +586,91 @@ class DungeonImpl implements Dungeon {
   @Override
   public void create(int interconnectivity,
       int treasurePercentage, int numberOfMonsters, int thieves, int pits) {
+    create(interconnectivity, treasurePercentage, numberOfMonsters, thieves, pits,
+        DifficultyBand.ANY);
+  }
+
+  /**
+   * Creates a wrapped or an unwrapped dungeon with given degree of interconnectivity, placing
+   * the start, the end, the treasure, arrows, monsters, thieves and pits again on the same
+   * network until the difficulty of the dungeon falls in the given band or its attempts run out.
+   * The last placement is kept when none of the attempts falls in the band.
+   *
+   * @param interconnectivity represents the degree of interconnectivity of dungeon.
+   * @param treasurePercentage represents the percentage of caves that the treasure needs to be
+   *                           allocated.
+   * @param numberOfMonsters represents the number of monsters in the dungeon.
+   * @param thieves represents the number of thieves in the game.
+   * @param pits represents the number of pits that should be added to the dungeon.
+   * @param band represents the band of difficulty the dungeon should fall in.
+   * @throws IllegalStateException if the dungeon size is too small to enforce 5 as minimum
+   *          distance between execute and end.
+   * @throws IllegalArgumentException if the parameters are invalid
+   */
+  @Override
+  public void create(int interconnectivity, int treasurePercentage, int numberOfMonsters,
+      int thieves, int pits, DifficultyBand band) {
 
-    if (!(treasurePercentage >= 0 && treasurePercentage <= 100) || interconnectivity < 0) {
+    if (!(treasurePercentage >= 0 && treasurePercentage <= 100) || interconnectivity < 0
+        || Objects.isNull(band)) {
       throw new IllegalArgumentException("Invalid data in the parameters!");
     }
 
     createDungeonNodes(noOfRows * noOfColumns);
     createEdgesBetweenNodes(wrapping);
 
-    randomKruskalSpanningTree(interconnectivity);
+    buildSpanningTree(interconnectivity);
 
     setDirections(spanningTreeEdges);
     setNodesAsCaveOrTunnel(allDungeonNodes);
     dungeonAs2D();
 
+    distanceOracle = new DistanceOracle(locations,
+        spanningTreeEdges.subList(0, locations - 1),
+        spanningTreeEdges.subList(locations - 1, spanningTreeEdges.size()));
+    findStartEndPairs();
 
-    findStartEndPairsWithDepthFirstSearch();
+    placeOccupants(treasurePercentage, numberOfMonsters, thieves, pits);
+    for (int attempt = 1; attempt < band.getMaxAttempts() && !band.contains(difficulty);
+        attempt++) {
+      for (DungeonNode dungeonNode : allDungeonNodes) {
+        dungeonNode.clearOccupants();
+      }
+      placeOccupants(treasurePercentage, numberOfMonsters, thieves, pits);
+    }
+    releaseScratch();
+  }
 
+  /**
+   * Private helper method to pick the start and the end and place everything the dungeon holds
+   * on the network of caves and tunnels, working out the difficulty of the placement.
+   *
+   * @param treasurePercentage represents the percentage of caves that the treasure needs to be
+   *                           allocated.
+   * @param numberOfMonsters represents the number of monsters in the dungeon.
+   * @param thieves represents the number of thieves in the game.
+   * @param pits represents the number of pits that should be added to the dungeon.
+   */
+  private void placeOccupants(int treasurePercentage, int numberOfMonsters, int thieves,
+      int pits) {
     setStartAndEndNode();
     allocateTreasureToCaves(treasurePercentage);
     allocateMonsterToCaves(numberOfMonsters);
     allocateArrowsToDungeon(treasurePercentage);
     allocateThievesToTunnels(thieves);
     allocatePitsToCaves(pits);
-    findOneAndTwoSpotsAway();
+    difficulty = DifficultyEstimate.of(dungeonAs2D, startingCave, endingCave);
+  }
+
+  /**
+   * Releases the structures that are only needed while the dungeon is being created, so a
+   * created dungeon only holds on to what the game uses.
+   */
+  private void releaseScratch() {
+    allEdges = Collections.emptyList();
+    remainingEdges = Collections.emptyList();
+    possibleStartEndPairs = Collections.emptyList();
+    placementEngine = null;
   }
 
   /**
@@ -794,27 +719,21 @@ class DungeonImpl implements Dungeon {
     }
 
     int count = numberOfMonsters;
-    List<Integer> caveCount = new ArrayList<>();
-
-    for (DungeonNode dungeonNode : allDungeonNodes) {
-      if (dungeonNode.getNodeIsA().equals(DungeonNodeType.CAVE)
-          && (dungeonNode.getDungeonNodeIdentifier() != startingCave.getDungeonNodeIdentifier())
-          && (dungeonNode.getDungeonNodeIdentifier() != endingCave.getDungeonNodeIdentifier())) {
-        caveCount.add(dungeonNode.getDungeonNodeIdentifier());
-      }
-    }
+    PlacementPool caves = placementEngine().caves();
+    caves.remove(startingCave.getDungeonNodeIdentifier());
+    caves.remove(endingCave.getDungeonNodeIdentifier());
 
     endingCave.addMonster();
     count -= 1;
 
-    if ((caveCount.size()) < count) {
-      count = caveCount.size();
+    if ((caves.size()) < count) {
+      count = caves.size();
     }
 
+    GameRandom random = streams.get(RandomStream.MONSTERS);
     while (count > 0) {
-      int randomCave = random.nextInt(caveCount.size());
-      allDungeonNodes.get(caveCount.get(randomCave)).addMonster();
-      caveCount.remove(randomCave);
+      int randomCave = random.nextInt(caves.size());
+      allDungeonNodes.get(caves.take(randomCave)).addMonster();
       count--;
     }
   }
@@ -835,32 +754,20 @@ class DungeonImpl implements Dungeon {
     }
 
     int i = 0;
-    List<Integer> allNodes = new ArrayList<>();
-
-    List<Integer> caveCount = new ArrayList<>();
-
-    for (DungeonNode dungeonNode : allDungeonNodes) {
-      if (dungeonNode.getNodeIsA().equals(DungeonNodeType.CAVE)) {
-        caveCount.add(dungeonNode.getDungeonNodeIdentifier());
-      }
-    }
+    PlacementPool allNodes = placementEngine().locations();
 
-    int noOfCaves = caveCount.size();
+    int noOfCaves = placementEngine().getNoOfCaves();
     double arrPerc = Math.ceil(((double) noOfCaves * (double) arrowPercentage) / 100);
 
-    for (DungeonNode dungeonNode : allDungeonNodes) {
-      allNodes.add(dungeonNode.getDungeonNodeIdentifier());
-    }
-
+    GameRandom random = streams.get(RandomStream.ARROWS);
     while (i < arrPerc) {
       int randomNode = random.nextInt(allNodes.size());
       int noOfArrowsPerCave = random.nextInt(5) + 1;
+      DungeonNode location = allDungeonNodes.get(allNodes.take(randomNode));
 
       for (int k = 0; k < noOfArrowsPerCave; k++) {
-        allDungeonNodes.get(allNodes.get(randomNode)).addArrows();
+        location.addArrows();
       }
-
-      allNodes.remove(randomNode);
       i++;
     }
   }
@@ -879,22 +786,16 @@ class DungeonImpl implements Dungeon {
     }
 
     int count = thieves;
-    List<Integer> tunnelCount = new ArrayList<>();
-
-    for (DungeonNode dungeonNode : allDungeonNodes) {
-      if (dungeonNode.getNodeIsA().equals(DungeonNodeType.TUNNEL)) {
-        tunnelCount.add(dungeonNode.getDungeonNodeIdentifier());
-      }
-    }
+    PlacementPool tunnels = placementEngine().tunnels();
 
-    if ((tunnelCount.size()) < count) {
-      count = tunnelCount.size();
+    if ((tunnels.size()) < count) {
+      count = tunnels.size();
     }
 
+    GameRandom random = streams.get(RandomStream.THIEVES);
     while (count > 0) {
-      int randomCave = random.nextInt(tunnelCount.size());
-      allDungeonNodes.get(tunnelCount.get(randomCave)).addThief();
-      tunnelCount.remove(randomCave);
+      int randomTunnel = random.nextInt(tunnels.size());
+      allDungeonNodes.get(tunnels.take(randomTunnel)).addThief();
       count--;
     }
   }
@@ -913,46 +814,149 @@ class DungeonImpl implements Dungeon {
     }
 
     int count = pits;
-    List<Integer> caves = new ArrayList<>();
-
-    for (DungeonNode dungeonNode : allDungeonNodes) {
-      if (dungeonNode.getDungeonNodeIdentifier() != startingCave.getDungeonNodeIdentifier()
-          && dungeonNode.getNodeIsA().equals(DungeonNodeType.CAVE)) {
-        caves.add(dungeonNode.getDungeonNodeIdentifier());
-      }
-    }
+    PlacementPool caves = placementEngine().caves();
+    caves.remove(startingCave.getDungeonNodeIdentifier());
 
     if ((caves.size()) < count) {
       count = caves.size();
     }
 
+    GameRandom random = streams.get(RandomStream.PITS);
     while (count > 0) {
       int randomCave = random.nextInt(caves.size());
-      allDungeonNodes.get(caves.get(randomCave)).addPit();
-      caves.remove(randomCave);
+      allDungeonNodes.get(caves.take(randomCave)).addPit();
       count--;
     }
   }
 
 
   /**
-   * Gets all the locations of all the caves that are one spot away.
+   * Gets the distance of every location to the ending cave along with the next move towards it.
+   * The field is computed once and is only recomputed when the connections of the dungeon change.
+   *
+   * @return the distance field towards the ending cave.
+   * @throws IllegalStateException if the dungeon hasn't been created yet.
+   */
+  @Override
+  public DistanceField getDistanceToEndingCave() {
+    if (endingCave == null) {
+      throw new IllegalStateException("Dungeon hasn't been created yet!");
+    }
+
+    if (distanceToEnd == null) {
+      distanceToEnd = new DistanceField(dungeonAs2D, endingCave);
+    }
+    return distanceToEnd;
+  }
+
+  /**
+   * Gets the oracle that answers the shortest distance between any two locations of the dungeon.
+   *
+   * @return the distance oracle of the dungeon.
+   * @throws IllegalStateException if the dungeon hasn't been created yet.
+   */
+  @Override
+  public DistanceOracle getDistanceOracle() {
+    if (distanceOracle == null) {
+      throw new IllegalStateException("Dungeon hasn't been created yet!");
+    }
+    return distanceOracle;
+  }
+
+  /**
+   * Gets the difficulty of the dungeon worked out once its occupants were placed.
+   *
+   * @return the difficulty of the dungeon.
+   * @throws IllegalStateException if the dungeon hasn't been created yet.
+   */
+  @Override
+  public DifficultyEstimate getDifficulty() {
+    if (difficulty == null) {
+      throw new IllegalStateException("Dungeon hasn't been created yet!");
+    }
+    return difficulty;
+  }
+
+  /**
+   * Writes the locations of the dungeon row by row with their contents, followed by the edges of
+   * the spanning tree and the extra edges, to the writer in the given format.
    *
-   * @return the locations of all the caves that are one spot away.
+   * @param format represents the format to write.
+   * @param out represents the writer to write to.
+   * @param contents represents the node holding the current contents of each location.
+   * @throws IOException if the writer fails.
+   * @throws IllegalArgumentException if the format, the writer or the contents are null.
+   * @throws IllegalStateException if the dungeon hasn't been created yet.
    */
   @Override
-  public List<Interconnection> getOneLocationAway() {
-    return oneLocationAway;
+  public void export(GraphFormat format, Writer out, UnaryOperator<DungeonNode> contents)
+      throws IOException {
+    if (Objects.isNull(format) || Objects.isNull(out) || Objects.isNull(contents)) {
+      throw new IllegalArgumentException("Illegal format or writer!");
+    }
+
+    if (startingCave == null) {
+      throw new IllegalStateException("Dungeon hasn't been created yet!");
+    }
+
+    GraphExporter exporter = format.createExporter();
+    NodeRecord record = new NodeRecord();
+    exporter.begin(out, noOfRows, noOfColumns);
+    for (int r = 0; r < noOfRows; r++) {
+      for (int c = 0; c < noOfColumns; c++) {
+        DungeonNode node = dungeonAs2D[r][c];
+        String role = node == startingCave ? "START" : node == endingCave ? "END" : null;
+        record.fill(contents.apply(node), r, c, role);
+        exporter.node(out, record);
+      }
+    }
+    for (int i = 0; i < spanningTreeEdges.size(); i++) {
+      Interconnection edge = spanningTreeEdges.get(i);
+      exporter.edge(out, edge.getSource().getDungeonNodeIdentifier(),
+          edge.getDestination().getDungeonNodeIdentifier(), i >= locations - 1);
+    }
+    exporter.end(out);
+    out.flush();
   }
 
   /**
-   * Gets all the locations of all the caves that are two spots away.
+   * Gets the bytes of heap held by the dungeon, broken down by the structures that hold them.
    *
-   * @return the locations of all the caves that are two spots away.
+   * @return the memory footprint of the dungeon.
    */
   @Override
-  public List<Interconnection> getTwoLocationAway() {
-    return twoLocationAway;
+  public MemoryFootprint getMemoryFootprint() {
+    Map<String, Long> breakdown = new LinkedHashMap<>();
+
+    long nodes = MemoryFootprint.arrayList(allDungeonNodes.size());
+    for (DungeonNode node : allDungeonNodes) {
+      nodes += MemoryFootprint.emptyNode()
+          + MemoryFootprint.arrayList(node.getCaveTreasures().size())
+          + MemoryFootprint.arrayList(node.getArrows().size())
+          - 2 * MemoryFootprint.arrayList(0)
+          + (node.getMonster() != null ? MemoryFootprint.object(Integer.BYTES) : 0);
+    }
+    breakdown.put("nodes", nodes);
+    breakdown.put("grid", MemoryFootprint.array(noOfRows, MemoryFootprint.REFERENCE)
+        + noOfRows * MemoryFootprint.array(noOfColumns, MemoryFootprint.REFERENCE));
+    breakdown.put("spanningTree", MemoryFootprint.edgeList(spanningTreeEdges.size()));
+    breakdown.put("distanceOracle",
+        distanceOracle == null ? 0 : distanceOracle.getRetainedBytes());
+    breakdown.put("distanceToEnd", distanceToEnd == null ? 0 : distanceToEnd.getRetainedBytes());
+    breakdown.put("scratch", scratchBytes(allEdges) + scratchBytes(remainingEdges)
+        + scratchBytes(possibleStartEndPairs));
+    return new MemoryFootprint(breakdown);
+  }
+
+  /**
+   * Private helper method to find the bytes held by a list that is only needed while the dungeon
+   * is being created. A released list is shared and holds nothing.
+   *
+   * @param edges represents the list of edges.
+   * @return the bytes held by the list.
+   */
+  private long scratchBytes(List<Interconnection> edges) {
+    return edges.isEmpty() ? 0 : MemoryFootprint.edgeList(edges.size());
   }
 
 }
@@ -162,4 +162,18 @@ interface DungeonNode {
    * @return the arrows that are existing in the given node.
    */
   List<Weapon> getArrows();
+
+  /**
+   * Removes the treasure, arrows, monster, thief and pit from the node, leaving only its
+   * connections.
+   */
+  void clearOccupants();
+
+  /**
+   * Creates a copy of the node with its own treasure, arrows and monster, so that a forked game
+   * can change the copy without changing the node it shares with the game it was forked from.
+   *
+   * @return the copy of the node.
+   */
+  DungeonNode copy();
 }
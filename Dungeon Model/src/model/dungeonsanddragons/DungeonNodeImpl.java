@@ -289,6 +289,44 @@ class DungeonNodeImpl implements DungeonNode {
     this.pit = Obstacle.PIT;
   }
 
+  /**
+   * Removes the treasure, arrows, monster, thief and pit from the node, leaving only its
+   * connections.
+   */
+  @Override
+  public void clearOccupants() {
+    this.caveTreasures.clear();
+    this.weapons.clear();
+    this.monster = null;
+    this.thief = null;
+    this.pit = null;
+  }
+
+  /**
+   * Creates a copy of the node with its own treasure, arrows and monster, so that a forked game
+   * can change the copy without changing the node it shares with the game it was forked from.
+   *
+   * @return the copy of the node.
+   */
+  @Override
+  public DungeonNode copy() {
+    DungeonNodeImpl copy = new DungeonNodeImpl(dungeonNodeIdentifier);
+    copy.nodeIsA = nodeIsA;
+    copy.northConnection = northConnection;
+    copy.southConnection = southConnection;
+    copy.eastConnection = eastConnection;
+    copy.westConnection = westConnection;
+    copy.caveTreasures.addAll(caveTreasures);
+    copy.weapons.addAll(weapons);
+    if (monster != null) {
+      copy.monster = new Otyugh();
+      copy.monster.restoreHealth(monster.getHealth());
+    }
+    copy.thief = thief;
+    copy.pit = pit;
+    return copy;
+  }
+
   /**
    * Adds the arrow to the dungeon node.
    */
@@ -0,0 +1,110 @@
+package model.dungeonsanddragons;
+
+import java.util.Objects;
+
+/**
+ * EdgeIncidence class lists the edges touching every location of the grid, stored in flat arrays
+ * so the spanning tree strategies can walk the grid without creating objects. It also splits the
+ * edges into the spanning tree and the leftover edges once a strategy is done. Since this is a
+ * helper for the strategies, this class is kept as package-private.
+ */
+final class EdgeIncidence {
+
+  private final int[] sources;
+  private final int[] destinations;
+  private final int[] start;
+  private final int[] edges;
+
+  /**
+   * A constructor to list the edges of every location.
+   *
+   * @param nodes represents the number of locations in the grid.
+   * @param sources represents the source location of every edge.
+   * @param destinations represents the destination location of every edge.
+   * @throws IllegalArgumentException if the edges are illegal.
+   */
+  EdgeIncidence(int nodes, int[] sources, int[] destinations) {
+    if (nodes < 1 || Objects.isNull(sources) || Objects.isNull(destinations)
+        || sources.length != destinations.length) {
+      throw new IllegalArgumentException("Illegal edges!");
+    }
+
+    this.sources = sources;
+    this.destinations = destinations;
+    start = new int[nodes + 1];
+    for (int i = 0; i < sources.length; i++) {
+      start[sources[i] + 1]++;
+      start[destinations[i] + 1]++;
+    }
+    for (int i = 0; i < nodes; i++) {
+      start[i + 1] += start[i];
+    }
+
+    edges = new int[start[nodes]];
+    int[] fill = new int[nodes];
+    for (int i = 0; i < sources.length; i++) {
+      edges[start[sources[i]] + fill[sources[i]]++] = i;
+      edges[start[destinations[i]] + fill[destinations[i]]++] = i;
+    }
+  }
+
+  /**
+   * Gets the number of edges touching the location.
+   *
+   * @param node represents the location.
+   * @return the number of edges.
+   */
+  int degree(int node) {
+    return start[node + 1] - start[node];
+  }
+
+  /**
+   * Gets an edge touching the location.
+   *
+   * @param node represents the location.
+   * @param index represents the position of the edge among the edges of the location.
+   * @return the index of the edge.
+   */
+  int edge(int node, int index) {
+    return edges[start[node] + index];
+  }
+
+  /**
+   * Gets the location at the other end of the edge.
+   *
+   * @param edge represents the index of the edge.
+   * @param node represents the location at one end of the edge.
+   * @return the location at the other end.
+   */
+  int other(int edge, int node) {
+    return sources[edge] == node ? destinations[edge] : sources[edge];
+  }
+
+  /**
+   * Builds the order of the edges from the spanning tree edges, followed by all other edges in
+   * the order of their indices.
+   *
+   * @param tree represents the spanning tree edges in the order they were picked.
+   * @return the indices of all the edges.
+   * @throws IllegalArgumentException if the tree doesn't connect every location.
+   */
+  int[] withLeftover(int[] tree) {
+    if (tree.length != start.length - 2) {
+      throw new IllegalArgumentException("Edges don't connect every location!");
+    }
+
+    boolean[] inTree = new boolean[sources.length];
+    int[] order = new int[sources.length];
+    int count = 0;
+    for (int edge : tree) {
+      inTree[edge] = true;
+      order[count++] = edge;
+    }
+    for (int i = 0; i < sources.length; i++) {
+      if (!inTree[i]) {
+        order[count++] = i;
+      }
+    }
+    return order;
+  }
+}
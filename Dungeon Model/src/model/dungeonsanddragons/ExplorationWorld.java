@@ -0,0 +1,48 @@
+package model.dungeonsanddragons;
+
+import java.util.List;
+
+/**
+ * ExplorationWorld interface represents an endless dungeon that is generated region by region as
+ * the player explores it instead of all at once. Every location is addressed by its row and column,
+ * which can be any integer, and every location can be reached from every other location. Since
+ * the user explores the world directly, this interface is kept as public.
+ */
+public interface ExplorationWorld {
+
+  /**
+   * Gets the possible moves from the location, generating the region around it if needed.
+   *
+   * @param row represents the row of the location.
+   * @param column represents the column of the location.
+   * @return the possible moves from the location.
+   */
+  List<Direction> getMoves(int row, int column);
+
+  /**
+   * Checks if the location is a cave. A location with exactly 2 moves is a tunnel, otherwise it's
+   * a cave.
+   *
+   * @param row represents the row of the location.
+   * @param column represents the column of the location.
+   * @return true if the location is a cave, false if it's a tunnel.
+   */
+  boolean isCave(int row, int column);
+
+  /**
+   * Moves the focus of the world to the location of the player. Regions near the location are
+   * generated and regions far from it are dropped, they are generated again in the same way if
+   * the player comes back.
+   *
+   * @param row represents the row of the player.
+   * @param column represents the column of the player.
+   */
+  void focus(int row, int column);
+
+  /**
+   * Gets the number of regions that are currently kept in memory.
+   *
+   * @return the number of generated regions.
+   */
+  int getLoadedChunks();
+}
@@ -0,0 +1,181 @@
+package model.dungeonsanddragons;
+
+import java.util.BitSet;
+
+/**
+ * ExploredMap class keeps track of the locations that the player has visited and the locations
+ * the player has seen, which are the visited locations along with the locations next to them
+ * through an open door. Each is kept as one bit per location, so even a map with a million
+ * locations takes a few hundred kilobytes, and a move only touches the bits around the player.
+ * The bits are shared with the snapshots of the game and with forked maps instead of being
+ * copied, and are only copied the first time a move changes them after they were shared. Since
+ * the map is kept by the game and exposed to the user as a copy, this class is kept as
+ * package-private.
+ */
+class ExploredMap {
+
+  private final int rows;
+  private final int columns;
+  private BitSet visited;
+  private BitSet seen;
+  private boolean shared;
+
+  /**
+   * A constructor to initialize an empty map of the given size.
+   *
+   * @param rows represents the number of rows in the dungeon.
+   * @param columns represents the number of columns in the dungeon.
+   * @throws IllegalArgumentException if the size is illegal.
+   */
+  public ExploredMap(int rows, int columns) {
+    if (rows < 1 || columns < 1) {
+      throw new IllegalArgumentException("Illegal size of the map!");
+    }
+    this.rows = rows;
+    this.columns = columns;
+    this.visited = new BitSet(rows * columns);
+    this.seen = new BitSet(rows * columns);
+  }
+
+  /**
+   * A constructor to initialize a copy of the map for a forked game. The bits are shared until
+   * either map changes them.
+   *
+   * @param map represents the map to copy.
+   */
+  public ExploredMap(ExploredMap map) {
+    this.rows = map.rows;
+    this.columns = map.columns;
+    this.visited = map.visited;
+    this.seen = map.seen;
+    this.shared = true;
+    map.shared = true;
+  }
+
+  /**
+   * Marks the location as visited and the location along with its open neighbours as seen.
+   *
+   * @param node represents the location the player is in.
+   * @return the bits that weren't set before the visit, bit 0 for the location being visited,
+   *          bit 1 for the location being seen and the next bits for the neighbours being seen
+   *          in the order of the directions, so that the visit can be taken back.
+   */
+  public int visit(DungeonNode node) {
+    int location = node.getDungeonNodeIdentifier();
+    int row = location / columns;
+    int column = location % columns;
+
+    int changed = 0;
+    if (!visited.get(location)) {
+      writable();
+      visited.set(location);
+      changed |= 1;
+    }
+    if (!seen.get(location)) {
+      writable();
+      seen.set(location);
+      changed |= 2;
+    }
+    for (Direction direction : Direction.values()) {
+      int neighbour = DistanceField.neighbour(node, direction, row, column, rows, columns);
+      if (neighbour >= 0 && !seen.get(neighbour)) {
+        writable();
+        seen.set(neighbour);
+        changed |= 4 << direction.ordinal();
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Takes back a visit to the location, clearing the bits that the visit had set.
+   *
+   * @param node represents the location that was visited.
+   * @param changed represents the bits set by the visit, as returned by the visit.
+   */
+  public void unvisit(DungeonNode node, int changed) {
+    int location = node.getDungeonNodeIdentifier();
+    int row = location / columns;
+    int column = location % columns;
+
+    if (changed != 0) {
+      writable();
+    }
+    if ((changed & 1) != 0) {
+      visited.clear(location);
+    }
+    if ((changed & 2) != 0) {
+      seen.clear(location);
+    }
+    for (Direction direction : Direction.values()) {
+      if ((changed & (4 << direction.ordinal())) != 0) {
+        seen.clear(DistanceField.neighbour(node, direction, row, column, rows, columns));
+      }
+    }
+  }
+
+  /**
+   * Replaces the locations that have been visited and seen with the saved ones.
+   *
+   * @param visited represents the visited locations, one bit per location identifier.
+   * @param seen represents the seen locations, one bit per location identifier.
+   */
+  public void restore(BitSet visited, BitSet seen) {
+    writable();
+    this.visited.clear();
+    this.visited.or(visited);
+    this.seen.clear();
+    this.seen.or(seen);
+  }
+
+  /**
+   * Gets a copy of the locations that have been visited, one bit per location identifier.
+   *
+   * @return the visited locations.
+   */
+  public BitSet getVisited() {
+    return (BitSet) visited.clone();
+  }
+
+  /**
+   * Gets a copy of the locations that have been seen, one bit per location identifier.
+   *
+   * @return the seen locations.
+   */
+  public BitSet getSeen() {
+    return (BitSet) seen.clone();
+  }
+
+  /**
+   * Gets the locations that have been visited without copying them, for a snapshot of the game.
+   * The caller must not change them, and the map copies them before it changes them next.
+   *
+   * @return the visited locations.
+   */
+  public BitSet shareVisited() {
+    shared = true;
+    return visited;
+  }
+
+  /**
+   * Gets the locations that have been seen without copying them, for a snapshot of the game. The
+   * caller must not change them, and the map copies them before it changes them next.
+   *
+   * @return the seen locations.
+   */
+  public BitSet shareSeen() {
+    shared = true;
+    return seen;
+  }
+
+  /**
+   * Private helper method to copy the bits before they are changed if they are shared.
+   */
+  private void writable() {
+    if (shared) {
+      visited = (BitSet) visited.clone();
+      seen = (BitSet) seen.clone();
+      shared = false;
+    }
+  }
+}
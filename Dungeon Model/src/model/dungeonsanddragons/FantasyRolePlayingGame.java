@@ -1,9 +1,26 @@
 package model.dungeonsanddragons;
 
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * FantasyRolePlayingGame class represents the platform to play the game of dungeon and dragons. The
@@ -18,14 +35,27 @@ import java.util.Random;
  */
 public class FantasyRolePlayingGame implements Game {
 
+  private static final long THIEF_DELAY_MILLIS = 5000;
+
   private final Dungeon dungeon;
   private final Player player;
-  private final Random random;
+  private GameRandom random;
   private DungeonNode currentLocation;
   private DungeonNode previousLocation;
   private long moveMadeAt;
   private final int rows;
   private final int columns;
+  private final ExploredMap exploredMap;
+  private final List<GameListener> listeners;
+  private TimerWheel timers;
+  private long idleTimeoutMillis;
+  private TimerWheel.Timeout theft;
+  private TimerWheel.Timeout idle;
+  private GameEdit edit;
+  private Map<Integer, DungeonNode> layer;
+  private Set<Integer> owned;
+  private final BitSet dirty;
+  private final SensingEngine senses;
 
   /**
    * A constructor to create a dungeon with given rows and columns. Dungeon is represented as a 2d
@@ -53,52 +83,8 @@ public class FantasyRolePlayingGame implements Game {
       int treasurePercentage, int numberOfMonsters, int thieves,
       int pits) throws IllegalArgumentException,
       IllegalStateException {
-
-    if (!(rows >= 5 && rows <= 100) || !(columns >= 5 && columns <= 100)
-        || !(treasurePercentage >= 0 && treasurePercentage <= 100)) {
-      throw new IllegalArgumentException("Invalid data in the parameters!");
-    }
-
-    if (pits < 0 || pits > 10) {
-      throw new IllegalArgumentException("Illegal number of pits!");
-    }
-
-    if (thieves < 0 || thieves > 10) {
-      throw new IllegalArgumentException("Illegal number of thieves!");
-    }
-
-    if (numberOfMonsters < 1 || numberOfMonsters > 20) {
-      throw new IllegalArgumentException("Illegal number of monsters!");
-    }
-
-    /*In a non-wrapping dungeon total Horizontal and Vertical Edges is equal to
-     (rows * ((cols*2) - 1)) - col. Total number of 'leftover' edges are building mst of
-     (rows * cols - 1) is (rows * cols - rows - cols + 1)
-     */
-    if (!wrapping && !(interconnectivity >= 0
-        && interconnectivity <= rows * columns - rows - columns + 1)) {
-      throw new IllegalArgumentException("Invalid Interconnectivity degree!");
-    }
-
-    /*In a wrapping dungeon total Horizontal and Vertical Edges is equal to
-     (rows * ((cols*2) - 1)) - col + row + col. Total number of 'leftover' edges are building mst
-      of (rows * cols - 1) is (rows * cols + 1)
-     */
-    if (wrapping && !(interconnectivity >= 0
-        && interconnectivity <= rows * columns + 1)) {
-      throw new IllegalArgumentException("Invalid Interconnectivity degree!");
-    }
-
-    this.rows = rows;
-    this.columns = columns;
-    dungeon = new DungeonImpl(rows, columns, wrapping, new Random());
-    dungeon.create(interconnectivity, treasurePercentage, numberOfMonsters, thieves, pits);
-    this.player = new PlayerImpl("Marcus");
-    this.currentLocation = dungeon.getStartingCave();
-    this.previousLocation = dungeon.getStartingCave();
-    this.player.setLocation(this.currentLocation);
-    this.random = new Random();
-    moveMadeAt = System.currentTimeMillis();
+    this(rows, columns, wrapping, interconnectivity, treasurePercentage, numberOfMonsters,
+        thieves, pits, new SplittableGameRandom(System.nanoTime()));
   }
 
   /**
@@ -129,6 +115,76 @@ public class FantasyRolePlayingGame implements Game {
       int treasurePercentage, int numberOfMonsters, int thieves, int pits,
       Random random) throws IllegalArgumentException,
       IllegalStateException {
+    this(rows, columns, wrapping, interconnectivity, treasurePercentage, numberOfMonsters,
+        thieves, pits, SharedGameRandom.wrap(random));
+  }
+
+  /**
+   * A constructor to create a dungeon with given rows and columns. Dungeon is represented as a 2d
+   * grid of given rows and columns. Dungeon also has a degree of interconnectivity that the user
+   * can set, wrapping status and the percentage of caves that the treasure needs to be added to.
+   * Every phase of creating the dungeon and the rolls of the game draw from their own stream of
+   * the random generator.
+   *
+   * @param rows               represents the number of rows with which the dungeon needs to be
+   *                           created.
+   * @param columns            represents the number of columns with which the dungeon needs to be
+   *                           created.
+   * @param wrapping           represents the wrapping status of the dungeon.
+   * @param interconnectivity  represents the degree of interconnectivity of the dungeon.
+   * @param treasurePercentage represents the percentage of caves that the treasure should be
+   *                           added.
+   * @param numberOfMonsters   represents the number of monsters in the game.
+   * @param thieves represents the number of thieves in the game.
+   * @param pits represents the number of pits that should be added to the dungeon.
+   * @param random             represents the random generator the streams are split off.
+   * @throws IllegalStateException    if the dungeon size is too small to enforce 5 as minimum
+   *                                  distance between execute and end. It also considers a scenario
+   *                                  where the dungeon cannot be created with incorrect degree of
+   *                                  interconnectivity.
+   * @throws IllegalArgumentException if the user enters illegal arguments.
+   */
+  public FantasyRolePlayingGame(int rows, int columns, boolean wrapping, int interconnectivity,
+      int treasurePercentage, int numberOfMonsters, int thieves, int pits,
+      GameRandom random) throws IllegalArgumentException, IllegalStateException {
+    this(rows, columns, wrapping, interconnectivity, treasurePercentage, numberOfMonsters,
+        thieves, pits, random, MazeAlgorithm.KRUSKAL, Long.MAX_VALUE, DifficultyBand.ANY);
+  }
+
+  /**
+   * A constructor to create a dungeon with given rows and columns. Dungeon is represented as a 2d
+   * grid of given rows and columns. Dungeon also has a degree of interconnectivity that the user
+   * can set, wrapping status and the percentage of caves that the treasure needs to be added to.
+   * The occupants of the dungeon are placed again until its difficulty falls in the band. Every
+   * phase of creating the dungeon and the rolls of the game draw from their own stream of the
+   * random generator.
+   *
+   * @param rows               represents the number of rows with which the dungeon needs to be
+   *                           created.
+   * @param columns            represents the number of columns with which the dungeon needs to be
+   *                           created.
+   * @param wrapping           represents the wrapping status of the dungeon.
+   * @param interconnectivity  represents the degree of interconnectivity of the dungeon.
+   * @param treasurePercentage represents the percentage of caves that the treasure should be
+   *                           added.
+   * @param numberOfMonsters   represents the number of monsters in the game.
+   * @param thieves represents the number of thieves in the game.
+   * @param pits represents the number of pits that should be added to the dungeon.
+   * @param random             represents the random generator the streams are split off.
+   * @param algorithm          represents the algorithm used to carve the dungeon out of the grid.
+   * @param memoryBudget       represents the most bytes of heap the game may hold.
+   * @param band               represents the band of difficulty the dungeon should fall in.
+   * @throws IllegalStateException    if the dungeon size is too small to enforce 5 as minimum
+   *                                  distance between execute and end. It also considers a scenario
+   *                                  where the dungeon cannot be created with incorrect degree of
+   *                                  interconnectivity.
+   * @throws IllegalArgumentException if the user enters illegal arguments or the dungeon doesn't
+   *                                  fit in the memory budget.
+   */
+  public FantasyRolePlayingGame(int rows, int columns, boolean wrapping, int interconnectivity,
+      int treasurePercentage, int numberOfMonsters, int thieves, int pits,
+      GameRandom random, MazeAlgorithm algorithm, long memoryBudget, DifficultyBand band)
+      throws IllegalArgumentException, IllegalStateException {
 
     if (!(rows >= 5 && rows <= 100) || !(columns >= 5 && columns <= 100)
         || !(treasurePercentage >= 0 && treasurePercentage <= 100)) {
@@ -169,15 +225,58 @@ public class FantasyRolePlayingGame implements Game {
       throw new IllegalArgumentException("Invalid random Object!");
     }
 
+    if (Objects.isNull(algorithm)) {
+      throw new IllegalArgumentException("Invalid maze algorithm!");
+    }
+
+    if (Objects.isNull(band)) {
+      throw new IllegalArgumentException("Invalid difficulty band!");
+    }
+
+    checkMemoryBudget(rows, columns, wrapping, interconnectivity, memoryBudget);
+
     this.rows = rows;
     this.columns = columns;
-    dungeon = new DungeonImpl(rows, columns, wrapping, random);
-    dungeon.create(interconnectivity, treasurePercentage, numberOfMonsters, thieves, pits);
+    dungeon = new DungeonImpl(rows, columns, wrapping, random, algorithm);
+    dungeon.create(interconnectivity, treasurePercentage, numberOfMonsters, thieves, pits,
+        band);
     this.player = new PlayerImpl("Marcus");
     this.currentLocation = dungeon.getStartingCave();
     this.previousLocation = dungeon.getStartingCave();
     this.player.setLocation(this.currentLocation);
-    this.random = random;
+    this.exploredMap = new ExploredMap(rows, columns);
+    this.exploredMap.visit(this.currentLocation);
+    this.dirty = new BitSet(rows * columns);
+    this.senses = new SensingEngine(dungeon.getDungeonAs2D());
+    this.senses.prepare(Sense.SMELL, this::current);
+    this.senses.prepare(Sense.SOUND, this::current);
+    this.listeners = new CopyOnWriteArrayList<>();
+    this.random = random.split(RandomStream.COMBAT);
+    moveMadeAt = System.currentTimeMillis();
+  }
+
+  /**
+   * A constructor to create a fork of the game. The fork shares the dungeon and the locations
+   * nobody changed since forking with the game, and gets its own player, map and random
+   * generator. Listeners and timers are not carried over.
+   *
+   * @param game represents the game to fork.
+   */
+  private FantasyRolePlayingGame(FantasyRolePlayingGame game) {
+    this.rows = game.rows;
+    this.columns = game.columns;
+    this.dungeon = game.dungeon;
+    this.player = game.player.copy();
+    this.currentLocation = game.currentLocation;
+    this.previousLocation = game.previousLocation;
+    this.exploredMap = new ExploredMap(game.exploredMap);
+    this.dirty = (BitSet) game.dirty.clone();
+    this.senses = game.senses.copy();
+    this.listeners = new CopyOnWriteArrayList<>();
+    this.random = game.random.fork();
+    this.moveMadeAt = game.moveMadeAt;
+    this.layer = new HashMap<>(game.layer);
+    this.owned = new HashSet<>();
   }
 
   /**
@@ -216,20 +315,12 @@ public class FantasyRolePlayingGame implements Game {
       throw new IllegalArgumentException("Direction can't be null!");
     }
 
+    DungeonNode from = this.currentLocation;
+    DungeonNode previousBefore = player.getPreviousLocation();
     player.setPreviousLocation(this.currentLocation);
 
-    int currentRow = 0;
-    int currentColumn = 0;
-
-    for (int i = 0; i < dungeon.getNoOfRows(); i++) {
-      for (int j = 0; j < dungeon.getNoOfColumns(); j++) {
-        if (dungeon.getDungeonAs2D()[i][j].getDungeonNodeIdentifier()
-            == this.currentLocation.getDungeonNodeIdentifier()) {
-          currentRow = i;
-          currentColumn = j;
-        }
-      }
-    }
+    int currentRow = this.currentLocation.getDungeonNodeIdentifier() / columns;
+    int currentColumn = this.currentLocation.getDungeonNodeIdentifier() % columns;
 
     switch (direction) {
 
@@ -237,10 +328,10 @@ public class FantasyRolePlayingGame implements Game {
         if ((this.currentLocation.getNorthConnection() == 1)) {
           if (currentRow == 0) {
             this.currentLocation =
-                dungeon.getDungeonAs2D()[dungeon.getNoOfRows() - 1][currentColumn];
+                node(dungeon.getNoOfRows() - 1, currentColumn);
             player.setLocation(this.currentLocation);
           } else {
-            this.currentLocation = dungeon.getDungeonAs2D()[currentRow - 1][currentColumn];
+            this.currentLocation = node(currentRow - 1, currentColumn);
             player.setLocation(this.currentLocation);
           }
         } else {
@@ -251,10 +342,10 @@ public class FantasyRolePlayingGame implements Game {
       case DOWN:
         if (this.currentLocation.getSouthConnection() == 1) {
           if (currentRow == (dungeon.getNoOfRows() - 1)) {
-            this.currentLocation = dungeon.getDungeonAs2D()[0][currentColumn];
+            this.currentLocation = node(0, currentColumn);
             player.setLocation(this.currentLocation);
           } else {
-            this.currentLocation = dungeon.getDungeonAs2D()[currentRow + 1][currentColumn];
+            this.currentLocation = node(currentRow + 1, currentColumn);
             player.setLocation(this.currentLocation);
           }
         } else {
@@ -266,10 +357,10 @@ public class FantasyRolePlayingGame implements Game {
         if (this.currentLocation.getWestConnection() == 1) {
           if (currentColumn == 0) {
             this.currentLocation =
-                dungeon.getDungeonAs2D()[currentRow][dungeon.getNoOfColumns() - 1];
+                node(currentRow, dungeon.getNoOfColumns() - 1);
             player.setLocation(this.currentLocation);
           } else {
-            this.currentLocation = dungeon.getDungeonAs2D()[currentRow][currentColumn - 1];
+            this.currentLocation = node(currentRow, currentColumn - 1);
             player.setLocation(this.currentLocation);
           }
         } else {
@@ -280,10 +371,10 @@ public class FantasyRolePlayingGame implements Game {
       case RIGHT:
         if (this.currentLocation.getEastConnection() == 1) {
           if (currentColumn == (dungeon.getNoOfColumns() - 1)) {
-            this.currentLocation = dungeon.getDungeonAs2D()[currentRow][0];
+            this.currentLocation = node(currentRow, 0);
             player.setLocation(this.currentLocation);
           } else {
-            this.currentLocation = dungeon.getDungeonAs2D()[currentRow][currentColumn + 1];
+            this.currentLocation = node(currentRow, currentColumn + 1);
             player.setLocation(this.currentLocation);
           }
         } else {
@@ -295,6 +386,30 @@ public class FantasyRolePlayingGame implements Game {
         throw new IllegalStateException("Direction Unavailable!");
     }
 
+    DungeonNode to = this.currentLocation;
+    int changed = exploredMap.visit(to);
+    journal(GameEventType.PLAYER_MOVED, null, () -> {
+      exploredMap.unvisit(to, changed);
+      moveTo(from, previousBefore);
+    }, () -> {
+      exploredMap.visit(to);
+      moveTo(to, from);
+    });
+    notifyListeners(GameEventType.PLAYER_MOVED, this.currentLocation, direction.toString());
+    scheduleTheft();
+    restartIdleTimer();
+  }
+
+  /**
+   * Cancels the timeouts the game is waiting on and stops using the timer wheel, so that a game
+   * that is thrown away isn't kept alive by the wheel. The timed rules are checked when the
+   * controller asks again.
+   */
+  @Override
+  public void detachTimerWheel() {
+    cancelTimers();
+    this.timers = null;
+    this.idleTimeoutMillis = 0;
   }
 
   /**
@@ -342,19 +457,8 @@ public class FantasyRolePlayingGame implements Game {
   @Override
   public ReadOnlyGame gameState() {
 
-    int row = 0;
-    int column = 0;
-
-    for (int i = 0; i < dungeon.getNoOfRows(); i++) {
-      for (int j = 0; j < dungeon.getNoOfColumns(); j++) {
-        if (dungeon.getDungeonAs2D()[i][j].getDungeonNodeIdentifier()
-            == this.player.getLocation().getDungeonNodeIdentifier()) {
-          row = i;
-          column = j;
-          break;
-        }
-      }
-    }
+    int row = this.player.getLocation().getDungeonNodeIdentifier() / columns;
+    int column = this.player.getLocation().getDungeonNodeIdentifier() % columns;
 
     ReadOnlyGame copyReadOnlyGame = new ReadOnlyGameImpl(
         this.player.getLocation().getDungeonNodeIdentifier(),
@@ -370,7 +474,8 @@ public class FantasyRolePlayingGame implements Game {
         this.player.getLocation().getArrows(),
         row, column, this.getSmell() != null ? this.getSmell().toString() : "",
         this.getSound() != null ? this.getSound().toString() : "",
-        this.player.getPlayerTreasures(), this.player.getPlayerArrows());
+        this.player.getPlayerTreasures(), this.player.getPlayerArrows(),
+        exploredMap.shareVisited(), exploredMap.shareSeen());
 
     return copyReadOnlyGame;
   }
@@ -400,8 +505,18 @@ public class FantasyRolePlayingGame implements Game {
     }
 
     if (found) {
+      DungeonNode location = writable(this.currentLocation);
       this.player.addTreasure(treasure);
-      this.currentLocation.removeCaveTreasure(treasure);
+      location.removeCaveTreasure(treasure);
+      journal(GameEventType.TREASURE_PICKED, location, () -> {
+        player.removeTreasure(treasure);
+        writable(location).addCaveTreasure(treasure);
+      }, () -> {
+        player.addTreasure(treasure);
+        writable(location).removeCaveTreasure(treasure);
+      });
+      notifyListeners(GameEventType.TREASURE_PICKED, this.currentLocation, treasure.toString());
+      restartIdleTimer();
     } else {
       throw new IllegalStateException("There is no treasure of that type in this cave!");
     }
@@ -439,35 +554,11 @@ public class FantasyRolePlayingGame implements Game {
    */
   @Override
   public Smell getSmell() {
-    Smell copySmell = null;
-
-    int count = 0;
-    for (Interconnection edge : dungeon.getTwoLocationAway()) {
-      if (currentLocation.getDungeonNodeIdentifier()
-          == edge.getDestination().getDungeonNodeIdentifier()) {
-        if (edge.getSource().getMonster() != null
-            && edge.getSource().getMonster().getHealth() != 0) {
-          copySmell = Smell.PUNGENT;
-          count += 1;
-        }
-      }
+    int smell = getIntensity(Sense.SMELL);
+    if (smell >= 2) {
+      return Smell.MOREPUNGENT;
     }
-
-    for (Interconnection edge : dungeon.getOneLocationAway()) {
-      if (currentLocation.getDungeonNodeIdentifier()
-          == edge.getDestination().getDungeonNodeIdentifier()) {
-        if (edge.getSource().getMonster() != null
-            && edge.getSource().getMonster().getHealth() != 0) {
-          copySmell = Smell.MOREPUNGENT;
-        }
-      }
-    }
-
-    if (count > 1) {
-      copySmell = Smell.MOREPUNGENT;
-    }
-
-    return copySmell;
+    return smell == 1 ? Smell.PUNGENT : null;
   }
 
   /**
@@ -486,26 +577,16 @@ public class FantasyRolePlayingGame implements Game {
       throw new IllegalArgumentException("Invalid values to shoot an arrow!");
     }
 
-    int currentRow = 0;
-    int currentColumn = 0;
+    int currentRow = this.currentLocation.getDungeonNodeIdentifier() / columns;
+    int currentColumn = this.currentLocation.getDungeonNodeIdentifier() % columns;
     String tempMove = direction.toString();
 
-    for (int i = 0; i < dungeon.getNoOfRows(); i++) {
-      for (int j = 0; j < dungeon.getNoOfColumns(); j++) {
-        if (dungeon.getDungeonAs2D()[i][j].getDungeonNodeIdentifier()
-            == this.currentLocation.getDungeonNodeIdentifier()) {
-          currentRow = i;
-          currentColumn = j;
-        }
-      }
-    }
-
     if (this.player.getPlayerArrows().size() > 0) {
       while (distance > 0) {
 
         if (tempMove.equals("UP") && distance > 0) {
           //Move the arrow one position to north.
-          if ((dungeon.getDungeonAs2D()[currentRow][currentColumn].getNorthConnection() == 1)) {
+          if ((node(currentRow, currentColumn).getNorthConnection() == 1)) {
             if (currentRow == 0) {
               currentRow = dungeon.getNoOfRows() - 1;
             } else {
@@ -516,7 +597,7 @@ public class FantasyRolePlayingGame implements Game {
           }
 
           //If there is no further path from a cave, arrow no longer travels.
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn].getNodeIsA()
+          if (node(currentRow, currentColumn).getNodeIsA()
               .equals(DungeonNodeType.CAVE)) {
             distance -= 1;
           }
@@ -524,22 +605,22 @@ public class FantasyRolePlayingGame implements Game {
           /*If the arrow is coming from south, then it can exit only via east or west if
           it's a tunnel.
            */
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn]
+          if (node(currentRow, currentColumn)
               .getNodeIsA().equals(DungeonNodeType.TUNNEL)
-              && dungeon.getDungeonAs2D()[currentRow][currentColumn].getEastConnection() == 1) {
+              && node(currentRow, currentColumn).getEastConnection() == 1) {
             tempMove = "RIGHT";
           }
 
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn]
+          if (node(currentRow, currentColumn)
               .getNodeIsA().equals(DungeonNodeType.TUNNEL)
-              && dungeon.getDungeonAs2D()[currentRow][currentColumn].getWestConnection() == 1) {
+              && node(currentRow, currentColumn).getWestConnection() == 1) {
             tempMove = "LEFT";
           }
         }
 
         if (tempMove.equals("DOWN") && distance > 0) {
           //Move the arrow one position to south.
-          if ((dungeon.getDungeonAs2D()[currentRow][currentColumn].getSouthConnection() == 1)) {
+          if ((node(currentRow, currentColumn).getSouthConnection() == 1)) {
             if (currentRow == (dungeon.getNoOfRows() - 1)) {
               currentRow = 0;
             } else {
@@ -550,7 +631,7 @@ public class FantasyRolePlayingGame implements Game {
           }
 
           //If there is no further path from a cave, arrow no longer travels.
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn].getNodeIsA()
+          if (node(currentRow, currentColumn).getNodeIsA()
               .equals(DungeonNodeType.CAVE)) {
             distance -= 1;
           }
@@ -558,22 +639,22 @@ public class FantasyRolePlayingGame implements Game {
           /*If the arrow is coming from north, then it can exit only via east or west if
           it's a tunnel.
            */
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn]
+          if (node(currentRow, currentColumn)
               .getNodeIsA().equals(DungeonNodeType.TUNNEL)
-              && dungeon.getDungeonAs2D()[currentRow][currentColumn].getEastConnection() == 1) {
+              && node(currentRow, currentColumn).getEastConnection() == 1) {
             tempMove = "RIGHT";
           }
 
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn]
+          if (node(currentRow, currentColumn)
               .getNodeIsA().equals(DungeonNodeType.TUNNEL)
-              && dungeon.getDungeonAs2D()[currentRow][currentColumn].getWestConnection() == 1) {
+              && node(currentRow, currentColumn).getWestConnection() == 1) {
             tempMove = "LEFT";
           }
         }
 
         if (tempMove.equals("RIGHT") && distance > 0) {
           //Move the arrow one position to east.
-          if ((dungeon.getDungeonAs2D()[currentRow][currentColumn].getEastConnection() == 1)) {
+          if ((node(currentRow, currentColumn).getEastConnection() == 1)) {
             if (currentColumn == (dungeon.getNoOfColumns() - 1)) {
               currentColumn = 0;
             } else {
@@ -584,7 +665,7 @@ public class FantasyRolePlayingGame implements Game {
           }
 
           //If there is no further path from a cave, arrow no longer travels.
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn].getNodeIsA()
+          if (node(currentRow, currentColumn).getNodeIsA()
               .equals(DungeonNodeType.CAVE)) {
             distance -= 1;
           }
@@ -592,22 +673,22 @@ public class FantasyRolePlayingGame implements Game {
           /*If the arrow is coming from west, then it can exit only via north or south if
           it's a tunnel.
            */
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn]
+          if (node(currentRow, currentColumn)
               .getNodeIsA().equals(DungeonNodeType.TUNNEL)
-              && dungeon.getDungeonAs2D()[currentRow][currentColumn].getNorthConnection() == 1) {
+              && node(currentRow, currentColumn).getNorthConnection() == 1) {
             tempMove = "UP";
           }
 
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn]
+          if (node(currentRow, currentColumn)
               .getNodeIsA().equals(DungeonNodeType.TUNNEL)
-              && dungeon.getDungeonAs2D()[currentRow][currentColumn].getSouthConnection() == 1) {
+              && node(currentRow, currentColumn).getSouthConnection() == 1) {
             tempMove = "DOWN";
           }
         }
 
         if (tempMove.equals("LEFT") && distance > 0) {
           //Move the arrow one position to west.
-          if ((dungeon.getDungeonAs2D()[currentRow][currentColumn].getWestConnection() == 1)) {
+          if ((node(currentRow, currentColumn).getWestConnection() == 1)) {
             if (currentColumn == 0) {
               currentColumn = dungeon.getNoOfColumns() - 1;
             } else {
@@ -618,7 +699,7 @@ public class FantasyRolePlayingGame implements Game {
           }
 
           //If there is no further path from a cave, arrow no longer travels.
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn].getNodeIsA()
+          if (node(currentRow, currentColumn).getNodeIsA()
               .equals(DungeonNodeType.CAVE)) {
             distance -= 1;
           }
@@ -626,31 +707,78 @@ public class FantasyRolePlayingGame implements Game {
           /*If the arrow is coming from east, then it can exit only via north or south if
           it's a tunnel.
            */
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn]
+          if (node(currentRow, currentColumn)
               .getNodeIsA().equals(DungeonNodeType.TUNNEL)
-              && dungeon.getDungeonAs2D()[currentRow][currentColumn].getNorthConnection() == 1) {
+              && node(currentRow, currentColumn).getNorthConnection() == 1) {
             tempMove = "UP";
           }
 
-          if (dungeon.getDungeonAs2D()[currentRow][currentColumn]
+          if (node(currentRow, currentColumn)
               .getNodeIsA().equals(DungeonNodeType.TUNNEL)
-              && dungeon.getDungeonAs2D()[currentRow][currentColumn].getSouthConnection() == 1) {
+              && node(currentRow, currentColumn).getSouthConnection() == 1) {
             tempMove = "DOWN";
           }
         }
       }
 
       //Slay the monster only if the distance is exact
-      if (distance != -1) {
-        dungeon.getDungeonAs2D()[currentRow][currentColumn].updateMonster();
+      DungeonNode target = node(currentRow, currentColumn);
+      int healthBefore = target.getMonster() != null ? target.getMonster().getHealth() : 0;
+      if (distance != -1 && target.getMonster() != null) {
+        target = writable(target);
+        target.updateMonster();
       }
+      DungeonNode shot = target;
       this.player.removeArrow();
+      int healthShot = target.getMonster() != null ? target.getMonster().getHealth() : 0;
+      monsterHealthChanged(shot, healthBefore, healthShot);
+      journal(GameEventType.ARROW_SHOT, shot, () -> {
+        player.addArrow();
+        if (healthShot != healthBefore) {
+          writable(shot).getMonster().restoreHealth(healthBefore);
+          monsterHealthChanged(shot, healthShot, healthBefore);
+        }
+      }, () -> {
+        player.removeArrow();
+        if (healthShot != healthBefore) {
+          writable(shot).getMonster().restoreHealth(healthShot);
+          monsterHealthChanged(shot, healthBefore, healthShot);
+        }
+      });
+      notifyListeners(GameEventType.ARROW_SHOT, this.currentLocation, direction.toString());
+      restartIdleTimer();
+
+      int healthAfter = target.getMonster() != null ? target.getMonster().getHealth() : 0;
+      if (healthAfter < healthBefore) {
+        notifyListeners(healthAfter == 0 ? GameEventType.MONSTER_KILLED
+            : GameEventType.MONSTER_HIT, target, target.getMonster().toString());
+      }
 
     } else {
       throw new IllegalStateException("Oops. No more arrows!");
     }
   }
 
+  /**
+   * Goes down the stairs to the next level. A game of a single level has no stairs.
+   *
+   * @throws IllegalStateException always, since there are no stairs.
+   */
+  @Override
+  public void descend() throws IllegalStateException {
+    throw new IllegalStateException("There are no stairs down here!");
+  }
+
+  /**
+   * Climbs the stairs to the level above. A game of a single level has no stairs.
+   *
+   * @throws IllegalStateException always, since there are no stairs.
+   */
+  @Override
+  public void climb() throws IllegalStateException {
+    throw new IllegalStateException("There are no stairs up here!");
+  }
+
   /**
    * Picks an arrow and adds it to the player's bag so that it can be further used to slay a
    * monster.
@@ -658,8 +786,19 @@ public class FantasyRolePlayingGame implements Game {
   @Override
   public void pickArrow() {
     if (currentLocation.getArrows().size() > 0) {
+      DungeonNode location = writable(currentLocation);
       player.addArrow();
-      currentLocation.removeArrow();
+      location.removeArrow();
+      journal(GameEventType.ARROW_PICKED, location, () -> {
+        player.removeArrow();
+        writable(location).addArrows();
+      }, () -> {
+        player.addArrow();
+        writable(location).removeArrow();
+      });
+      notifyListeners(GameEventType.ARROW_PICKED, currentLocation,
+          Weapon.CROOKEDARROW.toString());
+      restartIdleTimer();
     } else {
       throw new IllegalStateException("No arrow to pick!");
     }
@@ -679,16 +818,18 @@ public class FantasyRolePlayingGame implements Game {
   /**
    * Checks if the thief has stolen the treasure. The player can escape the thief if he can get
    * away from the tunnel in 5 seconds. If the player doesn't escape the tunnel in under 5 seconds,
-   * then he loses all of the treasure.
+   * then he loses all of the treasure. Once the game uses a timer wheel, the theft is fired by
+   * the wheel and this check has no effect.
    *
    * @param time represents the current system time.
    */
   @Override
   public void checkTreasureStolen(Long time) {
-    if ((time - moveMadeAt) > 5000) {
+    if (timers == null && (time - moveMadeAt) > THIEF_DELAY_MILLIS) {
       if (player.getPreviousLocation().getThief() != null) {
-        player.clearTreasure();
-        player.clearArrows();
+        rob();
+        notifyListeners(GameEventType.TREASURE_STOLEN, player.getPreviousLocation(),
+            Enemy.THIEF.toString());
       }
     }
     moveMadeAt = System.currentTimeMillis();
@@ -703,17 +844,24 @@ public class FantasyRolePlayingGame implements Game {
    */
   @Override
   public Sound getSound() {
-    Sound copySound = null;
+    return getIntensity(Sense.SOUND) > 0 ? Sound.CRACKLING : null;
+  }
 
-    for (Interconnection edge : dungeon.getOneLocationAway()) {
-      if (currentLocation.getDungeonNodeIdentifier()
-          == edge.getDestination().getDungeonNodeIdentifier()) {
-        if (edge.getSource().getPit() != null) {
-          copySound = Sound.CRACKLING;
-        }
-      }
+  /**
+   * Gets how strongly the player senses the things of the given sense from their location. The
+   * strengths of a sense are worked out for the whole dungeon the first time it's asked for and
+   * kept up to date as monsters are slain, so this is a single look-up.
+   *
+   * @param sense represents the sense.
+   * @return the strength of the sense, 0 if nothing is sensed.
+   * @throws IllegalArgumentException if the sense is null.
+   */
+  @Override
+  public int getIntensity(Sense sense) throws IllegalArgumentException {
+    if (Objects.isNull(sense)) {
+      throw new IllegalArgumentException("Sense can't be null!");
     }
-    return copySound;
+    return senses.getIntensity(sense, currentLocation.getDungeonNodeIdentifier(), this::current);
   }
 
   /**
@@ -727,4 +875,635 @@ public class FantasyRolePlayingGame implements Game {
     return  (player.getLocation().getPit() != null && (player.getPlayerDiamondCount() < 1)
         && (player.getPlayerRubyCount() < 1) && (player.getPlayerSapphireCount() < 1));
   }
-}
\ No newline at end of file
+
+  /**
+   * Gets the number of moves between the player's location and the end cave, following the
+   * shortest path through the dungeon.
+   *
+   * @return the number of moves left to reach the end cave.
+   */
+  @Override
+  public int getDistanceToEnd() {
+    return dungeon.getDistanceToEndingCave()
+        .getDistance(this.currentLocation.getDungeonNodeIdentifier());
+  }
+
+  /**
+   * Gets the move that takes the player one step closer to the end cave along the shortest path.
+   * Making this move repeatedly walks the player to the end cave.
+   *
+   * @return the move towards the end cave, null if the player is already at the end cave.
+   */
+  @Override
+  public Direction getNextStepToEnd() {
+    return dungeon.getDistanceToEndingCave()
+        .getNextStep(this.currentLocation.getDungeonNodeIdentifier());
+  }
+
+  /**
+   * Gets the number of moves along the shortest path between any two locations of the dungeon.
+   *
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @return the number of moves between the two locations.
+   * @throws IllegalArgumentException if either location doesn't exist.
+   */
+  @Override
+  public int getDistanceBetween(int source, int destination) throws IllegalArgumentException {
+    return dungeon.getDistanceOracle().distance(source, destination);
+  }
+
+  /**
+   * Gets the difficulty of the dungeon worked out when it was created.
+   *
+   * @return the difficulty of the dungeon.
+   */
+  @Override
+  public DifficultyEstimate getDifficulty() {
+    return dungeon.getDifficulty();
+  }
+
+  /**
+   * Writes the locations of the dungeon with their contents and the tunnels and caves joining
+   * them to the writer in the given format, without building the document in memory.
+   *
+   * @param format represents the format to write.
+   * @param out represents the writer to write to.
+   * @throws IOException if the writer fails.
+   * @throws IllegalArgumentException if the format or the writer is null.
+   */
+  @Override
+  public void exportDungeon(GraphFormat format, Writer out) throws IOException {
+    dungeon.export(format, out, this::current);
+  }
+
+  /**
+   * Writes the locations of the dungeon with their contents and the tunnels and caves joining
+   * them to the stream in the given format, encoded as UTF-8. The stream is flushed but not
+   * closed.
+   *
+   * @param format represents the format to write.
+   * @param out represents the stream to write to.
+   * @throws IOException if the stream fails.
+   * @throws IllegalArgumentException if the format or the stream is null.
+   */
+  @Override
+  public void exportDungeon(GraphFormat format, OutputStream out) throws IOException {
+    if (Objects.isNull(out)) {
+      throw new IllegalArgumentException("Illegal format or writer!");
+    }
+    dungeon.export(format, new BufferedWriter(new OutputStreamWriter(out,
+        StandardCharsets.UTF_8)), this::current);
+  }
+
+  /**
+   * Runs the action and keeps the changes it makes to the game as an edit that can be taken back
+   * and made again. The health of the player is part of every edit, so taking back a move also
+   * brings back a player killed on arriving. If the action fails, its changes are not kept.
+   *
+   * @param action represents the action to run, such as a move or a shot.
+   * @return the changes made by the action.
+   * @throws IllegalArgumentException if the action is null.
+   * @throws IllegalStateException if another action is being recorded.
+   */
+  @Override
+  public GameEdit record(Runnable action) throws IllegalArgumentException,
+      IllegalStateException {
+    if (Objects.isNull(action)) {
+      throw new IllegalArgumentException("Action can't be null!");
+    }
+    if (edit != null) {
+      throw new IllegalStateException("Already recording an action!");
+    }
+
+    GameEdit recorded = new GameEdit();
+    int healthBefore = player.getPlayerHealth();
+    recorded.add(new GameEdit.Step() {
+      private int healthAfter;
+
+      @Override
+      public void undo() {
+        healthAfter = player.getPlayerHealth();
+        player.restorePlayerHealth(healthBefore);
+      }
+
+      @Override
+      public void redo() {
+        player.restorePlayerHealth(healthAfter);
+      }
+    });
+
+    edit = recorded;
+    try {
+      action.run();
+    } finally {
+      edit = null;
+    }
+    return recorded;
+  }
+
+  /**
+   * Creates a copy of the game that can be played on without changing this game, such as for
+   * searching ahead before making a move. The layout of the dungeon is shared and never copied.
+   * The locations are shared as well until either game changes one, which then gets its own copy
+   * of just that location, so a fork only copies the player, the map and the locations changed
+   * since forking. The fork doesn't tell the listeners of this game about its changes and has no
+   * timed rules.
+   *
+   * @return the fork of the game.
+   */
+  @Override
+  public Game fork() {
+    if (layer == null) {
+      layer = new HashMap<>();
+      owned = new HashSet<>();
+    } else {
+      owned.clear();
+    }
+    return new FantasyRolePlayingGame(this);
+  }
+
+  /**
+   * Saves what has happened in the game so far in a compact form: where the player is, the bag
+   * and health of the player, the map, and the contents of only the locations that changed. The
+   * layout isn't saved, since the same dungeon can be generated again from its seed. The combat
+   * rolls are seeded again from a number drawn off their stream, which is saved along with the
+   * progress, so the game brought back rolls the same as this one from then on.
+   *
+   * @return the saved progress.
+   */
+  byte[] saveProgress() {
+    long reseed = random.nextLong();
+    random = new SplittableGameRandom(reseed);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeLong(reseed);
+      out.writeInt(currentLocation.getDungeonNodeIdentifier());
+      out.writeInt(player.getPreviousLocation() == null ? -1
+          : player.getPreviousLocation().getDungeonNodeIdentifier());
+      out.writeByte(player.getPlayerHealth());
+      writeTreasures(out, player.getPlayerTreasures());
+      out.writeShort(player.getPlayerArrows().size());
+      writeBits(out, exploredMap.getVisited());
+      writeBits(out, exploredMap.getSeen());
+
+      out.writeInt(dirty.cardinality());
+      for (int id = dirty.nextSetBit(0); id >= 0; id = dirty.nextSetBit(id + 1)) {
+        DungeonNode location = node(id / columns, id % columns);
+        out.writeInt(id);
+        writeTreasures(out, location.getCaveTreasures());
+        out.writeShort(location.getArrows().size());
+        out.writeByte(location.getMonster() == null ? -1 : location.getMonster().getHealth());
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Progress can't be saved!");
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Brings back the progress saved from a game with the same dungeon, which this game must have
+   * been generated the same way as and not played yet. The combat rolls go on from where they
+   * were in the saved game.
+   *
+   * @param progress represents the saved progress.
+   * @throws IllegalArgumentException if the progress is null or can't be read.
+   */
+  void restoreProgress(byte[] progress) throws IllegalArgumentException {
+    if (Objects.isNull(progress)) {
+      throw new IllegalArgumentException("Progress can't be null!");
+    }
+
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(progress))) {
+      long reseed = in.readLong();
+      DungeonNode location = location(in.readInt());
+      int previous = in.readInt();
+      int health = in.readByte();
+      List<Treasure> treasures = readTreasures(in);
+      List<Weapon> arrows = new ArrayList<>();
+      for (int i = in.readShort(); i > 0; i--) {
+        arrows.add(Weapon.CROOKEDARROW);
+      }
+      exploredMap.restore(readBits(in), readBits(in));
+
+      for (int count = in.readInt(); count > 0; count--) {
+        DungeonNode node = writable(location(in.readInt()));
+        for (Treasure treasure : new ArrayList<>(node.getCaveTreasures())) {
+          node.removeCaveTreasure(treasure);
+        }
+        for (Treasure treasure : readTreasures(in)) {
+          node.addCaveTreasure(treasure);
+        }
+        while (!node.getArrows().isEmpty()) {
+          node.removeArrow();
+        }
+        for (int i = in.readShort(); i > 0; i--) {
+          node.addArrows();
+        }
+        int monster = in.readByte();
+        if (monster >= 0 && node.getMonster() != null) {
+          int generated = node.getMonster().getHealth();
+          node.getMonster().restoreHealth(monster);
+          monsterHealthChanged(node, generated, monster);
+        }
+      }
+
+      this.currentLocation = current(location);
+      player.setLocation(this.currentLocation);
+      player.setPreviousLocation(previous < 0 ? null : current(location(previous)));
+      player.restorePlayerHealth(health);
+      player.restoreBag(treasures, arrows);
+      this.random = new SplittableGameRandom(reseed);
+    } catch (IOException | IndexOutOfBoundsException | NegativeArraySizeException
+        | IllegalStateException e) {
+      throw new IllegalArgumentException("Progress can't be read!");
+    }
+  }
+
+  /**
+   * Gets the identifier of the starting cave of the dungeon.
+   *
+   * @return the identifier of the starting cave.
+   */
+  int getStartingLocation() {
+    return dungeon.getStartingCave().getDungeonNodeIdentifier();
+  }
+
+  /**
+   * Hands the player the treasure and arrows carried in from elsewhere, such as from the level
+   * above, replacing what the player had.
+   *
+   * @param treasures represents the treasure carried in.
+   * @param arrows represents the arrows carried in.
+   * @throws IllegalArgumentException if any of them is null.
+   */
+  void takeBag(List<Treasure> treasures, List<Weapon> arrows) throws IllegalArgumentException {
+    if (Objects.isNull(treasures) || Objects.isNull(arrows)) {
+      throw new IllegalArgumentException("Bag can't be null!");
+    }
+    player.restoreBag(new ArrayList<>(treasures), new ArrayList<>(arrows));
+  }
+
+  /**
+   * Lets the timed rules of the game be fired by the given timer wheel instead of being checked
+   * when the controller asks. A player that stays in the tunnel of a thief for 5 seconds is
+   * robbed as soon as the time runs out, and a player that doesn't act for the idle timeout is
+   * reported to the listeners with an idle event.
+   *
+   * @param timers represents the timer wheel that fires the timed rules.
+   * @param idleTimeoutMillis represents the time the player may not act for, 0 for no timeout.
+   * @throws IllegalArgumentException if the wheel is null or the timeout is negative.
+   */
+  @Override
+  public void useTimerWheel(TimerWheel timers, long idleTimeoutMillis)
+      throws IllegalArgumentException {
+    if (Objects.isNull(timers) || idleTimeoutMillis < 0) {
+      throw new IllegalArgumentException("Illegal timer wheel for the game!");
+    }
+
+    cancelTimers();
+    this.timers = timers;
+    this.idleTimeoutMillis = idleTimeoutMillis;
+    scheduleTheft();
+    restartIdleTimer();
+  }
+
+  /**
+   * Adds a listener that is told about every change made to the game from now on.
+   *
+   * @param listener represents the listener to add.
+   * @throws IllegalArgumentException if the listener is null.
+   */
+  @Override
+  public void addGameListener(GameListener listener) throws IllegalArgumentException {
+    if (Objects.isNull(listener)) {
+      throw new IllegalArgumentException("Listener can't be null!");
+    }
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener so that it is no longer told about the changes made to the game.
+   *
+   * @param listener represents the listener to remove.
+   */
+  @Override
+  public void removeGameListener(GameListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Gets the bytes of heap held by the game, broken down by the structures that hold them.
+   *
+   * @return the memory footprint of the game.
+   */
+  @Override
+  public MemoryFootprint getMemoryFootprint() {
+    Map<String, Long> breakdown = new LinkedHashMap<>(dungeon.getMemoryFootprint().getBreakdown());
+    breakdown.put("player", MemoryFootprint.object(5 * MemoryFootprint.REFERENCE + Integer.BYTES)
+        + MemoryFootprint.arrayList(player.getPlayerTreasures().size())
+        + MemoryFootprint.arrayList(player.getPlayerArrows().size()));
+    breakdown.put("exploredMap", 2 * MemoryFootprint.bitSet((long) rows * columns));
+    breakdown.put("senses", senses.getRetainedBytes());
+    return new MemoryFootprint(breakdown);
+  }
+
+  /**
+   * Private helper method to tell the senses that a monster came back to life or was slain.
+   *
+   * @param location represents the location of the monster.
+   * @param before represents the health of the monster before the change.
+   * @param after represents the health of the monster after the change.
+   */
+  private void monsterHealthChanged(DungeonNode location, int before, int after) {
+    if ((before == 0) != (after == 0)) {
+      senses.sourceChanged(SensedEntity.MONSTER, location.getDungeonNodeIdentifier(), after != 0);
+    }
+  }
+
+  /**
+   * Private helper method to keep a change in the edit being recorded, if any. Taking the change
+   * back or making it again tells the listeners, so they don't hold on to the state from before.
+   *
+   * @param type represents the kind of change.
+   * @param location represents the location the change shows in, null for wherever the player
+   *                 ends up.
+   * @param undo represents how to take the change back.
+   * @param redo represents how to make the change again.
+   */
+  private void journal(GameEventType type, DungeonNode location, Runnable undo, Runnable redo) {
+    if (edit == null) {
+      return;
+    }
+    edit.add(new GameEdit.Step() {
+      @Override
+      public void undo() {
+        undo.run();
+        notifyListeners(GameEventType.UNDONE, location == null ? currentLocation : location,
+            type.name());
+      }
+
+      @Override
+      public void redo() {
+        redo.run();
+        notifyListeners(GameEventType.REDONE, location == null ? currentLocation : location,
+            type.name());
+      }
+    });
+  }
+
+  /**
+   * Private helper method to put the player in the location when a move is taken back or made
+   * again, along with the location the player came from.
+   *
+   * @param location represents the location of the player.
+   * @param previous represents the location the player came from.
+   */
+  private void moveTo(DungeonNode location, DungeonNode previous) {
+    this.currentLocation = current(location);
+    player.setLocation(this.currentLocation);
+    player.setPreviousLocation(previous);
+    scheduleTheft();
+  }
+
+  /**
+   * Private helper method to get the location at the given row and column, holding the contents
+   * as this game sees them.
+   *
+   * @param row represents the row of the location.
+   * @param column represents the column of the location.
+   * @return the location.
+   */
+  private DungeonNode node(int row, int column) {
+    return current(dungeon.getDungeonAs2D()[row][column]);
+  }
+
+  /**
+   * Private helper method to get the node holding the contents of the location as this game sees
+   * them, which is the node of the dungeon unless the game changed the location since forking.
+   *
+   * @param node represents the location.
+   * @return the node holding the contents of the location.
+   */
+  private DungeonNode current(DungeonNode node) {
+    if (layer == null) {
+      return node;
+    }
+    DungeonNode copy = layer.get(node.getDungeonNodeIdentifier());
+    return copy != null ? copy : node;
+  }
+
+  /**
+   * Private helper method to get a node of the location that this game may change. Once the game
+   * has been forked, the nodes are shared with the forks, so the location is copied the first
+   * time it is changed afterwards.
+   *
+   * @param node represents the location to change.
+   * @return the node of the location that may be changed.
+   */
+  private DungeonNode writable(DungeonNode node) {
+    int id = node.getDungeonNodeIdentifier();
+    dirty.set(id);
+    if (layer == null) {
+      return node;
+    }
+
+    if (owned.contains(id)) {
+      return layer.get(id);
+    }
+    DungeonNode copy = current(node).copy();
+    layer.put(id, copy);
+    owned.add(id);
+    if (currentLocation.getDungeonNodeIdentifier() == id) {
+      currentLocation = copy;
+      player.setLocation(copy);
+    }
+    return copy;
+  }
+
+  /**
+   * Private helper method to get the location with the given identifier.
+   *
+   * @param id represents the identifier of the location.
+   * @return the location.
+   * @throws IndexOutOfBoundsException if there is no such location.
+   */
+  private DungeonNode location(int id) {
+    if (id < 0 || id >= rows * columns) {
+      throw new IndexOutOfBoundsException("No such location!");
+    }
+    return node(id / columns, id % columns);
+  }
+
+  /**
+   * Private helper method to write a list of treasure as its count followed by the kinds.
+   *
+   * @param out represents the output to write to.
+   * @param treasures represents the treasure to write.
+   * @throws IOException if the output fails.
+   */
+  private static void writeTreasures(DataOutputStream out, List<Treasure> treasures)
+      throws IOException {
+    out.writeShort(treasures.size());
+    for (Treasure treasure : treasures) {
+      out.writeByte(treasure.ordinal());
+    }
+  }
+
+  /**
+   * Private helper method to read a list of treasure written by writeTreasures.
+   *
+   * @param in represents the input to read from.
+   * @return the treasure read.
+   * @throws IOException if the input fails.
+   */
+  private static List<Treasure> readTreasures(DataInputStream in) throws IOException {
+    int count = in.readShort();
+    List<Treasure> treasures = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      treasures.add(Treasure.values()[in.readByte()]);
+    }
+    return treasures;
+  }
+
+  /**
+   * Private helper method to write a set of bits as its length in bytes followed by the bytes.
+   *
+   * @param out represents the output to write to.
+   * @param bits represents the bits to write.
+   * @throws IOException if the output fails.
+   */
+  private static void writeBits(DataOutputStream out, BitSet bits) throws IOException {
+    byte[] bytes = bits.toByteArray();
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * Private helper method to read a set of bits written by writeBits.
+   *
+   * @param in represents the input to read from.
+   * @return the bits read.
+   * @throws IOException if the input fails.
+   */
+  private static BitSet readBits(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return BitSet.valueOf(bytes);
+  }
+
+  /**
+   * Private helper method to let a thief take everything in the player's bag.
+   */
+  private void rob() {
+    List<Treasure> treasures = player.getPlayerTreasures();
+    List<Weapon> arrows = player.getPlayerArrows();
+    player.clearTreasure();
+    player.clearArrows();
+    journal(GameEventType.TREASURE_STOLEN, currentLocation,
+        () -> player.restoreBag(treasures, arrows), () -> {
+      player.clearTreasure();
+      player.clearArrows();
+    });
+  }
+
+  /**
+   * Private helper method to tell every listener about a change made to the game.
+   *
+   * @param type represents the kind of change.
+   * @param location represents the location the change was made at.
+   * @param detail represents the item or direction involved in the change.
+   */
+  private void notifyListeners(GameEventType type, DungeonNode location, String detail) {
+    if (listeners.isEmpty()) {
+      return;
+    }
+
+    int id = location.getDungeonNodeIdentifier();
+    GameEvent event = new GameEvent(type, id, id / columns, id % columns, detail);
+    for (GameListener listener : listeners) {
+      listener.gameChanged(event);
+    }
+  }
+
+  /**
+   * Private helper method to let the thief in the player's location rob the player once the time
+   * to escape runs out, dropping the theft that was waiting in the location the player left.
+   */
+  private void scheduleTheft() {
+    if (timers == null) {
+      return;
+    }
+
+    if (theft != null) {
+      theft.cancel();
+      theft = null;
+    }
+
+    DungeonNode location = this.currentLocation;
+    if (location.getThief() != null) {
+      theft = timers.schedule(() -> {
+        if (this.currentLocation.getDungeonNodeIdentifier()
+            == location.getDungeonNodeIdentifier()) {
+          rob();
+          notifyListeners(GameEventType.TREASURE_STOLEN, location, Enemy.THIEF.toString());
+        }
+      }, THIEF_DELAY_MILLIS);
+    }
+  }
+
+  /**
+   * Private helper method to start counting the idle time of the player again.
+   */
+  private void restartIdleTimer() {
+    if (timers == null || idleTimeoutMillis == 0) {
+      return;
+    }
+
+    if (idle != null) {
+      idle.cancel();
+    }
+    idle = timers.schedule(() -> notifyListeners(GameEventType.IDLE_TIMEOUT,
+        this.currentLocation, ""), idleTimeoutMillis);
+  }
+
+  /**
+   * Private helper method to cancel the timeouts the game is waiting on.
+   */
+  private void cancelTimers() {
+    if (theft != null) {
+      theft.cancel();
+      theft = null;
+    }
+
+    if (idle != null) {
+      idle.cancel();
+      idle = null;
+    }
+  }
+
+  /**
+   * Private helper method to turn down a dungeon that wouldn't fit in the memory budget before
+   * anything is allocated for it.
+   *
+   * @param rows represents the number of rows in the dungeon.
+   * @param columns represents the number of columns in the dungeon.
+   * @param wrapping represents the wrapping status of the dungeon.
+   * @param interconnectivity represents the degree of interconnectivity of the dungeon.
+   * @param memoryBudget represents the most bytes of heap the game may hold.
+   * @throws IllegalArgumentException if the budget is illegal or the dungeon doesn't fit in it.
+   */
+  private static void checkMemoryBudget(int rows, int columns, boolean wrapping,
+      int interconnectivity, long memoryBudget) {
+    if (memoryBudget <= 0) {
+      throw new IllegalArgumentException("Invalid memory budget!");
+    }
+
+    MemoryFootprint estimate = MemoryFootprint.estimate(rows, columns, wrapping,
+        interconnectivity);
+    if (estimate.getTotal() > memoryBudget) {
+      throw new IllegalArgumentException("Dungeon needs about " + estimate.getTotal()
+          + " bytes which is over the memory budget of " + memoryBudget + " bytes!");
+    }
+  }
+}
@@ -1,5 +1,8 @@
 package model.dungeonsanddragons;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.List;
 
 /**
@@ -117,6 +120,16 @@ public interface Game {
    */
   Sound getSound();
 
+  /**
+   * Gets how strongly the player senses the things of the given sense from their location, such
+   * as hearing thieves a few caves away. The strengths of the things that can be sensed add up.
+   *
+   * @param sense represents the sense.
+   * @return the strength of the sense, 0 if nothing is sensed.
+   * @throws IllegalArgumentException if the sense is null.
+   */
+  int getIntensity(Sense sense) throws IllegalArgumentException;
+
   /**
    * Checks if the thief has stolen the treasure. The player can escape the thief if he can get
    * away from the tunnel in 5 seconds. If the player doesn't escape the tunnel in under 5 seconds,
@@ -147,4 +160,134 @@ public interface Game {
    * @returns the number of columns of the dungeon.
    */
   int getColumns();
+
+  /**
+   * Gets the number of moves between the player's location and the end cave, following the
+   * shortest path through the dungeon.
+   * @return the number of moves left to reach the end cave.
+   */
+  int getDistanceToEnd();
+
+  /**
+   * Gets the move that takes the player one step closer to the end cave along the shortest path.
+   * Making this move repeatedly walks the player to the end cave.
+   * @return the move towards the end cave, null if the player is already at the end cave.
+   */
+  Direction getNextStepToEnd();
+
+  /**
+   * Gets the number of moves along the shortest path between any two locations of the dungeon.
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @return the number of moves between the two locations.
+   * @throws IllegalArgumentException if either location doesn't exist.
+   */
+  int getDistanceBetween(int source, int destination) throws IllegalArgumentException;
+
+  /**
+   * Gets the bytes of heap held by the game, broken down by the structures that hold them.
+   * @return the memory footprint of the game.
+   */
+  MemoryFootprint getMemoryFootprint();
+
+  /**
+   * Gets the difficulty of the dungeon worked out when it was created.
+   *
+   * @return the difficulty of the dungeon.
+   */
+  DifficultyEstimate getDifficulty();
+
+  /**
+   * Adds a listener that is told about every change made to the game from now on.
+   *
+   * @param listener represents the listener to add.
+   * @throws IllegalArgumentException if the listener is null.
+   */
+  void addGameListener(GameListener listener) throws IllegalArgumentException;
+
+  /**
+   * Removes a listener so that it is no longer told about the changes made to the game.
+   *
+   * @param listener represents the listener to remove.
+   */
+  void removeGameListener(GameListener listener);
+
+  /**
+   * Lets the timed rules of the game be fired by the given timer wheel instead of being checked
+   * when the controller asks.
+   *
+   * @param timers represents the timer wheel that fires the timed rules.
+   * @param idleTimeoutMillis represents the time the player may not act for, 0 for no timeout.
+   * @throws IllegalArgumentException if the wheel is null or the timeout is negative.
+   */
+  void useTimerWheel(TimerWheel timers, long idleTimeoutMillis) throws IllegalArgumentException;
+
+  /**
+   * Cancels the timeouts the game is waiting on and stops using the timer wheel, so that a game
+   * that is thrown away isn't kept alive by the wheel. The timed rules are checked when the
+   * controller asks again.
+   */
+  void detachTimerWheel();
+
+  /**
+   * Writes the locations of the dungeon with their contents and the tunnels and caves joining
+   * them to the writer in the given format, without building the document in memory.
+   *
+   * @param format represents the format to write.
+   * @param out represents the writer to write to.
+   * @throws IOException if the writer fails.
+   * @throws IllegalArgumentException if the format or the writer is null.
+   */
+  void exportDungeon(GraphFormat format, Writer out) throws IOException,
+      IllegalArgumentException;
+
+  /**
+   * Writes the locations of the dungeon with their contents and the tunnels and caves joining
+   * them to the stream in the given format, encoded as UTF-8. The stream is flushed but not
+   * closed.
+   *
+   * @param format represents the format to write.
+   * @param out represents the stream to write to.
+   * @throws IOException if the stream fails.
+   * @throws IllegalArgumentException if the format or the stream is null.
+   */
+  void exportDungeon(GraphFormat format, OutputStream out) throws IOException,
+      IllegalArgumentException;
+
+  /**
+   * Runs the action and keeps the changes it makes to the game as an edit that can be taken back
+   * and made again, without generating the dungeon again. If the action fails, its changes are
+   * not kept.
+   *
+   * @param action represents the action to run, such as a move or a shot.
+   * @return the changes made by the action.
+   * @throws IllegalArgumentException if the action is null.
+   * @throws IllegalStateException if another action is being recorded.
+   */
+  GameEdit record(Runnable action) throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Creates a copy of the game that can be played on without changing this game, such as for
+   * searching ahead before making a move. The layout of the dungeon is shared, and only what the
+   * games change is copied.
+   *
+   * @return the fork of the game.
+   */
+  Game fork();
+
+  /**
+   * Goes down the stairs in the ending cave to the starting cave of the next level. Only a game
+   * of more than one level has stairs.
+   *
+   * @throws IllegalStateException if there are no stairs down where the player is.
+   */
+  void descend() throws IllegalStateException;
+
+  /**
+   * Climbs the stairs in the starting cave back to the ending cave of the level above. Only a
+   * game of more than one level has stairs.
+   *
+   * @throws IllegalStateException if there are no stairs up where the player is.
+   */
+  void climb() throws IllegalStateException;
 }
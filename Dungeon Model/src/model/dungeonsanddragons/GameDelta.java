@@ -0,0 +1,62 @@
+package model.dungeonsanddragons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * GameDelta class represents everything that changed in a game watched by spectators during a
+ * single command, in the order it happened. Deltas are numbered one after the other, so a
+ * spectator that was too slow and had deltas dropped can tell from the gap in the numbers. Since
+ * the spectators read the deltas, this class is kept as public.
+ */
+public final class GameDelta {
+
+  private final long sequence;
+  private final List<GameEvent> events;
+
+  /**
+   * A constructor to initialize the delta with its number and the changes it holds.
+   *
+   * @param sequence represents the number of the delta, starting from 1.
+   * @param events represents the changes made during the command.
+   * @throws IllegalArgumentException if the number is illegal or there are no changes.
+   */
+  GameDelta(long sequence, List<GameEvent> events) {
+    if (sequence < 1 || Objects.isNull(events) || events.isEmpty()) {
+      throw new IllegalArgumentException("Illegal game delta!");
+    }
+
+    this.sequence = sequence;
+    this.events = Collections.unmodifiableList(new ArrayList<>(events));
+  }
+
+  /**
+   * Gets the number of the delta.
+   *
+   * @return the number of the delta, starting from 1.
+   */
+  public long getSequence() {
+    return sequence;
+  }
+
+  /**
+   * Gets the changes made during the command, in the order they happened.
+   *
+   * @return the changes of the delta.
+   */
+  public List<GameEvent> getEvents() {
+    return events;
+  }
+
+  /**
+   * String representation of the delta.
+   *
+   * @return the string representation of the delta.
+   */
+  @Override
+  public String toString() {
+    return String.format("#%d %s", sequence, events);
+  }
+}
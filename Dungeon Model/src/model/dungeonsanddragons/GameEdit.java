@@ -0,0 +1,114 @@
+package model.dungeonsanddragons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * GameEdit class represents the changes made to a game by a single action, kept as small steps
+ * that each know how to take their change back and how to make it again. Taking back an action
+ * only touches what the action changed, such as the location of the player, a single treasure or
+ * arrow, or the health of a monster, so it costs the same however large the dungeon is. An edit
+ * can only be taken back after it was made and made again after it was taken back. Since the
+ * controllers keep the edits of the commands they run, this class is kept as public.
+ */
+public final class GameEdit {
+
+  private final List<Step> steps;
+  private boolean undone;
+
+  /**
+   * A constructor to initialize an edit without any changes.
+   */
+  GameEdit() {
+    this.steps = new ArrayList<>(4);
+  }
+
+  /**
+   * Adds a change made by the action to the edit.
+   *
+   * @param step represents the change made.
+   * @throws IllegalArgumentException if the change is null.
+   */
+  void add(Step step) throws IllegalArgumentException {
+    if (Objects.isNull(step)) {
+      throw new IllegalArgumentException("Step can't be null!");
+    }
+    steps.add(step);
+  }
+
+  /**
+   * Gets the number of changes made by the action.
+   *
+   * @return the number of changes in the edit.
+   */
+  public int getSteps() {
+    return steps.size();
+  }
+
+  /**
+   * Checks if the action has been taken back.
+   *
+   * @return true if the edit is undone, false otherwise.
+   */
+  public boolean isUndone() {
+    return undone;
+  }
+
+  /**
+   * Takes back the changes made by the action, the last change first.
+   *
+   * @throws IllegalStateException if the edit has already been taken back.
+   */
+  public void undo() throws IllegalStateException {
+    if (undone) {
+      throw new IllegalStateException("Already undone!");
+    }
+    for (int i = steps.size() - 1; i >= 0; i--) {
+      steps.get(i).undo();
+    }
+    undone = true;
+  }
+
+  /**
+   * Makes the changes of the action again, the first change first.
+   *
+   * @throws IllegalStateException if the edit hasn't been taken back.
+   */
+  public void redo() throws IllegalStateException {
+    if (!undone) {
+      throw new IllegalStateException("Nothing to redo!");
+    }
+    for (Step step : steps) {
+      step.redo();
+    }
+    undone = false;
+  }
+
+  /**
+   * String representation of the edit.
+   *
+   * @return the string representation of the edit.
+   */
+  @Override
+  public String toString() {
+    return String.format("%d steps%s", steps.size(), undone ? " (undone)" : "");
+  }
+
+  /**
+   * Step represents a single change made to the game, along with how to take it back and how to
+   * make it again.
+   */
+  interface Step {
+
+    /**
+     * Takes back the change.
+     */
+    void undo();
+
+    /**
+     * Makes the change again.
+     */
+    void redo();
+  }
+}
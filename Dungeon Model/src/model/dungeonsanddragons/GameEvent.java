@@ -0,0 +1,101 @@
+package model.dungeonsanddragons;
+
+import java.util.Objects;
+
+/**
+ * GameEvent class represents a single change made to a game: what kind of change it was, the
+ * location it was made at and the item or direction involved in it. A move is reported at the
+ * location the player moved to, a hit or a kill at the location of the monster and a theft at
+ * the tunnel of the thief. Since the listeners of the game receive the events, this class is kept
+ * as public.
+ */
+public final class GameEvent {
+
+  private final GameEventType type;
+  private final int location;
+  private final int row;
+  private final int column;
+  private final String detail;
+
+  /**
+   * A constructor to initialize the event with the kind of change, where it was made and what
+   * was involved in it.
+   *
+   * @param type represents the kind of change.
+   * @param location represents the identifier of the location the change was made at.
+   * @param row represents the row of the location.
+   * @param column represents the column of the location.
+   * @param detail represents the item or direction involved in the change, empty if none.
+   * @throws IllegalArgumentException if the type or the detail is null or the location is
+   *                                  illegal.
+   */
+  GameEvent(GameEventType type, int location, int row, int column, String detail) {
+    if (Objects.isNull(type) || Objects.isNull(detail) || location < 0 || row < 0
+        || column < 0) {
+      throw new IllegalArgumentException("Illegal game event!");
+    }
+
+    this.type = type;
+    this.location = location;
+    this.row = row;
+    this.column = column;
+    this.detail = detail;
+  }
+
+  /**
+   * Gets the kind of change.
+   *
+   * @return the kind of change.
+   */
+  public GameEventType getType() {
+    return type;
+  }
+
+  /**
+   * Gets the identifier of the location the change was made at.
+   *
+   * @return the identifier of the location.
+   */
+  public int getLocation() {
+    return location;
+  }
+
+  /**
+   * Gets the row of the location the change was made at.
+   *
+   * @return the row of the location.
+   */
+  public int getRow() {
+    return row;
+  }
+
+  /**
+   * Gets the column of the location the change was made at.
+   *
+   * @return the column of the location.
+   */
+  public int getColumn() {
+    return column;
+  }
+
+  /**
+   * Gets the item or direction involved in the change, such as the treasure that was picked or
+   * the direction the player moved in.
+   *
+   * @return the item or direction involved, empty if none.
+   */
+  public String getDetail() {
+    return detail;
+  }
+
+  /**
+   * String representation of the event.
+   *
+   * @return the string representation of the event.
+   */
+  @Override
+  public String toString() {
+    return String.format("%s at %d (%d, %d)%s", type, location, row, column,
+        detail.isEmpty() ? "" : " " + detail);
+  }
+}
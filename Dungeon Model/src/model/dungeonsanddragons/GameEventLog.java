@@ -0,0 +1,286 @@
+package model.dungeonsanddragons;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * GameEventLog class writes what happens in games to log files without holding up the games. An
+ * entry is put into a ring buffer of fixed size whose slots are made once up front, so logging an
+ * entry only claims a slot with a single compare-and-set and fills in a few fields, and never
+ * waits or allocates. When the buffer is full the entry is dropped and counted instead of
+ * waiting for room. A writer thread takes the entries out of the buffer in batches and appends
+ * them to the log file, which is rotated once it grows past the given size, keeping the given
+ * number of older files next to it as file.1, file.2 and so on. Any number of threads may log at
+ * once, such as the thread of the game and the thread of the timer wheel. Since the driver
+ * creates the log for the games, this class is kept as public.
+ */
+public final class GameEventLog {
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long CLOSED = Long.MIN_VALUE;
+
+  private final Path file;
+  private final long maxFileBytes;
+  private final int maxFiles;
+  private final int mask;
+  private final AtomicLongArray published;
+  private final long[] times;
+  private final Kind[] kinds;
+  private final String[] names;
+  private final String[] details;
+  private final int[] values;
+  private final AtomicLong tail;
+  private final AtomicLong head;
+  private final AtomicLong dropped;
+  private final AtomicLong written;
+  private final Thread writer;
+  private volatile boolean running;
+  private volatile IOException failure;
+  private Writer out;
+  private long fileBytes;
+
+  /**
+   * A constructor to create a log that holds up to the given number of entries waiting to be
+   * written, and starts its writer thread.
+   *
+   * @param file         represents the file the entries are written to.
+   * @param capacity     represents the most entries waiting to be written, a power of two.
+   * @param maxFileBytes represents the size the file is rotated at.
+   * @param maxFiles     represents the number of rotated files kept.
+   * @throws IllegalArgumentException if the file is null or the sizes are illegal.
+   * @throws IllegalStateException    if the file can't be opened.
+   */
+  public GameEventLog(Path file, int capacity, long maxFileBytes, int maxFiles)
+      throws IllegalArgumentException, IllegalStateException {
+    if (Objects.isNull(file)) {
+      throw new IllegalArgumentException("File can't be null!");
+    }
+
+    if (capacity < 2 || Integer.bitCount(capacity) != 1 || maxFileBytes < 1 || maxFiles < 0) {
+      throw new IllegalArgumentException("Illegal sizes for the log!");
+    }
+
+    this.file = file;
+    this.maxFileBytes = maxFileBytes;
+    this.maxFiles = maxFiles;
+    this.mask = capacity - 1;
+    this.published = new AtomicLongArray(capacity);
+    this.times = new long[capacity];
+    this.kinds = new Kind[capacity];
+    this.names = new String[capacity];
+    this.details = new String[capacity];
+    this.values = new int[capacity];
+    this.tail = new AtomicLong();
+    this.head = new AtomicLong();
+    this.dropped = new AtomicLong();
+    this.written = new AtomicLong();
+    try {
+      open();
+    }
+    catch (IOException e) {
+      throw new IllegalStateException("Log can't be opened!");
+    }
+    this.running = true;
+    this.writer = new Thread(this::drain, "game-event-log");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  /**
+   * Logs an entry, or drops it if the buffer is full. The name and detail are expected to be
+   * constants, such as the names of enums, so that logging doesn't build any strings.
+   *
+   * @param kind represents the kind of entry.
+   * @param name represents what the entry is about, such as the command.
+   * @param detail represents the detail of the entry, such as the direction, or null.
+   * @param value represents a number that goes with the entry, such as the location.
+   * @return true if the entry was logged, false if it was dropped.
+   */
+  boolean log(Kind kind, String name, String detail, int value) {
+    long slot;
+    do {
+      slot = tail.get();
+      if (slot < 0 || slot - head.get() > mask || !running) {
+        dropped.incrementAndGet();
+        return false;
+      }
+    } while (!tail.compareAndSet(slot, slot + 1));
+
+    int index = (int) slot & mask;
+    times[index] = System.currentTimeMillis();
+    kinds[index] = kind;
+    names[index] = name;
+    details[index] = detail;
+    values[index] = value;
+    published.lazySet(index, slot + 1);
+    return true;
+  }
+
+  /**
+   * Gets the number of entries dropped because the buffer was full.
+   *
+   * @return the number of dropped entries.
+   */
+  public long getDropped() {
+    return dropped.get();
+  }
+
+  /**
+   * Gets the number of entries written to the log files.
+   *
+   * @return the number of written entries.
+   */
+  public long getWritten() {
+    return written.get();
+  }
+
+  /**
+   * Stops taking entries, waits for the writer thread to write out every entry logged so far and
+   * closes the log file. The buffer is marked closed in the same counter the entries are claimed
+   * from, so an entry is either claimed before closing and written, or dropped.
+   *
+   * @throws IllegalStateException if the entries couldn't be written.
+   */
+  public void close() throws IllegalStateException {
+    running = false;
+    tail.getAndUpdate(slot -> slot | CLOSED);
+    LockSupport.unpark(writer);
+    try {
+      writer.join();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (failure != null) {
+      throw new IllegalStateException("Log can't be written!");
+    }
+  }
+
+  /**
+   * Private helper method run by the writer thread, writing the entries in batches until the log
+   * is closed and every entry claimed before closing has been written, including the ones still
+   * being filled in when the log was closed.
+   */
+  private void drain() {
+    StringBuilder line = new StringBuilder(128);
+    try {
+      while (true) {
+        long claimed = tail.get();
+        boolean closing = claimed < 0;
+        int batch = 0;
+        long next = head.get();
+        while (published.get((int) next & mask) == next + 1) {
+          int index = (int) next & mask;
+          line.setLength(0);
+          line.append(times[index]).append(' ').append(kinds[index]).append(' ')
+              .append(names[index]).append(' ').append(values[index]);
+          if (details[index] != null) {
+            line.append(' ').append(details[index]);
+          }
+          line.append('\n');
+          names[index] = null;
+          details[index] = null;
+          head.lazySet(++next);
+          write(line);
+          batch++;
+        }
+
+        if (batch > 0) {
+          out.flush();
+          written.addAndGet(batch);
+        }
+        else if (closing && next == (claimed & ~CLOSED)) {
+          break;
+        }
+        else {
+          LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+      }
+    }
+    catch (IOException e) {
+      failure = e;
+      running = false;
+    }
+    finally {
+      try {
+        out.close();
+      }
+      catch (IOException e) {
+        failure = e;
+      }
+    }
+  }
+
+  /**
+   * Private helper method to append a line to the log file, rotating the file first if the line
+   * would make it grow past its size.
+   *
+   * @param line represents the line to append.
+   * @throws IOException if the file can't be written or rotated.
+   */
+  private void write(CharSequence line) throws IOException {
+    if (fileBytes > 0 && fileBytes + line.length() > maxFileBytes) {
+      out.close();
+      for (int i = maxFiles - 1; i >= 1; i--) {
+        Path older = rotated(i);
+        if (Files.exists(older)) {
+          Files.move(older, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+        }
+      }
+      if (maxFiles > 0) {
+        Files.move(file, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+      }
+      else {
+        Files.delete(file);
+      }
+      open();
+    }
+    out.append(line);
+    fileBytes += line.length();
+  }
+
+  /**
+   * Private helper method to open the log file for appending.
+   *
+   * @throws IOException if the file can't be opened.
+   */
+  private void open() throws IOException {
+    out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+        StandardOpenOption.APPEND);
+    fileBytes = Files.size(file);
+  }
+
+  /**
+   * Private helper method to find a rotated log file.
+   *
+   * @param number represents how many rotations ago the file was the log file.
+   * @return the rotated file.
+   */
+  private Path rotated(int number) {
+    return file.resolveSibling(file.getFileName() + "." + number);
+  }
+
+  /**
+   * Kind represents the kinds of entries that are logged.
+   */
+  enum Kind {
+    COMMAND,
+    FAILED,
+    EVENT,
+    SMELL,
+    SOUND,
+    KILLED,
+    FELL,
+    WON
+  }
+}
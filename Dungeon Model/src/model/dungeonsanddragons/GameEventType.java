@@ -0,0 +1,21 @@
+package model.dungeonsanddragons;
+
+/**
+ * GameEventType enumeration represents the kinds of changes a game reports to its listeners after
+ * an action of the player. A change that is taken back or made again is reported as undone or
+ * redone at the location it shows in, with the kind of the change as its detail. Since the views
+ * and clients listening to the game tell the changes apart by their type, this enumeration is
+ * kept as public.
+ */
+public enum GameEventType {
+  PLAYER_MOVED,
+  TREASURE_PICKED,
+  ARROW_PICKED,
+  ARROW_SHOT,
+  MONSTER_HIT,
+  MONSTER_KILLED,
+  TREASURE_STOLEN,
+  IDLE_TIMEOUT,
+  UNDONE,
+  REDONE
+}
@@ -0,0 +1,18 @@
+package model.dungeonsanddragons;
+
+/**
+ * GameListener interface represents anything that wants to be told about the changes to a game
+ * as they happen, so that it can apply each change on its own instead of reading the whole state
+ * of the game again. Listeners are called on the thread that acted on the game, right after the
+ * change is made. Since views and remote clients listen to the game, this interface is kept as
+ * public.
+ */
+public interface GameListener {
+
+  /**
+   * Called once for every change made to the game.
+   *
+   * @param event represents the change that was made.
+   */
+  void gameChanged(GameEvent event);
+}
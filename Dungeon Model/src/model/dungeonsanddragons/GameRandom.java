@@ -0,0 +1,43 @@
+package model.dungeonsanddragons;
+
+/**
+ * GameRandom interface represents the source of randomness of the game. Every phase of creating
+ * the dungeon and every part of the game that rolls a die draws from its own stream, split off by
+ * name, so that what one phase draws never changes what another phase gets. Since the user can
+ * pass the random generator when creating the game, this interface is kept as public.
+ */
+public interface GameRandom {
+
+  /**
+   * Gets the next random number between 0, inclusive, and the bound, exclusive.
+   *
+   * @param bound represents the upper bound of the number, exclusive.
+   * @return the next random number.
+   * @throws IllegalArgumentException if the bound isn't positive.
+   */
+  int nextInt(int bound) throws IllegalArgumentException;
+
+  /**
+   * Gets the next random number out of every value a long can take.
+   *
+   * @return the next random number.
+   */
+  long nextLong();
+
+  /**
+   * Splits off the stream used by the given phase or part of the game.
+   *
+   * @param stream represents the phase or part of the game that draws from the stream.
+   * @return the random generator of the stream.
+   * @throws IllegalArgumentException if the stream is null.
+   */
+  GameRandom split(RandomStream stream) throws IllegalArgumentException;
+
+  /**
+   * Creates a generator for a copy of the game that goes on from where this one is, drawing
+   * different numbers from this one from then on.
+   *
+   * @return the random generator of the copy.
+   */
+  GameRandom fork();
+}
@@ -0,0 +1,545 @@
+package model.dungeonsanddragons;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GameSessionStore class represents the games of many players hosted together, each one known by
+ * the id of its session. Games are kept in memory only while they are played. A game nobody acted
+ * on for the idle time, or the game acted on longest ago once the games in memory hold more than
+ * the memory budget, is hibernated to a file of its own in the directory of the store, and is
+ * woken up again by the next command sent to its session. A hibernated game is written as the seed
+ * and size of its dungeon along with its saved progress, which holds only what changed, so the
+ * file takes a few bytes however large the dungeon is, and the dungeon is generated again from the
+ * seed when the game wakes up, with its combat rolls going on from where they were. Commands are
+ * run through the store, and the game handed to a command shouldn't be kept past it, since the
+ * session may be hibernated as soon as it returns. Every session has a lock of its own, held
+ * while a command runs on its game and while its file is read or written, so the sessions are
+ * played at the same time. The lock of the store only guards which games are in memory and is
+ * never held while a game is played or a file is read or written. Since the server creates the
+ * store for its sessions, this class is kept as public.
+ */
+public final class GameSessionStore {
+
+  private static final int MAGIC = 0x44554e47;
+  private static final int VERSION = 2;
+  private static final Pattern SESSION_ID = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+  private final Path directory;
+  private final long idleMillis;
+  private final long memoryBudget;
+  private final LongSupplier clock;
+  private final Map<String, Session> sessions;
+  private final LinkedHashMap<String, Session> resident;
+  private long residentBytes;
+
+  /**
+   * A constructor to create a store that hibernates games to the given directory once they are
+   * idle for the given time or don't fit in the given memory budget.
+   *
+   * @param directory    represents the directory the hibernated games are written to.
+   * @param idleMillis   represents the time a game may not be acted on before it's hibernated.
+   * @param memoryBudget represents the most bytes of heap the games in memory may hold.
+   * @throws IllegalArgumentException if the directory is null or the limits are not positive.
+   */
+  public GameSessionStore(Path directory, long idleMillis, long memoryBudget)
+      throws IllegalArgumentException {
+    this(directory, idleMillis, memoryBudget, System::currentTimeMillis);
+  }
+
+  /**
+   * A constructor to create a store that tells the time with the given clock.
+   *
+   * @param directory    represents the directory the hibernated games are written to.
+   * @param idleMillis   represents the time a game may not be acted on before it's hibernated.
+   * @param memoryBudget represents the most bytes of heap the games in memory may hold.
+   * @param clock        represents the clock giving the time in milliseconds.
+   * @throws IllegalArgumentException if any of them is null or the limits are not positive.
+   */
+  GameSessionStore(Path directory, long idleMillis, long memoryBudget, LongSupplier clock)
+      throws IllegalArgumentException {
+    if (Objects.isNull(directory) || Objects.isNull(clock)) {
+      throw new IllegalArgumentException("Directory and clock can't be null!");
+    }
+
+    if (idleMillis <= 0 || memoryBudget <= 0) {
+      throw new IllegalArgumentException("Illegal limits for the store!");
+    }
+
+    this.directory = directory;
+    this.idleMillis = idleMillis;
+    this.memoryBudget = memoryBudget;
+    this.clock = clock;
+    this.sessions = new HashMap<>();
+    this.resident = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Registers a session with a new game of the given size and contents, generated from the given
+   * seed.
+   *
+   * @param id                 represents the id of the session.
+   * @param rows               represents the number of rows of the dungeon.
+   * @param columns            represents the number of columns of the dungeon.
+   * @param wrapping           represents the wrapping status of the dungeon.
+   * @param interconnectivity  represents the degree of interconnectivity of the dungeon.
+   * @param treasurePercentage represents the percentage of caves that the treasure should be
+   *                           added.
+   * @param numberOfMonsters   represents the number of monsters in the dungeon.
+   * @param thieves            represents the number of thieves in the dungeon.
+   * @param pits               represents the number of pits in the dungeon.
+   * @param seed               represents the seed the dungeon is generated from.
+   * @throws IllegalStateException    if the dungeon can't be created or the games in memory
+   *                                  can't be hibernated to make room for it.
+   * @throws IllegalArgumentException if the id is illegal or taken, or the user enters illegal
+   *                                  arguments.
+   */
+  public void register(String id, int rows, int columns, boolean wrapping,
+      int interconnectivity, int treasurePercentage, int numberOfMonsters, int thieves,
+      int pits, long seed) throws IllegalArgumentException, IllegalStateException {
+    if (Objects.isNull(id) || !SESSION_ID.matcher(id).matches()) {
+      throw new IllegalArgumentException("Illegal session id!");
+    }
+
+    if (isRegistered(id)) {
+      throw new IllegalArgumentException("Session already registered!");
+    }
+
+    Session session = new Session(id, new int[] {rows, columns, wrapping ? 1 : 0,
+        interconnectivity, treasurePercentage, numberOfMonsters, thieves, pits}, seed);
+    FantasyRolePlayingGame game = session.generate();
+    synchronized (session) {
+      synchronized (this) {
+        if (sessions.containsKey(id)) {
+          throw new IllegalArgumentException("Session already registered!");
+        }
+        sessions.put(id, session);
+        wake(session, game);
+      }
+    }
+    evict(id);
+  }
+
+  /**
+   * Runs the command on the game of the session, waking the game up first if it's hibernated.
+   * Games idle for too long are hibernated afterwards, along with the games acted on longest ago
+   * if the games in memory hold more than the memory budget.
+   *
+   * @param id      represents the id of the session.
+   * @param command represents the command to run on the game.
+   * @param <T>     represents the type of the result of the command.
+   * @return the result of the command.
+   * @throws IllegalArgumentException if the session isn't registered or the command is null.
+   * @throws IllegalStateException    if the game can't be woken up or hibernated.
+   */
+  public <T> T apply(String id, Function<? super Game, ? extends T> command)
+      throws IllegalArgumentException, IllegalStateException {
+    if (Objects.isNull(command)) {
+      throw new IllegalArgumentException("Command can't be null!");
+    }
+
+    Session session = session(id);
+    try {
+      synchronized (session) {
+        synchronized (this) {
+          if (sessions.get(id) != session) {
+            throw new IllegalArgumentException("Session not registered!");
+          }
+          if (session.game != null) {
+            resident.get(id);
+            session.lastActive = clock.getAsLong();
+          }
+        }
+        if (session.game == null) {
+          FantasyRolePlayingGame game = read(session);
+          synchronized (this) {
+            wake(session, game);
+          }
+        }
+        try {
+          return command.apply(session.game);
+        } finally {
+          measure(session);
+        }
+      }
+    } finally {
+      evict(id);
+    }
+  }
+
+  /**
+   * Runs the command on the game of the session, the same way as {@link #apply}.
+   *
+   * @param id      represents the id of the session.
+   * @param command represents the command to run on the game.
+   * @throws IllegalArgumentException if the session isn't registered or the command is null.
+   * @throws IllegalStateException    if the game can't be woken up or hibernated.
+   */
+  public void run(String id, Consumer<? super Game> command)
+      throws IllegalArgumentException, IllegalStateException {
+    if (Objects.isNull(command)) {
+      throw new IllegalArgumentException("Command can't be null!");
+    }
+    apply(id, game -> {
+      command.accept(game);
+      return null;
+    });
+  }
+
+  /**
+   * Removes the session along with its hibernated game.
+   *
+   * @param id represents the id of the session.
+   * @throws IllegalArgumentException if the session isn't registered.
+   * @throws IllegalStateException    if the hibernated game can't be deleted.
+   */
+  public void remove(String id) throws IllegalArgumentException, IllegalStateException {
+    Session session = session(id);
+    synchronized (session) {
+      synchronized (this) {
+        if (sessions.get(id) != session) {
+          throw new IllegalArgumentException("Session not registered!");
+        }
+        if (resident.remove(id) != null) {
+          residentBytes -= session.bytes;
+        }
+        sessions.remove(id);
+        session.game = null;
+      }
+      try {
+        Files.deleteIfExists(file(id));
+      } catch (IOException e) {
+        throw new IllegalStateException("Session can't be removed!");
+      }
+    }
+  }
+
+  /**
+   * Hibernates every game nobody acted on for the idle time. The games in memory are kept in the
+   * order they were acted on, so only the idle games and the first game that isn't idle are
+   * looked at. The server is expected to call this from time to time, so games are hibernated
+   * even while no commands come in. A game a command is running on is hibernated once the
+   * command returns, if it's still idle by then.
+   *
+   * @return the number of games hibernated.
+   * @throws IllegalStateException if a game can't be hibernated.
+   */
+  public int hibernateIdle() throws IllegalStateException {
+    List<Session> idle = new ArrayList<>();
+    synchronized (this) {
+      long now = clock.getAsLong();
+      for (Session session : resident.values()) {
+        if (now - session.lastActive < idleMillis) {
+          break;
+        }
+        idle.add(session);
+      }
+    }
+
+    int hibernated = 0;
+    for (Session session : idle) {
+      if (hibernate(session, null)) {
+        hibernated++;
+      }
+    }
+    return hibernated;
+  }
+
+  /**
+   * Checks if the game of the session is in memory.
+   *
+   * @param id represents the id of the session.
+   * @return true if the game is in memory, false if it's hibernated.
+   * @throws IllegalArgumentException if the session isn't registered.
+   */
+  public boolean isResident(String id) throws IllegalArgumentException {
+    Session session = session(id);
+    synchronized (session) {
+      return session.game != null;
+    }
+  }
+
+  /**
+   * Gets the number of sessions registered.
+   *
+   * @return the number of sessions.
+   */
+  public synchronized int getSessions() {
+    return sessions.size();
+  }
+
+  /**
+   * Gets the number of games in memory.
+   *
+   * @return the number of games in memory.
+   */
+  public synchronized int getResidentSessions() {
+    return resident.size();
+  }
+
+  /**
+   * Gets the bytes of heap held by the games in memory.
+   *
+   * @return the bytes held by the games in memory.
+   */
+  public synchronized long getResidentBytes() {
+    return residentBytes;
+  }
+
+  /**
+   * Private helper method to find a registered session.
+   *
+   * @param id represents the id of the session.
+   * @return the session.
+   * @throws IllegalArgumentException if the session isn't registered.
+   */
+  private synchronized Session session(String id) throws IllegalArgumentException {
+    Session session = Objects.isNull(id) ? null : sessions.get(id);
+    if (session == null) {
+      throw new IllegalArgumentException("Session not registered!");
+    }
+    return session;
+  }
+
+  /**
+   * Private helper method to check if a session is registered.
+   *
+   * @param id represents the id of the session.
+   * @return true if the session is registered, false otherwise.
+   */
+  private synchronized boolean isRegistered(String id) {
+    return sessions.containsKey(id);
+  }
+
+  /**
+   * Private helper method to keep the game of the session in memory. The lock of the store is
+   * held by the caller.
+   *
+   * @param session represents the session.
+   * @param game represents the game of the session.
+   */
+  private void wake(Session session, FantasyRolePlayingGame game) {
+    session.game = game;
+    session.bytes = game.getMemoryFootprint().getTotal();
+    session.lastActive = clock.getAsLong();
+    resident.put(session.id, session);
+    residentBytes += session.bytes;
+  }
+
+  /**
+   * Private helper method to measure the game of the session again after a command, since the
+   * command may have made it grow. The lock of the session is held by the caller.
+   *
+   * @param session represents the session.
+   */
+  private void measure(Session session) {
+    if (session.game == null) {
+      return;
+    }
+    long bytes = session.game.getMemoryFootprint().getTotal();
+    synchronized (this) {
+      residentBytes += bytes - session.bytes;
+      session.bytes = bytes;
+    }
+  }
+
+  /**
+   * Private helper method to hibernate the idle games, and then the games acted on longest ago
+   * until the games in memory fit in the memory budget. The game just acted on is kept in memory
+   * even if it doesn't fit by itself. No lock is held by the caller, so the lock of every game
+   * hibernated is taken without holding the lock of another session.
+   *
+   * @param active represents the id of the session just acted on.
+   */
+  private void evict(String active) {
+    hibernateIdle();
+    while (true) {
+      Session victim = null;
+      synchronized (this) {
+        if (residentBytes <= memoryBudget) {
+          return;
+        }
+        for (Session session : resident.values()) {
+          if (!session.id.equals(active)) {
+            victim = session;
+            break;
+          }
+        }
+      }
+      if (victim == null) {
+        return;
+      }
+      hibernate(victim, active);
+    }
+  }
+
+  /**
+   * Private helper method to hibernate the game of the session, if it's still in memory and
+   * still has to go once its lock is taken: because it's idle when no session was just acted
+   * on, or because the games in memory don't fit in the memory budget otherwise. The file is
+   * written holding only the lock of the session.
+   *
+   * @param session represents the session.
+   * @param active represents the id of the session just acted on, null if the game is idle.
+   * @return true if the game was hibernated, false otherwise.
+   * @throws IllegalStateException if the file can't be written.
+   */
+  private boolean hibernate(Session session, String active) throws IllegalStateException {
+    synchronized (session) {
+      if (session.game == null) {
+        return false;
+      }
+      synchronized (this) {
+        if (active == null ? clock.getAsLong() - session.lastActive < idleMillis
+            : residentBytes <= memoryBudget) {
+          return false;
+        }
+      }
+      write(session);
+      synchronized (this) {
+        resident.remove(session.id);
+        residentBytes -= session.bytes;
+      }
+      session.game = null;
+      return true;
+    }
+  }
+
+  /**
+   * Private helper method to write the seed and size of the dungeon of the session along with the
+   * saved progress of its game to its file. The file is written next to the old one first and
+   * then moved over it, so a failed write leaves the old file as it was. The lock of the session
+   * is held by the caller.
+   *
+   * @param session represents the session.
+   * @throws IllegalStateException if the file can't be written.
+   */
+  private void write(Session session) throws IllegalStateException {
+    Path file = file(session.id);
+    Path partial = directory.resolve(session.id + ".partial");
+    byte[] progress = session.game.saveProgress();
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+        new GZIPOutputStream(Files.newOutputStream(partial))))) {
+      out.writeInt(MAGIC);
+      out.writeByte(VERSION);
+      for (int param : session.params) {
+        out.writeInt(param);
+      }
+      out.writeLong(session.seed);
+      out.writeInt(progress.length);
+      out.write(progress);
+    } catch (IOException e) {
+      throw new IllegalStateException("Game can't be hibernated!");
+    }
+
+    try {
+      Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new IllegalStateException("Game can't be hibernated!");
+    }
+  }
+
+  /**
+   * Private helper method to wake the game of the session up from its file, generating the
+   * dungeon again from the seed and bringing back the saved progress. The lock of the session
+   * is held by the caller.
+   *
+   * @param session represents the session.
+   * @return the game of the session.
+   * @throws IllegalStateException if the file can't be read or doesn't hold the session.
+   */
+  private FantasyRolePlayingGame read(Session session) throws IllegalStateException {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        new GZIPInputStream(Files.newInputStream(file(session.id)))))) {
+      if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+        throw new IllegalStateException("Hibernated game can't be read!");
+      }
+      for (int param : session.params) {
+        if (in.readInt() != param) {
+          throw new IllegalStateException("Hibernated game can't be read!");
+        }
+      }
+      if (in.readLong() != session.seed) {
+        throw new IllegalStateException("Hibernated game can't be read!");
+      }
+      byte[] progress = new byte[in.readInt()];
+      in.readFully(progress);
+
+      FantasyRolePlayingGame game = session.generate();
+      game.restoreProgress(progress);
+      return game;
+    } catch (IOException | NegativeArraySizeException | IllegalArgumentException e) {
+      throw new IllegalStateException("Hibernated game can't be read!");
+    }
+  }
+
+  /**
+   * Private helper method to find the file the game of the session is hibernated to.
+   *
+   * @param id represents the id of the session.
+   * @return the file of the session.
+   */
+  private Path file(String id) {
+    return directory.resolve(id + ".game");
+  }
+
+  /**
+   * Session class represents a registered session, holding how its dungeon is generated and its
+   * game while the game is in memory. The session is its own lock, guarding its game and its
+   * file, while the store guards its bytes and when it was last acted on. The game is only set
+   * or dropped holding both locks, so it's in memory exactly while the session is among the
+   * games in memory.
+   */
+  private static final class Session {
+
+    private final String id;
+    private final int[] params;
+    private final long seed;
+    private FantasyRolePlayingGame game;
+    private long bytes;
+    private long lastActive;
+
+    /**
+     * A constructor to initialize the session.
+     *
+     * @param id represents the id of the session.
+     * @param params represents the size and contents of the dungeon.
+     * @param seed represents the seed the dungeon is generated from.
+     */
+    private Session(String id, int[] params, long seed) {
+      this.id = id;
+      this.params = params;
+      this.seed = seed;
+    }
+
+    /**
+     * Generates the dungeon of the session from its seed, before anything happened in it.
+     *
+     * @return the new game.
+     */
+    private FantasyRolePlayingGame generate() {
+      return new FantasyRolePlayingGame(params[0], params[1], params[2] == 1, params[3],
+          params[4], params[5], params[6], params[7], new SplittableGameRandom(seed),
+          MazeAlgorithm.KRUSKAL, Long.MAX_VALUE, DifficultyBand.ANY);
+    }
+  }
+}
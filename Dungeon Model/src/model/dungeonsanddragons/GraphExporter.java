@@ -0,0 +1,51 @@
+package model.dungeonsanddragons;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * GraphExporter interface represents the writer of one format of the exported dungeon. The
+ * dungeon hands over its locations and then its edges one at a time, and every one of them is
+ * written out straight away, so exporting holds on to nothing but the location being written.
+ * Since the dungeon drives the export, this is kept as package-private.
+ */
+interface GraphExporter {
+
+  /**
+   * Writes whatever comes before the first location.
+   *
+   * @param out represents the writer to write to.
+   * @param rows represents the number of rows in the dungeon.
+   * @param columns represents the number of columns in the dungeon.
+   * @throws IOException if the writer fails.
+   */
+  void begin(Writer out, int rows, int columns) throws IOException;
+
+  /**
+   * Writes a location and its contents.
+   *
+   * @param out represents the writer to write to.
+   * @param node represents the location and its contents.
+   * @throws IOException if the writer fails.
+   */
+  void node(Writer out, NodeRecord node) throws IOException;
+
+  /**
+   * Writes an edge between two locations. Every location is written before the first edge.
+   *
+   * @param out represents the writer to write to.
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @param extra represents whether the edge was added on top of the spanning tree.
+   * @throws IOException if the writer fails.
+   */
+  void edge(Writer out, int source, int destination, boolean extra) throws IOException;
+
+  /**
+   * Writes whatever comes after the last edge.
+   *
+   * @param out represents the writer to write to.
+   * @throws IOException if the writer fails.
+   */
+  void end(Writer out) throws IOException;
+}
@@ -0,0 +1,35 @@
+package model.dungeonsanddragons;
+
+import java.util.function.Supplier;
+
+/**
+ * GraphFormat enumeration represents the formats the dungeon can be exported in for other tools
+ * to read. Every format holds the locations with their contents followed by the tunnels and caves
+ * joining them, marked as either part of the spanning tree or an extra path. Since the user picks
+ * the format when exporting the dungeon, this enumeration is kept as public.
+ */
+public enum GraphFormat {
+  DOT(DotExporter::new),
+  GRAPHML(GraphMlExporter::new),
+  JSON(JsonExporter::new);
+
+  private final Supplier<GraphExporter> exporter;
+
+  /**
+   * A constructor to initialize the format with the way its exporter is created.
+   *
+   * @param exporter represents the supplier of a new exporter of the format.
+   */
+  GraphFormat(Supplier<GraphExporter> exporter) {
+    this.exporter = exporter;
+  }
+
+  /**
+   * Creates the exporter that writes the format.
+   *
+   * @return the graph exporter.
+   */
+  GraphExporter createExporter() {
+    return exporter.get();
+  }
+}
@@ -0,0 +1,153 @@
+package model.dungeonsanddragons;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * GraphMlExporter class writes the dungeon as an undirected GraphML document. The position and
+ * contents of the locations and the kind of the edges are declared as keys up front, and every
+ * location and edge carries its values as data elements. Since the exporter is picked through the
+ * graph format, this class is kept as package-private.
+ */
+class GraphMlExporter implements GraphExporter {
+
+  private int edges;
+
+  /**
+   * Writes the opening of the GraphML document and its keys along with the size of the dungeon.
+   *
+   * @param out represents the writer to write to.
+   * @param rows represents the number of rows in the dungeon.
+   * @param columns represents the number of columns in the dungeon.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void begin(Writer out, int rows, int columns) throws IOException {
+    out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+    out.write("<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">\n");
+    key(out, "row", "node", "int");
+    key(out, "column", "node", "int");
+    key(out, "type", "node", "string");
+    key(out, "role", "node", "string");
+    for (int kind = 0; kind < NodeRecord.getTreasureKinds(); kind++) {
+      key(out, NodeRecord.getTreasureKey(kind), "node", "int");
+    }
+    key(out, "arrows", "node", "int");
+    key(out, "monster", "node", "int");
+    key(out, "pit", "node", "boolean");
+    key(out, "thief", "node", "boolean");
+    key(out, "kind", "edge", "string");
+    key(out, "rows", "graph", "int");
+    key(out, "columns", "graph", "int");
+    out.write("  <graph id=\"dungeon\" edgedefault=\"undirected\">\n");
+    data(out, "    ", "rows", Integer.toString(rows));
+    data(out, "    ", "columns", Integer.toString(columns));
+  }
+
+  /**
+   * Writes a location as a node element holding its position and contents as data elements.
+   *
+   * @param out represents the writer to write to.
+   * @param node represents the location and its contents.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void node(Writer out, NodeRecord node) throws IOException {
+    out.write("    <node id=\"n");
+    out.write(Integer.toString(node.getId()));
+    out.write("\">\n");
+    data(out, "      ", "row", Integer.toString(node.getRow()));
+    data(out, "      ", "column", Integer.toString(node.getColumn()));
+    data(out, "      ", "type", node.getType().name());
+    if (node.getRole() != null) {
+      data(out, "      ", "role", node.getRole());
+    }
+    for (int kind = 0; kind < NodeRecord.getTreasureKinds(); kind++) {
+      data(out, "      ", NodeRecord.getTreasureKey(kind),
+          Integer.toString(node.getTreasure(kind)));
+    }
+    data(out, "      ", "arrows", Integer.toString(node.getArrows()));
+    if (node.getMonsterHealth() >= 0) {
+      data(out, "      ", "monster", Integer.toString(node.getMonsterHealth()));
+    }
+    data(out, "      ", "pit", node.hasPit() ? "true" : "false");
+    data(out, "      ", "thief", node.hasThief() ? "true" : "false");
+    out.write("    </node>\n");
+  }
+
+  /**
+   * Writes an edge between two locations as an edge element with its kind as a data
+   * element.
+   *
+   * @param out represents the writer to write to.
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @param extra represents whether the edge was added on top of the spanning tree.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void edge(Writer out, int source, int destination, boolean extra)
+      throws IOException {
+    out.write("    <edge id=\"e");
+    out.write(Integer.toString(edges++));
+    out.write("\" source=\"n");
+    out.write(Integer.toString(source));
+    out.write("\" target=\"n");
+    out.write(Integer.toString(destination));
+    out.write("\">\n");
+    data(out, "      ", "kind", extra ? "extra" : "tree");
+    out.write("    </edge>\n");
+  }
+
+  /**
+   * Writes the closing of the graph and the GraphML document.
+   *
+   * @param out represents the writer to write to.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void end(Writer out) throws IOException {
+    out.write("  </graph>\n</graphml>\n");
+  }
+
+  /**
+   * Private helper method to declare a key of the document.
+   *
+   * @param out represents the writer to write to.
+   * @param name represents the name of the key.
+   * @param owner represents the element the key belongs to.
+   * @param type represents the type of the values of the key.
+   * @throws IOException if the writer fails.
+   */
+  private static void key(Writer out, String name, String owner, String type)
+      throws IOException {
+    out.write("  <key id=\"");
+    out.write(name);
+    out.write("\" for=\"");
+    out.write(owner);
+    out.write("\" attr.name=\"");
+    out.write(name);
+    out.write("\" attr.type=\"");
+    out.write(type);
+    out.write("\"/>\n");
+  }
+
+  /**
+   * Private helper method to write a value of an element.
+   *
+   * @param out represents the writer to write to.
+   * @param indent represents the indentation of the value.
+   * @param key represents the key of the value.
+   * @param value represents the value.
+   * @throws IOException if the writer fails.
+   */
+  private static void data(Writer out, String indent, String key, String value)
+      throws IOException {
+    out.write(indent);
+    out.write("<data key=\"");
+    out.write(key);
+    out.write("\">");
+    out.write(value);
+    out.write("</data>\n");
+  }
+}
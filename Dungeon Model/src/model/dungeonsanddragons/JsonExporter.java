@@ -0,0 +1,108 @@
+package model.dungeonsanddragons;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * JsonExporter class writes the dungeon as a JSON object holding the size of the dungeon, an
+ * array of its locations with their contents and an array of its edges. A location without a
+ * monster or a role holds null for them. Every location and edge goes on a line of its own so the
+ * output can also be read a line at a time. Since the exporter is picked through the graph format,
+ * this class is kept as package-private.
+ */
+class JsonExporter implements GraphExporter {
+
+  private boolean firstNode = true;
+  private boolean firstEdge = true;
+
+  /**
+   * Writes the opening of the JSON object along with the size of the dungeon.
+   *
+   * @param out represents the writer to write to.
+   * @param rows represents the number of rows in the dungeon.
+   * @param columns represents the number of columns in the dungeon.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void begin(Writer out, int rows, int columns) throws IOException {
+    out.write("{\"rows\":");
+    out.write(Integer.toString(rows));
+    out.write(",\"columns\":");
+    out.write(Integer.toString(columns));
+    out.write(",\"nodes\":[");
+  }
+
+  /**
+   * Writes a location as an object in the array of nodes, starting a new line for it.
+   *
+   * @param out represents the writer to write to.
+   * @param node represents the location and its contents.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void node(Writer out, NodeRecord node) throws IOException {
+    out.write(firstNode ? "\n" : ",\n");
+    firstNode = false;
+    out.write("{\"id\":");
+    out.write(Integer.toString(node.getId()));
+    out.write(",\"row\":");
+    out.write(Integer.toString(node.getRow()));
+    out.write(",\"column\":");
+    out.write(Integer.toString(node.getColumn()));
+    out.write(",\"type\":\"");
+    out.write(node.getType().name());
+    if (node.getRole() != null) {
+      out.write("\",\"role\":\"");
+      out.write(node.getRole());
+      out.write("\"");
+    } else {
+      out.write("\",\"role\":null");
+    }
+    out.write(",\"treasure\":{");
+    for (int kind = 0; kind < NodeRecord.getTreasureKinds(); kind++) {
+      out.write(kind == 0 ? "\"" : ",\"");
+      out.write(NodeRecord.getTreasureKey(kind));
+      out.write("\":");
+      out.write(Integer.toString(node.getTreasure(kind)));
+    }
+    out.write("},\"arrows\":");
+    out.write(Integer.toString(node.getArrows()));
+    out.write(",\"monster\":");
+    out.write(node.getMonsterHealth() >= 0 ? Integer.toString(node.getMonsterHealth()) : "null");
+    out.write(node.hasPit() ? ",\"pit\":true" : ",\"pit\":false");
+    out.write(node.hasThief() ? ",\"thief\":true}" : ",\"thief\":false}");
+  }
+
+  /**
+   * Writes an edge between two locations as an object on its own line in the array of
+   * edges.
+   *
+   * @param out represents the writer to write to.
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @param extra represents whether the edge was added on top of the spanning tree.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void edge(Writer out, int source, int destination, boolean extra)
+      throws IOException {
+    out.write(firstEdge ? "],\"edges\":[\n" : ",\n");
+    firstEdge = false;
+    out.write("{\"source\":");
+    out.write(Integer.toString(source));
+    out.write(",\"target\":");
+    out.write(Integer.toString(destination));
+    out.write(extra ? ",\"kind\":\"extra\"}" : ",\"kind\":\"tree\"}");
+  }
+
+  /**
+   * Writes the closing of the arrays and the JSON object.
+   *
+   * @param out represents the writer to write to.
+   * @throws IOException if the writer fails.
+   */
+  @Override
+  public void end(Writer out) throws IOException {
+    out.write(firstEdge ? "],\"edges\":[]}\n" : "\n]}\n");
+  }
+}
@@ -0,0 +1,84 @@
+package model.dungeonsanddragons;
+
+/**
+ * KruskalStrategy class builds the spanning tree with the randomized Kruskal's algorithm. Edges
+ * are picked at random one by one and kept if they join two separate parts of the dungeon,
+ * otherwise they become leftover edges in the order they were rejected. The random picks are the
+ * same as removing a random position from a list of the remaining edges, so the same random
+ * generator always gives the same dungeon. Since the generation of the dungeon is an internal
+ * implementation, this class is kept as package-private.
+ */
+class KruskalStrategy implements SpanningTreeStrategy {
+
+  /**
+   * Orders the edges by picking the remaining edges at random, keeping the ones that join two
+   * separate parts of the dungeon as tree edges and leaving the rest as leftover edges.
+   *
+   * @param nodes represents the number of locations in the grid.
+   * @param sources represents the source location of every edge.
+   * @param destinations represents the destination location of every edge.
+   * @param random represents the random generator used to pick the edges.
+   * @return the indices of the edges with the tree edges first.
+   * @throws IllegalArgumentException if the edges don't connect every location.
+   */
+  @Override
+  public int[] orderEdges(int nodes, int[] sources, int[] destinations, GameRandom random) {
+    if (nodes < 1 || sources.length != destinations.length || sources.length < nodes - 1) {
+      throw new IllegalArgumentException("Edges don't connect every location!");
+    }
+
+    int[] identifiers = new int[sources.length];
+    for (int i = 0; i < identifiers.length; i++) {
+      identifiers[i] = i;
+    }
+    PlacementPool remaining = new PlacementPool(identifiers);
+
+    int[] parent = new int[nodes];
+    for (int i = 0; i < nodes; i++) {
+      parent[i] = i;
+    }
+
+    int[] order = new int[sources.length];
+    int treeEdges = 0;
+    int leftover = nodes - 1;
+
+    while (remaining.size() > 0) {
+      int edge = remaining.take(random.nextInt(remaining.size()));
+      int setOfX = findParent(parent, sources[edge]);
+      int setOfY = findParent(parent, destinations[edge]);
+
+      if (setOfX == setOfY) {
+        if (leftover == order.length) {
+          throw new IllegalArgumentException("Edges don't connect every location!");
+        }
+        order[leftover++] = edge;
+      } else {
+        order[treeEdges++] = edge;
+        parent[setOfY] = setOfX;
+      }
+    }
+    return order;
+  }
+
+  /**
+   * Finds the parent of the set that the given location belongs to, shortening the path to it
+   * along the way.
+   *
+   * @param parent represents the parent of every location.
+   * @param location represents the location whose set needs to be found.
+   * @return the parent of the set.
+   */
+  private int findParent(int[] parent, int location) {
+    int root = location;
+    while (parent[root] != root) {
+      root = parent[root];
+    }
+    int current = location;
+    while (parent[current] != root) {
+      int next = parent[current];
+      parent[current] = root;
+      current = next;
+    }
+    return root;
+  }
+}
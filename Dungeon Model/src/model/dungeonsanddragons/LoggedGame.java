@@ -0,0 +1,481 @@
+package model.dungeonsanddragons;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * LoggedGame class wraps a game and logs what happens in it to an event log: every command with
+ * whether it went through or why it failed, every change the game reports, including the thefts
+ * fired by the timer wheel, the smells and sounds the player runs into, and the player dying,
+ * falling or winning. Since checking if the player was killed draws on the luck of the player,
+ * the outcome of the game is logged when the controller checks it rather than after every move,
+ * and only the first time. Logging an entry doesn't wait for it to be written, so the game runs
+ * about as fast as without the log. Everything else is passed on to the wrapped game as it is.
+ * Since the driver wraps the games it hands to the controllers, this class is kept as public.
+ */
+public final class LoggedGame implements Game {
+
+  private static final String MOVE = "move";
+  private static final String PICK_TREASURE = "pickTreasure";
+  private static final String PICK_ARROW = "pickArrow";
+  private static final String SHOOT_ARROW = "shootArrow";
+  private static final String DESCEND = "descend";
+  private static final String CLIMB = "climb";
+  private static final String OUTCOME = "outcome";
+
+  private final Game game;
+  private final GameEventLog log;
+  private final GameListener listener;
+  private boolean over;
+
+  /**
+   * A constructor to wrap the game with the event log it's logged to.
+   *
+   * @param game represents the game to log.
+   * @param log represents the event log.
+   * @throws IllegalArgumentException if the game or the log is null.
+   */
+  public LoggedGame(Game game, GameEventLog log) throws IllegalArgumentException {
+    if (Objects.isNull(game) || Objects.isNull(log)) {
+      throw new IllegalArgumentException("Game and log can't be null!");
+    }
+    this.game = game;
+    this.log = log;
+    this.listener = event -> log.log(GameEventLog.Kind.EVENT, event.getType().name(),
+        event.getDetail(), event.getLocation());
+    game.addGameListener(listener);
+  }
+
+  /**
+   * Stops logging the changes of the wrapped game.
+   */
+  public void detach() {
+    game.removeGameListener(listener);
+  }
+
+  /**
+   * Moves the player in the given direction, logging the move with the distance left to the end
+   * cave and the smell and sound the player runs into, or why the move failed.
+   *
+   * @param direction represents UP, DOWN, RIGHT, LEFT are the possible moves for the player.
+   * @throws IllegalStateException if an illegal direction is being attempted.
+   * @throws IllegalArgumentException if direction in the parameter is not up, down, left or right.
+   */
+  @Override
+  public void movePlayer(Direction direction)
+      throws IllegalStateException, IllegalArgumentException {
+    try {
+      game.movePlayer(direction);
+    }
+    catch (IllegalStateException | IllegalArgumentException e) {
+      log.log(GameEventLog.Kind.FAILED, MOVE, e.getMessage(), -1);
+      throw e;
+    }
+    log.log(GameEventLog.Kind.COMMAND, MOVE, direction.name(), game.getDistanceToEnd());
+    Smell smell = game.getSmell();
+    if (smell != null) {
+      log.log(GameEventLog.Kind.SMELL, MOVE, smell.name(), 0);
+    }
+    Sound sound = game.getSound();
+    if (sound != null) {
+      log.log(GameEventLog.Kind.SOUND, MOVE, sound.name(), 0);
+    }
+  }
+
+  /**
+   * Picks the treasure of the given type, logging the pick or why it failed.
+   *
+   * @param treasure represents the type of the treasure to pick.
+   * @throws IllegalStateException if there is no treasure of given type in the current location.
+   * @throws IllegalArgumentException if treasure is not one of sapphire, ruby or diamond.
+   */
+  @Override
+  public void pickTreasure(Treasure treasure)
+      throws IllegalStateException, IllegalArgumentException {
+    try {
+      game.pickTreasure(treasure);
+    }
+    catch (IllegalStateException | IllegalArgumentException e) {
+      log.log(GameEventLog.Kind.FAILED, PICK_TREASURE, e.getMessage(), -1);
+      throw e;
+    }
+    log.log(GameEventLog.Kind.COMMAND, PICK_TREASURE, treasure.name(), 0);
+  }
+
+  /**
+   * Picks an arrow in the player's location, logging the pick or why it failed.
+   */
+  @Override
+  public void pickArrow() {
+    try {
+      game.pickArrow();
+    }
+    catch (IllegalStateException | IllegalArgumentException e) {
+      log.log(GameEventLog.Kind.FAILED, PICK_ARROW, e.getMessage(), -1);
+      throw e;
+    }
+    log.log(GameEventLog.Kind.COMMAND, PICK_ARROW, null, 0);
+  }
+
+  /**
+   * Goes down the stairs to the next level, logging the distance to the end cave of the new
+   * level or why there were no stairs.
+   *
+   * @throws IllegalStateException if there are no stairs down where the player is.
+   */
+  @Override
+  public void descend() throws IllegalStateException {
+    try {
+      game.descend();
+    }
+    catch (IllegalStateException e) {
+      log.log(GameEventLog.Kind.FAILED, DESCEND, e.getMessage(), -1);
+      throw e;
+    }
+    log.log(GameEventLog.Kind.COMMAND, DESCEND, null, game.getDistanceToEnd());
+  }
+
+  /**
+   * Climbs the stairs to the level above, logging the distance to the end cave of that level or
+   * why there were no stairs.
+   *
+   * @throws IllegalStateException if there are no stairs up where the player is.
+   */
+  @Override
+  public void climb() throws IllegalStateException {
+    try {
+      game.climb();
+    }
+    catch (IllegalStateException e) {
+      log.log(GameEventLog.Kind.FAILED, CLIMB, e.getMessage(), -1);
+      throw e;
+    }
+    log.log(GameEventLog.Kind.COMMAND, CLIMB, null, game.getDistanceToEnd());
+  }
+
+  /**
+   * Shoots an arrow in the given direction and distance, logging the shot or why it failed.
+   *
+   * @param distance represents the distance the arrow must be shot.
+   * @param direction represents the direction of the shot.
+   * @throws IllegalArgumentException if the distance is a negative value or direction is null.
+   * @throws IllegalStateException if there are no more arrows left with the player.
+   */
+  @Override
+  public void shootArrow(int distance, Direction direction)
+      throws IllegalStateException, IllegalArgumentException {
+    try {
+      game.shootArrow(distance, direction);
+    }
+    catch (IllegalStateException | IllegalArgumentException e) {
+      log.log(GameEventLog.Kind.FAILED, SHOOT_ARROW, e.getMessage(), -1);
+      throw e;
+    }
+    log.log(GameEventLog.Kind.COMMAND, SHOOT_ARROW, direction.name(), distance);
+  }
+
+  /**
+   * Gets the treasures collected by the player in the wrapped game.
+   *
+   * @return the treasures collected by the player.
+   */
+  @Override
+  public List<Treasure> getTreasureCollectedByPlayer() {
+    return game.getTreasureCollectedByPlayer();
+  }
+
+  /**
+   * Gets the game state of the player in the wrapped game.
+   *
+   * @return the current game state of the player.
+   */
+  @Override
+  public ReadOnlyGame gameState() {
+    return game.gameState();
+  }
+
+  /**
+   * Gets the 2D representation of the dungeon of the wrapped game.
+   *
+   * @return the 2D representation of the dungeon.
+   */
+  @Override
+  public String printDungeonAs2D() {
+    return game.printDungeonAs2D();
+  }
+
+  /**
+   * Checks if the player has reached the end cave, logging the win the first time the game is
+   * over.
+   *
+   * @return true if the player has reached the end cave, false otherwise.
+   */
+  @Override
+  public boolean isReachedEnd() {
+    return outcome(game.isReachedEnd(), GameEventLog.Kind.WON);
+  }
+
+  /**
+   * Checks if the player has been killed by the monster, logging the death the first time the
+   * game is over.
+   *
+   * @return true if the player has been eaten by the monster, false otherwise.
+   */
+  @Override
+  public boolean isKilled() {
+    return outcome(game.isKilled(), GameEventLog.Kind.KILLED);
+  }
+
+  /**
+   * Gets the arrows in the player's bag in the wrapped game.
+   *
+   * @return the arrows currently in the player bag.
+   */
+  @Override
+  public List<Weapon> getArrowsInPlayerBag() {
+    return game.getArrowsInPlayerBag();
+  }
+
+  /**
+   * Gets the smell the player is smelling in the wrapped game.
+   *
+   * @return the smell the player is smelling.
+   */
+  @Override
+  public Smell getSmell() {
+    return game.getSmell();
+  }
+
+  /**
+   * Gets the sound the player can hear in the wrapped game.
+   *
+   * @return the sound the player can hear.
+   */
+  @Override
+  public Sound getSound() {
+    return game.getSound();
+  }
+
+  /**
+   * Gets how strongly the player senses the things of the given sense in the wrapped game.
+   *
+   * @param sense represents the sense.
+   * @return the strength of the sense, 0 if nothing is sensed.
+   * @throws IllegalArgumentException if the sense is null.
+   */
+  @Override
+  public int getIntensity(Sense sense) throws IllegalArgumentException {
+    return game.getIntensity(sense);
+  }
+
+  /**
+   * Checks if the thief has stolen the treasure in the wrapped game. A theft is logged from the
+   * change the game reports.
+   *
+   * @param time represents the current system time.
+   */
+  @Override
+  public void checkTreasureStolen(Long time) {
+    game.checkTreasureStolen(time);
+  }
+
+  /**
+   * Checks if the player has fallen into the pit, logging the fall the first time the game is
+   * over.
+   *
+   * @return true of the player has fallen into the pit, false otherwise.
+   */
+  @Override
+  public boolean isFallen() {
+    return outcome(game.isFallen(), GameEventLog.Kind.FELL);
+  }
+
+  /**
+   * Gets the number of rows of the dungeon of the wrapped game.
+   *
+   * @return the number of rows of the dungeon.
+   */
+  @Override
+  public int getRows() {
+    return game.getRows();
+  }
+
+  /**
+   * Gets the number of columns of the dungeon of the wrapped game.
+   *
+   * @return the number of columns of the dungeon.
+   */
+  @Override
+  public int getColumns() {
+    return game.getColumns();
+  }
+
+  /**
+   * Gets the number of moves between the player's location and the end cave in the wrapped game.
+   *
+   * @return the number of moves left to reach the end cave.
+   */
+  @Override
+  public int getDistanceToEnd() {
+    return game.getDistanceToEnd();
+  }
+
+  /**
+   * Gets the move that takes the player one step closer to the end cave in the wrapped game.
+   *
+   * @return the move towards the end cave, null if the player is already at the end cave.
+   */
+  @Override
+  public Direction getNextStepToEnd() {
+    return game.getNextStepToEnd();
+  }
+
+  /**
+   * Gets the number of moves between two locations of the dungeon of the wrapped game.
+   *
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @return the number of moves between the two locations.
+   * @throws IllegalArgumentException if either location doesn't exist.
+   */
+  @Override
+  public int getDistanceBetween(int source, int destination) throws IllegalArgumentException {
+    return game.getDistanceBetween(source, destination);
+  }
+
+  /**
+   * Gets the bytes of heap held by the wrapped game. The log isn't counted, as it is shared by the
+   * games logged to it.
+   *
+   * @return the memory footprint of the wrapped game.
+   */
+  @Override
+  public MemoryFootprint getMemoryFootprint() {
+    return game.getMemoryFootprint();
+  }
+
+  /**
+   * Gets the difficulty of the dungeon of the wrapped game.
+   *
+   * @return the difficulty of the dungeon.
+   */
+  @Override
+  public DifficultyEstimate getDifficulty() {
+    return game.getDifficulty();
+  }
+
+  /**
+   * Adds a listener that is told about every change made to the wrapped game from now on.
+   *
+   * @param listener represents the listener to add.
+   * @throws IllegalArgumentException if the listener is null.
+   */
+  @Override
+  public void addGameListener(GameListener listener) throws IllegalArgumentException {
+    game.addGameListener(listener);
+  }
+
+  /**
+   * Removes a listener so that it is no longer told about the changes made to the wrapped game.
+   *
+   * @param listener represents the listener to remove.
+   */
+  @Override
+  public void removeGameListener(GameListener listener) {
+    game.removeGameListener(listener);
+  }
+
+  /**
+   * Lets the timed rules of the wrapped game be fired by the given timer wheel. The thefts and
+   * idle timeouts it fires are logged from the changes the game reports.
+   *
+   * @param timers represents the timer wheel that fires the timed rules.
+   * @param idleTimeoutMillis represents the time the player may not act for, 0 for no timeout.
+   * @throws IllegalArgumentException if the wheel is null or the timeout is negative.
+   */
+  @Override
+  public void useTimerWheel(TimerWheel timers, long idleTimeoutMillis)
+      throws IllegalArgumentException {
+    game.useTimerWheel(timers, idleTimeoutMillis);
+  }
+
+  /**
+   * Cancels the timeouts the wrapped game is waiting on and stops it using the timer wheel.
+   */
+  @Override
+  public void detachTimerWheel() {
+    game.detachTimerWheel();
+  }
+
+  /**
+   * Writes the dungeon of the wrapped game to the writer in the given format.
+   *
+   * @param format represents the format to write.
+   * @param out represents the writer to write to.
+   * @throws IOException if the writer fails.
+   * @throws IllegalArgumentException if the format or the writer is null.
+   */
+  @Override
+  public void exportDungeon(GraphFormat format, Writer out) throws IOException,
+      IllegalArgumentException {
+    game.exportDungeon(format, out);
+  }
+
+  /**
+   * Writes the dungeon of the wrapped game to the stream in the given format, encoded as UTF-8.
+   *
+   * @param format represents the format to write.
+   * @param out represents the stream to write to.
+   * @throws IOException if the stream fails.
+   * @throws IllegalArgumentException if the format or the stream is null.
+   */
+  @Override
+  public void exportDungeon(GraphFormat format, OutputStream out) throws IOException,
+      IllegalArgumentException {
+    game.exportDungeon(format, out);
+  }
+
+  /**
+   * Runs the action and keeps the changes it makes as an edit. Commands the action runs through
+   * this game are logged as well.
+   *
+   * @param action represents the action to run.
+   * @return the changes made by the action.
+   * @throws IllegalArgumentException if the action is null.
+   * @throws IllegalStateException if another action is being recorded.
+   */
+  @Override
+  public GameEdit record(Runnable action) throws IllegalArgumentException,
+      IllegalStateException {
+    return game.record(action);
+  }
+
+  /**
+   * Creates a copy of the wrapped game that can be played on without changing it. The fork isn't
+   * logged, so a bot searching ahead doesn't fill up the log.
+   *
+   * @return the fork of the wrapped game.
+   */
+  @Override
+  public Game fork() {
+    return game.fork();
+  }
+
+  /**
+   * Private helper method to log the outcome of the game the first time it's over.
+   *
+   * @param happened represents if the outcome happened.
+   * @param kind represents the kind of outcome.
+   * @return if the outcome happened.
+   */
+  private boolean outcome(boolean happened, GameEventLog.Kind kind) {
+    if (happened && !over) {
+      over = true;
+      log.log(kind, OUTCOME, null, game.gameState().getLocationId());
+    }
+    return happened;
+  }
+}
@@ -0,0 +1,37 @@
+package model.dungeonsanddragons;
+
+import java.util.function.Supplier;
+
+/**
+ * MazeAlgorithm enumeration represents the algorithms that can be used to carve the dungeon out of
+ * the grid. Kruskal's algorithm is the one the game has always used, the others give dungeons with
+ * a different feel, from the long winding corridors of the backtracker to the many short branches
+ * of Prim's. Since the user picks the algorithm when setting up the game, this enumeration is
+ * kept as public.
+ */
+public enum MazeAlgorithm {
+  KRUSKAL(KruskalStrategy::new),
+  WILSON(WilsonStrategy::new),
+  BACKTRACKER(BacktrackerStrategy::new),
+  PRIM(PrimStrategy::new);
+
+  private final Supplier<SpanningTreeStrategy> strategy;
+
+  /**
+   * A constructor to initialize the algorithm with the way its strategy is created.
+   *
+   * @param strategy represents the supplier of a new strategy of the algorithm.
+   */
+  MazeAlgorithm(Supplier<SpanningTreeStrategy> strategy) {
+    this.strategy = strategy;
+  }
+
+  /**
+   * Creates the strategy that implements the algorithm.
+   *
+   * @return the spanning tree strategy.
+   */
+  SpanningTreeStrategy createStrategy() {
+    return strategy.get();
+  }
+}
@@ -0,0 +1,173 @@
+package model.dungeonsanddragons;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * MemoryFootprint class reports how many bytes of heap a game holds on to, broken down by the
+ * structures that hold them. Sizes are worked out from the shape of each structure for a 64-bit
+ * JVM with compressed references, which is the default for heaps under 32 GB, so they are close
+ * estimates rather than exact measurements. The same rules are used to estimate the footprint of
+ * a game before it is created, which lets a memory budget turn down a game that is too large
+ * without allocating it. Since the user reads the footprint of the game, this class is kept as
+ * public.
+ */
+public final class MemoryFootprint {
+
+  private static final int OBJECT_HEADER = 12;
+  private static final int ARRAY_HEADER = 16;
+  static final int REFERENCE = 4;
+
+  private final Map<String, Long> breakdown;
+
+  /**
+   * A constructor to initialize the footprint with the bytes held by every structure.
+   *
+   * @param breakdown represents the bytes held by every structure, in the order to report them.
+   * @throws IllegalArgumentException if the breakdown is null.
+   */
+  MemoryFootprint(Map<String, Long> breakdown) {
+    if (Objects.isNull(breakdown)) {
+      throw new IllegalArgumentException("Illegal breakdown!");
+    }
+    this.breakdown = Collections.unmodifiableMap(new LinkedHashMap<>(breakdown));
+  }
+
+  /**
+   * Gets the bytes held by every structure of the game.
+   *
+   * @return the bytes held by every structure.
+   */
+  public Map<String, Long> getBreakdown() {
+    return breakdown;
+  }
+
+  /**
+   * Gets the total bytes held by the game.
+   *
+   * @return the total bytes.
+   */
+  public long getTotal() {
+    long total = 0;
+    for (long bytes : breakdown.values()) {
+      total += bytes;
+    }
+    return total;
+  }
+
+  /**
+   * Estimates the most memory a game of the given size needs while it is being created, which
+   * is when the edges used only for the generation are still held.
+   *
+   * @param rows represents the number of rows in the dungeon.
+   * @param columns represents the number of columns in the dungeon.
+   * @param wrapping represents the wrapping status of the dungeon.
+   * @param interconnectivity represents the degree of interconnectivity of the dungeon.
+   * @return the estimated footprint.
+   * @throws IllegalArgumentException if the size is illegal.
+   */
+  public static MemoryFootprint estimate(int rows, int columns, boolean wrapping,
+      int interconnectivity) throws IllegalArgumentException {
+    if (rows < 1 || columns < 1 || interconnectivity < 0) {
+      throw new IllegalArgumentException("Illegal size of the dungeon!");
+    }
+
+    long nodes = (long) rows * columns;
+    long edges = wrapping ? 2 * nodes : 2 * nodes - rows - columns;
+    long treeEdges = Math.min(edges, nodes - 1 + interconnectivity);
+    long landmarks = Math.min(2L * interconnectivity, nodes);
+
+    Map<String, Long> breakdown = new LinkedHashMap<>();
+    breakdown.put("nodes", arrayList(nodes) + nodes * emptyNode());
+    breakdown.put("grid", array(rows, REFERENCE) + rows * array(columns, REFERENCE));
+    breakdown.put("spanningTree", edgeList(treeEdges));
+    breakdown.put("distanceOracle", DistanceOracle.estimateBytes(nodes, treeEdges, landmarks));
+    breakdown.put("exploredMap", 2 * bitSet(nodes));
+    breakdown.put("scratch", edgeList(edges) + arrayList(edges - treeEdges)
+        + 5 * array(edges, Integer.BYTES) + array(edges, 1));
+    return new MemoryFootprint(breakdown);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    for (Map.Entry<String, Long> entry : breakdown.entrySet()) {
+      builder.append(entry.getKey()).append('=').append(entry.getValue()).append("B, ");
+    }
+    return builder.append("total=").append(getTotal()).append('B').toString();
+  }
+
+  /**
+   * Gets the bytes of an object with the given bytes of fields.
+   *
+   * @param fieldBytes represents the bytes taken by the fields of the object.
+   * @return the bytes of the object.
+   */
+  static long object(long fieldBytes) {
+    return align(OBJECT_HEADER + fieldBytes);
+  }
+
+  /**
+   * Gets the bytes of an array.
+   *
+   * @param length represents the length of the array.
+   * @param elementBytes represents the bytes taken by every element.
+   * @return the bytes of the array.
+   */
+  static long array(long length, int elementBytes) {
+    return align(ARRAY_HEADER + length * elementBytes);
+  }
+
+  /**
+   * Gets the bytes of an array list holding the given number of references, not counting the
+   * objects it refers to.
+   *
+   * @param size represents the number of elements.
+   * @return the bytes of the list.
+   */
+  static long arrayList(long size) {
+    long capacity = size == 0 ? 0 : Math.max(10, size);
+    return object(3 * Integer.BYTES) + (capacity == 0 ? 0 : array(capacity, REFERENCE));
+  }
+
+  /**
+   * Gets the bytes of a list of edges along with the edges themselves.
+   *
+   * @param size represents the number of edges.
+   * @return the bytes of the list and the edges.
+   */
+  static long edgeList(long size) {
+    return arrayList(size) + size * object(2 * REFERENCE);
+  }
+
+  /**
+   * Gets the bytes of a bit set with the given number of bits.
+   *
+   * @param bits represents the number of bits.
+   * @return the bytes of the bit set.
+   */
+  static long bitSet(long bits) {
+    return object(2 * Integer.BYTES + Integer.BYTES + 1) + array((bits + 63) / 64, Long.BYTES);
+  }
+
+  /**
+   * Gets the bytes of a location without any treasure, arrows or monster.
+   *
+   * @return the bytes of the location.
+   */
+  static long emptyNode() {
+    return object(5 * Integer.BYTES + 6 * REFERENCE) + 2 * arrayList(0);
+  }
+
+  /**
+   * Private helper method to round the bytes up to the 8 byte alignment of objects.
+   *
+   * @param bytes represents the bytes to round.
+   * @return the rounded bytes.
+   */
+  private static long align(long bytes) {
+    return (bytes + 7) & ~7L;
+  }
+}
@@ -24,4 +24,13 @@ interface Monster {
    * @return the health of the monster. A monster starts with 100% health.
    */
   int getHealth();
+
+  /**
+   * Puts the health of the monster back to what it was before it was hit, so that a shot can be
+   * taken back.
+   *
+   * @param health represents the health to put back, either 0, 50 or 100.
+   * @throws IllegalArgumentException if the health is illegal.
+   */
+  void restoreHealth(int health) throws IllegalArgumentException;
 }
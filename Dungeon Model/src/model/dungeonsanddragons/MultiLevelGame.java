@@ -0,0 +1,631 @@
+package model.dungeonsanddragons;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * MultiLevelGame class represents a game that goes down level after level. A player alive in the
+ * ending cave of a level can go down the stairs to the starting cave of the next level, carrying
+ * the treasure and arrows along, and can climb back up from the starting cave of a level. Every
+ * level is a dungeon of its own with the same size and contents, generated from a seed derived
+ * from the seed of the game and the depth of the level the first time it's entered. Only the
+ * current level and the levels visited most recently are kept in memory. Older levels are put
+ * away as their saved progress, which holds only what changed, and are generated again from their
+ * seed when the player comes back. The saved progress of the levels visited longest ago is
+ * dropped too, and those levels come back as they were first generated, so the memory used stays
+ * the same however deep the player goes. Since the user creates the game to play it, this class
+ * is kept as public.
+ */
+public final class MultiLevelGame implements Game {
+
+  private static final int SAVED_LEVELS = 64;
+
+  private final int rows;
+  private final int columns;
+  private final boolean wrapping;
+  private final int interconnectivity;
+  private final int treasurePercentage;
+  private final int numberOfMonsters;
+  private final int thieves;
+  private final int pits;
+  private final long seed;
+  private final int levels;
+  private final int residentLevels;
+  private final Map<Integer, FantasyRolePlayingGame> resident;
+  private final Map<Integer, byte[]> saved;
+  private final List<GameListener> listeners;
+  private FantasyRolePlayingGame current;
+  private int depth;
+  private TimerWheel timers;
+  private long idleTimeoutMillis;
+
+  /**
+   * A constructor to create a game of the given number of levels, all of the given size and
+   * contents, keeping up to the given number of levels in memory.
+   *
+   * @param rows               represents the number of rows of every level.
+   * @param columns            represents the number of columns of every level.
+   * @param wrapping           represents the wrapping status of every level.
+   * @param interconnectivity  represents the degree of interconnectivity of every level.
+   * @param treasurePercentage represents the percentage of caves that the treasure should be
+   *                           added.
+   * @param numberOfMonsters   represents the number of monsters in every level.
+   * @param thieves            represents the number of thieves in every level.
+   * @param pits               represents the number of pits in every level.
+   * @param seed               represents the seed every level is generated from.
+   * @param levels             represents the number of levels, the last one holding the exit.
+   * @param residentLevels     represents the most levels kept in memory at once.
+   * @throws IllegalStateException    if the first level can't be created.
+   * @throws IllegalArgumentException if the user enters illegal arguments.
+   */
+  public MultiLevelGame(int rows, int columns, boolean wrapping, int interconnectivity,
+      int treasurePercentage, int numberOfMonsters, int thieves, int pits, long seed,
+      int levels, int residentLevels) throws IllegalArgumentException, IllegalStateException {
+    if (levels < 1 || residentLevels < 1) {
+      throw new IllegalArgumentException("Illegal number of levels!");
+    }
+
+    this.rows = rows;
+    this.columns = columns;
+    this.wrapping = wrapping;
+    this.interconnectivity = interconnectivity;
+    this.treasurePercentage = treasurePercentage;
+    this.numberOfMonsters = numberOfMonsters;
+    this.thieves = thieves;
+    this.pits = pits;
+    this.seed = seed;
+    this.levels = levels;
+    this.residentLevels = residentLevels;
+    this.resident = residency();
+    this.saved = new LinkedHashMap<>(16, 0.75f, true);
+    this.listeners = new CopyOnWriteArrayList<>();
+    this.current = level(0);
+  }
+
+  /**
+   * A constructor to create a fork of the game, holding a fork of the current level and the
+   * saved progress of the other levels.
+   *
+   * @param game represents the game to fork.
+   */
+  private MultiLevelGame(MultiLevelGame game) {
+    this.rows = game.rows;
+    this.columns = game.columns;
+    this.wrapping = game.wrapping;
+    this.interconnectivity = game.interconnectivity;
+    this.treasurePercentage = game.treasurePercentage;
+    this.numberOfMonsters = game.numberOfMonsters;
+    this.thieves = game.thieves;
+    this.pits = game.pits;
+    this.seed = game.seed;
+    this.levels = game.levels;
+    this.residentLevels = game.residentLevels;
+    this.resident = residency();
+    this.saved = new LinkedHashMap<>(16, 0.75f, true);
+    this.listeners = new CopyOnWriteArrayList<>();
+    for (Map.Entry<Integer, FantasyRolePlayingGame> level : game.resident.entrySet()) {
+      if (level.getValue() != game.current) {
+        this.saved.put(level.getKey(), level.getValue().saveProgress());
+      }
+    }
+    for (Map.Entry<Integer, byte[]> level : game.saved.entrySet()) {
+      this.saved.putIfAbsent(level.getKey(), level.getValue());
+    }
+    this.depth = game.depth;
+    this.current = (FantasyRolePlayingGame) game.current.fork();
+    this.resident.put(depth, current);
+  }
+
+  /**
+   * Gets the depth of the level the player is in, starting from 0 for the first level.
+   *
+   * @return the depth of the current level.
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * Gets the number of levels of the game.
+   *
+   * @return the number of levels.
+   */
+  public int getLevels() {
+    return levels;
+  }
+
+  /**
+   * Gets the number of levels kept in memory.
+   *
+   * @return the number of levels in memory.
+   */
+  public int getResidentLevels() {
+    return resident.size();
+  }
+
+  /**
+   * Gets the number of levels put away as their saved progress.
+   *
+   * @return the number of saved levels.
+   */
+  public int getSavedLevels() {
+    return saved.size();
+  }
+
+  /**
+   * Climbs the stairs back to the ending cave of the level above. The player has to be in the
+   * starting cave of a level below the first one.
+   *
+   * @throws IllegalStateException if there are no stairs up where the player is.
+   */
+  @Override
+  public void climb() throws IllegalStateException {
+    if (depth == 0 || current.gameState().getLocationId() != current.getStartingLocation()) {
+      throw new IllegalStateException("There are no stairs up here!");
+    }
+    enter(depth - 1);
+  }
+
+  /**
+   * Goes down the stairs in the ending cave to the starting cave of the level below. The player
+   * has to be alive in the ending cave of a level above the last one, so the caller checks that
+   * the player survived the cave first, the same way as before winning on the last level.
+   *
+   * @throws IllegalStateException if there are no stairs down where the player is.
+   */
+  @Override
+  public void descend() throws IllegalStateException {
+    if (depth == levels - 1 || !current.isReachedEnd()) {
+      throw new IllegalStateException("There are no stairs down here!");
+    }
+    enter(depth + 1);
+  }
+
+  /**
+   * Moves the player on the current level from their location in the given direction.
+   *
+   * @param direction represents UP, DOWN, RIGHT, LEFT are the possible moves for the player.
+   * @throws IllegalStateException if an illegal direction is being attempted.
+   * @throws IllegalArgumentException if direction in the parameter is not up, down, left or right.
+   */
+  @Override
+  public void movePlayer(Direction direction)
+      throws IllegalStateException, IllegalArgumentException {
+    current.movePlayer(direction);
+  }
+
+  /**
+   * Picks the treasure of the given type in the player's location on the current level.
+   *
+   * @param treasure represents the type of the treasure to pick.
+   * @throws IllegalStateException if there is no treasure of given type in the current location.
+   * @throws IllegalArgumentException if treasure is not one of sapphire, ruby or diamond.
+   */
+  @Override
+  public void pickTreasure(Treasure treasure)
+      throws IllegalStateException, IllegalArgumentException {
+    current.pickTreasure(treasure);
+  }
+
+  /**
+   * Gets the treasures collected by the player, on this level and the levels above.
+   *
+   * @return the treasures collected by the player.
+   */
+  @Override
+  public List<Treasure> getTreasureCollectedByPlayer() {
+    return current.getTreasureCollectedByPlayer();
+  }
+
+  /**
+   * Gets the game state of the player on the current level through a read-only end point.
+   *
+   * @return the current game state of the player.
+   */
+  @Override
+  public ReadOnlyGame gameState() {
+    return current.gameState();
+  }
+
+  /**
+   * Gets the 2D representation of the dungeon of the current level.
+   *
+   * @return the 2D representation of the current level.
+   */
+  @Override
+  public String printDungeonAs2D() {
+    return current.printDungeonAs2D();
+  }
+
+  /**
+   * Checks if the player has reached the ending cave of the last level alive, which wins the
+   * game.
+   *
+   * @return true if the player has reached the exit, false otherwise.
+   */
+  @Override
+  public boolean isReachedEnd() {
+    return depth == levels - 1 && current.isReachedEnd();
+  }
+
+  /**
+   * Checks if the player has been killed by the monster in their location on the current level.
+   *
+   * @return true if the player has been eaten by the monster, false otherwise.
+   */
+  @Override
+  public boolean isKilled() {
+    return current.isKilled();
+  }
+
+  /**
+   * Shoots an arrow in the given direction and distance on the current level.
+   *
+   * @param distance represents the distance the arrow must be shot.
+   * @param direction represents the direction of the shot.
+   * @throws IllegalArgumentException if the distance is a negative value or direction is null.
+   * @throws IllegalStateException if there are no more arrows left with the player.
+   */
+  @Override
+  public void shootArrow(int distance, Direction direction)
+      throws IllegalStateException, IllegalArgumentException {
+    current.shootArrow(distance, direction);
+  }
+
+  /**
+   * Picks an arrow in the player's location on the current level and adds it to the bag.
+   */
+  @Override
+  public void pickArrow() {
+    current.pickArrow();
+  }
+
+  /**
+   * Gets the arrows in the player's bag, carried along from level to level.
+   *
+   * @return the arrows currently in the player bag.
+   */
+  @Override
+  public List<Weapon> getArrowsInPlayerBag() {
+    return current.getArrowsInPlayerBag();
+  }
+
+  /**
+   * Gets the smell of the monsters of the current level from the player's location.
+   *
+   * @return the smell the player is smelling.
+   */
+  @Override
+  public Smell getSmell() {
+    return current.getSmell();
+  }
+
+  /**
+   * Gets the sound of the pits of the current level from the player's location.
+   *
+   * @return the sound the player can hear.
+   */
+  @Override
+  public Sound getSound() {
+    return current.getSound();
+  }
+
+  /**
+   * Gets how strongly the player senses the things of the given sense on the current level.
+   *
+   * @param sense represents the sense.
+   * @return the strength of the sense, 0 if nothing is sensed.
+   * @throws IllegalArgumentException if the sense is null.
+   */
+  @Override
+  public int getIntensity(Sense sense) throws IllegalArgumentException {
+    return current.getIntensity(sense);
+  }
+
+  /**
+   * Checks if a thief of the current level has stolen the treasure of the player.
+   *
+   * @param time represents the current system time.
+   */
+  @Override
+  public void checkTreasureStolen(Long time) {
+    current.checkTreasureStolen(time);
+  }
+
+  /**
+   * Checks if the player has fallen into a pit of the current level.
+   *
+   * @return true of the player has fallen into the pit, false otherwise.
+   */
+  @Override
+  public boolean isFallen() {
+    return current.isFallen();
+  }
+
+  /**
+   * Gets the number of rows of every level.
+   *
+   * @return the number of rows of the dungeon.
+   */
+  @Override
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Gets the number of columns of every level.
+   *
+   * @return the number of columns of the dungeon.
+   */
+  @Override
+  public int getColumns() {
+    return columns;
+  }
+
+  /**
+   * Gets the number of moves between the player's location and the ending cave of the current
+   * level, where the stairs down or the exit are.
+   *
+   * @return the number of moves left to reach the ending cave.
+   */
+  @Override
+  public int getDistanceToEnd() {
+    return current.getDistanceToEnd();
+  }
+
+  /**
+   * Gets the move that takes the player one step closer to the ending cave of the current level.
+   *
+   * @return the move towards the ending cave, null if the player is already there.
+   */
+  @Override
+  public Direction getNextStepToEnd() {
+    return current.getNextStepToEnd();
+  }
+
+  /**
+   * Gets the number of moves along the shortest path between two locations of the current level.
+   *
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @return the number of moves between the two locations.
+   * @throws IllegalArgumentException if either location doesn't exist.
+   */
+  @Override
+  public int getDistanceBetween(int source, int destination) throws IllegalArgumentException {
+    return current.getDistanceBetween(source, destination);
+  }
+
+  /**
+   * Gets the bytes of heap held by the levels in memory along with the saved progress of the
+   * levels put away.
+   *
+   * @return the memory footprint of the game.
+   */
+  @Override
+  public MemoryFootprint getMemoryFootprint() {
+    Map<String, Long> breakdown = new LinkedHashMap<>();
+    for (Map.Entry<Integer, FantasyRolePlayingGame> level : resident.entrySet()) {
+      breakdown.put("level" + level.getKey(), level.getValue().getMemoryFootprint().getTotal());
+    }
+    long progress = 0;
+    for (byte[] bytes : saved.values()) {
+      progress += MemoryFootprint.array(bytes.length, Byte.BYTES);
+    }
+    breakdown.put("savedLevels", progress);
+    return new MemoryFootprint(breakdown);
+  }
+
+  /**
+   * Gets the difficulty of the current level worked out when it was created.
+   *
+   * @return the difficulty of the current level.
+   */
+  @Override
+  public DifficultyEstimate getDifficulty() {
+    return current.getDifficulty();
+  }
+
+  /**
+   * Adds a listener that is told about every change made to the game, on whichever level the
+   * player is.
+   *
+   * @param listener represents the listener to add.
+   * @throws IllegalArgumentException if the listener is null.
+   */
+  @Override
+  public void addGameListener(GameListener listener) throws IllegalArgumentException {
+    current.addGameListener(listener);
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes a listener so that it is no longer told about the changes made on any level.
+   *
+   * @param listener represents the listener to remove.
+   */
+  @Override
+  public void removeGameListener(GameListener listener) {
+    current.removeGameListener(listener);
+    listeners.remove(listener);
+  }
+
+  /**
+   * Lets the timed rules of the current level be fired by the given timer wheel. The wheel is
+   * handed over to every level the player goes to from now on.
+   *
+   * @param timers represents the timer wheel that fires the timed rules.
+   * @param idleTimeoutMillis represents the time the player may not act for, 0 for no timeout.
+   * @throws IllegalArgumentException if the wheel is null or the timeout is negative.
+   */
+  @Override
+  public void useTimerWheel(TimerWheel timers, long idleTimeoutMillis)
+      throws IllegalArgumentException {
+    current.useTimerWheel(timers, idleTimeoutMillis);
+    this.timers = timers;
+    this.idleTimeoutMillis = idleTimeoutMillis;
+  }
+
+  /**
+   * Cancels the timeouts the current level is waiting on and stops handing the timer wheel over
+   * to the levels the player goes to.
+   */
+  @Override
+  public void detachTimerWheel() {
+    current.detachTimerWheel();
+    this.timers = null;
+    this.idleTimeoutMillis = 0;
+  }
+
+  /**
+   * Writes the dungeon of the current level to the writer in the given format.
+   *
+   * @param format represents the format to write.
+   * @param out represents the writer to write to.
+   * @throws IOException if the writer fails.
+   * @throws IllegalArgumentException if the format or the writer is null.
+   */
+  @Override
+  public void exportDungeon(GraphFormat format, Writer out) throws IOException,
+      IllegalArgumentException {
+    current.exportDungeon(format, out);
+  }
+
+  /**
+   * Writes the dungeon of the current level to the stream in the given format, encoded as UTF-8.
+   *
+   * @param format represents the format to write.
+   * @param out represents the stream to write to.
+   * @throws IOException if the stream fails.
+   * @throws IllegalArgumentException if the format or the stream is null.
+   */
+  @Override
+  public void exportDungeon(GraphFormat format, OutputStream out) throws IOException,
+      IllegalArgumentException {
+    current.exportDungeon(format, out);
+  }
+
+  /**
+   * Runs the action on the current level and keeps the changes it makes as an edit. An edit only
+   * applies to the level it was made on, so it has to be taken back before leaving the level.
+   *
+   * @param action represents the action to run.
+   * @return the changes made by the action.
+   * @throws IllegalArgumentException if the action is null.
+   * @throws IllegalStateException if another action is being recorded.
+   */
+  @Override
+  public GameEdit record(Runnable action) throws IllegalArgumentException,
+      IllegalStateException {
+    return current.record(action);
+  }
+
+  /**
+   * Creates a copy of the game that can be played on without changing this game. The current
+   * level is forked, and the other levels are handed over as their saved progress.
+   *
+   * @return the fork of the game.
+   */
+  @Override
+  public Game fork() {
+    return new MultiLevelGame(this);
+  }
+
+  /**
+   * Private helper method to go to the level at the given depth, carrying the bag of the player
+   * along and moving the listeners and the timer wheel over to it. The level left behind no
+   * longer waits on the wheel, so that its timeouts don't fire once the player is gone.
+   *
+   * @param next represents the depth of the level to go to.
+   */
+  private void enter(int next) {
+    FantasyRolePlayingGame leaving = current;
+    for (GameListener listener : listeners) {
+      leaving.removeGameListener(listener);
+    }
+    if (timers != null) {
+      leaving.detachTimerWheel();
+    }
+
+    FantasyRolePlayingGame entering = level(next);
+    entering.takeBag(leaving.getTreasureCollectedByPlayer(), leaving.getArrowsInPlayerBag());
+    for (GameListener listener : listeners) {
+      entering.addGameListener(listener);
+    }
+    if (timers != null) {
+      entering.useTimerWheel(timers, idleTimeoutMillis);
+    }
+    current = entering;
+    depth = next;
+  }
+
+  /**
+   * Private helper method to get the level at the given depth, generating it again from its
+   * seed and bringing back its saved progress if it isn't in memory.
+   *
+   * @param level represents the depth of the level.
+   * @return the level.
+   */
+  private FantasyRolePlayingGame level(int level) {
+    FantasyRolePlayingGame game = resident.get(level);
+    if (game == null) {
+      game = new FantasyRolePlayingGame(rows, columns, wrapping, interconnectivity,
+          treasurePercentage, numberOfMonsters, thieves, pits,
+          new SplittableGameRandom(SplittableGameRandom.derive(seed, level + 1L)),
+          MazeAlgorithm.KRUSKAL, Long.MAX_VALUE, DifficultyBand.ANY);
+      byte[] progress = saved.remove(level);
+      if (progress != null) {
+        game.restoreProgress(progress);
+      }
+      resident.put(level, game);
+    }
+    return game;
+  }
+
+  /**
+   * Private helper method to create the levels kept in memory, ordered from the level visited
+   * longest ago, putting away the level visited longest ago once there are too many.
+   *
+   * @return the levels kept in memory by their depth.
+   */
+  private Map<Integer, FantasyRolePlayingGame> residency() {
+    return new LinkedHashMap<Integer, FantasyRolePlayingGame>(16, 0.75f, true) {
+      /**
+       * Puts away the level visited longest ago once more levels than allowed are in memory.
+       *
+       * @param eldest represents the level visited longest ago.
+       * @return true if the level is dropped from memory, false otherwise.
+       */
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Integer, FantasyRolePlayingGame> eldest) {
+        if (size() <= residentLevels) {
+          return false;
+        }
+        putAway(eldest.getKey(), eldest.getValue());
+        return true;
+      }
+    };
+  }
+
+  /**
+   * Private helper method to put away a level that is dropped from memory as its saved progress,
+   * dropping the saved progress of the level visited longest ago if there are too many.
+   *
+   * @param level represents the depth of the level.
+   * @param game represents the level.
+   */
+  private void putAway(int level, FantasyRolePlayingGame game) {
+    saved.put(level, game.saveProgress());
+    if (saved.size() > SAVED_LEVELS) {
+      Iterator<Integer> eldest = saved.keySet().iterator();
+      eldest.next();
+      eldest.remove();
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package model.dungeonsanddragons;
+
+import java.util.Locale;
+
+/**
+ * NodeRecord class represents a location of the dungeon and its contents as they are exported.
+ * A single record is filled in again for every location, so exporting a dungeon takes the same
+ * memory however many locations it has. Since the record is only handed to the exporters, this
+ * class is kept as package-private.
+ */
+final class NodeRecord {
+
+  private static final String[] TREASURE_KEYS = treasureKeys();
+
+  private final int[] treasures;
+  private int id;
+  private int row;
+  private int column;
+  private DungeonNodeType type;
+  private String role;
+  private int arrows;
+  private int monsterHealth;
+  private boolean pit;
+  private boolean thief;
+
+  /**
+   * A constructor to initialize an empty record.
+   */
+  NodeRecord() {
+    treasures = new int[TREASURE_KEYS.length];
+  }
+
+  /**
+   * Fills in the record with the given location.
+   *
+   * @param node represents the location.
+   * @param row represents the row of the location.
+   * @param column represents the column of the location.
+   * @param role represents START or END for the starting and ending caves, null otherwise.
+   */
+  void fill(DungeonNode node, int row, int column, String role) {
+    this.id = node.getDungeonNodeIdentifier();
+    this.row = row;
+    this.column = column;
+    this.type = node.getNodeIsA();
+    this.role = role;
+    for (int i = 0; i < treasures.length; i++) {
+      treasures[i] = 0;
+    }
+    for (Treasure treasure : node.getCaveTreasures()) {
+      treasures[treasure.ordinal()]++;
+    }
+    this.arrows = node.getArrows().size();
+    this.monsterHealth = node.getMonster() == null ? -1 : node.getMonster().getHealth();
+    this.pit = node.getPit() != null;
+    this.thief = node.getThief() != null;
+  }
+
+  /**
+   * Gets the identifier of the location.
+   *
+   * @return the identifier of the location.
+   */
+  int getId() {
+    return id;
+  }
+
+  /**
+   * Gets the row of the location.
+   *
+   * @return the row of the location.
+   */
+  int getRow() {
+    return row;
+  }
+
+  /**
+   * Gets the column of the location.
+   *
+   * @return the column of the location.
+   */
+  int getColumn() {
+    return column;
+  }
+
+  /**
+   * Gets whether the location is a cave or a tunnel.
+   *
+   * @return the type of the location.
+   */
+  DungeonNodeType getType() {
+    return type;
+  }
+
+  /**
+   * Gets the role of the location in the game.
+   *
+   * @return START or END for the starting and ending caves, null otherwise.
+   */
+  String getRole() {
+    return role;
+  }
+
+  /**
+   * Gets the number of kinds of treasure.
+   *
+   * @return the number of kinds of treasure.
+   */
+  static int getTreasureKinds() {
+    return TREASURE_KEYS.length;
+  }
+
+  /**
+   * Gets the name the given kind of treasure is exported under.
+   *
+   * @param kind represents the position of the treasure in {@link Treasure}.
+   * @return the lower case name of the treasure.
+   */
+  static String getTreasureKey(int kind) {
+    return TREASURE_KEYS[kind];
+  }
+
+  /**
+   * Gets the number of pieces of the given kind of treasure in the location.
+   *
+   * @param kind represents the position of the treasure in {@link Treasure}.
+   * @return the number of pieces.
+   */
+  int getTreasure(int kind) {
+    return treasures[kind];
+  }
+
+  /**
+   * Gets the number of arrows in the location.
+   *
+   * @return the number of arrows.
+   */
+  int getArrows() {
+    return arrows;
+  }
+
+  /**
+   * Gets the health of the monster in the location.
+   *
+   * @return the health of the monster, -1 if there is no monster.
+   */
+  int getMonsterHealth() {
+    return monsterHealth;
+  }
+
+  /**
+   * Checks if there is a pit in the location.
+   *
+   * @return true if there is a pit, false otherwise.
+   */
+  boolean hasPit() {
+    return pit;
+  }
+
+  /**
+   * Checks if there is a thief in the location.
+   *
+   * @return true if there is a thief, false otherwise.
+   */
+  boolean hasThief() {
+    return thief;
+  }
+
+  /**
+   * Private helper method to work out the names the treasures are exported under.
+   *
+   * @return the lower case names of the treasures.
+   */
+  private static String[] treasureKeys() {
+    Treasure[] values = Treasure.values();
+    String[] keys = new String[values.length];
+    for (int i = 0; i < values.length; i++) {
+      keys[i] = values[i].name().toLowerCase(Locale.ROOT);
+    }
+    return keys;
+  }
+}
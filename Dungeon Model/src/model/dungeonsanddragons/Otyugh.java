@@ -43,6 +43,21 @@ class Otyugh implements Monster {
     return monsterHealth;
   }
 
+  /**
+   * Puts the health of the monster back to what it was before it was hit, so that a shot can be
+   * taken back.
+   *
+   * @param health represents the health to put back, either 0, 50 or 100.
+   * @throws IllegalArgumentException if the health is illegal.
+   */
+  @Override
+  public void restoreHealth(int health) throws IllegalArgumentException {
+    if (health != 0 && health != 50 && health != 100) {
+      throw new IllegalArgumentException("Illegal health of the monster!");
+    }
+    this.monsterHealth = health;
+  }
+
   /**
    * String representation of the Otyugh.
    *
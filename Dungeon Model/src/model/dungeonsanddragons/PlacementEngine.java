@@ -0,0 +1,182 @@
+package model.dungeonsanddragons;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * PlacementEngine class keeps the identifiers of the caves, the tunnels and all the locations of
+ * the dungeon, collected once after the locations are known, and hands out pools to place
+ * treasure, monsters, arrows, thieves and pits without scanning the dungeon again. A pool can
+ * also be narrowed down with an opt-in constraint, such as staying a few moves away from the
+ * starting cave or staying out of the locations next to the hazards that are already placed. The
+ * dungeon itself places with the unconstrained pools, so seeded dungeons stay the same.
+ * Since the engine is an internal detail of the dungeon creation, this class is kept as
+ * package-private.
+ */
+class PlacementEngine {
+
+  private final int[] caves;
+  private final int[] tunnels;
+  private final int[] locations;
+
+  /**
+   * A constructor to collect the caves and tunnels of the dungeon.
+   *
+   * @param dungeonNodes represents all the locations of the dungeon in the order of their
+   *                     identifiers.
+   * @throws IllegalArgumentException if the locations are null.
+   */
+  public PlacementEngine(List<DungeonNode> dungeonNodes) {
+    if (Objects.isNull(dungeonNodes)) {
+      throw new IllegalArgumentException("Illegal locations for placement!");
+    }
+
+    int[] caveIds = new int[dungeonNodes.size()];
+    int[] tunnelIds = new int[dungeonNodes.size()];
+    int noOfCaves = 0;
+    int noOfTunnels = 0;
+    locations = new int[dungeonNodes.size()];
+
+    for (int i = 0; i < dungeonNodes.size(); i++) {
+      DungeonNode dungeonNode = dungeonNodes.get(i);
+      locations[i] = dungeonNode.getDungeonNodeIdentifier();
+      if (dungeonNode.getNodeIsA().equals(DungeonNodeType.CAVE)) {
+        caveIds[noOfCaves++] = locations[i];
+      } else {
+        tunnelIds[noOfTunnels++] = locations[i];
+      }
+    }
+
+    caves = Arrays.copyOf(caveIds, noOfCaves);
+    tunnels = Arrays.copyOf(tunnelIds, noOfTunnels);
+  }
+
+  /**
+   * Gets the number of caves in the dungeon.
+   *
+   * @return the number of caves.
+   */
+  public int getNoOfCaves() {
+    return caves.length;
+  }
+
+  /**
+   * Gets a pool of all the caves.
+   *
+   * @return the pool of caves.
+   */
+  public PlacementPool caves() {
+    return new PlacementPool(caves);
+  }
+
+  /**
+   * Gets a pool of the caves that satisfy the given constraint.
+   *
+   * @param constraint represents the constraint on the cave identifier, null for no constraint.
+   * @return the pool of caves.
+   */
+  public PlacementPool caves(IntPredicate constraint) {
+    return new PlacementPool(select(caves, constraint));
+  }
+
+  /**
+   * Gets a pool of all the tunnels.
+   *
+   * @return the pool of tunnels.
+   */
+  public PlacementPool tunnels() {
+    return new PlacementPool(tunnels);
+  }
+
+  /**
+   * Gets a pool of the tunnels that satisfy the given constraint.
+   *
+   * @param constraint represents the constraint on the tunnel identifier, null for no constraint.
+   * @return the pool of tunnels.
+   */
+  public PlacementPool tunnels(IntPredicate constraint) {
+    return new PlacementPool(select(tunnels, constraint));
+  }
+
+  /**
+   * Gets a pool of all the locations.
+   *
+   * @return the pool of locations.
+   */
+  public PlacementPool locations() {
+    return new PlacementPool(locations);
+  }
+
+  /**
+   * Gets a pool of all the locations that satisfy the given constraint.
+   *
+   * @param constraint represents the constraint on the location identifier, null for no
+   *                   constraint.
+   * @return the pool of locations.
+   */
+  public PlacementPool locations(IntPredicate constraint) {
+    return new PlacementPool(select(locations, constraint));
+  }
+
+  /**
+   * Gets a constraint that only allows locations at least the given number of moves away from a
+   * location, for example to keep hazards away from the starting cave.
+   *
+   * @param oracle represents the distances of the dungeon.
+   * @param source represents the identifier of the location to stay away from.
+   * @param distance represents the minimum number of moves.
+   * @return the constraint.
+   * @throws IllegalArgumentException if the oracle is null.
+   */
+  public static IntPredicate awayFrom(DistanceOracle oracle, int source, int distance) {
+    if (Objects.isNull(oracle)) {
+      throw new IllegalArgumentException("Illegal distance oracle!");
+    }
+    return location -> oracle.distance(source, location) >= distance;
+  }
+
+  /**
+   * Gets a constraint that only allows locations that are more than one move away from every
+   * location that already has a monster or a pit, so no two hazards end up next to each other.
+   * Only the doors of the hazards are followed, so building it costs one pass over the locations
+   * and a few steps per hazard.
+   *
+   * @param oracle represents the distances of the dungeon.
+   * @param dungeonNodes represents all the locations of the dungeon in the order of their
+   *                     identifiers.
+   * @return the constraint.
+   * @throws IllegalArgumentException if the oracle or locations are null.
+   */
+  public static IntPredicate noHazardAdjacent(DistanceOracle oracle,
+      List<DungeonNode> dungeonNodes) {
+    if (Objects.isNull(oracle) || Objects.isNull(dungeonNodes)) {
+      throw new IllegalArgumentException("Illegal parameters for the constraint!");
+    }
+
+    boolean[] nextToHazard = new boolean[dungeonNodes.size()];
+    for (DungeonNode hazard : dungeonNodes) {
+      if (hazard.getMonster() != null || hazard.getPit() != null) {
+        for (int location : oracle.locationsWithin(hazard.getDungeonNodeIdentifier(), 1)) {
+          nextToHazard[location] = true;
+        }
+      }
+    }
+    return location -> !nextToHazard[location];
+  }
+
+  /**
+   * Private helper method to select the identifiers that satisfy the constraint.
+   *
+   * @param identifiers represents the identifiers to select from.
+   * @param constraint represents the constraint, null for no constraint.
+   * @return the selected identifiers in the same order.
+   */
+  private int[] select(int[] identifiers, IntPredicate constraint) {
+    if (constraint == null) {
+      return identifiers;
+    }
+    return Arrays.stream(identifiers).filter(constraint).toArray();
+  }
+}
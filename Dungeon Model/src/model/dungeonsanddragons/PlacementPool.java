@@ -0,0 +1,114 @@
+package model.dungeonsanddragons;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * PlacementPool class holds the locations that are still free for an item while it is being
+ * placed in the dungeon. Locations are kept in the order of their identifiers and the pool picks
+ * the location at a given position among the ones left, exactly like removing that position from
+ * a list, but in O(log n) time using a binary indexed tree instead of shifting the list. Since the
+ * pool is an internal detail of the dungeon creation, this class is kept as package-private.
+ */
+class PlacementPool {
+
+  private final int[] candidates;
+  private final int[] tree;
+  private final boolean[] taken;
+  private final int highestBit;
+  private int size;
+
+  /**
+   * A constructor to initialize the pool with the given locations.
+   *
+   * @param candidates represents the identifiers of the locations in increasing order.
+   * @throws IllegalArgumentException if the locations are null or not in increasing order.
+   */
+  public PlacementPool(int[] candidates) {
+    if (Objects.isNull(candidates)) {
+      throw new IllegalArgumentException("Illegal locations for the pool!");
+    }
+    for (int i = 1; i < candidates.length; i++) {
+      if (candidates[i - 1] >= candidates[i]) {
+        throw new IllegalArgumentException("Locations of the pool should be in increasing order!");
+      }
+    }
+
+    this.candidates = candidates;
+    this.size = candidates.length;
+    this.taken = new boolean[size];
+    this.tree = new int[size + 1];
+    this.highestBit = size == 0 ? 0 : Integer.highestOneBit(size);
+
+    for (int i = 1; i <= size; i++) {
+      tree[i]++;
+      int parent = i + (i & -i);
+      if (parent <= size) {
+        tree[parent] += tree[i];
+      }
+    }
+  }
+
+  /**
+   * Gets the number of locations that are still free.
+   *
+   * @return the number of free locations.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Takes the location at the given position among the free locations out of the pool.
+   *
+   * @param index represents the position of the location among the free locations.
+   * @return the identifier of the location.
+   * @throws IllegalArgumentException if the position is not within the free locations.
+   */
+  public int take(int index) throws IllegalArgumentException {
+    if (index < 0 || index >= size) {
+      throw new IllegalArgumentException("Illegal position in the pool!");
+    }
+
+    int position = 0;
+    int remaining = index + 1;
+    for (int bit = highestBit; bit > 0; bit >>= 1) {
+      int next = position + bit;
+      if (next <= candidates.length && tree[next] < remaining) {
+        position = next;
+        remaining -= tree[next];
+      }
+    }
+
+    markTaken(position);
+    return candidates[position];
+  }
+
+  /**
+   * Removes the given location from the pool if it is still free.
+   *
+   * @param location represents the identifier of the location.
+   * @return true if the location was free, false otherwise.
+   */
+  public boolean remove(int location) {
+    int position = Arrays.binarySearch(candidates, location);
+    if (position < 0 || taken[position]) {
+      return false;
+    }
+    markTaken(position);
+    return true;
+  }
+
+  /**
+   * Private helper method to mark the location at the given position of the candidates as taken.
+   *
+   * @param position represents the position of the location among all the candidates.
+   */
+  private void markTaken(int position) {
+    taken[position] = true;
+    size--;
+    for (int i = position + 1; i <= candidates.length; i += i & -i) {
+      tree[i]--;
+    }
+  }
+}
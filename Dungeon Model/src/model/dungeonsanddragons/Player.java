@@ -120,4 +120,37 @@ interface Player {
    * Gets the player's health.
    */
   int getPlayerHealth();
+
+  /**
+   * Puts the player's health back to what it was, so that a move can be taken back.
+   *
+   * @param health represents the health to put back, either 0 or 100.
+   * @throws IllegalArgumentException if the health is illegal.
+   */
+  void restorePlayerHealth(int health) throws IllegalArgumentException;
+
+  /**
+   * Removes the treasure picked last of the given type from the player's bag.
+   *
+   * @param treasure represents the treasure to remove.
+   * @throws IllegalArgumentException if the player doesn't have the treasure.
+   */
+  void removeTreasure(Treasure treasure) throws IllegalArgumentException;
+
+  /**
+   * Puts back the treasure and arrows that were cleared from the player's bag.
+   *
+   * @param treasures represents the treasure the player had.
+   * @param arrows represents the arrows the player had.
+   * @throws IllegalArgumentException if any of them is null.
+   */
+  void restoreBag(List<Treasure> treasures, List<Weapon> arrows)
+      throws IllegalArgumentException;
+
+  /**
+   * Creates a copy of the player with its own bag, in the same location, for a forked game.
+   *
+   * @return the copy of the player.
+   */
+  Player copy();
 }
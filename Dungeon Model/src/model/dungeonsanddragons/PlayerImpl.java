@@ -92,7 +92,7 @@ class PlayerImpl implements Player {
    */
   @Override
   public void setPreviousLocation(DungeonNode previousLocation) throws IllegalArgumentException {
-    this.previousLocation = location;
+    this.previousLocation = previousLocation;
   }
 
   /**
@@ -178,6 +178,68 @@ class PlayerImpl implements Player {
     return playerHealth;
   }
 
+  /**
+   * Puts the player's health back to what it was, so that a move can be taken back.
+   *
+   * @param health represents the health to put back, either 0 or 100.
+   * @throws IllegalArgumentException if the health is illegal.
+   */
+  @Override
+  public void restorePlayerHealth(int health) throws IllegalArgumentException {
+    if (health != 0 && health != 100) {
+      throw new IllegalArgumentException("Illegal health of the player!");
+    }
+    this.playerHealth = health;
+  }
+
+  /**
+   * Removes the treasure picked last of the given type from the player's bag.
+   *
+   * @param treasure represents the treasure to remove.
+   * @throws IllegalArgumentException if the player doesn't have the treasure.
+   */
+  @Override
+  public void removeTreasure(Treasure treasure) throws IllegalArgumentException {
+    int index = playerTreasures.lastIndexOf(treasure);
+    if (index < 0) {
+      throw new IllegalArgumentException("Player doesn't have the treasure!");
+    }
+    playerTreasures.remove(index);
+  }
+
+  /**
+   * Puts back the treasure and arrows that were cleared from the player's bag.
+   *
+   * @param treasures represents the treasure the player had.
+   * @param arrows represents the arrows the player had.
+   * @throws IllegalArgumentException if any of them is null.
+   */
+  @Override
+  public void restoreBag(List<Treasure> treasures, List<Weapon> arrows)
+      throws IllegalArgumentException {
+    if (treasures == null || arrows == null) {
+      throw new IllegalArgumentException("Bag can't be null!");
+    }
+    this.playerTreasures = treasures;
+    this.playerWeapons = arrows;
+  }
+
+  /**
+   * Creates a copy of the player with its own bag, in the same location, for a forked game.
+   *
+   * @return the copy of the player.
+   */
+  @Override
+  public Player copy() {
+    PlayerImpl copy = new PlayerImpl(name);
+    copy.location = location;
+    copy.previousLocation = previousLocation;
+    copy.playerHealth = playerHealth;
+    copy.playerTreasures = new ArrayList<>(playerTreasures);
+    copy.playerWeapons = new ArrayList<>(playerWeapons);
+    return copy;
+  }
+
   /**
    * Gets the ruby count in the player's bag.
    *
@@ -0,0 +1,77 @@
+package model.dungeonsanddragons;
+
+/**
+ * PrimStrategy class builds the spanning tree with the randomized Prim's algorithm, growing the
+ * tree from a random location by adding a random edge from its frontier each time. This gives
+ * short corridors with many branches and dead ends. Since the generation of the dungeon is an
+ * internal implementation, this class is kept as package-private.
+ */
+class PrimStrategy implements SpanningTreeStrategy {
+
+  /**
+   * Orders the edges by growing the tree from a random location, adding a random edge from its
+   * frontier each time. The edges that are never picked are left over.
+   *
+   * @param nodes represents the number of locations in the grid.
+   * @param sources represents the source location of every edge.
+   * @param destinations represents the destination location of every edge.
+   * @param random represents the random generator used to pick the edges.
+   * @return the indices of the edges with the tree edges first.
+   * @throws IllegalArgumentException if the edges don't connect every location.
+   */
+  @Override
+  public int[] orderEdges(int nodes, int[] sources, int[] destinations, GameRandom random) {
+    EdgeIncidence incidence = new EdgeIncidence(nodes, sources, destinations);
+
+    boolean[] visited = new boolean[nodes];
+    int[] frontier = new int[sources.length];
+    int[] tree = new int[nodes - 1];
+    int treeEdges = 0;
+    int size = 0;
+
+    int start = random.nextInt(nodes);
+    visited[start] = true;
+    size = addFrontier(incidence, visited, frontier, size, start);
+
+    while (size > 0) {
+      int picked = random.nextInt(size);
+      int edge = frontier[picked];
+      frontier[picked] = frontier[--size];
+
+      int next = visited[sources[edge]] ? destinations[edge] : sources[edge];
+      if (!visited[next]) {
+        visited[next] = true;
+        tree[treeEdges++] = edge;
+        size = addFrontier(incidence, visited, frontier, size, next);
+      }
+    }
+
+    if (treeEdges != nodes - 1) {
+      throw new IllegalArgumentException("Edges don't connect every location!");
+    }
+    return incidence.withLeftover(tree);
+  }
+
+  /**
+   * Private helper method to add the edges leading out of the tree from a location to the
+   * frontier.
+   *
+   * @param incidence represents the edges of every location.
+   * @param visited represents the locations in the tree.
+   * @param frontier represents the edges on the frontier.
+   * @param size represents the number of edges on the frontier.
+   * @param node represents the location that was added to the tree.
+   * @return the new number of edges on the frontier.
+   */
+  private int addFrontier(EdgeIncidence incidence, boolean[] visited, int[] frontier, int size,
+      int node) {
+    int count = size;
+    for (int i = 0; i < incidence.degree(node); i++) {
+      int edge = incidence.edge(node, i);
+      if (!visited[incidence.other(edge, node)]) {
+        frontier[count++] = edge;
+      }
+    }
+    return count;
+  }
+}
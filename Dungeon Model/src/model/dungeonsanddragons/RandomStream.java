@@ -0,0 +1,40 @@
+package model.dungeonsanddragons;
+
+/**
+ * RandomStream enumeration represents the phases of creating the dungeon and the parts of the
+ * game that draw random numbers from a stream of their own. Every stream has a fixed key that its
+ * seed is worked out from, so adding or reordering streams doesn't change the numbers of the
+ * others, and a new stream must be given a key no other stream has. Since the streams are split
+ * off a random generator the user can pass, this enumeration is kept as public.
+ */
+public enum RandomStream {
+  MAZE(1),
+  INTERCONNECTIVITY(2),
+  START_AND_END(3),
+  TREASURE(4),
+  MONSTERS(5),
+  ARROWS(6),
+  THIEVES(7),
+  PITS(8),
+  COMBAT(9);
+
+  private final int key;
+
+  /**
+   * A constructor to initialize the stream with its fixed key.
+   *
+   * @param key represents the key the seed of the stream is worked out from.
+   */
+  RandomStream(int key) {
+    this.key = key;
+  }
+
+  /**
+   * Gets the fixed key the seed of the stream is worked out from.
+   *
+   * @return the key of the stream.
+   */
+  int getKey() {
+    return key;
+  }
+}
@@ -1,5 +1,6 @@
 package model.dungeonsanddragons;
 
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -173,4 +174,19 @@ public interface ReadOnlyGame {
    * @return the pit in the given node, null otherwise.
    */
   String getPit();
+
+  /**
+   * Gets the locations that the player has visited, one bit per location identifier.
+   *
+   * @return the visited locations, empty if they aren't tracked.
+   */
+  BitSet getVisitedLocations();
+
+  /**
+   * Gets the locations that the player has seen, which are the visited locations along with the
+   * locations next to them through an open door, one bit per location identifier.
+   *
+   * @return the seen locations, empty if they aren't tracked.
+   */
+  BitSet getSeenLocations();
 }
@@ -1,6 +1,7 @@
 package model.dungeonsanddragons;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -32,6 +33,8 @@ public class ReadOnlyGameImpl implements ReadOnlyGame {
   private final int colIn2D;
   private final String smell;
   private final String sound;
+  private final BitSet visited;
+  private final BitSet seen;
 
   /**
    * A constructor to initialize the read only object of the location. It is initialized using the
@@ -57,6 +60,39 @@ public class ReadOnlyGameImpl implements ReadOnlyGame {
       List<Treasure> treasureList, Monster monster, Enemy thief, Obstacle pit,
       List<Weapon> weapons, int rowIn2D, int colIn2d, String smell, String sound,
       List<Treasure> playerTreasureList, List<Weapon> playerWeapons) {
+    this(id, type, north, south, east, west, treasureList, monster, thief, pit, weapons, rowIn2D,
+        colIn2d, smell, sound, playerTreasureList, playerWeapons, new BitSet(), new BitSet());
+  }
+
+  /**
+   * A constructor to initialize the read only object of the location. It is initialized using the
+   * attributes of the Dungeon DungeonNode object along with the explored map of the player.
+   *
+   * @param id           represents the location identifier.
+   * @param type         represents the type of cave.
+   * @param north        represents the connection to a northern node.
+   * @param south        represents the connection to a southern node.
+   * @param east         represents the connection to an eastern node.
+   * @param west         represents the connection to a western node.
+   * @param treasureList represents the list of treasure contained in the cave.
+   * @param playerTreasureList represents the list of treasure that the player has collected.
+   * @param monster represents the monster contained in the cave.
+   * @param thief represents the thief contained in the node.
+   * @param weapons represents the list of weapons contained in the node.
+   * @param playerWeapons represents the list of weapons that the player has collected.
+   * @param smell represents the type of smell that the player can smell from current location.
+   * @param sound represents the sound that the player can hear from current location.
+   * @param visited represents the locations that the player has visited, which are only read
+   *                and handed out as copies, so they can be shared with the game.
+   * @param seen represents the locations that the player has seen, which are only read and
+   *             handed out as copies, so they can be shared with the game.
+   * @throws IllegalArgumentException if the connections, id, type or treasure is null.
+   */
+  public ReadOnlyGameImpl(int id, String type, int north, int south, int east, int west,
+      List<Treasure> treasureList, Monster monster, Enemy thief, Obstacle pit,
+      List<Weapon> weapons, int rowIn2D, int colIn2d, String smell, String sound,
+      List<Treasure> playerTreasureList, List<Weapon> playerWeapons, BitSet visited,
+      BitSet seen) {
 
     if (id < 0 || north < 0 || south < 0 || east < 0 || west < 0
         || !(type.equals("CAVE") || type.equals("TUNNEL")) || treasureList == null) {
@@ -80,6 +116,8 @@ public class ReadOnlyGameImpl implements ReadOnlyGame {
     this.colIn2D = colIn2d;
     this.smell = smell;
     this.sound = sound;
+    this.visited = visited == null ? new BitSet() : visited;
+    this.seen = seen == null ? new BitSet() : seen;
   }
 
   /**
@@ -395,4 +433,25 @@ public class ReadOnlyGameImpl implements ReadOnlyGame {
     }
   }
 
+  /**
+   * Gets a copy of the locations that the player has visited, one bit per location identifier.
+   *
+   * @return the visited locations, empty if they aren't tracked.
+   */
+  @Override
+  public BitSet getVisitedLocations() {
+    return (BitSet) visited.clone();
+  }
+
+  /**
+   * Gets a copy of the locations that the player has seen, which are the visited locations along
+   * with the locations next to them through an open door, one bit per location identifier.
+   *
+   * @return the seen locations, empty if they aren't tracked.
+   */
+  @Override
+  public BitSet getSeenLocations() {
+    return (BitSet) seen.clone();
+  }
+
 }
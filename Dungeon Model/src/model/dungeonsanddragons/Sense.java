@@ -0,0 +1,139 @@
+package model.dungeonsanddragons;
+
+import java.util.Objects;
+
+/**
+ * Sense class represents a way the player can sense a kind of thing from afar. A thing is sensed
+ * from up to the radius of the sense away, counted in moves through caves and tunnels alike, so
+ * a tunnel on the way weakens it the same as a cave. A thing one move away is sensed at the
+ * strength of the sense, and every further move takes the decay off it. When several things can
+ * be sensed, their strengths add up. The smell of the monsters and the sound of the pits are
+ * senses of their own. Since the game designers define the senses of the player, this class is
+ * kept as public.
+ */
+public final class Sense {
+
+  /**
+   * The smell of the living monsters, sensed at 2 from one move away and at 1 from two moves away.
+   */
+  public static final Sense SMELL = new Sense("smell", SensedEntity.MONSTER, 2, 2, 1);
+
+  /**
+   * The sound of the pits, sensed at 1 from one move away.
+   */
+  public static final Sense SOUND = new Sense("sound", SensedEntity.PIT, 1, 1, 0);
+
+  private final String name;
+  private final SensedEntity entity;
+  private final int radius;
+  private final int strength;
+  private final int decay;
+
+  /**
+   * A constructor to define a sense.
+   *
+   * @param name represents the name of the sense.
+   * @param entity represents the kind of thing that is sensed.
+   * @param radius represents the most moves away the thing is sensed from.
+   * @param strength represents the strength the thing is sensed at from one move away.
+   * @param decay represents the strength lost for every further move.
+   * @throws IllegalArgumentException if the name or the thing is null, or the numbers are illegal.
+   */
+  public Sense(String name, SensedEntity entity, int radius, int strength, int decay)
+      throws IllegalArgumentException {
+    if (Objects.isNull(name) || Objects.isNull(entity)) {
+      throw new IllegalArgumentException("Name and entity can't be null!");
+    }
+
+    if (radius < 1 || strength < 1 || decay < 0) {
+      throw new IllegalArgumentException("Illegal values for the sense!");
+    }
+
+    this.name = name;
+    this.entity = entity;
+    this.radius = radius;
+    this.strength = strength;
+    this.decay = decay;
+  }
+
+  /**
+   * Gets the name of the sense.
+   *
+   * @return the name of the sense.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the kind of thing that is sensed.
+   *
+   * @return the kind of thing sensed.
+   */
+  public SensedEntity getEntity() {
+    return entity;
+  }
+
+  /**
+   * Gets the most moves away the thing is sensed from.
+   *
+   * @return the radius of the sense.
+   */
+  public int getRadius() {
+    return radius;
+  }
+
+  /**
+   * Gets the strength a single thing is sensed at from the given number of moves away.
+   *
+   * @param moves represents the number of moves away.
+   * @return the strength, 0 if the thing can't be sensed from there.
+   */
+  public int strengthAt(int moves) {
+    if (moves < 1 || moves > radius) {
+      return 0;
+    }
+    return Math.max(0, strength - decay * (moves - 1));
+  }
+
+  /**
+   * Checks if the given object is a sense of the same name that senses the same things as far
+   * and as strongly as this one.
+   *
+   * @param o represents the object to compare with.
+   * @return true if the senses are the same, false otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Sense)) {
+      return false;
+    }
+    Sense sense = (Sense) o;
+    return radius == sense.radius && strength == sense.strength && decay == sense.decay
+        && name.equals(sense.name) && entity == sense.entity;
+  }
+
+  /**
+   * Gets the hash code of the sense, made from everything that makes the sense what it is.
+   *
+   * @return the hash code of the sense.
+   */
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, entity, radius, strength, decay);
+  }
+
+  /**
+   * String representation of the sense.
+   *
+   * @return the string representation of the sense.
+   */
+  @Override
+  public String toString() {
+    return String.format("%s of %s (radius %d, strength %d, decay %d)", name, entity, radius,
+        strength, decay);
+  }
+}
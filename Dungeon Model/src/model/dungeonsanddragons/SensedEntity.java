@@ -0,0 +1,29 @@
+package model.dungeonsanddragons;
+
+/**
+ * SensedEntity enumeration represents the kinds of things in the dungeon that the player can sense
+ * from afar. A monster is only sensed while it's alive. Since the game designers define the senses
+ * of the player, this enumeration is kept as public.
+ */
+public enum SensedEntity {
+  MONSTER,
+  THIEF,
+  PIT;
+
+  /**
+   * Checks if the location holds the thing.
+   *
+   * @param node represents the location.
+   * @return true if the thing is in the location, false otherwise.
+   */
+  boolean isIn(DungeonNode node) {
+    switch (this) {
+      case MONSTER:
+        return node.getMonster() != null && node.getMonster().getHealth() != 0;
+      case THIEF:
+        return node.getThief() != null;
+      default:
+        return node.getPit() != null;
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package model.dungeonsanddragons;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * SensingEngine class keeps how strongly every sense is sensed from every location of the dungeon,
+ * so the smell or sound of the player's location is looked up in constant time instead of being
+ * worked out by going over the hazards of the whole dungeon on every move. The strengths of a
+ * sense are worked out by spreading every thing it senses out to the radius of the sense with a
+ * breadth first search that stops at the radius, so only the locations near the things are ever
+ * visited. Since the strengths of the things add up, a thing that goes away, such as a monster
+ * that was slain, is taken back out by spreading it again with the opposite sign, which leaves
+ * every other thing as it was. A copy of the engine shares the strengths with the engine it was
+ * copied from, and the strengths of a sense are only copied the first time either engine changes
+ * them, so forking a game copies nothing. Since the engine is built from the internal dungeon
+ * nodes, this class is kept as package-private.
+ */
+class SensingEngine {
+
+  private static final Direction[] DIRECTIONS = Direction.values();
+
+  private final DungeonNode[][] grid;
+  private final int rows;
+  private final int columns;
+  private final Map<Sense, int[]> fields;
+  private final Set<Sense> owned;
+
+  /**
+   * A constructor to initialize the engine for the dungeon, without working out any sense yet.
+   *
+   * @param grid represents the 2d representation of the dungeon.
+   * @throws IllegalArgumentException if the grid is null or empty.
+   */
+  SensingEngine(DungeonNode[][] grid) throws IllegalArgumentException {
+    if (Objects.isNull(grid) || grid.length == 0) {
+      throw new IllegalArgumentException("Illegal grid for the senses!");
+    }
+    this.grid = grid;
+    this.rows = grid.length;
+    this.columns = grid[0].length;
+    this.fields = new HashMap<>();
+    this.owned = new HashSet<>();
+  }
+
+  /**
+   * A constructor to create a copy of the engine whose strengths can change without changing the
+   * engine it was copied from. The strengths are shared until either engine changes them.
+   *
+   * @param engine represents the engine to copy.
+   */
+  private SensingEngine(SensingEngine engine) {
+    this.grid = engine.grid;
+    this.rows = engine.rows;
+    this.columns = engine.columns;
+    this.fields = new HashMap<>(engine.fields);
+    this.owned = new HashSet<>();
+    engine.owned.clear();
+  }
+
+  /**
+   * Works out the strengths of the sense from every location, unless they were worked out
+   * before, so that the games forked later share them instead of each working them out again.
+   *
+   * @param sense represents the sense.
+   * @param contents represents the way to find what a location currently holds.
+   * @throws IllegalArgumentException if the sense or contents are null.
+   */
+  void prepare(Sense sense, UnaryOperator<DungeonNode> contents)
+      throws IllegalArgumentException {
+    if (Objects.isNull(sense) || Objects.isNull(contents)) {
+      throw new IllegalArgumentException("Illegal sense!");
+    }
+
+    if (fields.containsKey(sense)) {
+      return;
+    }
+    int[] field = new int[rows * columns];
+    for (int id = 0; id < field.length; id++) {
+      if (sense.getEntity().isIn(contents.apply(grid[id / columns][id % columns]))) {
+        spread(sense, field, id, 1);
+      }
+    }
+    fields.put(sense, field);
+    owned.add(sense);
+  }
+
+  /**
+   * Gets how strongly the sense is sensed from the location, working the sense out first if it
+   * hasn't been asked for before.
+   *
+   * @param sense represents the sense.
+   * @param location represents the identifier of the location.
+   * @param contents represents the way to find what a location currently holds.
+   * @return the strength of the sense, 0 if nothing is sensed.
+   * @throws IllegalArgumentException if the sense is null or the location doesn't exist.
+   */
+  int getIntensity(Sense sense, int location, UnaryOperator<DungeonNode> contents)
+      throws IllegalArgumentException {
+    if (Objects.isNull(sense) || location < 0 || location >= rows * columns) {
+      throw new IllegalArgumentException("Illegal sense or location!");
+    }
+
+    prepare(sense, contents);
+    return fields.get(sense)[location];
+  }
+
+  /**
+   * Updates every sense of the given kind of thing after the thing appeared in or went away
+   * from the location, copying the strengths of a sense first if they are shared.
+   *
+   * @param entity represents the kind of thing.
+   * @param location represents the identifier of the location.
+   * @param present represents if the thing is there now.
+   */
+  void sourceChanged(SensedEntity entity, int location, boolean present) {
+    for (Map.Entry<Sense, int[]> field : fields.entrySet()) {
+      Sense sense = field.getKey();
+      if (sense.getEntity() == entity) {
+        if (owned.add(sense)) {
+          field.setValue(field.getValue().clone());
+        }
+        spread(sense, field.getValue(), location, present ? 1 : -1);
+      }
+    }
+  }
+
+  /**
+   * Creates a copy of the engine for a copy of the game.
+   *
+   * @return the copy of the engine.
+   */
+  SensingEngine copy() {
+    return new SensingEngine(this);
+  }
+
+  /**
+   * Gets the bytes of heap held by the senses worked out so far, counting the strengths shared
+   * with other engines too.
+   *
+   * @return the retained bytes.
+   */
+  long getRetainedBytes() {
+    long bytes = MemoryFootprint.object(5 * MemoryFootprint.REFERENCE);
+    for (int[] field : fields.values()) {
+      bytes += MemoryFootprint.array(field.length, Integer.BYTES);
+    }
+    return bytes;
+  }
+
+  /**
+   * Private helper method to add the strengths of a single thing to the locations within the
+   * radius of the sense, or to take them off. The search only holds the locations within the
+   * radius, so it costs the same however big the dungeon is.
+   *
+   * @param sense represents the sense.
+   * @param field represents the strengths of the sense.
+   * @param source represents the identifier of the location of the thing.
+   * @param sign represents 1 to add the strengths and -1 to take them off.
+   */
+  private void spread(Sense sense, int[] field, int source, int sign) {
+    int radius = sense.getRadius();
+    int limit = (int) Math.min((long) rows * columns, 2L * radius * (radius + 1) + 1);
+    int[] queue = new int[limit];
+    int[] moves = new int[limit];
+    int[] seen = new int[Integer.highestOneBit(limit) << 2];
+    Arrays.fill(seen, -1);
+
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = source;
+    add(seen, source);
+    while (head < tail) {
+      int current = queue[head];
+      int distance = moves[head++];
+      field[current] += sign * sense.strengthAt(distance);
+      if (distance == radius) {
+        continue;
+      }
+
+      int row = current / columns;
+      int column = current % columns;
+      for (Direction direction : DIRECTIONS) {
+        int neighbour = DistanceField.neighbour(grid[row][column], direction, row, column, rows,
+            columns);
+        if (neighbour >= 0 && add(seen, neighbour)) {
+          moves[tail] = distance + 1;
+          queue[tail++] = neighbour;
+        }
+      }
+    }
+  }
+
+  /**
+   * Private helper method to add a location to a small open addressing set of locations.
+   *
+   * @param table represents the set, a power of two long and filled with -1 where it's empty.
+   * @param location represents the identifier of the location.
+   * @return true if the location was added, false if it was already in the set.
+   */
+  private static boolean add(int[] table, int location) {
+    int mask = table.length - 1;
+    int slot = (location * 0x9e3779b9) >>> 7 & mask;
+    while (table[slot] != -1) {
+      if (table[slot] == location) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    table[slot] = location;
+    return true;
+  }
+}
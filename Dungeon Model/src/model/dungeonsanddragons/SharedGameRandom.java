@@ -0,0 +1,89 @@
+package model.dungeonsanddragons;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * SharedGameRandom class adapts a {@link Random} to the random generator of the game. Every
+ * stream split off it is the generator itself, so the numbers are drawn from the one generator
+ * in the same order as they always were. This keeps the games created from a seeded or fixed
+ * {@link Random} exactly as they were. A copy of the game gets a generator of its own. Since
+ * the constructors of the game wrap the generator they are given, this class is kept as
+ * package-private.
+ */
+final class SharedGameRandom implements GameRandom {
+
+  private final Random random;
+
+  /**
+   * A constructor to initialize the adapter with the generator it draws from.
+   *
+   * @param random represents the generator to draw from.
+   * @throws IllegalArgumentException if the generator is null.
+   */
+  SharedGameRandom(Random random) throws IllegalArgumentException {
+    if (Objects.isNull(random)) {
+      throw new IllegalArgumentException("Invalid random Object!");
+    }
+    this.random = random;
+  }
+
+  /**
+   * Wraps the generator, keeping a missing generator missing so that the caller can report it
+   * along with the rest of its parameters.
+   *
+   * @param random represents the generator to draw from.
+   * @return the adapter of the generator, null if the generator is null.
+   */
+  static GameRandom wrap(Random random) {
+    return Objects.isNull(random) ? null : new SharedGameRandom(random);
+  }
+
+  /**
+   * Gets the next random number between 0, inclusive, and the bound, exclusive.
+   *
+   * @param bound represents the upper bound of the number, exclusive.
+   * @return the next random number.
+   * @throws IllegalArgumentException if the bound isn't positive.
+   */
+  @Override
+  public int nextInt(int bound) throws IllegalArgumentException {
+    return random.nextInt(bound);
+  }
+
+  /**
+   * Gets the next random number out of every value a long can take.
+   *
+   * @return the next random number.
+   */
+  @Override
+  public long nextLong() {
+    return random.nextLong();
+  }
+
+  /**
+   * Gets the same generator for every stream, so the draws keep their order.
+   *
+   * @param stream represents the phase or part of the game that draws from the stream.
+   * @return this generator.
+   * @throws IllegalArgumentException if the stream is null.
+   */
+  @Override
+  public GameRandom split(RandomStream stream) throws IllegalArgumentException {
+    if (Objects.isNull(stream)) {
+      throw new IllegalArgumentException("Stream can't be null!");
+    }
+    return this;
+  }
+
+  /**
+   * Creates a generator for a copy of the game. The copy draws from a generator of its own,
+   * seeded off this one, so playing the copy never changes the numbers this one draws.
+   *
+   * @return the random generator of the copy.
+   */
+  @Override
+  public GameRandom fork() {
+    return new SharedGameRandom(new Random(random.nextLong()));
+  }
+}
@@ -0,0 +1,25 @@
+package model.dungeonsanddragons;
+
+/**
+ * SpanningTreeStrategy interface represents an algorithm that carves the dungeon out of the grid
+ * by picking a spanning tree of its edges. Edges are given as primitive arrays of their end points
+ * so the algorithms don't depend on the dungeon nodes. Since the generation of the dungeon is an
+ * internal implementation, this is kept as package-private.
+ */
+interface SpanningTreeStrategy {
+
+  /**
+   * Orders the edges of the grid so that the first nodes - 1 edges form a spanning tree, in the
+   * order they were picked, followed by the leftover edges that may be added later to increase
+   * the interconnectivity.
+   *
+   * @param nodes represents the number of locations in the grid.
+   * @param sources represents the source location of every edge.
+   * @param destinations represents the destination location of every edge.
+   * @param random represents the random generator used to pick the edges.
+   * @return the indices of the edges in their new order.
+   * @throws IllegalArgumentException if the edges don't connect every location.
+   */
+  int[] orderEdges(int nodes, int[] sources, int[] destinations, GameRandom random)
+      throws IllegalArgumentException;
+}
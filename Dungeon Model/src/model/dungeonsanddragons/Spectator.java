@@ -0,0 +1,96 @@
+package model.dungeonsanddragons;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spectator class represents a subscriber watching a game through the spectator hub. Deltas are
+ * queued for the spectator up to the capacity it subscribed with. A spectator that doesn't keep
+ * up has its oldest deltas dropped to make room for the new ones, so it always catches up with
+ * the game instead of falling further behind, and it never holds up the game or the other
+ * spectators. Since the user reads the deltas through the spectator, this class is kept as
+ * public.
+ */
+public final class Spectator {
+
+  private final SpectatorHub hub;
+  private final BlockingQueue<GameDelta> deltas;
+  private final AtomicLong dropped;
+  private volatile boolean closed;
+
+  /**
+   * A constructor to initialize the spectator with the hub it watches and the most deltas it
+   * may have waiting.
+   *
+   * @param hub represents the hub the spectator watches.
+   * @param capacity represents the most deltas waiting to be read.
+   */
+  Spectator(SpectatorHub hub, int capacity) {
+    this.hub = hub;
+    this.deltas = new ArrayBlockingQueue<>(capacity);
+    this.dropped = new AtomicLong();
+  }
+
+  /**
+   * Takes the oldest delta waiting to be read, waiting up to the given time for one to arrive.
+   *
+   * @param timeout represents how long to wait.
+   * @param unit represents the unit of the timeout.
+   * @return the oldest delta, null if none arrived in time.
+   * @throws InterruptedException if the thread is interrupted while waiting.
+   */
+  public GameDelta poll(long timeout, TimeUnit unit) throws InterruptedException {
+    return deltas.poll(timeout, unit);
+  }
+
+  /**
+   * Gets the number of deltas waiting to be read.
+   *
+   * @return the number of waiting deltas.
+   */
+  public int getPending() {
+    return deltas.size();
+  }
+
+  /**
+   * Gets the number of deltas dropped because the spectator didn't keep up.
+   *
+   * @return the number of dropped deltas.
+   */
+  public long getDropped() {
+    return dropped.get();
+  }
+
+  /**
+   * Stops watching the game. Deltas already waiting can still be read.
+   */
+  public void close() {
+    closed = true;
+    hub.unsubscribe(this);
+  }
+
+  /**
+   * Checks if the spectator stopped watching the game.
+   *
+   * @return true if the spectator is closed, false otherwise.
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Queues the delta for the spectator, dropping the oldest waiting deltas if it is full. Only
+   * the delivery thread of the hub queues deltas.
+   *
+   * @param delta represents the delta to queue.
+   */
+  void offer(GameDelta delta) {
+    while (!deltas.offer(delta)) {
+      if (deltas.poll() != null) {
+        dropped.incrementAndGet();
+      }
+    }
+  }
+}
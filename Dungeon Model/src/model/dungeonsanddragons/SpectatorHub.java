@@ -0,0 +1,211 @@
+package model.dungeonsanddragons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SpectatorHub class lets any number of spectators watch a live game without asking the game for
+ * its state. The hub listens to the changes of the game and gathers them while a command runs.
+ * When the command is done the changes are published as a single numbered delta, which is handed
+ * to a delivery thread in one step, so the command pays the same small price however many
+ * spectators are watching. The delivery thread fans the delta out to the bounded queue of every
+ * spectator, dropping the oldest deltas of a spectator that doesn't keep up. The deltas waiting
+ * for the delivery thread are bounded in the same way, so a stalled delivery thread drops the
+ * oldest deltas instead of growing without limit. Nothing is gathered while nobody is watching.
+ * Since the driver and the controllers create the hub for the games, this class is kept as
+ * public.
+ */
+public final class SpectatorHub implements GameListener {
+
+  private static final int OUTBOX_CAPACITY = 1024;
+
+  private final List<Spectator> spectators;
+  private final BlockingQueue<GameDelta> outbox;
+  private final AtomicLong dropped;
+  private final Object lock;
+  private List<GameEvent> pending;
+  private long sequence;
+  private Game game;
+  private Thread delivery;
+
+  /**
+   * A constructor to initialize a hub that isn't watching any game yet.
+   */
+  public SpectatorHub() {
+    this(OUTBOX_CAPACITY);
+  }
+
+  /**
+   * A constructor to initialize a hub that isn't watching any game yet, holding up to the given
+   * number of deltas waiting for the delivery thread.
+   *
+   * @param outboxCapacity represents the most deltas waiting for the delivery thread.
+   * @throws IllegalArgumentException if the capacity isn't positive.
+   */
+  SpectatorHub(int outboxCapacity) throws IllegalArgumentException {
+    if (outboxCapacity < 1) {
+      throw new IllegalArgumentException("Illegal capacity!");
+    }
+    this.spectators = new CopyOnWriteArrayList<>();
+    this.outbox = new ArrayBlockingQueue<>(outboxCapacity);
+    this.dropped = new AtomicLong();
+    this.lock = new Object();
+    this.pending = new ArrayList<>();
+  }
+
+  /**
+   * Starts watching the given game, leaving the game that was watched before. Changes of the
+   * previous game that weren't published yet are dropped.
+   *
+   * @param game represents the game to watch.
+   * @throws IllegalArgumentException if the game is null.
+   */
+  public void watch(Game game) throws IllegalArgumentException {
+    if (Objects.isNull(game)) {
+      throw new IllegalArgumentException("Game can't be null!");
+    }
+
+    synchronized (lock) {
+      if (this.game != null) {
+        this.game.removeGameListener(this);
+      }
+      this.game = game;
+      pending = new ArrayList<>();
+    }
+    game.addGameListener(this);
+  }
+
+  /**
+   * Adds a spectator whose queue holds up to the given number of deltas.
+   *
+   * @param capacity represents the most deltas waiting to be read by the spectator.
+   * @return the new spectator.
+   * @throws IllegalArgumentException if the capacity isn't positive.
+   */
+  public Spectator subscribe(int capacity) throws IllegalArgumentException {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Illegal capacity!");
+    }
+
+    Spectator spectator = new Spectator(this, capacity);
+    synchronized (lock) {
+      if (delivery == null) {
+        delivery = new Thread(this::deliver, "spectator-hub");
+        delivery.setDaemon(true);
+        delivery.start();
+      }
+      spectators.add(spectator);
+    }
+    return spectator;
+  }
+
+  /**
+   * Gets the number of spectators watching.
+   *
+   * @return the number of spectators.
+   */
+  public int getSpectators() {
+    return spectators.size();
+  }
+
+  /**
+   * Gets the number of deltas dropped because the delivery thread didn't keep up.
+   *
+   * @return the number of dropped deltas.
+   */
+  public long getDropped() {
+    return dropped.get();
+  }
+
+  /**
+   * Gathers a change of the watched game into the delta of the running command.
+   *
+   * @param event represents the change made to the game.
+   */
+  @Override
+  public void gameChanged(GameEvent event) {
+    if (spectators.isEmpty()) {
+      return;
+    }
+    synchronized (lock) {
+      pending.add(event);
+    }
+  }
+
+  /**
+   * Publishes the changes gathered since the last command as a single delta, dropping the oldest
+   * delta waiting for the delivery thread if there is no room. Nothing is published if nothing
+   * changed.
+   */
+  public void publish() {
+    GameDelta delta;
+    synchronized (lock) {
+      if (pending.isEmpty()) {
+        return;
+      }
+      delta = new GameDelta(++sequence, pending);
+      pending = new ArrayList<>();
+    }
+    while (!outbox.offer(delta)) {
+      if (outbox.poll() != null) {
+        dropped.incrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Stops watching the game and waits for the delivery thread to stop. Deltas already queued for
+   * the spectators can still be read.
+   */
+  public void close() {
+    Thread running;
+    synchronized (lock) {
+      if (game != null) {
+        game.removeGameListener(this);
+        game = null;
+      }
+      running = delivery;
+      delivery = null;
+    }
+    if (running != null) {
+      running.interrupt();
+      try {
+        running.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Removes the spectator from the hub.
+   *
+   * @param spectator represents the spectator to remove.
+   */
+  void unsubscribe(Spectator spectator) {
+    spectators.remove(spectator);
+  }
+
+  /**
+   * Private helper method that hands every published delta to the spectators until the hub is
+   * closed.
+   */
+  private void deliver() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        GameDelta delta = outbox.take();
+        for (Spectator spectator : spectators) {
+          spectator.offer(delta);
+        }
+      }
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package model.dungeonsanddragons;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * SplittableGameRandom class represents a seeded random generator whose streams are independent
+ * of each other. The seed of a stream is worked out from the seed of the generator and the name
+ * of the stream alone, so a stream gives the same numbers bit for bit no matter how many numbers
+ * were drawn from the other streams, or in what order, or on which thread. Draws are made on a
+ * {@link SplittableRandom}, which unlike {@link java.util.Random} doesn't pay for an atomic
+ * update on every draw. A single stream isn't meant to be shared between threads, a stream
+ * should be split off for every thread instead. Since the user creates the generator for the
+ * game, this class is kept as public.
+ */
+public final class SplittableGameRandom implements GameRandom {
+
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private final long seed;
+  private final SplittableRandom random;
+
+  /**
+   * A constructor to initialize the generator with its seed.
+   *
+   * @param seed represents the seed of the generator.
+   */
+  public SplittableGameRandom(long seed) {
+    this.seed = seed;
+    this.random = new SplittableRandom(seed);
+  }
+
+  /**
+   * Gets the next random number between 0, inclusive, and the bound, exclusive.
+   *
+   * @param bound represents the upper bound of the number, exclusive.
+   * @return the next random number.
+   * @throws IllegalArgumentException if the bound isn't positive.
+   */
+  @Override
+  public int nextInt(int bound) throws IllegalArgumentException {
+    return random.nextInt(bound);
+  }
+
+  /**
+   * Gets the next random number out of every value a long can take.
+   *
+   * @return the next random number.
+   */
+  @Override
+  public long nextLong() {
+    return random.nextLong();
+  }
+
+  /**
+   * Splits off the stream used by the given phase or part of the game, seeded from the seed of
+   * this generator and the fixed key of the stream alone.
+   *
+   * @param stream represents the phase or part of the game that draws from the stream.
+   * @return the random generator of the stream.
+   * @throws IllegalArgumentException if the stream is null.
+   */
+  @Override
+  public GameRandom split(RandomStream stream) throws IllegalArgumentException {
+    if (Objects.isNull(stream)) {
+      throw new IllegalArgumentException("Stream can't be null!");
+    }
+    return new SplittableGameRandom(derive(seed, stream.getKey()));
+  }
+
+  /**
+   * Creates a generator for a copy of the game, seeded from the next number of this one, so
+   * every fork draws different numbers while a game created from the same seed forks the same
+   * way every time.
+   *
+   * @return the random generator of the copy.
+   */
+  @Override
+  public GameRandom fork() {
+    return new SplittableGameRandom(random.nextLong());
+  }
+
+  /**
+   * Gets the seed of the generator.
+   *
+   * @return the seed of the generator.
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Derives a seed from the given seed and key, so that seeds and keys close to each other give
+   * seeds that have nothing in common.
+   *
+   * @param seed represents the seed to derive from.
+   * @param key represents the key of what the derived seed is for.
+   * @return the derived seed.
+   */
+  static long derive(long seed, long key) {
+    return mix(seed + key * GOLDEN_GAMMA);
+  }
+
+  /**
+   * Private helper method to scramble the bits of a seed, so that seeds close to each other give
+   * streams that have nothing in common.
+   *
+   * @param value represents the value to scramble.
+   * @return the scrambled value.
+   */
+  private static long mix(long value) {
+    long z = value;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,307 @@
+package model.dungeonsanddragons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimerWheel class represents a hashed timer wheel that fires the timed rules of any number of
+ * games from one place. Time is split into ticks and every timeout is hashed into the slot of the
+ * tick it expires on, so scheduling and cancelling a timeout take constant time and every tick
+ * only looks at the timeouts in one slot. Timeouts further away than one turn of the wheel stay in
+ * their slot until the wheel comes around to their tick. The wheel can either be driven by hand
+ * with {@link #advance(long)}, or started to be driven by a single daemon thread that is shared by
+ * every game using the wheel. Expired timeouts are handed to the dispatcher of the wheel, so that
+ * they can be run on the thread that owns the games. Since the driver and the controllers create
+ * the wheel for the games, this class is kept as public.
+ */
+public final class TimerWheel {
+
+  private final long tickMillis;
+  private final int mask;
+  private final Timeout[] slots;
+  private final Executor dispatcher;
+  private final Object lock;
+  private long elapsedMillis;
+  private long tick;
+  private int pending;
+  private volatile Thread worker;
+
+  /**
+   * A constructor to initialize the wheel with the length of a tick and the number of slots,
+   * running the expired timeouts on the thread that advances the wheel.
+   *
+   * @param tickMillis represents the length of a tick in milliseconds.
+   * @param wheelSize represents the number of slots, rounded up to a power of two.
+   * @throws IllegalArgumentException if the tick or the size is illegal.
+   */
+  public TimerWheel(long tickMillis, int wheelSize) throws IllegalArgumentException {
+    this(tickMillis, wheelSize, Runnable::run);
+  }
+
+  /**
+   * A constructor to initialize the wheel with the length of a tick, the number of slots and the
+   * dispatcher that runs the expired timeouts.
+   *
+   * @param tickMillis represents the length of a tick in milliseconds.
+   * @param wheelSize represents the number of slots, rounded up to a power of two.
+   * @param dispatcher represents the dispatcher that runs the expired timeouts.
+   * @throws IllegalArgumentException if the tick or the size is illegal or the dispatcher is
+   *                                  null.
+   */
+  public TimerWheel(long tickMillis, int wheelSize, Executor dispatcher)
+      throws IllegalArgumentException {
+    if (tickMillis < 1 || wheelSize < 1 || wheelSize > 1 << 20) {
+      throw new IllegalArgumentException("Illegal timer wheel!");
+    }
+
+    if (Objects.isNull(dispatcher)) {
+      throw new IllegalArgumentException("Dispatcher can't be null!");
+    }
+
+    int size = Integer.highestOneBit(wheelSize);
+    size = size < wheelSize ? size << 1 : size;
+    this.tickMillis = tickMillis;
+    this.mask = size - 1;
+    this.slots = new Timeout[size];
+    this.dispatcher = dispatcher;
+    this.lock = new Object();
+  }
+
+  /**
+   * Schedules the task to run once the given delay has passed. The delay is rounded up to whole
+   * ticks, so a task never runs early.
+   *
+   * @param task represents the task to run.
+   * @param delayMillis represents the delay in milliseconds.
+   * @return the timeout that can be used to cancel the task.
+   * @throws IllegalArgumentException if the task is null or the delay is negative.
+   */
+  public Timeout schedule(Runnable task, long delayMillis) throws IllegalArgumentException {
+    if (Objects.isNull(task) || delayMillis < 0) {
+      throw new IllegalArgumentException("Illegal timeout!");
+    }
+
+    synchronized (lock) {
+      long deadline = Math.max(tick + 1, (elapsedMillis + delayMillis + tickMillis - 1)
+          / tickMillis);
+      Timeout timeout = new Timeout(this, task, deadline);
+      link(timeout);
+      return timeout;
+    }
+  }
+
+  /**
+   * Moves the wheel forward by the given time and runs every task whose delay has passed.
+   *
+   * @param millis represents the time that has passed in milliseconds.
+   * @return the number of tasks that were run.
+   * @throws IllegalArgumentException if the time is negative.
+   */
+  public int advance(long millis) throws IllegalArgumentException {
+    if (millis < 0) {
+      throw new IllegalArgumentException("Time can't go backwards!");
+    }
+
+    List<Timeout> expired = new ArrayList<>();
+    synchronized (lock) {
+      elapsedMillis += millis;
+      while ((tick + 1) * tickMillis <= elapsedMillis) {
+        tick++;
+        Timeout timeout = slots[(int) (tick & mask)];
+        while (timeout != null) {
+          Timeout next = timeout.next;
+          if (timeout.deadline <= tick) {
+            unlink(timeout);
+            timeout.state = Timeout.EXPIRED;
+            expired.add(timeout);
+          }
+          timeout = next;
+        }
+      }
+    }
+
+    for (Timeout timeout : expired) {
+      dispatcher.execute(timeout.task);
+    }
+    return expired.size();
+  }
+
+  /**
+   * Starts a daemon thread that moves the wheel forward with the system clock, one tick at a
+   * time. Starting a wheel that is already running has no effect.
+   */
+  public void start() {
+    synchronized (lock) {
+      if (worker != null) {
+        return;
+      }
+      worker = new Thread(this::run, "timer-wheel");
+      worker.setDaemon(true);
+      worker.start();
+    }
+  }
+
+  /**
+   * Stops the thread that moves the wheel forward. The timeouts that haven't expired are kept
+   * and fire if the wheel is advanced or started again.
+   */
+  public void stop() {
+    Thread running;
+    synchronized (lock) {
+      running = worker;
+      worker = null;
+    }
+    if (running != null) {
+      running.interrupt();
+    }
+  }
+
+  /**
+   * Gets the number of timeouts that are waiting to expire.
+   *
+   * @return the number of pending timeouts.
+   */
+  public int getPendingTimeouts() {
+    synchronized (lock) {
+      return pending;
+    }
+  }
+
+  /**
+   * Gets the length of a tick of the wheel.
+   *
+   * @return the length of a tick in milliseconds.
+   */
+  public long getTickMillis() {
+    return tickMillis;
+  }
+
+  /**
+   * Private helper method that moves the wheel forward with the system clock until the wheel is
+   * stopped.
+   */
+  private void run() {
+    long started = System.nanoTime();
+    long advanced = 0;
+    while (Thread.currentThread() == worker) {
+      try {
+        Thread.sleep(tickMillis);
+      }
+      catch (InterruptedException e) {
+        return;
+      }
+      long total = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+      advance(total - advanced);
+      advanced = total;
+    }
+  }
+
+  /**
+   * Private helper method to add the timeout to the slot of the tick it expires on.
+   *
+   * @param timeout represents the timeout to add.
+   */
+  private void link(Timeout timeout) {
+    int slot = (int) (timeout.deadline & mask);
+    timeout.next = slots[slot];
+    if (slots[slot] != null) {
+      slots[slot].previous = timeout;
+    }
+    slots[slot] = timeout;
+    pending++;
+  }
+
+  /**
+   * Private helper method to take the timeout out of its slot.
+   *
+   * @param timeout represents the timeout to remove.
+   */
+  private void unlink(Timeout timeout) {
+    int slot = (int) (timeout.deadline & mask);
+    if (timeout.previous != null) {
+      timeout.previous.next = timeout.next;
+    } else {
+      slots[slot] = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.previous = timeout.previous;
+    }
+    timeout.previous = null;
+    timeout.next = null;
+    pending--;
+  }
+
+  /**
+   * Timeout class represents a task scheduled on the wheel, which can be cancelled until it
+   * expires.
+   */
+  public static final class Timeout {
+
+    private static final int WAITING = 0;
+    private static final int EXPIRED = 1;
+    private static final int CANCELLED = 2;
+
+    private final TimerWheel wheel;
+    private final Runnable task;
+    private final long deadline;
+    private Timeout previous;
+    private Timeout next;
+    private int state;
+
+    /**
+     * A constructor to initialize the timeout with its task and the tick it expires on.
+     *
+     * @param wheel represents the wheel the timeout is scheduled on.
+     * @param task represents the task to run.
+     * @param deadline represents the tick the timeout expires on.
+     */
+    private Timeout(TimerWheel wheel, Runnable task, long deadline) {
+      this.wheel = wheel;
+      this.task = task;
+      this.deadline = deadline;
+      this.state = WAITING;
+    }
+
+    /**
+     * Cancels the timeout so that its task doesn't run.
+     *
+     * @return true if the timeout was cancelled, false if it had already expired or been
+     *          cancelled.
+     */
+    public boolean cancel() {
+      synchronized (wheel.lock) {
+        if (state != WAITING) {
+          return false;
+        }
+        wheel.unlink(this);
+        state = CANCELLED;
+        return true;
+      }
+    }
+
+    /**
+     * Checks if the timeout has expired and its task was handed to the dispatcher.
+     *
+     * @return true if the timeout has expired, false otherwise.
+     */
+    public boolean isExpired() {
+      synchronized (wheel.lock) {
+        return state == EXPIRED;
+      }
+    }
+
+    /**
+     * Checks if the timeout was cancelled.
+     *
+     * @return true if the timeout was cancelled, false otherwise.
+     */
+    public boolean isCancelled() {
+      synchronized (wheel.lock) {
+        return state == CANCELLED;
+      }
+    }
+  }
+}
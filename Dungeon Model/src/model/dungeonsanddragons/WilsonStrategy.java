@@ -0,0 +1,55 @@
+package model.dungeonsanddragons;
+
+/**
+ * WilsonStrategy class builds the spanning tree with Wilson's algorithm. Starting from a random
+ * location in the tree, a random walk is taken from every location that isn't in the tree yet
+ * until it hits the tree, and the walk with its loops erased is added to the tree. Every spanning
+ * tree of the grid is equally likely. A walk that wanders for far too long, which only happens
+ * with a random generator that isn't random, is stopped instead of looping forever. Since the
+ * generation of the dungeon is an internal implementation, this class is kept as package-private.
+ */
+class WilsonStrategy implements SpanningTreeStrategy {
+
+  private static final long STEPS_PER_LOCATION = 1000;
+
+  /**
+   * {@inheritDoc}
+   *
+   * @throws IllegalStateException if a random walk doesn't reach the tree.
+   */
+  @Override
+  public int[] orderEdges(int nodes, int[] sources, int[] destinations, GameRandom random) {
+    EdgeIncidence incidence = new EdgeIncidence(nodes, sources, destinations);
+
+    boolean[] inTree = new boolean[nodes];
+    int[] next = new int[nodes];
+    int[] tree = new int[nodes - 1];
+    int treeEdges = 0;
+
+    inTree[random.nextInt(nodes)] = true;
+
+    for (int i = 0; i < nodes; i++) {
+      int current = i;
+      long steps = 0;
+      while (!inTree[current]) {
+        if (++steps > STEPS_PER_LOCATION * nodes) {
+          throw new IllegalStateException("Random walk didn't reach the dungeon!");
+        }
+        int degree = incidence.degree(current);
+        if (degree == 0) {
+          throw new IllegalArgumentException("Edges don't connect every location!");
+        }
+        next[current] = incidence.edge(current, random.nextInt(degree));
+        current = incidence.other(next[current], current);
+      }
+
+      current = i;
+      while (!inTree[current]) {
+        inTree[current] = true;
+        tree[treeEdges++] = next[current];
+        current = incidence.other(next[current], current);
+      }
+    }
+    return incidence.withLeftover(tree);
+  }
+}
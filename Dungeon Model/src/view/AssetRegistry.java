@@ -0,0 +1,172 @@
+package view;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+/**
+ * AssetRegistry is the single place the view reads its images from. On creation every image
+ * used by the game is submitted for decoding on a small pool of daemon threads, so that the
+ * PNGs are decoded in parallel while the frame is still being laid out. Decoded images,
+ * prescaled icons and translucent overlays are cached and handed out to every panel, and the
+ * registry outlives the panels so that New Game and Restart never decode or rescale an image
+ * twice. The images handed out are shared and must be treated as read-only by the callers.
+ * Since the registry is only used by the panels of the main game view, this class is kept as
+ * package-private.
+ */
+final class AssetRegistry {
+
+  private static final String[] ASSETS = {
+      "E.png", "ES.png", "ESW.png", "EW.png", "N.png", "NE.png", "NES.png", "NESW.png",
+      "NEW.png", "NS.png", "S.png", "SW.png", "SWN.png", "W.png", "WN.png",
+      "arrow.png", "dead.png", "diamond.png", "down.png", "emerald.png", "left.png",
+      "otyugh.png", "pit.png", "player.png", "right.png", "ruby.png", "sound.png",
+      "stench01.png", "stench02.png", "thief.png", "up.png"
+  };
+  private static final int TRANSLUCENT_SIZE = 128 * 2;
+  private static AssetRegistry instance;
+
+  private final ExecutorService decoder;
+  private final Map<String, Future<BufferedImage>> images;
+  private final Map<String, ImageIcon> icons;
+  private final Map<String, BufferedImage> translucent;
+
+  /**
+   * Creates the registry and starts decoding every known asset in the background.
+   */
+  private AssetRegistry() {
+    int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    decoder = Executors.newFixedThreadPool(threads, task -> {
+      Thread thread = new Thread(task, "asset-decoder");
+      thread.setDaemon(true);
+      return thread;
+    });
+    images = new ConcurrentHashMap<>();
+    icons = new ConcurrentHashMap<>();
+    translucent = new ConcurrentHashMap<>();
+    for (String name : ASSETS) {
+      images.put(name, decoder.submit(() -> decode(name)));
+    }
+  }
+
+  /**
+   * Returns the registry shared by all the panels, creating it and starting the background
+   * decoding on the first call.
+   *
+   * @return the shared asset registry.
+   */
+  static synchronized AssetRegistry getInstance() {
+    if (instance == null) {
+      instance = new AssetRegistry();
+    }
+    return instance;
+  }
+
+  /**
+   * Returns the decoded image with the given resource name, waiting for the background decoder
+   * if it has not finished yet. Names that were not prefetched are decoded on first use.
+   *
+   * @param name represents the resource name of the image.
+   * @return the decoded image.
+   * @throws IllegalStateException if the image could not be read.
+   */
+  BufferedImage getImage(String name) {
+    Future<BufferedImage> image = images.computeIfAbsent(name,
+        key -> decoder.submit(() -> decode(key)));
+    try {
+      return image.get();
+    }
+    catch (ExecutionException e) {
+      throw new IllegalStateException("Read Failed");
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Read Failed");
+    }
+  }
+
+  /**
+   * Returns an icon of the given image scaled to the given size. The scaled icon is computed
+   * once per name and size and reused afterwards.
+   *
+   * @param name represents the resource name of the image.
+   * @param width represents the width of the icon.
+   * @param height represents the height of the icon.
+   * @return the prescaled icon.
+   */
+  ImageIcon getIcon(String name, int width, int height) {
+    return icons.computeIfAbsent(name + "@" + width + "x" + height,
+        key -> new ImageIcon(scale(getImage(name), width, height)));
+  }
+
+  /**
+   * Returns a translucent copy of the given image drawn on a canvas the size of a location
+   * tile. The copy is computed once per name and alpha and reused afterwards.
+   *
+   * @param name represents the resource name of the image.
+   * @param alpha represents the alpha for the conversion.
+   * @return the translucent image.
+   */
+  BufferedImage getTranslucent(String name, double alpha) {
+    return translucent.computeIfAbsent(name + "@" + alpha, key -> {
+      BufferedImage target = new BufferedImage(TRANSLUCENT_SIZE, TRANSLUCENT_SIZE,
+          Transparency.TRANSLUCENT);
+      Graphics2D g = target.createGraphics();
+      g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) alpha));
+      g.drawImage(getImage(name), null, 0, 0);
+      g.dispose();
+      return target;
+    });
+  }
+
+  /**
+   * Scales the given image to the given size with bilinear interpolation. Used for images that
+   * are drawn per move and therefore cannot be cached.
+   *
+   * @param source represents the image to scale.
+   * @param width represents the width of the scaled image.
+   * @param height represents the height of the scaled image.
+   * @return the scaled image.
+   */
+  static BufferedImage scale(BufferedImage source, int width, int height) {
+    BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = target.createGraphics();
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+    g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+    g.drawImage(source, 0, 0, width, height, null);
+    g.dispose();
+    return target;
+  }
+
+  /**
+   * Private helper method to decode the image with the given resource name.
+   *
+   * @param name represents the resource name of the image.
+   * @return the decoded image.
+   * @throws IOException if the resource is missing or cannot be decoded.
+   */
+  private static BufferedImage decode(String name) throws IOException {
+    URL resource = ClassLoader.getSystemResource(name);
+    if (resource == null) {
+      throw new IOException("Missing image " + name);
+    }
+    BufferedImage image = ImageIO.read(resource);
+    if (image == null) {
+      throw new IOException("Unreadable image " + name);
+    }
+    return image;
+  }
+}
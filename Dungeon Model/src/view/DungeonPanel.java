@@ -3,7 +3,6 @@ package view;
 import controller.GameSwingController;
 import model.dungeonsanddragons.ReadOnlyGame;
 
-import java.awt.AlphaComposite;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics2D;
@@ -11,8 +10,6 @@ import java.awt.GridLayout;
 import java.awt.RenderingHints;
 import java.awt.event.MouseListener;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 import javax.swing.BorderFactory;
 import javax.swing.ImageIcon;
 import javax.swing.JLabel;
@@ -34,17 +31,15 @@ class DungeonPanel extends JScrollPane implements GridPanel {
   private final BufferedImage rubies;
   private final BufferedImage diamonds;
   private final BufferedImage sapphires;
-  private final BufferedImage stench1;
-  private final BufferedImage stench2;
   private final BufferedImage thief;
   private final BufferedImage monster;
-  private final BufferedImage sound;
   private final BufferedImage pit;
   private final BufferedImage dead;
   private int row;
   private int column;
   private String location;
   private final MouseListener m;
+  private final AssetRegistry assets;
 
   /**
    * A constructor to initializes the DungeonPanel with all the images for the treasure, arrows,
@@ -57,22 +52,15 @@ class DungeonPanel extends JScrollPane implements GridPanel {
     dungeon = new JPanel();
     dungeon.setBackground(Color.BLACK);
 
-    try {
-      rubies = ImageIO.read(ClassLoader.getSystemResource("ruby.png"));
-      diamonds = ImageIO.read(ClassLoader.getSystemResource("diamond.png"));
-      sapphires = ImageIO.read(ClassLoader.getSystemResource("emerald.png"));
-      arrows = ImageIO.read(ClassLoader.getSystemResource("arrow.png"));
-      stench1 = ImageIO.read(ClassLoader.getSystemResource("stench01.png"));
-      stench2 = ImageIO.read(ClassLoader.getSystemResource("stench02.png"));
-      thief = ImageIO.read(ClassLoader.getSystemResource("thief.png"));
-      monster = ImageIO.read(ClassLoader.getSystemResource("otyugh.png"));
-      sound = ImageIO.read(ClassLoader.getSystemResource("sound.png"));
-      pit = ImageIO.read(ClassLoader.getSystemResource("pit.png"));
-      dead = ImageIO.read(ClassLoader.getSystemResource("dead.png"));
-    }
-    catch (IOException e) {
-      throw new IllegalStateException("Read Failed");
-    }
+    assets = AssetRegistry.getInstance();
+    rubies = assets.getImage("ruby.png");
+    diamonds = assets.getImage("diamond.png");
+    sapphires = assets.getImage("emerald.png");
+    arrows = assets.getImage("arrow.png");
+    thief = assets.getImage("thief.png");
+    monster = assets.getImage("otyugh.png");
+    pit = assets.getImage("pit.png");
+    dead = assets.getImage("dead.png");
 
     m = new MouseClickAdapterImpl(controller);
 
@@ -100,13 +88,12 @@ class DungeonPanel extends JScrollPane implements GridPanel {
 
     dungeon.setLayout(new GridLayout(rows,columns));
 
+    ImageIcon unexplored = assets.getIcon("ES.png", 130, 130);
     for (int i = 0; i < rows; i++) {
       for (int j = 0; j < columns; j++) {
         jLabels[i][j] = new JLabel();
         jLabels[i][j].setName("Grid Location");
-        jLabels[i][j].setIcon(new ImageIcon(
-            new ImageIcon(ClassLoader.getSystemResource("ES.png"))
-                .getImage().getScaledInstance(130, 130, BufferedImage.TYPE_INT_ARGB)));
+        jLabels[i][j].setIcon(unexplored);
         jLabels[i][j].setVisible(!jLabels[i][j].isVisible());
         dungeon.add(jLabels[i][j]);
       }
@@ -122,29 +109,18 @@ class DungeonPanel extends JScrollPane implements GridPanel {
    */
   public BufferedImage dungeonNodeAtPlayersLocation(ReadOnlyGame readOnlyGame) {
 
-    BufferedImage player;
-    BufferedImage currentLocation;
-
     if (!location.equals("")) {
-      jLabels[row][column]
-          .setIcon(new ImageIcon(new ImageIcon(ClassLoader.getSystemResource(location))
-              .getImage().getScaledInstance(130, 130, BufferedImage.TYPE_INT_ARGB)));
+      jLabels[row][column].setIcon(assets.getIcon(location, 130, 130));
       jLabels[row][column].removeMouseListener(m);
     }
 
-    try {
-      player = ImageIO.read(ClassLoader.getSystemResource("player.png"));
-      currentLocation = ImageIO.read(
-          ClassLoader.getSystemResource("" + readOnlyGame.nodeT() + ".png"));
-    }
-    catch (IOException e) {
-      throw new IllegalStateException("Read Failed");
-    }
+    BufferedImage player = assets.getImage("player.png");
+    BufferedImage currentLocation = assets.getImage("" + readOnlyGame.nodeT() + ".png");
 
     BufferedImage newImg = new BufferedImage(128 * 2, 128 * 2, BufferedImage.TYPE_INT_ARGB);
-    BufferedImage smell1 = makeImageTranslucent(stench1, 0.35);
-    BufferedImage smell2 = makeImageTranslucent(stench2, 0.35);
-    BufferedImage crackling = makeImageTranslucent(sound, 0.35);
+    BufferedImage smell1 = assets.getTranslucent("stench01.png", 0.35);
+    BufferedImage smell2 = assets.getTranslucent("stench02.png", 0.35);
+    BufferedImage crackling = assets.getTranslucent("sound.png", 0.35);
 
 
     Graphics2D g = newImg.createGraphics();
@@ -289,8 +265,7 @@ class DungeonPanel extends JScrollPane implements GridPanel {
     row = readOnlyGame.getRowIn2D();
     column = readOnlyGame.getColIn2D();
     jLabels[readOnlyGame.getRowIn2D()][readOnlyGame.getColIn2D()]
-        .setIcon(new ImageIcon(new ImageIcon(
-            newImg).getImage().getScaledInstance(130, 130, BufferedImage.TYPE_INT_ARGB)));
+        .setIcon(new ImageIcon(AssetRegistry.scale(newImg, 130, 130)));
     jLabels[readOnlyGame.getRowIn2D()][readOnlyGame.getColIn2D()].setVisible(true);
 
     jLabels[readOnlyGame.getRowIn2D()][readOnlyGame.getColIn2D()].addMouseListener(m);
@@ -316,23 +291,4 @@ class DungeonPanel extends JScrollPane implements GridPanel {
     g.setColor(Color.BLACK);
     g.setFont(new Font("TimesRoman", Font.PLAIN, 12));
   }
-
-  /**
-   * Private helper method to make the given image translucent.
-   *
-   * @param source represents the source image.
-   * @param alpha represents the alpha for the conversion.
-   * @returns the converted image as target.
-   */
-  private BufferedImage makeImageTranslucent(BufferedImage source,
-      double alpha) {
-    BufferedImage target = new BufferedImage(128 * 2,
-        128 * 2, java.awt.Transparency.TRANSLUCENT);
-    Graphics2D g = target.createGraphics();
-    g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
-        (float) alpha));
-    g.drawImage(source, null, 0, 0);
-    g.dispose();
-    return target;
-  }
 }
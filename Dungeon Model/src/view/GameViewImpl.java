@@ -15,8 +15,9 @@ import javax.swing.JOptionPane;
  * GameViewImpl class represents the Graphical User Interface(GUI) view of the game that contains
  * dungeonPanel representing the grid, menuBar representing the menuBar of the game,
  * playerCurrentLocationPanel representing the current location of the player, playerActionPanel
- * representing the actions available for the player and the player description panel showing the
- * details of the items collected by the treasure. Players can interact with the GUI using mouse
+ * representing the actions available for the player, the player description panel showing the
+ * details of the items collected by the treasure and the minimap showing the whole explored
+ * dungeon. Players can interact with the GUI using mouse
  * clicks or keyboard inputs. Since the driver uses this class to display and interact with the
  * view, this class is kept as public.
  */
@@ -27,6 +28,7 @@ public class GameViewImpl extends JFrame implements GameView {
   private CurrentLocationPanel playerCurrentLocationPanel;
   private final ActionPanel playerActionPanel;
   private final DescriptionPanel playerDescriptionPanel;
+  private final MiniMap miniMap;
 
   /**
    * A constructor to initialize the Game Frame with dungeonPanel representing the grid, menuBar
@@ -37,11 +39,13 @@ public class GameViewImpl extends JFrame implements GameView {
   public GameViewImpl() {
     super("Dungeons And Dragons");
 
+    AssetRegistry.getInstance();
     playerActionPanel = new PlayerActionPanel();
     playerDescriptionPanel = new PlayerDescriptionPanel();
     menuBar = new MenuPanelImpl();
+    miniMap = new MinimapPanel();
 
-    setSize(1100, 820);
+    setSize(1320, 820);
     setLocation(200, 200);
     setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
     getContentPane().setBackground(new Color(200,161,230));
@@ -50,6 +54,7 @@ public class GameViewImpl extends JFrame implements GameView {
     this.setJMenuBar((JMenuBar) menuBar);
     this.add((Component) playerActionPanel).setBounds(770,85, 290, 320);
     this.add((Component) playerDescriptionPanel).setBounds(320,10, 484, 50);
+    this.add((Component) miniMap).setBounds(1090,85, 200, 200);
 
     setFocusable(true);
     setVisible(true);
@@ -87,6 +92,7 @@ public class GameViewImpl extends JFrame implements GameView {
 
   /**
    * Updates the dungeon panel to display the nodes that have only been visited by the player.
+   * The minimap repaints only the tiles it changed, so the frame isn't repainted as a whole.
    *
    * @param readOnlyGame represents the read-only model of the game.
    */
@@ -94,9 +100,12 @@ public class GameViewImpl extends JFrame implements GameView {
   public void updateDungeonPanel(ReadOnlyGame readOnlyGame) {
     BufferedImage img = dungeonPanel.dungeonNodeAtPlayersLocation(readOnlyGame);
     playerCurrentLocationPanel.updateCurrentLocation(img);
+    miniMap.updateMiniMap(readOnlyGame);
     playerDescriptionPanel.updatePlayerDescription(readOnlyGame);
     revalidate();
-    repaint();
+    ((Component) dungeonPanel).repaint();
+    ((Component) playerCurrentLocationPanel).repaint();
+    ((Component) playerDescriptionPanel).repaint();
   }
 
   /**
@@ -109,6 +118,7 @@ public class GameViewImpl extends JFrame implements GameView {
   @Override
   public void generateDungeonPanel(int rows, int columns, ReadOnlyGame readOnlyGame) {
     dungeonPanel.initializeDungeon(rows, columns);
+    miniMap.initializeMiniMap(rows, columns);
     playerDescriptionPanel.initializePlayerDescription(readOnlyGame);
   }
 
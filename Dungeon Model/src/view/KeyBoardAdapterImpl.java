@@ -7,8 +7,10 @@ import java.awt.event.KeyEvent;
 
 /**
  * KeyBoardAdapterImpl class represents a container to handle all the keyboard presses in the game.
- * Actions include player movement, player picking rubies, sapphires, diamonds, arrows. It also
- * includes shooting of arrows with a series of keys.
+ * Actions include player movement, player picking rubies, sapphires, diamonds, arrows, asking
+ * for a hint towards the exit or the latencies of the commands, taking back or making again the
+ * last action and taking the stairs between levels with page down and page up. It also includes
+ * shooting of arrows with a series of keys.
  */
 class KeyBoardAdapterImpl extends KeyAdapter {
 
@@ -91,6 +93,24 @@ class KeyBoardAdapterImpl extends KeyAdapter {
     if (e.getKeyCode() == KeyEvent.VK_A) {
       controller.pickArrow();
     }
+    if (e.getKeyCode() == KeyEvent.VK_H) {
+      controller.hint();
+    }
+    if (e.getKeyCode() == KeyEvent.VK_T) {
+      controller.latencies();
+    }
+    if (e.getKeyCode() == KeyEvent.VK_Z) {
+      controller.undo();
+    }
+    if (e.getKeyCode() == KeyEvent.VK_Y) {
+      controller.redo();
+    }
+    if (e.getKeyCode() == KeyEvent.VK_PAGE_DOWN) {
+      controller.stairs("Down");
+    }
+    if (e.getKeyCode() == KeyEvent.VK_PAGE_UP) {
+      controller.stairs("Up");
+    }
   }
 
   /**
@@ -0,0 +1,28 @@
+package view;
+
+import model.dungeonsanddragons.ReadOnlyGame;
+
+/**
+ * MiniMap interface represents the framework for displaying the whole explored dungeon at a small
+ * scale, so that the player keeps their bearings on maps bigger than the dungeon panel can show.
+ * Since the classes using this framework exists in the package, this class is made as
+ * package-private.
+ **/
+interface MiniMap {
+
+  /**
+   * Clears the minimap for a dungeon with the given number of rows and columns.
+   *
+   * @param rows represents the number of rows in the dungeon.
+   * @param columns represents the number of columns in the dungeon.
+   */
+  void initializeMiniMap(int rows, int columns);
+
+  /**
+   * Updates the minimap with the player's current location and the locations seen from it.
+   *
+   * @param readOnlyGame represents the read-only version of the model.
+   */
+  void updateMiniMap(ReadOnlyGame readOnlyGame);
+
+}
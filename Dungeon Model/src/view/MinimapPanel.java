@@ -0,0 +1,315 @@
+package view;
+
+import model.dungeonsanddragons.ReadOnlyGame;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.BitSet;
+import java.util.Objects;
+import javax.swing.BorderFactory;
+import javax.swing.JPanel;
+
+/**
+ * MinimapPanel class represents a class that extends JPanel and shows the whole explored dungeon
+ * at a few pixels a location, scaled to fit the panel. The dungeon is drawn into offscreen images
+ * of 16 by 16 locations each, which are only made once something in them has been explored. When
+ * the player moves, only the location they left, the location they are at and the locations seen
+ * through its doors are drawn again, and only the tiles holding them are repainted, so a move
+ * costs the same however big the dungeon is. Since the MinimapPanel is a component of the main
+ * game panel, this class is kept as package-private.
+ */
+class MinimapPanel extends JPanel implements MiniMap {
+
+  private static final int CELL = 6;
+  private static final int TILE_CELLS = 16;
+  private static final int TILE = CELL * TILE_CELLS;
+  private static final int NORTH = 1;
+  private static final int EAST = 2;
+  private static final int SOUTH = 4;
+  private static final int WEST = 8;
+  private static final int SEEN = 16;
+  private static final int VISITED = 32;
+  private static final Color UNEXPLORED = new Color(40, 30, 50);
+  private static final Color SEEN_COLOR = new Color(110, 95, 125);
+  private static final Color VISITED_COLOR = new Color(200, 161, 230);
+  private static final Color PLAYER_COLOR = new Color(230, 40, 40);
+
+  private byte[] cells;
+  private BufferedImage[] tiles;
+  private int rows;
+  private int columns;
+  private int tileColumns;
+  private int player;
+  private final int[] dirty;
+  private int dirtyCount;
+
+  /**
+   * A constructor to initialize an empty minimap until a dungeon is given to it.
+   */
+  public MinimapPanel() {
+    this.setBorder(BorderFactory.createLineBorder(Color.black, 2));
+    this.setName("Minimap");
+    this.setBackground(UNEXPLORED);
+    this.cells = new byte[0];
+    this.tiles = new BufferedImage[0];
+    this.player = -1;
+    this.dirty = new int[6];
+  }
+
+  /**
+   * Clears the minimap for a dungeon with the given number of rows and columns. Cascaded down from
+   * the main game panel.
+   *
+   * @param rows represents the number of rows in the dungeon.
+   * @param columns represents the number of columns in the dungeon.
+   */
+  @Override
+  public void initializeMiniMap(int rows, int columns) {
+    this.rows = Math.max(0, rows);
+    this.columns = Math.max(0, columns);
+    this.tileColumns = (this.columns + TILE_CELLS - 1) / TILE_CELLS;
+    int tileRows = (this.rows + TILE_CELLS - 1) / TILE_CELLS;
+    this.cells = new byte[this.rows * this.columns];
+    this.tiles = new BufferedImage[tileRows * tileColumns];
+    this.player = -1;
+    this.repaint();
+  }
+
+  /**
+   * Updates the minimap with the player's current location and the locations seen through its
+   * doors. The first update after the minimap is cleared also draws everything explored before,
+   * such as when a saved game is carried on.
+   *
+   * @param readOnlyGame represents the read-only version of the model.
+   */
+  @Override
+  public void updateMiniMap(ReadOnlyGame readOnlyGame) {
+    int location = readOnlyGame.getLocationId();
+    if (location < 0 || location >= cells.length) {
+      return;
+    }
+
+    boolean first = player < 0;
+    if (first) {
+      explored(readOnlyGame.getSeenLocations(), SEEN);
+      explored(readOnlyGame.getVisitedLocations(), SEEN | VISITED);
+    }
+
+    dirtyCount = 0;
+    int previous = player;
+    player = location;
+    cells[location] = (byte) (doors(readOnlyGame.nodeT()) | SEEN | VISITED);
+    draw(location);
+    if (previous >= 0 && previous != location) {
+      draw(previous);
+    }
+
+    int row = location / columns;
+    int column = location % columns;
+    if ((cells[location] & NORTH) != 0) {
+      see(((row - 1 + rows) % rows) * columns + column);
+    }
+    if ((cells[location] & EAST) != 0) {
+      see(row * columns + (column + 1) % columns);
+    }
+    if ((cells[location] & SOUTH) != 0) {
+      see(((row + 1) % rows) * columns + column);
+    }
+    if ((cells[location] & WEST) != 0) {
+      see(row * columns + (column - 1 + columns) % columns);
+    }
+
+    if (first) {
+      repaint();
+    } else {
+      for (int i = 0; i < dirtyCount; i++) {
+        repaint(bounds(dirty[i]));
+      }
+    }
+  }
+
+  /**
+   * Paints only the tiles that overlap the area being repainted, scaled to fit the panel.
+   *
+   * @param g represents the graphics of the panel.
+   */
+  @Override
+  protected void paintComponent(Graphics g) {
+    super.paintComponent(g);
+    if (tiles.length == 0) {
+      return;
+    }
+
+    Graphics2D g2 = (Graphics2D) g.create();
+    Insets insets = getInsets();
+    double scale = scale();
+    g2.translate(insets.left, insets.top);
+    g2.scale(scale, scale);
+    Rectangle clip = g2.getClipBounds();
+    if (Objects.isNull(clip)) {
+      clip = new Rectangle(0, 0, columns * CELL, rows * CELL);
+    }
+
+    int tileRows = tiles.length / tileColumns;
+    int firstRow = Math.max(0, clip.y / TILE);
+    int lastRow = Math.min(tileRows - 1, (clip.y + clip.height) / TILE);
+    int firstColumn = Math.max(0, clip.x / TILE);
+    int lastColumn = Math.min(tileColumns - 1, (clip.x + clip.width) / TILE);
+    for (int i = firstRow; i <= lastRow; i++) {
+      for (int j = firstColumn; j <= lastColumn; j++) {
+        BufferedImage tile = tiles[i * tileColumns + j];
+        if (tile != null) {
+          g2.drawImage(tile, j * TILE, i * TILE, null);
+        }
+      }
+    }
+    g2.dispose();
+  }
+
+  /**
+   * Private helper method to mark the explored locations of a game that was already under way and
+   * draw them.
+   *
+   * @param locations represents the explored locations.
+   * @param flags represents what is known about the locations.
+   */
+  private void explored(BitSet locations, int flags) {
+    for (int i = locations.nextSetBit(0); i >= 0 && i < cells.length;
+         i = locations.nextSetBit(i + 1)) {
+      cells[i] |= (byte) flags;
+      draw(i);
+    }
+  }
+
+  /**
+   * Private helper method to mark a location next to the player as seen, drawing it only if it
+   * wasn't seen before.
+   *
+   * @param location represents the location that is seen.
+   */
+  private void see(int location) {
+    if ((cells[location] & SEEN) == 0) {
+      cells[location] |= SEEN;
+      draw(location);
+    }
+  }
+
+  /**
+   * Private helper method to draw a location into its tile and mark the tile as dirty, making the
+   * tile the first time something in it is drawn.
+   *
+   * @param location represents the location to draw.
+   */
+  private void draw(int location) {
+    int row = location / columns;
+    int column = location % columns;
+    int index = (row / TILE_CELLS) * tileColumns + column / TILE_CELLS;
+    if (tiles[index] == null) {
+      int width = Math.min(TILE_CELLS, columns - column / TILE_CELLS * TILE_CELLS) * CELL;
+      int height = Math.min(TILE_CELLS, rows - row / TILE_CELLS * TILE_CELLS) * CELL;
+      tiles[index] = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+      Graphics2D fill = tiles[index].createGraphics();
+      fill.setColor(UNEXPLORED);
+      fill.fillRect(0, 0, width, height);
+      fill.dispose();
+    }
+
+    int x = column % TILE_CELLS * CELL;
+    int y = row % TILE_CELLS * CELL;
+    int cell = cells[location];
+    Graphics2D g = tiles[index].createGraphics();
+    g.setColor(UNEXPLORED);
+    g.fillRect(x, y, CELL, CELL);
+    if ((cell & VISITED) != 0) {
+      g.setColor(VISITED_COLOR);
+      g.fillRect(x + 1, y + 1, CELL - 2, CELL - 2);
+      if ((cell & NORTH) != 0) {
+        g.fillRect(x + 2, y, CELL - 4, 1);
+      }
+      if ((cell & SOUTH) != 0) {
+        g.fillRect(x + 2, y + CELL - 1, CELL - 4, 1);
+      }
+      if ((cell & WEST) != 0) {
+        g.fillRect(x, y + 2, 1, CELL - 4);
+      }
+      if ((cell & EAST) != 0) {
+        g.fillRect(x + CELL - 1, y + 2, 1, CELL - 4);
+      }
+    } else if ((cell & SEEN) != 0) {
+      g.setColor(SEEN_COLOR);
+      g.fillRect(x + 1, y + 1, CELL - 2, CELL - 2);
+    }
+    if (location == player) {
+      g.setColor(PLAYER_COLOR);
+      g.fillRect(x + 2, y + 2, CELL - 4, CELL - 4);
+    }
+    g.dispose();
+
+    for (int i = 0; i < dirtyCount; i++) {
+      if (dirty[i] == index) {
+        return;
+      }
+    }
+    if (dirtyCount < dirty.length) {
+      dirty[dirtyCount++] = index;
+    }
+  }
+
+  /**
+   * Private helper method to find the area of the panel a tile is painted in, widened by a pixel
+   * on every side to cover the rounding of the scale.
+   *
+   * @param index represents the index of the tile.
+   * @return the area of the tile on the panel.
+   */
+  private Rectangle bounds(int index) {
+    Insets insets = getInsets();
+    double scale = scale();
+    int x = insets.left + (int) Math.floor(index % tileColumns * TILE * scale);
+    int y = insets.top + (int) Math.floor(index / tileColumns * TILE * scale);
+    int size = (int) Math.ceil(TILE * scale);
+    return new Rectangle(x - 1, y - 1, size + 2, size + 2);
+  }
+
+  /**
+   * Private helper method to find the scale that fits the whole dungeon in the panel.
+   *
+   * @return the scale of the dungeon.
+   */
+  private double scale() {
+    Insets insets = getInsets();
+    double width = getWidth() - insets.left - insets.right;
+    double height = getHeight() - insets.top - insets.bottom;
+    if (columns == 0 || rows == 0 || width <= 0 || height <= 0) {
+      return 1;
+    }
+    return Math.min(width / (columns * CELL), height / (rows * CELL));
+  }
+
+  /**
+   * Private helper method to find the doors of a location from its type.
+   *
+   * @param type represents the type of the location, such as "NES".
+   * @return the doors of the location.
+   */
+  private static int doors(String type) {
+    int doors = 0;
+    if (type.indexOf('N') >= 0) {
+      doors |= NORTH;
+    }
+    if (type.indexOf('E') >= 0) {
+      doors |= EAST;
+    }
+    if (type.indexOf('S') >= 0) {
+      doors |= SOUTH;
+    }
+    if (type.indexOf('W') >= 0) {
+      doors |= WEST;
+    }
+    return doors;
+  }
+}
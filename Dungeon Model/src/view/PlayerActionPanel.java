@@ -8,10 +8,8 @@ import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.image.BufferedImage;
 import javax.swing.BorderFactory;
 import javax.swing.DefaultComboBoxModel;
-import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
 import javax.swing.JLabel;
@@ -51,53 +49,38 @@ class PlayerActionPanel extends JPanel implements ActionPanel {
     distance.setBorder(BorderFactory.createLineBorder(Color.black));
     shoot.setText("Shoot");
     directions.setModel(new DefaultComboBoxModel<>(new String[]{"Up", "Down", "Left", "Right"}));
+    AssetRegistry assets = AssetRegistry.getInstance();
     up = new JLabel("Up");
     up.setName("Up");
-    up.setIcon(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("up.png"))
-        .getImage().getScaledInstance(60, 60, BufferedImage.TYPE_INT_ARGB)));
+    up.setIcon(assets.getIcon("up.png", 60, 60));
 
     down = new JLabel("Down");
     down.setName("Down");
-    down.setIcon(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("down.png"))
-        .getImage().getScaledInstance(60, 60, BufferedImage.TYPE_INT_ARGB)));
+    down.setIcon(assets.getIcon("down.png", 60, 60));
 
     left = new JLabel("Left");
     left.setName("Left");
-    left.setIcon(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("left.png"))
-        .getImage().getScaledInstance(60, 60, BufferedImage.TYPE_INT_ARGB)));
+    left.setIcon(assets.getIcon("left.png", 60, 60));
 
     right = new JLabel("Right");
     right.setName("Right");
-    right.setIcon(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("right.png"))
-        .getImage().getScaledInstance(60, 60, BufferedImage.TYPE_INT_ARGB)));
+    right.setIcon(assets.getIcon("right.png", 60, 60));
 
     ruby = new JLabel("Ruby");
     ruby.setName("Ruby");
-    ruby.setIcon(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("ruby.png"))
-        .getImage().getScaledInstance(40, 40, BufferedImage.TYPE_INT_ARGB)));
+    ruby.setIcon(assets.getIcon("ruby.png", 40, 40));
 
     diamond = new JLabel("Diamond");
     diamond.setName("Diamond");
-    diamond.setIcon(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("diamond.png"))
-        .getImage().getScaledInstance(40, 40, BufferedImage.TYPE_INT_ARGB)));
+    diamond.setIcon(assets.getIcon("diamond.png", 40, 40));
 
     sapphire = new JLabel("Sapphire");
     sapphire.setName("Sapphire");
-    sapphire.setIcon(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("emerald.png"))
-        .getImage().getScaledInstance(40, 40, BufferedImage.TYPE_INT_ARGB)));
+    sapphire.setIcon(assets.getIcon("emerald.png", 40, 40));
 
     arrow = new JLabel("Arrow");
     arrow.setName("Arrow");
-    arrow.setIcon(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("arrow.png"))
-        .getImage().getScaledInstance(70, 80, BufferedImage.TYPE_INT_ARGB)));
+    arrow.setIcon(assets.getIcon("arrow.png", 70, 80));
 
     directions.setSelectedItem("Up");
 
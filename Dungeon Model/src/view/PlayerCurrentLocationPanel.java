@@ -40,8 +40,7 @@ class PlayerCurrentLocationPanel extends JPanel implements CurrentLocationPanel
    */
   @Override
   public void updateCurrentLocation(BufferedImage image) {
-    currentLocation.setIcon(new ImageIcon(new ImageIcon(image)
-            .getImage().getScaledInstance(290,290, BufferedImage.TYPE_INT_ARGB)));
+    currentLocation.setIcon(new ImageIcon(AssetRegistry.scale(image, 290, 290)));
     repaint();
     revalidate();
   }
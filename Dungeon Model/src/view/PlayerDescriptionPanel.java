@@ -7,8 +7,6 @@ import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
-import javax.swing.ImageIcon;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 
@@ -42,21 +40,12 @@ class PlayerDescriptionPanel extends JPanel implements DescriptionPanel {
     sapphireCount.setFont(new Font("Serif", Font.PLAIN, 22));
     arrowCount.setFont(new Font("Serif", Font.PLAIN, 22));
 
-    JLabel player = new JLabel(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("player.png"))
-        .getImage().getScaledInstance(52, 50, BufferedImage.TYPE_INT_ARGB)));
-    JLabel ruby = new JLabel(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("ruby.png"))
-        .getImage().getScaledInstance(40, 40, BufferedImage.TYPE_INT_ARGB)));
-    JLabel diamond = new JLabel(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("diamond.png"))
-        .getImage().getScaledInstance(40, 40, BufferedImage.TYPE_INT_ARGB)));
-    JLabel sapphire = new JLabel(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("emerald.png"))
-        .getImage().getScaledInstance(40, 40, BufferedImage.TYPE_INT_ARGB)));
-    JLabel arrow = new JLabel(new ImageIcon(new ImageIcon(
-        ClassLoader.getSystemResource("arrow.png"))
-        .getImage().getScaledInstance(70, 90, BufferedImage.TYPE_INT_ARGB)));
+    AssetRegistry assets = AssetRegistry.getInstance();
+    JLabel player = new JLabel(assets.getIcon("player.png", 52, 50));
+    JLabel ruby = new JLabel(assets.getIcon("ruby.png", 40, 40));
+    JLabel diamond = new JLabel(assets.getIcon("diamond.png", 40, 40));
+    JLabel sapphire = new JLabel(assets.getIcon("emerald.png", 40, 40));
+    JLabel arrow = new JLabel(assets.getIcon("arrow.png", 70, 90));
 
     this.add(player).setBounds(3,0,52,50);
     this.add(ruby).setBounds(69,6,40,40);
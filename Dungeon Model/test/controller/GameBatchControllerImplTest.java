@@ -0,0 +1,99 @@
+package controller;
+
+import static org.junit.Assert.assertEquals;
+
+import model.dungeonsanddragons.FantasyRolePlayingGame;
+import model.dungeonsanddragons.Game;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Testing framework for the batch mode of the game where recorded command scripts are replayed
+ * against seeded games without any interaction.
+ */
+public class GameBatchControllerImplTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Path scripts;
+
+  /**
+   * Initializing the directory that holds the scripts used in the test suite.
+   */
+  @Before
+  public void setUp() throws IOException {
+    scripts = folder.newFolder("scripts").toPath();
+  }
+
+  /**
+   * Tests that an IllegalArgumentException is thrown when the script path doesn't exist.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidScriptPath() {
+    new GameBatchControllerImpl(new StringBuilder(), 6, 6, false, 4, 50, 2, 42)
+        .runScripts(scripts.resolve("missing.txt"));
+  }
+
+  /**
+   * Tests that IllegalArgumentException is thrown when the appendable is null.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidAppendable() {
+    new GameBatchControllerImpl(null, 6, 6, false, 4, 50, 2, 42);
+  }
+
+  /**
+   * Tests that a script replayed in batch mode leaves the game in the same state as the same
+   * commands typed into the console controller for the same seed.
+   */
+  @Test
+  public void testBatchMatchesConsole() throws IOException {
+    String commands = "M L P A S X U M R P D Q";
+    Path script = Files.write(scripts.resolve("session.txt"),
+        commands.getBytes(StandardCharsets.UTF_8));
+
+    StringBuilder outcome = new StringBuilder();
+    new GameBatchControllerImpl(outcome, 6, 6, false, 4, 50, 2, 42).runScripts(script);
+
+    Game g = new FantasyRolePlayingGame(6, 6, false, 4, 50, 2, 1, 1, new Random(42));
+    new GameConsoleControllerImpl(new StringReader(commands), new StringBuilder()).playGame(g);
+
+    assertEquals(String.format("{\"script\":\"session.txt\",\"seed\":42,\"outcome\":\"QUIT\","
+            + "\"executed\":3,\"rejected\":4,\"location\":%d,\"treasure\":%d,\"arrows\":%d}\n",
+        g.gameState().getLocationId(), g.getTreasureCollectedByPlayer().size(),
+        g.getArrowsInPlayerBag().size()), outcome.toString());
+  }
+
+  /**
+   * Tests that every script in a directory is reported in the order of the script names, with
+   * seeds read from the script and errors reported instead of stopping the run.
+   */
+  @Test
+  public void testDirectoryOfScripts() throws IOException {
+    Files.write(scripts.resolve("b.txt"), "SEED 7\nQ".getBytes(StandardCharsets.UTF_8));
+    Files.write(scripts.resolve("a.txt"), "M U".getBytes(StandardCharsets.UTF_8));
+    Files.write(scripts.resolve("c.txt"), "SEED seven".getBytes(StandardCharsets.UTF_8));
+
+    StringBuilder outcome = new StringBuilder();
+    new GameBatchControllerImpl(outcome, 6, 6, false, 4, 50, 2, 42).runScripts(scripts);
+    String[] lines = outcome.toString().split("\n");
+
+    assertEquals(3, lines.length);
+    assertEquals(true, lines[0].startsWith("{\"script\":\"a.txt\",\"seed\":42,\"outcome\":"
+        + "\"INCOMPLETE\""));
+    assertEquals(true, lines[1].startsWith("{\"script\":\"b.txt\",\"seed\":7,\"outcome\":"
+        + "\"QUIT\",\"executed\":0,\"rejected\":0"));
+    assertEquals("{\"script\":\"c.txt\",\"seed\":42,\"outcome\":\"ERROR\","
+        + "\"message\":\"Seed takes a numerical value!\"}", lines[2]);
+  }
+}
@@ -105,7 +105,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
@@ -113,14 +114,16 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 4 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 4 arrows in your bag that you can use.\n"
         + "So far, You have picked 1 Diamond\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
@@ -128,14 +131,16 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 4 arrows in your bag that you can use.\n"
         + "So far, You have picked 1 Diamond\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
         + "\n"
         + "You currently have 5 arrows in your bag that you can use.\n"
         + "So far, You have picked 1 Diamond\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -159,7 +164,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Up!\n"
         + "\n"
         + "You are smelling something terrible! Threat Looming!\n"
@@ -168,7 +174,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
@@ -176,7 +183,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Left!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -185,46 +193,53 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move UP, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Down!\n"
         + "\n"
         + "You are in a TUNNEL and can move UP, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -252,34 +267,39 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move DOWN\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Up!\n"
         + "\n"
         + "You are in a CAVE and can move DOWN\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Right!\n"
         + "\n"
         + "You are in a CAVE and can move DOWN\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Left!\n"
         + "\n"
         + "You are in a CAVE and can move DOWN\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -287,7 +307,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -295,7 +316,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Oops!!!!! An hungry monster just obliterated you!\n"
         + "You might wanna play again!";
@@ -325,7 +347,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
@@ -333,7 +356,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 4 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
@@ -341,14 +365,16 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 4 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
         + "\n"
         + "You currently have 5 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Left!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -356,7 +382,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 5 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? Can't find that in here!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -364,7 +391,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 5 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -391,7 +419,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
@@ -399,7 +428,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 4 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
@@ -407,28 +437,32 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 4 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
         + "\n"
         + "You currently have 5 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 5 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 6 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -436,7 +470,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 6 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -444,7 +479,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 7 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -472,7 +508,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -480,27 +517,31 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? Can't find that in here!\n"
         + "\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? Can't find that in here!\n"
         + "\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
@@ -508,7 +549,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -534,63 +576,72 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 1 Diamond\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 1 Diamond\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 2 Diamonds\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 2 Diamonds\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 2 Diamonds\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 3 Diamonds\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 3 Diamonds\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 4 Diamonds\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -618,7 +669,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
@@ -626,7 +678,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 1 Diamond\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -634,7 +687,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 1 Diamond\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -642,7 +696,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 2 Diamonds\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -650,7 +705,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 2 Diamonds\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -658,7 +714,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "So far, You have picked 3 Diamonds\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -687,7 +744,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
@@ -695,54 +753,62 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Oops!!!!! An hungry monster just obliterated you!\n"
         + "You might wanna play again!";
@@ -771,7 +837,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
@@ -779,7 +846,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? Didn't offer that Option!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -788,7 +856,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? Didn't offer that Option!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -797,7 +866,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? Didn't offer that Option!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -806,7 +876,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -834,7 +905,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Didn't offer that Option!\n"
         + "\n"
         + "You are smelling something terrible! Threat Looming!\n"
@@ -843,7 +915,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Up!\n"
         + "\n"
         + "You are smelling something terrible! Threat Looming!\n"
@@ -852,7 +925,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Didn't offer that Option!\n"
         + "\n"
         + "You are smelling something terrible! Threat Looming!\n"
@@ -861,7 +935,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Didn't offer that Option!\n"
         + "\n"
         + "You are smelling something terrible! Threat Looming!\n"
@@ -870,7 +945,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -898,7 +974,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -908,7 +985,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "Didn't offer that Option!\n"
         + "\n"
@@ -918,7 +996,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -947,7 +1026,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
@@ -955,54 +1035,62 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Oops!!!!! An hungry monster just obliterated you!\n"
         + "You might wanna play again!";
@@ -1033,7 +1121,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
@@ -1041,54 +1130,62 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Oops!!!!! An hungry monster just obliterated you!\n"
         + "You might wanna play again!";
@@ -1118,7 +1215,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
@@ -1126,142 +1224,164 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move UP, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Left!\n"
         + "\n"
         + "You are in a TUNNEL and can move UP, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Left!\n"
         + "\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
@@ -1269,13 +1389,15 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -1304,7 +1426,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -1312,7 +1435,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Down!\n"
         + "\n"
         + "You are smelling something terrible! Threat Looming!\n"
@@ -1321,7 +1445,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Down!\n"
         + "\n"
         + "You are smelling something terrible! Threat Looming!\n"
@@ -1330,7 +1455,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Down!\n"
         + "\n"
         + "You are smelling something terrible! Threat Looming!\n"
@@ -1339,14 +1465,16 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move DOWN\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Right!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -1354,7 +1482,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Right!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -1362,7 +1491,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Right!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -1370,7 +1500,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Left!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -1378,7 +1509,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Left!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -1386,7 +1518,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Left!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -1394,7 +1527,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -1402,7 +1536,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -1410,7 +1545,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -1418,7 +1554,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -1426,7 +1563,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -1434,7 +1572,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -1442,7 +1581,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
@@ -1450,7 +1590,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Down!\n"
         + "\n"
         + "You are smelling something terrible! Threat Looming!\n"
@@ -1459,7 +1600,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Oops!!!!! An hungry monster just obliterated you!\n"
         + "You might wanna play again!";
@@ -1489,7 +1631,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
@@ -1497,142 +1640,164 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move UP, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? Can't go Left!\n"
         + "\n"
         + "You are in a TUNNEL and can move UP, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -1659,7 +1824,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
@@ -1667,7 +1833,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -1694,192 +1861,221 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "This TUNNEL has 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "This TUNNEL has 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move DOWN, RIGHT\n"
         + "This TUNNEL has 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move LEFT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -1888,7 +2084,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -1896,7 +2093,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Yayy!!!!! You've conquered the dungeon by slaying the boss Otyugh!\n"
         + "You might wanna play again!";
@@ -1924,7 +2122,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -1932,27 +2131,31 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -1961,7 +2164,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -1969,7 +2173,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Yayy!!!!! You've conquered the dungeon by slaying the boss Otyugh!\n"
         + "You might wanna play again!";
@@ -1997,7 +2202,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -2005,7 +2211,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
@@ -2013,7 +2220,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Oops!!!!! An hungry monster just obliterated you!\n"
         + "You might wanna play again!";
@@ -2041,7 +2249,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -2049,27 +2258,31 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2078,7 +2291,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Yayy!!!!! You've conquered the dungeon by slaying the boss Otyugh!\n"
         + "You might wanna play again!";
@@ -2109,7 +2323,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
@@ -2117,7 +2332,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 4 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2127,7 +2343,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2136,7 +2353,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
@@ -2144,41 +2362,47 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond\n"
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2187,7 +2411,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " How far? Which direction (Up - U, Down - D, Left - L, Right - R)?"
         + " You shot the arrow into the darkness!\n"
         + "\n"
@@ -2195,7 +2420,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Yayy!!!!! You've conquered the dungeon by slaying the boss Otyugh!\n"
         + "You might wanna play again!";
@@ -2224,7 +2450,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2234,7 +2461,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2243,14 +2471,16 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
@@ -2258,7 +2488,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -2266,7 +2497,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -2274,7 +2506,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2284,7 +2517,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2293,13 +2527,15 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Yayy!!!!! You've conquered the dungeon by slaying the boss Otyugh!\n"
         + "You might wanna play again!";
@@ -2327,7 +2563,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2337,7 +2574,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2346,14 +2584,16 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
@@ -2361,7 +2601,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -2369,7 +2610,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -2377,7 +2619,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)?"
         + " You shot the arrow into the darkness!\n"
         + "\n"
@@ -2387,7 +2630,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2397,14 +2641,16 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are smelling something terrible! Threat Looming!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Oops!!!!! An hungry monster just obliterated you!\n"
         + "You might wanna play again!";
@@ -2432,7 +2678,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2442,7 +2689,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2451,14 +2699,16 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
@@ -2466,7 +2716,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -2474,7 +2725,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -2482,7 +2734,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2492,7 +2745,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2501,13 +2755,15 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Yayy!!!!! You've conquered the dungeon by slaying the boss Otyugh!\n"
         + "You might wanna play again!";
@@ -2535,7 +2791,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -2562,7 +2819,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2572,7 +2830,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2582,7 +2841,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2592,7 +2852,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "Oops. No more arrows!\n"
         + "\n"
@@ -2602,7 +2863,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "Oops. No more arrows!\n"
         + "\n"
@@ -2612,7 +2874,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -2640,7 +2903,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2650,7 +2914,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2659,14 +2924,16 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "This CAVE has 1 Diamond and 1 arrow\n"
@@ -2674,7 +2941,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -2682,7 +2950,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "What (Weapon - A, Ruby - R, Diamond - D, Sapphire - S)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -2690,7 +2959,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2700,7 +2970,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 1 arrow in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2709,13 +2980,15 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You are out of arrows. Explore to find more!.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "Yayy!!!!! You've conquered the dungeon by slaying the boss Otyugh!\n"
         + "You might wanna play again!";
@@ -2743,7 +3016,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)?"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)?"
         + " Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
@@ -2751,20 +3025,23 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You are in a CAVE and can move UP, DOWN, RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Where to (Up - U, Down - D, Left - L, Right - R)? \n"
         + "You take a whiff and smell something foul nearby!\n"
         + "You are in a TUNNEL and can move RIGHT, LEFT\n"
         + "\n"
         + "You currently have 3 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "How far? Which direction (Up - U, Down - D, Left - L, Right - R)? "
         + "You shot the arrow into the darkness!\n"
         + "\n"
@@ -2773,7 +3050,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? "
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
         + "Didn't offer that Option!\n"
         + "\n"
         + "You take a whiff and smell something foul nearby!\n"
@@ -2781,7 +3059,8 @@ public class GameConsoleControllerImplTest {
         + "\n"
         + "You currently have 2 arrows in your bag that you can use.\n"
         + "You have not picked any treasure yet.\n"
-        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Quit - Q)? \n"
+        + "What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, Hint - H, "
+        + "Undo - Z, Redo - Y, Timings - T, Quit - Q)? \n"
         + "Booo!!!!! You just gave up!\n"
         + "You might wanna play again!";
     assertEquals(check, gameLog.toString());
@@ -2790,4 +3069,134 @@ public class GameConsoleControllerImplTest {
     int lines = check.split("[\n|\r]").length;
     assertEquals(42, lines);
   }
-}
\ No newline at end of file
+
+  /**
+   * Tests that the output of a turn is written to the appendable once for every input that the
+   * controller waits on, instead of once for every line of the game state.
+   */
+  @Test
+  public void testOutputWrittenOncePerPrompt() {
+    StringReader input = new StringReader("M L P A Q");
+    StringBuilder gameLog = new StringBuilder();
+    int[] appends = new int[1];
+    Appendable countingLog = new Appendable() {
+      @Override
+      public Appendable append(CharSequence csq) {
+        appends[0]++;
+        gameLog.append(csq);
+        return this;
+      }
+
+      @Override
+      public Appendable append(CharSequence csq, int start, int end) {
+        return append(csq.subSequence(start, end));
+      }
+
+      @Override
+      public Appendable append(char c) {
+        return append(String.valueOf(c));
+      }
+    };
+    GameConsoleController c = new GameConsoleControllerImpl(input, countingLog);
+    c.playGame(g);
+
+    //Two prompts for the move, two for the pick, one for quitting and the final message.
+    assertEquals(6, appends[0]);
+    assertEquals(true, gameLog.toString().endsWith("You might wanna play again!"));
+  }
+
+  /**
+   * Tests that asking for a hint tells the player how far the exit is and where to go next.
+   */
+  @Test
+  public void testHint() {
+    StringReader input = new StringReader("H M L H Q");
+    Appendable gameLog = new StringBuilder();
+    GameConsoleController c = new GameConsoleControllerImpl(input, gameLog);
+    c.playGame(g);
+
+    String[] lines = gameLog.toString().split("\n");
+    assertEquals("What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, "
+        + "Hint - H, Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
+        + "The exit is 5 moves away. Try going DOWN!", lines[7]);
+    assertEquals("What do you want to do (Direction - M, Pick - P, Shoot - S, Stairs - G, "
+        + "Hint - H, Undo - Z, Redo - Y, Timings - T, Quit - Q)? "
+        + "The exit is 6 moves away. Try going RIGHT!", lines[22]);
+  }
+
+  /**
+   * Tests that the last action can be taken back and made again, and that there is nothing to
+   * take back once every action was taken back.
+   */
+  @Test
+  public void testUndoRedo() {
+    StringReader input = new StringReader("M L Z H Y H Z Z Y Y Q");
+    Appendable gameLog = new StringBuilder();
+    GameConsoleController c = new GameConsoleControllerImpl(input, gameLog);
+    c.playGame(g);
+
+    String log = gameLog.toString();
+    assertEquals(true, log.contains("? You took back your last action!\n"));
+    assertEquals(true, log.contains("? The exit is 5 moves away. Try going DOWN!"));
+    assertEquals(true, log.contains("? You made your last action again!\n"));
+    assertEquals(true, log.contains("? The exit is 6 moves away. Try going RIGHT!"));
+    assertEquals(true, log.contains("? Nothing to undo!\n"));
+    assertEquals(true, log.contains("? Nothing to redo!\n"));
+  }
+
+  /**
+   * Tests that the stairs are turned down in a game of one level, and that only the ways offered
+   * are taken.
+   */
+  @Test
+  public void testStairs() {
+    StringReader input = new StringReader("G D G U G X Q");
+    Appendable gameLog = new StringBuilder();
+    GameConsoleController c = new GameConsoleControllerImpl(input, gameLog);
+    c.playGame(g);
+
+    String log = gameLog.toString();
+    String prompt = "Which way (Down - D, Up - U)? ";
+    assertEquals(true, log.contains(prompt + "There are no stairs down here!\n"));
+    assertEquals(true, log.contains(prompt + "There are no stairs up here!\n"));
+    assertEquals(true, log.contains(prompt + "Didn't offer that Option!\n"));
+  }
+
+  /**
+   * Tests that every command is timed on the size of the dungeon it was run on, along with the
+   * rendering that follows it, and that the latencies are written out on demand.
+   */
+  @Test
+  public void testLatencies() {
+    StringReader input = new StringReader("M L P A M Q T Q");
+    Appendable gameLog = new StringBuilder();
+    CommandLatencies latencies = new CommandLatencies();
+    GameConsoleController c = new GameConsoleControllerImpl(input, gameLog, latencies);
+    c.playGame(g);
+
+    assertEquals(1, latencies.getHistogram("MovePlayer", 5, 5).getCount());
+    assertEquals(1, latencies.getFollowUpHistogram("MovePlayer", 5, 5).getCount());
+    assertEquals(1, latencies.getHistogram("PickArrow", 5, 5).getCount());
+    assertEquals(null, latencies.getHistogram("ShootArrow", 5, 5));
+    String log = gameLog.toString();
+    assertEquals(true, log.contains("? command "));
+    assertEquals(true, log.contains("\nMovePlayer 5x5 "));
+    assertEquals(true, log.contains("\nPickArrow follow-up 5x5 "));
+  }
+
+  /**
+   * Tests that a command the game turns down is timed, but the rendering that follows it isn't
+   * counted as the follow-up of a command.
+   */
+  @Test
+  public void testRejectedCommandHasNoFollowUp() {
+    StringReader input = new StringReader("M U M U M L Q");
+    CommandLatencies latencies = new CommandLatencies();
+    GameConsoleController c = new GameConsoleControllerImpl(input, new StringBuilder(),
+        latencies);
+    c.playGame(g);
+
+    assertEquals(3, latencies.getHistogram("MovePlayer", 5, 5).getCount());
+    assertEquals(1, latencies.getFollowUpHistogram("MovePlayer", 5, 5).getCount());
+  }
+}
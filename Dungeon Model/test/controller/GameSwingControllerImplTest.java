@@ -2,13 +2,23 @@ package controller;
 
 import static org.junit.Assert.assertEquals;
 
+import model.dungeonsanddragons.Direction;
+import model.dungeonsanddragons.FantasyRolePlayingGame;
 import model.dungeonsanddragons.Game;
+import model.dungeonsanddragons.GameDelta;
+import model.dungeonsanddragons.GameEventType;
 import model.dungeonsanddragons.MockModel;
+import model.dungeonsanddragons.MultiLevelGame;
+import model.dungeonsanddragons.Spectator;
+import model.dungeonsanddragons.SpectatorHub;
+import model.dungeonsanddragons.TimerWheel;
 import org.junit.Test;
+import random.FixedRandom;
 import view.MockView;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Testing suite for dungeons and dragons game with mock view.
@@ -247,4 +257,183 @@ public class GameSwingControllerImplTest {
             + "updateDungeonPanel, called displayPlayerAction]",
         log.toString());
   }
-}
\ No newline at end of file
+
+  /**
+   * Testing that asking for a hint reads the distance from the model and displays it.
+   */
+  @Test
+  public void testHint() {
+    List<String> log = new ArrayList<>();
+    view = new MockView(log);
+    model = new MockModel(log);
+    controller = new GameSwingControllerImpl(model, view);
+
+    controller.playGame();
+    controller.hint();
+
+    assertEquals("[called setFeatures, called resetFocus, called generateDungeonPanel, called "
+        + "updateDungeonPanel, getDistanceToEnd, called displayPlayerAction with delay]",
+        log.toString());
+  }
+
+  /**
+   * Testing that asking for a hint at the end cave says so instead of suggesting a move.
+   */
+  @Test
+  public void testHintAtTheEnd() {
+    List<String> log = new ArrayList<>();
+    view = new MockView(log) {
+      @Override
+      public void displayPlayerAction(String message, int delay) {
+        log.add(message);
+      }
+    };
+    model = new MockModel(log) {
+      @Override
+      public int getDistanceToEnd() {
+        return 0;
+      }
+
+      @Override
+      public Direction getNextStepToEnd() {
+        return null;
+      }
+    };
+    controller = new GameSwingControllerImpl(model, view);
+
+    controller.playGame();
+    controller.hint();
+
+    assertEquals("You are already at the exit!", log.get(log.size() - 1));
+  }
+
+  /**
+   * Testing that the last move can be taken back and made again, and that there is nothing to
+   * take back once everything was.
+   */
+  @Test
+  public void testUndoRedo() {
+    List<String> log = new ArrayList<>();
+    view = new MockView(log);
+    model = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    controller = new GameSwingControllerImpl(model, view);
+    int start = model.gameState().getLocationId();
+
+    controller.playGame();
+    controller.move(model.getNextStepToEnd().toString().substring(0, 1));
+    int moved = model.gameState().getLocationId();
+    controller.undo();
+    assertEquals(start, model.gameState().getLocationId());
+    controller.redo();
+    assertEquals(moved, model.gameState().getLocationId());
+
+    controller.undo();
+    log.clear();
+    controller.undo();
+    assertEquals(start, model.gameState().getLocationId());
+    assertEquals("[called displayPlayerAction with delay]", log.toString());
+  }
+
+  /**
+   * Testing that the stairs take the player between levels, and that what was done on the level
+   * that was left can't be taken back any more.
+   */
+  @Test
+  public void testStairs() {
+    List<String> log = new ArrayList<>();
+    view = new MockView(log);
+    MultiLevelGame game = new MultiLevelGame(8, 8, false, 4, 100, 1, 0, 0, 7, 3, 2);
+    model = game;
+    controller = new GameSwingControllerImpl(model, view);
+
+    controller.playGame();
+    controller.stairs("Up");
+    assertEquals(0, game.getDepth());
+    assertEquals("called displayPlayerAction with delay", log.get(log.size() - 1));
+
+    while (game.getDistanceToEnd() > 0) {
+      Direction next = game.getNextStepToEnd();
+      Game ahead = game.fork();
+      ahead.movePlayer(next);
+      if (ahead.gameState().getMonsterHealth() > 0) {
+        game.shootArrow(1, next);
+        game.shootArrow(1, next);
+      }
+      controller.move(next.toString().substring(0, 1));
+    }
+    controller.stairs("Down");
+    assertEquals(1, game.getDepth());
+
+    log.clear();
+    controller.undo();
+    assertEquals(1, game.getDepth());
+    assertEquals("[called displayPlayerAction with delay]", log.toString());
+
+    controller.stairs("Up");
+    assertEquals(0, game.getDepth());
+    assertEquals(0, game.getDistanceToEnd());
+  }
+
+  /**
+   * Testing that the commands are timed on the size of the dungeon they ran on, also once a
+   * new game of another size is created.
+   */
+  @Test
+  public void testLatenciesFollowTheSizeOfTheDungeon() {
+    List<String> log = new ArrayList<>();
+    view = new MockView(log);
+    model = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    GameSwingControllerImpl swing = new GameSwingControllerImpl(model, view);
+
+    swing.playGame();
+    swing.move(model.getNextStepToEnd().toString().substring(0, 1));
+    swing.undo();
+    swing.move(model.getNextStepToEnd().toString().substring(0, 1));
+    CommandLatencies latencies = swing.getLatencies();
+    assertEquals(2, latencies.getHistogram("MovePlayer", 8, 8).getCount());
+    assertEquals(2, latencies.getFollowUpHistogram("MovePlayer", 8, 8).getCount());
+
+    swing.createModel(6, 7, false, 5, 50, 1, 0, 0);
+    swing.pickArrow();
+    assertEquals(2, latencies.getHistogram("MovePlayer", 8, 8).getCount());
+    assertEquals(1, latencies.getHistogram("PickArrow", 6, 7).getCount());
+    assertEquals(null, latencies.getHistogram("PickArrow", 8, 8));
+  }
+
+  /**
+   * Testing that a new game detaches the game it replaces from the timer wheel.
+   */
+  @Test
+  public void testNewGameDetachesOldGameFromTimers() {
+    List<String> log = new ArrayList<>();
+    view = new MockView(log);
+    model = new MockModel(log);
+    controller = new GameSwingControllerImpl(model, view, new TimerWheel(100, 64));
+
+    controller.playGame();
+    assertEquals(false, log.contains("detachTimerWheel"));
+    controller.createModel(5,5,false,5,50,1,1,1);
+    assertEquals(true, log.contains("detachTimerWheel"));
+  }
+
+  /**
+   * Testing that spectators can watch the games of a controller that has no timer wheel.
+   */
+  @Test
+  public void testSpectatorsWithoutTimers() throws InterruptedException {
+    List<String> log = new ArrayList<>();
+    view = new MockView(log);
+    model = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    SpectatorHub hub = new SpectatorHub();
+    Spectator spectator = hub.subscribe(8);
+    controller = new GameSwingControllerImpl(model, view, hub);
+
+    controller.playGame();
+    controller.move(model.getNextStepToEnd().toString().substring(0, 1));
+
+    GameDelta delta = spectator.poll(5, TimeUnit.SECONDS);
+    assertEquals(1, delta.getSequence());
+    assertEquals(GameEventType.PLAYER_MOVED, delta.getEvents().get(0).getType());
+    hub.close();
+  }
+}
@@ -0,0 +1,78 @@
+package controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * A JUnit test class for the LatencyHistogram class.
+ */
+public class LatencyHistogramTest {
+
+  /**
+   * Testing that small latencies are counted exactly.
+   */
+  @Test
+  public void testSmallLatencies() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 20; i++) {
+      histogram.record(i);
+    }
+    assertEquals(20, histogram.getCount());
+    assertEquals(10, histogram.getValueAtPercentile(50));
+    assertEquals(19, histogram.getValueAtPercentile(95));
+    assertEquals(20, histogram.getValueAtPercentile(100));
+    assertEquals(1, histogram.getValueAtPercentile(0));
+    assertEquals(10.5, histogram.getMean(), 1e-9);
+  }
+
+  /**
+   * Testing that the percentiles of long latencies are within the width of their bucket.
+   */
+  @Test
+  public void testLongLatencies() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 100_000; i++) {
+      histogram.record(i * 1000);
+    }
+    for (double percentile : new double[] {50, 90, 99, 99.9}) {
+      long real = (long) (percentile * 1000) * 1000;
+      long found = histogram.getValueAtPercentile(percentile);
+      assertTrue(found >= real);
+      assertTrue(found <= real + real / 32);
+    }
+    assertEquals(100_000_000, histogram.getMax());
+    assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+  }
+
+  /**
+   * Testing that the longest and negative latencies fit in the histogram.
+   */
+  @Test
+  public void testExtremeLatencies() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-5);
+    histogram.record(Long.MAX_VALUE);
+    assertEquals(0, histogram.getValueAtPercentile(50));
+    assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+  }
+
+  /**
+   * Testing that an empty histogram has no latencies.
+   */
+  @Test
+  public void testEmpty() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getValueAtPercentile(99));
+    assertEquals(0, histogram.getMean(), 0);
+  }
+
+  /**
+   * Testing that a percentile must be between 0 and 100.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalPercentile() {
+    new LatencyHistogram().getValueAtPercentile(101);
+  }
+}
@@ -0,0 +1,132 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A JUnit test class for the ChunkedExplorationWorld class.
+ */
+public class ChunkedExplorationWorldTest {
+
+  /**
+   * Testing that the same seed always gives the same world, even after the chunks are dropped
+   * and generated again.
+   */
+  @Test
+  public void testDeterministicPerSeed() {
+    ExplorationWorld first = new ChunkedExplorationWorld(42, MazeAlgorithm.KRUSKAL);
+    ExplorationWorld second = new ChunkedExplorationWorld(42, MazeAlgorithm.KRUSKAL);
+
+    second.focus(5000, -5000);
+    for (int row = -40; row < 40; row += 3) {
+      for (int column = -40; column < 40; column += 7) {
+        assertEquals(first.getMoves(row, column), second.getMoves(row, column));
+      }
+    }
+    second.focus(5000, -5000);
+    assertEquals(first.getMoves(-33, 17), second.getMoves(-33, 17));
+  }
+
+  /**
+   * Testing that every door can be walked through in both directions, including the doors on
+   * the borders between chunks.
+   */
+  @Test
+  public void testDoorsMatchOnBothSides() {
+    ExplorationWorld world = new ChunkedExplorationWorld(7, 8, 1, 2, MazeAlgorithm.PRIM);
+
+    for (int row = -20; row < 20; row++) {
+      for (int column = -20; column < 20; column++) {
+        for (Direction move : world.getMoves(row, column)) {
+          int nextRow = row + (move == Direction.UP ? -1 : move == Direction.DOWN ? 1 : 0);
+          int nextColumn = column
+              + (move == Direction.LEFT ? -1 : move == Direction.RIGHT ? 1 : 0);
+          assertTrue(world.getMoves(nextRow, nextColumn)
+              .contains(DistanceField.opposite(move)));
+        }
+      }
+    }
+  }
+
+  /**
+   * Testing that every location of a block of chunks can be reached without leaving the block.
+   */
+  @Test
+  public void testConnectedAcrossChunks() {
+    for (MazeAlgorithm algorithm : MazeAlgorithm.values()) {
+      int size = 8;
+      ExplorationWorld world = new ChunkedExplorationWorld(3, size, 1, 0, algorithm);
+      int span = 3 * size;
+      boolean[][] seen = new boolean[span][span];
+      Deque<int[]> queue = new ArrayDeque<>();
+      queue.add(new int[]{-size, -size});
+      seen[0][0] = true;
+      int reached = 1;
+
+      while (!queue.isEmpty()) {
+        int[] location = queue.poll();
+        List<Direction> moves = world.getMoves(location[0], location[1]);
+        for (Direction move : moves) {
+          int row = location[0] + (move == Direction.UP ? -1 : move == Direction.DOWN ? 1 : 0);
+          int column = location[1]
+              + (move == Direction.LEFT ? -1 : move == Direction.RIGHT ? 1 : 0);
+          if (row >= -size && row < 2 * size && column >= -size && column < 2 * size
+              && !seen[row + size][column + size]) {
+            seen[row + size][column + size] = true;
+            reached++;
+            queue.add(new int[]{row, column});
+          }
+        }
+      }
+      assertEquals(algorithm.toString(), span * span, reached);
+    }
+  }
+
+  /**
+   * Testing that chunks far from the player are dropped so memory follows the player.
+   */
+  @Test
+  public void testFarChunksEvicted() {
+    ExplorationWorld world = new ChunkedExplorationWorld(1, 16, 1, 4, MazeAlgorithm.BACKTRACKER);
+
+    for (int step = 0; step < 50; step++) {
+      world.focus(step * 40, step * 40);
+      assertEquals(9, world.getLoadedChunks());
+    }
+  }
+
+  /**
+   * Testing that looking at locations far from the player never keeps more chunks than fit
+   * around the focus, and that the chunks dropped that way come back the same.
+   */
+  @Test
+  public void testChunksLoadedAwayFromFocusEvicted() {
+    ExplorationWorld world = new ChunkedExplorationWorld(1, 16, 1, 4, MazeAlgorithm.BACKTRACKER);
+    ExplorationWorld reference = new ChunkedExplorationWorld(1, 16, 1, 4,
+        MazeAlgorithm.BACKTRACKER);
+
+    world.focus(0, 0);
+    List<Direction> moves = world.getMoves(0, 0);
+    for (int step = 0; step < 50; step++) {
+      world.getMoves(step * 40, -step * 40);
+      assertTrue(world.getLoadedChunks() <= 9);
+    }
+    assertEquals(9, world.getLoadedChunks());
+    assertEquals(moves, world.getMoves(0, 0));
+    assertEquals(reference.getMoves(40, -40), world.getMoves(40, -40));
+  }
+
+  /**
+   * Testing that a world can't be created with chunks that are too small.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidChunkSize() {
+    new ChunkedExplorationWorld(1, 1, 1, 0, MazeAlgorithm.KRUSKAL);
+  }
+}
@@ -5053,4 +5053,369 @@ public class FantasyRolePlayingGameTest {
     assertEquals(1, game.getTreasureCollectedByPlayer().size());
     assertEquals(7, game.getArrowsInPlayerBag().size());
   }
-}
\ No newline at end of file
+
+  /**
+   * Testing that following the next step towards the end cave walks the player to the end cave
+   * in exactly the remaining distance, with the distance dropping by one at every move.
+   */
+  @Test
+  public void testNextStepWalksToEndCave() {
+    game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+
+    int distance = game.getDistanceToEnd();
+    assertTrue(distance >= 5);
+
+    for (int i = distance; i > 0; i--) {
+      assertEquals(i, game.getDistanceToEnd());
+      game.movePlayer(game.getNextStepToEnd());
+    }
+
+    assertEquals(0, game.getDistanceToEnd());
+    assertEquals(null, game.getNextStepToEnd());
+    assertTrue(game.isReachedEnd());
+  }
+
+  /**
+   * Testing that the distance between any two locations matches the distance to the end cave at
+   * every location along the path, both with few extra edges and with so many extra edges that
+   * the distances are searched for each location.
+   */
+  @Test
+  public void testDistanceBetweenMatchesDistanceToEnd() {
+    int[] interconnectivity = {0, 6, 60};
+
+    for (int degree : interconnectivity) {
+      game = new FantasyRolePlayingGame(10, 10, true, degree, 50, 1, 0, 0, new FixedRandom());
+
+      int distance = game.getDistanceToEnd();
+      int[] path = new int[distance + 1];
+      for (int i = 0; i < distance; i++) {
+        path[i] = game.gameState().getLocationId();
+        game.movePlayer(game.getNextStepToEnd());
+      }
+      path[distance] = game.gameState().getLocationId();
+
+      for (int i = 0; i <= distance; i++) {
+        assertEquals(distance - i, game.getDistanceBetween(path[i], path[distance]));
+        assertEquals(distance - i, game.getDistanceBetween(path[distance], path[i]));
+      }
+    }
+  }
+
+  /**
+   * Testing that asking for the distance of a location outside the dungeon isn't allowed.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testDistanceBetweenInvalidLocation() {
+    game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    game.getDistanceBetween(0, 64);
+  }
+
+  /**
+   * Testing what a distance query costs on a large dungeon. While the distances of the end points
+   * of the extra edges fit in memory no query searches the dungeon. With too many extra edges to
+   * keep their distances, queries to or from the last few locations searched are free, but every
+   * other query searches the whole dungeon.
+   */
+  @Test
+  public void testDistanceQueryCostOnLargeDungeon() {
+    DungeonImpl few = new DungeonImpl(100, 100, true, new Random(7));
+    few.create(200, 20, 5, 2, 2);
+    DistanceOracle oracle = few.getDistanceOracle();
+    int searches = oracle.getSearches();
+    for (int i = 0; i < 10_000; i += 7) {
+      oracle.distance(i, 9_999 - i);
+    }
+    assertEquals(searches, oracle.getSearches());
+
+    DungeonImpl many = new DungeonImpl(100, 100, true, new Random(7));
+    many.create(1000, 20, 5, 2, 2);
+    oracle = many.getDistanceOracle();
+    searches = oracle.getSearches();
+    oracle.distance(0, 1);
+    for (int i = 0; i < 10_000; i += 7) {
+      assertEquals(oracle.distance(0, i), oracle.distance(i, 0));
+    }
+    assertEquals(searches + 1, oracle.getSearches());
+    for (int i = 1; i < 8; i++) {
+      oracle.distance(i, 9_999 - i);
+    }
+    assertEquals(searches + 8, oracle.getSearches());
+    for (int i = 0; i < 8; i++) {
+      oracle.distance(9_999 - i, i);
+    }
+    assertEquals(searches + 8, oracle.getSearches());
+    for (int i = 100; i < 200; i++) {
+      oracle.distance(i, 9_999 - i);
+    }
+    assertEquals(searches + 108, oracle.getSearches());
+  }
+
+  /**
+   * Testing that distance queries never search the dungeon at the interconnectivity the game
+   * takes: any interconnectivity up to the whole grid on a dungeon of up to 2048 locations, and
+   * up to 200 extra edges on the largest dungeon of 100 x 100.
+   */
+  @Test
+  public void testDistanceQueriesDontSearch() {
+    for (int interconnectivity : new int[] {0, 10, 500, 45 * 45 + 1}) {
+      DungeonImpl dungeon = new DungeonImpl(45, 45, true, new Random(3));
+      dungeon.create(interconnectivity, 20, 5, 2, 2);
+      DistanceOracle oracle = dungeon.getDistanceOracle();
+      for (int i = 0; i < 45 * 45; i += 3) {
+        oracle.distance(i, 45 * 45 - 1 - i);
+      }
+      assertEquals(0, oracle.getSearches());
+    }
+
+    for (int interconnectivity = 0; interconnectivity <= 200; interconnectivity += 50) {
+      DungeonImpl dungeon = new DungeonImpl(100, 100, false, new Random(3));
+      dungeon.create(interconnectivity, 20, 5, 2, 2);
+      DistanceOracle oracle = dungeon.getDistanceOracle();
+      for (int i = 0; i < 10_000; i += 13) {
+        oracle.distance(i, 9_999 - i);
+      }
+      assertEquals(0, oracle.getSearches());
+    }
+  }
+
+  /**
+   * Testing that the explored map marks every visited location along with the locations that
+   * can be seen through its doors, and that the map handed out can't change the game.
+   */
+  @Test
+  public void testExploredMap() {
+    game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+
+    ReadOnlyGame start = game.gameState();
+    assertEquals(1, start.getVisitedLocations().cardinality());
+    assertTrue(start.getVisitedLocations().get(start.getLocationId()));
+    assertEquals(start.getPossibleMoves().size() + 1, start.getSeenLocations().cardinality());
+
+    start.getVisitedLocations().clear();
+    game.movePlayer(game.getNextStepToEnd());
+    ReadOnlyGame next = game.gameState();
+
+    assertEquals(2, next.getVisitedLocations().cardinality());
+    assertTrue(next.getVisitedLocations().get(start.getLocationId()));
+    assertTrue(next.getVisitedLocations().get(next.getLocationId()));
+    assertTrue(start.getSeenLocations().get(next.getLocationId()));
+    assertTrue(next.getSeenLocations().cardinality() >= start.getSeenLocations().cardinality());
+    assertEquals(1, start.getVisitedLocations().cardinality());
+  }
+
+  /**
+   * Testing that the memory footprint covers every structure of the game, that the structures
+   * used only to create the dungeon are released, and that the estimate made before creating
+   * the game covers what the game holds.
+   */
+  @Test
+  public void testMemoryFootprint() {
+    game = new FantasyRolePlayingGame(20, 20, true, 10, 50, 3, 0, 0, new FixedRandom());
+
+    MemoryFootprint footprint = game.getMemoryFootprint();
+    assertTrue(footprint.getBreakdown().get("nodes") > 400 * 56);
+    assertTrue(footprint.getBreakdown().get("distanceOracle") > 0);
+    assertTrue(footprint.getBreakdown().get("exploredMap") > 0);
+    assertEquals(0L, (long) footprint.getBreakdown().get("scratch"));
+
+    MemoryFootprint estimate = MemoryFootprint.estimate(20, 20, true, 10);
+    assertTrue(estimate.getTotal() > footprint.getTotal());
+    assertTrue(estimate.getBreakdown().get("scratch") > 0);
+  }
+
+  /**
+   * Testing that a dungeon that doesn't fit in the memory budget isn't created.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testMemoryBudgetExceeded() {
+    long budget = MemoryFootprint.estimate(20, 20, true, 10).getTotal() - 1;
+    new FantasyRolePlayingGame(20, 20, true, 10, 50, 3, 0, 0,
+        SharedGameRandom.wrap(new FixedRandom()), MazeAlgorithm.KRUSKAL, budget,
+        DifficultyBand.ANY);
+  }
+
+  /**
+   * Testing that a dungeon that fits in the memory budget is created.
+   */
+  @Test
+  public void testMemoryBudgetMet() {
+    long budget = MemoryFootprint.estimate(20, 20, true, 10).getTotal();
+    game = new FantasyRolePlayingGame(20, 20, true, 10, 50, 3, 0, 0,
+        SharedGameRandom.wrap(new FixedRandom()), MazeAlgorithm.KRUSKAL, budget,
+        DifficultyBand.ANY);
+    assertTrue(game.getMemoryFootprint().getTotal() <= budget);
+  }
+
+  /**
+   * Testing that the difficulty counts the hazards on the way to the end, the arrows that can be
+   * picked up safely and the safe approaches to the end cave.
+   */
+  @Test
+  public void testDifficultyEstimate() {
+    game = new FantasyRolePlayingGame(10, 10, false, 0, 20, 8, 0, 6, new FixedRandom());
+
+    DifficultyEstimate difficulty = game.getDifficulty();
+    assertEquals(0, difficulty.getHazardsOnShortestPaths());
+    assertTrue(difficulty.isHazardFreeRouteAvailable());
+    assertEquals(4, difficulty.getArrowsBeforeFirstMonster());
+    assertEquals(0, difficulty.getArrowShortfall());
+    assertEquals(3, difficulty.getExitApproaches());
+    assertEquals(2, difficulty.getSafeExitApproaches());
+    assertEquals(2, difficulty.getScore());
+  }
+
+  /**
+   * Testing that a difficulty band places the occupants again on the same network until the
+   * difficulty falls in the band.
+   */
+  @Test
+  public void testDifficultyBandResamplesPlacement() {
+    game = new FantasyRolePlayingGame(10, 10, false, 0, 20, 8, 0, 6, new Random(3));
+    assertEquals(13, game.getDifficulty().getScore());
+
+    Game easy = new FantasyRolePlayingGame(10, 10, false, 0, 20, 8, 0, 6,
+        SharedGameRandom.wrap(new Random(3)), MazeAlgorithm.KRUSKAL, Long.MAX_VALUE,
+        new DifficultyBand(0, 4, 100));
+    assertTrue(easy.getDifficulty().getScore() <= 4);
+    assertTrue(easy.getDifficulty().isHazardFreeRouteAvailable());
+    assertEquals(game.printDungeonAs2D(), easy.printDungeonAs2D());
+
+    Game hard = new FantasyRolePlayingGame(10, 10, false, 0, 20, 8, 0, 6,
+        SharedGameRandom.wrap(new Random(3)), MazeAlgorithm.KRUSKAL, Long.MAX_VALUE,
+        new DifficultyBand(20, 100, 100));
+    assertTrue(hard.getDifficulty().getScore() >= 20);
+  }
+
+  /**
+   * Testing that the last placement is kept when no attempt falls in the band.
+   */
+  @Test
+  public void testDifficultyBandAttemptsRunOut() {
+    game = new FantasyRolePlayingGame(10, 10, false, 0, 20, 8, 0, 6,
+        SharedGameRandom.wrap(new FixedRandom()), MazeAlgorithm.KRUSKAL, Long.MAX_VALUE,
+        new DifficultyBand(50, 60, 5));
+    assertEquals(2, game.getDifficulty().getScore());
+  }
+
+  /**
+   * Testing that a band with the highest score below the lowest isn't accepted.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalDifficultyBand() {
+    new DifficultyBand(5, 4, 10);
+  }
+
+  /**
+   * Testing that the listeners are told about the moves, the arrows shot and the monster being
+   * hit and killed, and that a removed listener is no longer told about the changes.
+   */
+  @Test
+  public void testGameEvents() {
+    game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    List<GameEvent> events = new ArrayList<>();
+    GameListener listener = events::add;
+    game.addGameListener(listener);
+
+    Direction step = game.getNextStepToEnd();
+    game.movePlayer(step);
+    assertEquals(1, events.size());
+    assertEquals(GameEventType.PLAYER_MOVED, events.get(0).getType());
+    assertEquals(game.gameState().getLocationId(), events.get(0).getLocation());
+    assertEquals(step.toString(), events.get(0).getDetail());
+
+    while (game.getDistanceToEnd() > 1) {
+      game.movePlayer(game.getNextStepToEnd());
+    }
+    events.clear();
+    step = game.getNextStepToEnd();
+    game.shootArrow(1, step);
+    game.shootArrow(1, step);
+
+    assertEquals(4, events.size());
+    assertEquals(GameEventType.ARROW_SHOT, events.get(0).getType());
+    assertEquals(GameEventType.MONSTER_HIT, events.get(1).getType());
+    assertEquals(GameEventType.ARROW_SHOT, events.get(2).getType());
+    assertEquals(GameEventType.MONSTER_KILLED, events.get(3).getType());
+    assertEquals(events.get(1).getLocation(), events.get(3).getLocation());
+
+    game.removeGameListener(listener);
+    game.movePlayer(step);
+    assertEquals(4, events.size());
+  }
+
+  /**
+   * Testing that with a timer wheel the thief robs the player who stays in its tunnel for 5
+   * seconds, and that moving on to another tunnel gives the player another 5 seconds.
+   */
+  @Test
+  public void testThiefRobsWithTimerWheel() {
+    game = new FantasyRolePlayingGame(5, 5, false, 0, 50, 1, 5, 5, new FixedRandom());
+    TimerWheel wheel = new TimerWheel(100, 64);
+    List<GameEvent> events = new ArrayList<>();
+    game.addGameListener(events::add);
+    game.useTimerWheel(wheel, 0);
+
+    game.pickTreasure(Treasure.DIAMOND);
+    game.movePlayer(Direction.LEFT);
+    wheel.advance(4900);
+    game.movePlayer(Direction.LEFT);
+    wheel.advance(4900);
+    assertEquals(1, game.getTreasureCollectedByPlayer().size());
+    assertEquals(3, game.getArrowsInPlayerBag().size());
+
+    wheel.advance(100);
+    assertEquals(0, game.getTreasureCollectedByPlayer().size());
+    assertEquals(0, game.getArrowsInPlayerBag().size());
+    assertEquals(GameEventType.TREASURE_STOLEN, events.get(events.size() - 1).getType());
+    assertEquals(0, wheel.getPendingTimeouts());
+  }
+
+  /**
+   * Testing that with a timer wheel the player escapes the thief by leaving its tunnel, and that
+   * an idle player is reported to the listeners.
+   */
+  @Test
+  public void testIdleTimeoutWithTimerWheel() {
+    game = new FantasyRolePlayingGame(5, 5, false, 0, 50, 1, 5, 5, new FixedRandom());
+    TimerWheel wheel = new TimerWheel(100, 64);
+    List<GameEvent> events = new ArrayList<>();
+    game.addGameListener(events::add);
+    game.useTimerWheel(wheel, 8000);
+
+    game.pickTreasure(Treasure.DIAMOND);
+    game.movePlayer(Direction.LEFT);
+    game.movePlayer(Direction.LEFT);
+    game.movePlayer(Direction.LEFT);
+    game.movePlayer(Direction.LEFT);
+    game.movePlayer(Direction.DOWN);
+    events.clear();
+    wheel.advance(7900);
+    assertTrue(events.isEmpty());
+    assertEquals(1, game.getTreasureCollectedByPlayer().size());
+
+    wheel.advance(100);
+    assertEquals(1, events.size());
+    assertEquals(GameEventType.IDLE_TIMEOUT, events.get(0).getType());
+    assertEquals(game.gameState().getLocationId(), events.get(0).getLocation());
+  }
+
+  /**
+   * Testing that a game detached from its timer wheel has no timeouts left on it and isn't
+   * robbed by the wheel any more.
+   */
+  @Test
+  public void testDetachTimerWheel() {
+    game = new FantasyRolePlayingGame(5, 5, false, 0, 50, 1, 5, 5, new FixedRandom());
+    TimerWheel wheel = new TimerWheel(100, 64);
+    game.useTimerWheel(wheel, 8000);
+    game.pickTreasure(Treasure.DIAMOND);
+    game.movePlayer(Direction.LEFT);
+    assertTrue(wheel.getPendingTimeouts() > 0);
+
+    game.detachTimerWheel();
+    assertEquals(0, wheel.getPendingTimeouts());
+    wheel.advance(10000);
+    assertEquals(1, game.getTreasureCollectedByPlayer().size());
+  }
+}
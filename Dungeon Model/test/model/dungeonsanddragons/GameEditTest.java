@@ -0,0 +1,161 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import random.FixedRandom;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A JUnit test class for taking back and making again the actions of the player.
+ */
+public class GameEditTest {
+
+  /**
+   * Testing that taking back moves puts the player back where it was with the map it had, and
+   * that making them again brings the player to the same location.
+   */
+  @Test
+  public void testUndoRedoMoves() {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    int start = game.gameState().getLocationId();
+    BitSet visited = game.gameState().getVisitedLocations();
+    BitSet seen = game.gameState().getSeenLocations();
+
+    List<GameEdit> edits = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      Direction next = game.getNextStepToEnd();
+      edits.add(game.record(() -> game.movePlayer(next)));
+    }
+    int reached = game.gameState().getLocationId();
+    BitSet reachedSeen = game.gameState().getSeenLocations();
+
+    for (int i = edits.size() - 1; i >= 0; i--) {
+      edits.get(i).undo();
+    }
+    assertEquals(start, game.gameState().getLocationId());
+    assertEquals(visited, game.gameState().getVisitedLocations());
+    assertEquals(seen, game.gameState().getSeenLocations());
+
+    for (GameEdit edit : edits) {
+      edit.redo();
+    }
+    assertEquals(reached, game.gameState().getLocationId());
+    assertEquals(reachedSeen, game.gameState().getSeenLocations());
+  }
+
+  /**
+   * Testing that taking back picking puts the treasure and the arrow back in the cave and takes
+   * them out of the player's bag.
+   */
+  @Test
+  public void testUndoPicks() {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 100, 1, 0, 0, new FixedRandom());
+    ReadOnlyGame before = game.gameState();
+    int caveArrows = before.getArrowCount();
+    int playerArrows = before.getPlayerArrowCount();
+    int caveTreasure = before.getTreasure().size();
+    assertTrue(caveTreasure > 0);
+    assertTrue(caveArrows > 0);
+    Treasure treasure = before.getTreasure().get(0);
+
+    GameEdit picked = game.record(() -> game.pickTreasure(treasure));
+    GameEdit arrow = game.record(game::pickArrow);
+    assertEquals(caveArrows - 1, game.gameState().getArrowCount());
+    assertEquals(playerArrows + 1, game.gameState().getPlayerArrowCount());
+    assertEquals(caveTreasure - 1, game.gameState().getTreasure().size());
+    assertEquals(1, game.getTreasureCollectedByPlayer().size());
+
+    arrow.undo();
+    picked.undo();
+    ReadOnlyGame after = game.gameState();
+    assertEquals(caveArrows, after.getArrowCount());
+    assertEquals(playerArrows, after.getPlayerArrowCount());
+    assertEquals(caveTreasure, after.getTreasure().size());
+    assertEquals(0, game.getTreasureCollectedByPlayer().size());
+
+    picked.redo();
+    assertEquals(treasure, game.getTreasureCollectedByPlayer().get(0));
+  }
+
+  /**
+   * Testing that taking back a move into the monster brings the player back to life, and that
+   * taking back the shots heals the monster again.
+   */
+  @Test
+  public void testUndoDeathAndShots() {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    while (game.getDistanceToEnd() > 1) {
+      game.movePlayer(game.getNextStepToEnd());
+    }
+    Direction last = game.getNextStepToEnd();
+    int arrows = game.gameState().getPlayerArrowCount();
+
+    GameEdit deadly = game.record(() -> game.movePlayer(last));
+    assertTrue(game.isKilled());
+    deadly.undo();
+    assertFalse(game.isKilled());
+
+    GameEdit first = game.record(() -> game.shootArrow(1, last));
+    GameEdit second = game.record(() -> game.shootArrow(1, last));
+    game.movePlayer(last);
+    assertTrue(game.isReachedEnd());
+    assertEquals(arrows - 2, game.gameState().getPlayerArrowCount());
+    assertEquals(0, game.gameState().getMonsterHealth());
+
+    second.undo();
+    assertEquals(50, game.gameState().getMonsterHealth());
+    first.undo();
+    assertEquals(100, game.gameState().getMonsterHealth());
+    assertEquals(arrows, game.gameState().getPlayerArrowCount());
+    assertTrue(game.isKilled());
+  }
+
+  /**
+   * Testing that an edit can only be taken back once and made again once it was taken back.
+   */
+  @Test
+  public void testUndoRedoOrder() {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    GameEdit edit = game.record(() -> game.movePlayer(game.getNextStepToEnd()));
+    try {
+      edit.redo();
+      fail("Redo before undo should fail");
+    } catch (IllegalStateException e) {
+      assertEquals("Nothing to redo!", e.getMessage());
+    }
+    edit.undo();
+    assertTrue(edit.isUndone());
+    try {
+      edit.undo();
+      fail("Undo twice should fail");
+    } catch (IllegalStateException e) {
+      assertEquals("Already undone!", e.getMessage());
+    }
+  }
+
+  /**
+   * Testing that an action can't be recorded while another one is.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testNestedRecord() {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    game.record(() -> game.record(game::pickArrow));
+  }
+
+  /**
+   * Testing that a missing action can't be recorded.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalAction() {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    game.record(null);
+  }
+}
@@ -0,0 +1,161 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import random.FixedRandom;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A JUnit test class for logging games to the event log.
+ */
+public class GameEventLogTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Testing that the commands of the game, their outcomes, the changes the game reports, the
+   * smells the player runs into and the end of the game are written to the log.
+   */
+  @Test
+  public void testGameIsLogged() throws IOException {
+    Path file = folder.getRoot().toPath().resolve("game.log");
+    GameEventLog log = new GameEventLog(file, 64, 1 << 20, 2);
+    Game game = new LoggedGame(new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0,
+        new FixedRandom()), log);
+    while (game.getDistanceToEnd() > 1) {
+      game.movePlayer(game.getNextStepToEnd());
+    }
+    game.shootArrow(1, game.getNextStepToEnd());
+    try {
+      game.shootArrow(-1, Direction.UP);
+      fail("Shooting a negative distance should fail");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+    game.movePlayer(game.getNextStepToEnd());
+    assertFalse(game.isKilled());
+    assertTrue(game.isReachedEnd());
+    assertTrue(game.isReachedEnd());
+    log.close();
+
+    List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    assertEquals(log.getWritten(), lines.size());
+    assertEquals(0, log.getDropped());
+    assertTrue(contains(lines, " COMMAND move 4 DOWN"));
+    assertTrue(contains(lines, " EVENT PLAYER_MOVED "));
+    assertTrue(contains(lines, " SMELL move 0 MOREPUNGENT"));
+    assertTrue(contains(lines, " COMMAND shootArrow 1 "));
+    assertTrue(contains(lines, " EVENT MONSTER_HIT "));
+    assertTrue(contains(lines, " FAILED shootArrow -1 "));
+    assertEquals(1, lines.stream().filter(line -> line.contains(" WON ")).count());
+    assertTrue(contains(lines, " WON outcome "));
+  }
+
+  /**
+   * Testing that the log file is rotated once it grows past its size, keeping only the given
+   * number of older files.
+   */
+  @Test
+  public void testRotation() throws IOException {
+    Path file = folder.getRoot().toPath().resolve("game.log");
+    GameEventLog log = new GameEventLog(file, 1024, 200, 2);
+    for (int i = 0; i < 100; i++) {
+      log.log(GameEventLog.Kind.COMMAND, "move", "UP", i);
+    }
+    log.close();
+
+    assertTrue(Files.size(file) <= 200);
+    assertTrue(Files.size(file.resolveSibling("game.log.1")) <= 200);
+    assertTrue(Files.exists(file.resolveSibling("game.log.2")));
+    assertFalse(Files.exists(file.resolveSibling("game.log.3")));
+    List<String> last = Files.readAllLines(file, StandardCharsets.UTF_8);
+    assertTrue(last.get(last.size() - 1).endsWith(" COMMAND move 99 UP"));
+  }
+
+  /**
+   * Testing that entries are dropped instead of waiting when the buffer is full, and that every
+   * entry is either written or dropped, however many threads log at once.
+   */
+  @Test
+  public void testFullBufferDrops() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("game.log");
+    GameEventLog log = new GameEventLog(file, 2, 1 << 20, 0);
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          log.log(GameEventLog.Kind.EVENT, "PLAYER_MOVED", null, i);
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    log.close();
+
+    assertTrue(log.getDropped() > 0);
+    assertEquals(40_000, log.getWritten() + log.getDropped());
+    assertEquals(log.getWritten(), Files.readAllLines(file, StandardCharsets.UTF_8).size());
+    assertFalse(log.log(GameEventLog.Kind.EVENT, "PLAYER_MOVED", null, 0));
+  }
+
+  /**
+   * Testing that closing the log while other threads are still logging loses no entry: every
+   * entry is either written or dropped.
+   */
+  @Test
+  public void testCloseWhileLogging() throws Exception {
+    Path file = folder.getRoot().toPath().resolve("game.log");
+    GameEventLog log = new GameEventLog(file, 1024, 1 << 20, 0);
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          log.log(GameEventLog.Kind.EVENT, "PLAYER_MOVED", null, i);
+        }
+      });
+      threads[t].start();
+    }
+    Thread.sleep(1);
+    log.close();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(40_000, log.getWritten() + log.getDropped());
+    assertEquals(log.getWritten(), Files.readAllLines(file, StandardCharsets.UTF_8).size());
+  }
+
+  /**
+   * Testing that the buffer must hold a power of two entries.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalCapacity() throws IOException {
+    new GameEventLog(folder.getRoot().toPath().resolve("game.log"), 100, 1, 0);
+  }
+
+  /**
+   * Private helper method to check if any line holds the given text.
+   *
+   * @param lines represents the lines of the log.
+   * @param text represents the text to find.
+   * @return true if a line holds the text, false otherwise.
+   */
+  private static boolean contains(List<String> lines, String text) {
+    return lines.stream().anyMatch(line -> line.contains(text));
+  }
+}
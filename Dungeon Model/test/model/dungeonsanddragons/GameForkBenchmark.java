@@ -0,0 +1,59 @@
+package model.dungeonsanddragons;
+
+import java.util.Locale;
+
+/**
+ * Measures how many times per second a game on the largest 100 x 100 dungeon can be forked, both
+ * right after it is created and after each fork has been played a few steps, which is how a bot
+ * searching ahead uses the forks. Run it with java model.dungeonsanddragons.GameForkBenchmark.
+ */
+public class GameForkBenchmark {
+
+  private static final int FORKS = 200000;
+  private static final int RUNS = 3;
+
+  /**
+   * Runs the benchmark and prints the forks per second.
+   *
+   * @param args are not used.
+   */
+  public static void main(String[] args) {
+    Game game = new FantasyRolePlayingGame(100, 100, false, 50, 50, 20, 10, 10,
+        new SplittableGameRandom(1), MazeAlgorithm.KRUSKAL, Long.MAX_VALUE,
+        DifficultyBand.ANY);
+    System.out.println("forks        played  forks/s");
+
+    for (int run = 0; run < RUNS; run++) {
+      long started = System.nanoTime();
+      long sink = 0;
+      for (int i = 0; i < FORKS; i++) {
+        sink += game.fork().getRows();
+      }
+      print(FORKS, 0, System.nanoTime() - started, sink);
+
+      started = System.nanoTime();
+      sink = 0;
+      for (int i = 0; i < FORKS / 10; i++) {
+        Game fork = game.fork();
+        fork.shootArrow(1, fork.getNextStepToEnd());
+        fork.movePlayer(fork.getNextStepToEnd());
+        fork.movePlayer(fork.getNextStepToEnd());
+        sink += fork.gameState().getLocationId();
+      }
+      print(FORKS / 10, 3, System.nanoTime() - started, sink);
+    }
+  }
+
+  /**
+   * Private helper method to print the forks per second of a timed loop.
+   *
+   * @param forks represents the number of forks made.
+   * @param played represents the number of commands played on every fork.
+   * @param nanos represents the time the loop took in nanoseconds.
+   * @param sink represents the sum of the results, so the loop isn't optimized away.
+   */
+  private static void print(int forks, int played, long nanos, long sink) {
+    System.out.println(String.format(Locale.ROOT, "%-12d %6d %8.0f%s", forks, played,
+        forks / (nanos / 1e9), sink == Long.MIN_VALUE ? "!" : ""));
+  }
+}
@@ -0,0 +1,148 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import random.FixedRandom;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A JUnit test class for forking the game.
+ */
+public class GameForkTest {
+
+  /**
+   * Testing that moving and picking in a fork leaves the game it was forked from as it was, and
+   * the other way around.
+   */
+  @Test
+  public void testForkIsIndependent() {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 100, 1, 0, 0, new FixedRandom());
+    int start = game.gameState().getLocationId();
+    int caveArrows = game.gameState().getArrowCount();
+    int caveTreasure = game.gameState().getTreasure().size();
+
+    Game fork = game.fork();
+    fork.pickArrow();
+    fork.pickTreasure(fork.gameState().getTreasure().get(0));
+    Direction step = fork.getNextStepToEnd();
+    fork.movePlayer(step);
+
+    assertEquals(start, game.gameState().getLocationId());
+    assertEquals(caveArrows, game.gameState().getArrowCount());
+    assertEquals(caveTreasure, game.gameState().getTreasure().size());
+    assertEquals(3, game.gameState().getPlayerArrowCount());
+    assertEquals(0, game.getTreasureCollectedByPlayer().size());
+    assertEquals(1, game.gameState().getVisitedLocations().cardinality());
+
+    game.pickArrow();
+    assertEquals(caveArrows - 1, game.gameState().getArrowCount());
+    assertEquals(4, fork.gameState().getPlayerArrowCount());
+    fork.movePlayer(DistanceField.opposite(step));
+    assertEquals(caveArrows - 1, fork.gameState().getArrowCount());
+    assertEquals(caveTreasure - 1, fork.gameState().getTreasure().size());
+  }
+
+  /**
+   * Testing that hurting the monster in a fork doesn't hurt it in the game or in another fork.
+   */
+  @Test
+  public void testMonsterHealthIsForked() throws IOException {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    while (game.getDistanceToEnd() > 1) {
+      game.movePlayer(game.getNextStepToEnd());
+    }
+    Direction last = game.getNextStepToEnd();
+
+    Game first = game.fork();
+    Game second = first.fork();
+    first.shootArrow(1, last);
+    second.shootArrow(1, last);
+    second.shootArrow(1, last);
+
+    assertEquals(1, GraphExportTest.count(GraphExportTest.export(game, GraphFormat.JSON),
+        "\"monster\":100"));
+    assertEquals(1, GraphExportTest.count(GraphExportTest.export(first, GraphFormat.JSON),
+        "\"monster\":50"));
+    assertEquals(1, GraphExportTest.count(GraphExportTest.export(second, GraphFormat.JSON),
+        "\"monster\":0"));
+    assertEquals("MOREPUNGENT", game.gameState().getSmell());
+    assertEquals("", second.gameState().getSmell());
+
+    game.movePlayer(last);
+    assertTrue(game.isKilled());
+    second.movePlayer(last);
+    assertFalse(second.isKilled());
+    assertTrue(second.isReachedEnd());
+  }
+
+  /**
+   * Testing that the rolls made in a fork of a game built on a seeded generator don't change the
+   * rolls the game makes afterwards.
+   */
+  @Test
+  public void testForkRollsDontChangeTheGame() {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new Random(5));
+    Game twin = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new Random(5));
+    Direction last = null;
+    for (Game played : new Game[] {game, twin}) {
+      while (played.getDistanceToEnd() > 1) {
+        played.movePlayer(played.getNextStepToEnd());
+      }
+      last = played.getNextStepToEnd();
+      played.shootArrow(1, last);
+    }
+
+    Game fork = game.fork();
+    twin.fork();
+    fork.movePlayer(last);
+    game.movePlayer(last);
+    twin.movePlayer(last);
+    for (int i = 0; i < 20; i++) {
+      fork.isKilled();
+    }
+
+    for (int i = 0; i < 20; i++) {
+      assertEquals(twin.isKilled(), game.isKilled());
+    }
+  }
+
+  /**
+   * Testing that taking back an action in the game after forking leaves the fork as it was.
+   */
+  @Test
+  public void testUndoAfterFork() {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 100, 1, 0, 0, new FixedRandom());
+    int caveArrows = game.gameState().getArrowCount();
+    GameEdit picked = game.record(game::pickArrow);
+
+    Game fork = game.fork();
+    picked.undo();
+    assertEquals(caveArrows, game.gameState().getArrowCount());
+    assertEquals(caveArrows - 1, fork.gameState().getArrowCount());
+    assertEquals(4, fork.gameState().getPlayerArrowCount());
+  }
+
+  /**
+   * Testing that the listeners of the game don't hear about the changes made in a fork.
+   */
+  @Test
+  public void testForkIsQuiet() {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    List<GameEvent> events = new ArrayList<>();
+    game.addGameListener(events::add);
+
+    Game fork = game.fork();
+    fork.movePlayer(fork.getNextStepToEnd());
+    assertEquals(0, events.size());
+    game.movePlayer(game.getNextStepToEnd());
+    assertEquals(1, events.size());
+  }
+}
@@ -0,0 +1,240 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A JUnit test class for the GameSessionStore class.
+ */
+public class GameSessionStoreTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  /**
+   * Testing that a game nobody acted on for the idle time is hibernated to a small file, and
+   * wakes up where it was left by the next command.
+   */
+  @Test
+  public void testIdleGameWakesUpWhereItWas() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    long[] now = {0};
+    GameSessionStore store = new GameSessionStore(directory, 1000, Long.MAX_VALUE,
+        () -> now[0]);
+    store.register("alice", 30, 30, false, 6, 100, 1, 0, 0, 5);
+
+    store.run("alice", game -> {
+      game.pickArrow();
+      game.pickTreasure(game.gameState().getTreasure().get(0));
+      game.movePlayer(game.getNextStepToEnd());
+    });
+    int location = store.apply("alice", game -> game.gameState().getLocationId());
+    int arrows = store.apply("alice", game -> game.gameState().getPlayerArrowCount());
+    BitSet visited = store.apply("alice", game -> game.gameState().getVisitedLocations());
+    String before = store.apply("alice", game -> GraphExportTest.export(game, GraphFormat.JSON));
+
+    now[0] = 999;
+    assertEquals(0, store.hibernateIdle());
+    now[0] = 1000;
+    assertEquals(1, store.hibernateIdle());
+    assertFalse(store.isResident("alice"));
+    assertEquals(0, store.getResidentBytes());
+    assertTrue(Files.size(directory.resolve("alice.game")) < 1024);
+
+    assertEquals(location, (int) store.apply("alice", game -> game.gameState().getLocationId()));
+    assertTrue(store.isResident("alice"));
+    assertEquals(arrows, (int) store.apply("alice",
+        game -> game.gameState().getPlayerArrowCount()));
+    assertEquals(1, (int) store.apply("alice",
+        game -> game.getTreasureCollectedByPlayer().size()));
+    assertEquals(visited, store.apply("alice", game -> game.gameState().getVisitedLocations()));
+    assertEquals(before,
+        store.apply("alice", game -> GraphExportTest.export(game, GraphFormat.JSON)));
+  }
+
+  /**
+   * Testing that the games acted on longest ago are hibernated once the games in memory don't fit
+   * in the memory budget, and that every session keeps its own game.
+   */
+  @Test
+  public void testLeastRecentlyUsedGamesAreHibernated() throws IOException {
+    long bytes = new FantasyRolePlayingGame(30, 30, false, 6, 50, 1, 0, 0,
+        new SplittableGameRandom(1), MazeAlgorithm.KRUSKAL, Long.MAX_VALUE,
+        DifficultyBand.ANY).getMemoryFootprint().getTotal();
+    GameSessionStore store = new GameSessionStore(folder.getRoot().toPath(),
+        Long.MAX_VALUE, bytes * 5 / 2);
+    for (int i = 0; i < 3; i++) {
+      store.register("player" + i, 30, 30, false, 6, 50, 1, 0, 0, i);
+    }
+    assertEquals(3, store.getSessions());
+    assertEquals(2, store.getResidentSessions());
+    assertFalse(store.isResident("player0"));
+
+    int start = store.apply("player0", game -> game.gameState().getLocationId());
+    assertTrue(store.isResident("player0"));
+    assertFalse(store.isResident("player1"));
+    assertTrue(store.isResident("player2"));
+    assertTrue(store.getResidentBytes() <= bytes * 5 / 2);
+
+    store.run("player0", game -> game.movePlayer(game.getNextStepToEnd()));
+    store.run("player1", game -> game.movePlayer(game.getNextStepToEnd()));
+    assertFalse(store.isResident("player2"));
+    assertTrue(start != store.apply("player0", game -> game.gameState().getLocationId()));
+  }
+
+  /**
+   * Testing that only the games idle for the idle time are hibernated, however they were
+   * registered, and that the bytes in memory follow the games as commands make them grow.
+   */
+  @Test
+  public void testOnlyIdleGamesAreHibernated() throws IOException {
+    long[] now = {0};
+    GameSessionStore store = new GameSessionStore(folder.getRoot().toPath(), 1000,
+        Long.MAX_VALUE, () -> now[0]);
+    store.register("alice", 30, 30, false, 6, 100, 1, 0, 0, 5);
+    store.register("bob", 30, 30, false, 6, 100, 1, 0, 0, 6);
+    long bob = store.apply("bob", game -> game.getMemoryFootprint().getTotal());
+
+    now[0] = 500;
+    store.run("alice", game -> game.pickTreasure(game.gameState().getTreasure().get(0)));
+    long alice = store.apply("alice", game -> game.getMemoryFootprint().getTotal());
+    assertEquals(alice + bob, store.getResidentBytes());
+
+    now[0] = 1000;
+    assertEquals(1, store.hibernateIdle());
+    assertFalse(store.isResident("bob"));
+    assertEquals(alice, store.getResidentBytes());
+    now[0] = 1499;
+    assertEquals(0, store.hibernateIdle());
+    now[0] = 1500;
+    assertEquals(1, store.hibernateIdle());
+    assertEquals(0, store.getResidentBytes());
+  }
+
+  /**
+   * Testing that a game woken up goes on with the combat rolls of the game that was hibernated,
+   * the same as a game with the same seed that was saved but kept in memory, rather than rolling
+   * from the start of its combat rolls again.
+   */
+  @Test
+  public void testWakingUpKeepsTheCombatRolls() throws IOException {
+    long[] now = {0};
+    GameSessionStore store = new GameSessionStore(folder.getRoot().toPath(), 1000,
+        Long.MAX_VALUE, () -> now[0]);
+    store.register("alice", 8, 8, false, 4, 50, 1, 0, 0, 9);
+    store.run("alice", GameSessionStoreTest::faceInjuredMonster);
+    FantasyRolePlayingGame twin = new FantasyRolePlayingGame(8, 8, false, 4, 50, 1, 0, 0,
+        new SplittableGameRandom(9), MazeAlgorithm.KRUSKAL, Long.MAX_VALUE, DifficultyBand.ANY);
+    faceInjuredMonster(twin);
+    assertEquals(50, twin.gameState().getMonsterHealth());
+
+    Set<Boolean> rolls = new HashSet<>();
+    for (int i = 0; i < 20; i++) {
+      now[0] += 1000;
+      assertEquals(1, store.hibernateIdle());
+      twin.saveProgress();
+      boolean roll = twin.isKilled();
+      rolls.add(roll);
+      assertEquals(roll, store.apply("alice", Game::isKilled));
+    }
+    assertEquals(2, rolls.size());
+  }
+
+  /**
+   * Testing that a command running on the game of one session doesn't hold up a command on
+   * another session.
+   */
+  @Test
+  public void testSessionsArePlayedAtTheSameTime() throws IOException {
+    GameSessionStore store = new GameSessionStore(folder.getRoot().toPath(), Long.MAX_VALUE,
+        Long.MAX_VALUE);
+    store.register("alice", 8, 8, false, 4, 50, 1, 0, 0, 1);
+    store.register("bob", 8, 8, false, 4, 50, 1, 0, 0, 2);
+
+    boolean[] finished = {false};
+    store.run("alice", game -> {
+      Thread bob = new Thread(() -> store.run("bob", Game::getDistanceToEnd));
+      bob.start();
+      try {
+        bob.join(10_000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      finished[0] = !bob.isAlive();
+    });
+    assertTrue(finished[0]);
+  }
+
+  /**
+   * Testing that a removed session is gone along with its hibernated game.
+   */
+  @Test
+  public void testRemove() throws IOException {
+    Path directory = folder.getRoot().toPath();
+    long[] now = {0};
+    GameSessionStore store = new GameSessionStore(directory, 10, Long.MAX_VALUE, () -> now[0]);
+    store.register("bob", 8, 8, true, 6, 50, 1, 0, 0, 3);
+    now[0] = 10;
+    store.hibernateIdle();
+    assertTrue(Files.exists(directory.resolve("bob.game")));
+
+    store.remove("bob");
+    assertEquals(0, store.getSessions());
+    assertFalse(Files.exists(directory.resolve("bob.game")));
+  }
+
+  /**
+   * Testing that a session id can't be registered twice.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testDuplicateSession() throws IOException {
+    GameSessionStore store = new GameSessionStore(folder.getRoot().toPath(), 10, 10);
+    store.register("bob", 8, 8, true, 6, 50, 1, 0, 0, 3);
+    store.register("bob", 8, 8, true, 6, 50, 1, 0, 0, 3);
+  }
+
+  /**
+   * Testing that a session id can't lead out of the directory of the store.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalSessionId() throws IOException {
+    new GameSessionStore(folder.getRoot().toPath(), 10, 10)
+        .register("../bob", 8, 8, true, 6, 50, 1, 0, 0, 3);
+  }
+
+  /**
+   * Testing that commands can't be sent to a session that isn't registered.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownSession() throws IOException {
+    new GameSessionStore(folder.getRoot().toPath(), 10, 10)
+        .run("bob", Game::pickArrow);
+  }
+
+  /**
+   * Private helper method to walk the player into the ending cave, after shooting the monster in
+   * it once from the cave before, so every roll decides if the monster eats the player.
+   *
+   * @param game represents the game.
+   */
+  private static void faceInjuredMonster(Game game) {
+    while (game.getDistanceToEnd() > 1) {
+      game.movePlayer(game.getNextStepToEnd());
+    }
+    Direction last = game.getNextStepToEnd();
+    game.shootArrow(1, last);
+    game.movePlayer(last);
+  }
+}
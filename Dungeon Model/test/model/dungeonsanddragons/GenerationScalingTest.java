@@ -0,0 +1,176 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A JUnit test class that guards the generation of the dungeon against super-linear blow-ups.
+ * Every phase is timed on sizes that double the number of locations each step, the growth rate
+ * is fitted as the exponent of the time against the number of locations, and the test fails if
+ * the exponent goes over the budget of the phase. A budget of log2(3) means that doubling the
+ * locations may at most triple the time. To keep noisy machines from failing the build, each size
+ * is timed a few times after a warm up and the fastest run is kept, and a phase that goes over its
+ * budget is measured once more before it is reported.
+ */
+public class GenerationScalingTest {
+
+  private static final double TRIPLE_PER_DOUBLING = Math.log(3) / Math.log(2);
+  private static final int RUNS = 5;
+  private static final int[][] DUNGEON_SIZES = {{20, 20}, {20, 40}, {40, 40}, {40, 80},
+      {80, 80}};
+  private static final int[][] GRID_SIZES = {{128, 128}, {128, 256}, {256, 256}, {256, 512}};
+
+  /**
+   * Testing that creating a whole game grows at most linearly with the number of locations, for
+   * a dungeon without extra paths, with a few and with many.
+   */
+  @Test
+  public void testGameGenerationScales() {
+    for (int percent : new int[] {0, 1, 10}) {
+      assertScales("game generation with " + percent + "% interconnectivity", DUNGEON_SIZES,
+          (rows, columns) -> {
+            int interconnectivity = rows * columns * percent / 100;
+            return () -> new FantasyRolePlayingGame(rows, columns, false, interconnectivity,
+                20, 5, 2, 2, new Random(rows * 31 + columns));
+          });
+    }
+  }
+
+  /**
+   * Testing that every maze algorithm grows at most linearly with the number of locations. The
+   * algorithms are run directly on grids larger than a dungeon can be.
+   */
+  @Test
+  public void testMazeAlgorithmsScale() {
+    for (MazeAlgorithm algorithm : MazeAlgorithm.values()) {
+      SpanningTreeStrategy strategy = algorithm.createStrategy();
+      assertScales(algorithm + " maze", GRID_SIZES, (rows, columns) -> {
+        int[][] grid = GridEdges.of(rows, columns);
+        return () -> strategy.orderEdges(rows * columns, grid[0], grid[1],
+            new SplittableGameRandom(rows));
+      });
+    }
+  }
+
+  /**
+   * Testing that building the distance oracle grows at most linearly with the number of
+   * locations for the same number of extra edges. Every end point of an extra edge searches the
+   * dungeon once, up to the memory budget of the oracle, so the extra edges are held fixed.
+   */
+  @Test
+  public void testDistanceOracleScales() {
+    assertScales("distance oracle", DUNGEON_SIZES, (rows, columns) -> {
+      DungeonImpl dungeon = new DungeonImpl(rows, columns, true, new Random(rows));
+      dungeon.create(20, 20, 5, 2, 2);
+      int locations = rows * columns;
+      List<Interconnection> edges = dungeon.getSpanningTreeEdges();
+      return () -> new DistanceOracle(locations, edges.subList(0, locations - 1),
+          edges.subList(locations - 1, edges.size()));
+    });
+  }
+
+  /**
+   * Testing that the fitted growth rate tells a linear phase apart from a quadratic one.
+   */
+  @Test
+  public void testGrowthExponent() {
+    double[] nodes = {1000, 2000, 4000, 8000};
+    double[] linear = new double[nodes.length];
+    double[] quadratic = new double[nodes.length];
+    for (int i = 0; i < nodes.length; i++) {
+      linear[i] = 3 * nodes[i] + 50;
+      quadratic[i] = nodes[i] * nodes[i] / 1000;
+    }
+
+    assertTrue(growthExponent(nodes, linear) < TRIPLE_PER_DOUBLING);
+    assertEquals(2.0, growthExponent(nodes, quadratic), 1e-9);
+  }
+
+  /**
+   * Creates the work for a phase on a grid of the given size.
+   */
+  private interface PhaseFactory {
+
+    /**
+     * Sets up everything the phase needs and returns the work that is timed.
+     *
+     * @param rows represents the number of rows of the grid.
+     * @param columns represents the number of columns of the grid.
+     * @return the work that is timed.
+     */
+    Runnable create(int rows, int columns);
+  }
+
+  /**
+   * Times the phase on every size and fails if its growth goes over the budget twice in a row.
+   *
+   * @param phase represents the name of the phase.
+   * @param sizes represents the rows and columns of every size, doubling the locations each step.
+   * @param factory represents the factory of the work of the phase.
+   */
+  private static void assertScales(String phase, int[][] sizes, PhaseFactory factory) {
+    double exponent = measure(sizes, factory);
+    if (exponent > TRIPLE_PER_DOUBLING) {
+      exponent = Math.min(exponent, measure(sizes, factory));
+    }
+
+    assertTrue(String.format("%s grows as n^%.2f which is over the budget of n^%.2f", phase,
+        exponent, TRIPLE_PER_DOUBLING), exponent <= TRIPLE_PER_DOUBLING);
+  }
+
+  /**
+   * Times the phase on every size and fits its growth rate.
+   *
+   * @param sizes represents the rows and columns of every size.
+   * @param factory represents the factory of the work of the phase.
+   * @return the growth exponent of the phase.
+   */
+  private static double measure(int[][] sizes, PhaseFactory factory) {
+    double[] nodes = new double[sizes.length];
+    double[] nanos = new double[sizes.length];
+
+    for (int i = 0; i < sizes.length; i++) {
+      Runnable work = factory.create(sizes[i][0], sizes[i][1]);
+      work.run();
+      long best = Long.MAX_VALUE;
+      for (int run = 0; run < RUNS; run++) {
+        long started = System.nanoTime();
+        work.run();
+        best = Math.min(best, System.nanoTime() - started);
+      }
+      nodes[i] = (double) sizes[i][0] * sizes[i][1];
+      nanos[i] = Math.max(best, 1);
+    }
+    return growthExponent(nodes, nanos);
+  }
+
+  /**
+   * Fits time = c * n^k by least squares on the logarithms and returns k.
+   *
+   * @param nodes represents the number of locations of every size.
+   * @param times represents the time taken on every size.
+   * @return the growth exponent.
+   */
+  private static double growthExponent(double[] nodes, double[] times) {
+    double meanX = 0;
+    double meanY = 0;
+    for (int i = 0; i < nodes.length; i++) {
+      meanX += Math.log(nodes[i]) / nodes.length;
+      meanY += Math.log(times[i]) / nodes.length;
+    }
+
+    double covariance = 0;
+    double variance = 0;
+    for (int i = 0; i < nodes.length; i++) {
+      double x = Math.log(nodes[i]) - meanX;
+      covariance += x * (Math.log(times[i]) - meanY);
+      variance += x * x;
+    }
+    return covariance / variance;
+  }
+}
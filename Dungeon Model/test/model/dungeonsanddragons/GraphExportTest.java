@@ -0,0 +1,177 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * A JUnit test class for exporting the dungeon as a graph.
+ */
+public class GraphExportTest {
+
+  /**
+   * Testing that the JSON export holds every location once, the start and the end, and every
+   * edge of the spanning tree followed by the extra edges.
+   */
+  @Test
+  public void testJsonExport() throws IOException {
+    Game game = new FantasyRolePlayingGame(6, 7, false, 5, 50, 3, 2, 2, new Random(4));
+    String json = export(game, GraphFormat.JSON);
+
+    assertTrue(json.startsWith("{\"rows\":6,\"columns\":7,\"nodes\":[\n{\"id\":0,\"row\":0,"
+        + "\"column\":0,"));
+    assertTrue(json.endsWith("}\n]}\n"));
+    assertEquals(42, count(json, "{\"id\":"));
+    assertEquals(1, count(json, "\"role\":\"START\""));
+    assertEquals(1, count(json, "\"role\":\"END\""));
+    assertEquals(41, count(json, "\"kind\":\"tree\""));
+    assertEquals(5, count(json, "\"kind\":\"extra\""));
+    assertEquals(3, count(json, "\"monster\":100"));
+    assertEquals(2, count(json, "\"pit\":true"));
+    assertEquals(2, count(json, "\"thief\":true"));
+  }
+
+  /**
+   * Testing that the DOT export holds a node for every location and an edge for every tunnel or
+   * cave joining them.
+   */
+  @Test
+  public void testDotExport() throws IOException {
+    Game game = new FantasyRolePlayingGame(5, 5, true, 3, 20, 1, 0, 0, new Random(9));
+    String dot = export(game, GraphFormat.DOT);
+
+    assertTrue(dot.startsWith("graph dungeon {\n  graph [rows=5, columns=5];\n  n0 [row=0, "
+        + "column=0, type="));
+    assertTrue(dot.endsWith("];\n}\n"));
+    assertEquals(25, count(dot, ", column="));
+    assertEquals(24, count(dot, "[kind=tree]"));
+    assertEquals(3, count(dot, "[kind=extra]"));
+    assertEquals(1, count(dot, "role=START"));
+    assertEquals(1, count(dot, "role=END"));
+  }
+
+  /**
+   * Testing that the GraphML export declares its keys and holds every location and edge.
+   */
+  @Test
+  public void testGraphMlExport() throws IOException {
+    Game game = new FantasyRolePlayingGame(5, 6, false, 0, 20, 1, 1, 1, new Random(2));
+    String graphMl = export(game, GraphFormat.GRAPHML);
+
+    assertTrue(graphMl.startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<graphml"));
+    assertTrue(graphMl.endsWith("  </graph>\n</graphml>\n"));
+    assertTrue(graphMl.contains("<key id=\"diamond\" for=\"node\" attr.name=\"diamond\" "
+        + "attr.type=\"int\"/>"));
+    assertEquals(30, count(graphMl, "<node id=\"n"));
+    assertEquals(29, count(graphMl, "<edge id=\"e"));
+    assertEquals(29, count(graphMl, "<data key=\"kind\">tree</data>"));
+    assertEquals(0, count(graphMl, "<data key=\"kind\">extra</data>"));
+  }
+
+  /**
+   * Testing that exporting to a stream writes the same document as exporting to a writer.
+   */
+  @Test
+  public void testStreamExportMatchesWriter() throws IOException {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 4, 2, 2, new Random(12));
+    for (GraphFormat format : GraphFormat.values()) {
+      ByteArrayOutputStream stream = new ByteArrayOutputStream();
+      game.exportDungeon(format, stream);
+      assertEquals(export(game, format), new String(stream.toByteArray(),
+          StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * Testing that the export is written in small pieces as the dungeon is visited instead of
+   * being built up in memory first.
+   */
+  @Test
+  public void testExportIsStreamed() throws IOException {
+    Game game = new FantasyRolePlayingGame(100, 100, false, 50, 50, 20, 10, 10, new Random(1));
+    for (GraphFormat format : GraphFormat.values()) {
+      ChunkWriter out = new ChunkWriter();
+      game.exportDungeon(format, out);
+      assertTrue(out.written > 10000 * 50);
+      assertTrue(format + " wrote " + out.largest + " characters at once", out.largest <= 128);
+    }
+  }
+
+  /**
+   * Testing that the dungeon can't be exported without a format.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalFormat() throws IOException {
+    Game game = new FantasyRolePlayingGame(5, 5, false, 0, 20, 1, 0, 0, new Random(2));
+    game.exportDungeon(null, new StringWriter());
+  }
+
+  /**
+   * Helper method to export the game to a string, shared with the other tests that compare
+   * dungeons through their export.
+   *
+   * @param game represents the game to export.
+   * @param format represents the format to export in.
+   * @return the exported document.
+   * @throws IllegalStateException if the export fails.
+   */
+  static String export(Game game, GraphFormat format) throws IllegalStateException {
+    StringWriter out = new StringWriter();
+    try {
+      game.exportDungeon(format, out);
+    }
+    catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return out.toString();
+  }
+
+  /**
+   * Helper method to count the occurrences of a piece of text, shared with the other tests that
+   * compare dungeons through their export.
+   *
+   * @param text represents the text to search.
+   * @param piece represents the piece to count.
+   * @return the number of occurrences.
+   */
+  static int count(String text, String piece) {
+    int count = 0;
+    for (int i = text.indexOf(piece); i >= 0; i = text.indexOf(piece, i + piece.length())) {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * A writer that throws away what it is given, remembering how much was written and the
+   * largest piece written at once.
+   */
+  private static class ChunkWriter extends Writer {
+    private long written;
+    private int largest;
+
+    @Override
+    public void write(char[] buffer, int offset, int length) {
+      written += length;
+      largest = Math.max(largest, length);
+    }
+
+    @Override
+    public void flush() {
+      //Nothing is buffered.
+    }
+
+    @Override
+    public void close() {
+      //Nothing to release.
+    }
+  }
+}
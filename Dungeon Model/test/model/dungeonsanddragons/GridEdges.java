@@ -0,0 +1,41 @@
+package model.dungeonsanddragons;
+
+/**
+ * GridEdges class builds the edges of a plain grid for the tests and benchmarks that run the
+ * maze algorithms directly, without creating a dungeon. Since it is only shared by the tests of
+ * this package, this class is kept as package-private.
+ */
+final class GridEdges {
+
+  /**
+   * An empty constructor since the class only holds static helpers.
+   */
+  private GridEdges() {
+  }
+
+  /**
+   * Builds the horizontal and vertical edges of a grid without wrapping.
+   *
+   * @param rows represents the number of rows of the grid.
+   * @param columns represents the number of columns of the grid.
+   * @return the sources and the destinations of the edges.
+   */
+  static int[][] of(int rows, int columns) {
+    int edges = rows * (columns - 1) + columns * (rows - 1);
+    int[][] grid = new int[2][edges];
+    int count = 0;
+    for (int r = 0; r < rows; r++) {
+      for (int c = 0; c < columns; c++) {
+        if (c + 1 < columns) {
+          grid[0][count] = r * columns + c;
+          grid[1][count++] = r * columns + c + 1;
+        }
+        if (r + 1 < rows) {
+          grid[0][count] = r * columns + c;
+          grid[1][count++] = (r + 1) * columns + c;
+        }
+      }
+    }
+    return grid;
+  }
+}
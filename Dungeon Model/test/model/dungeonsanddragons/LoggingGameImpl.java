@@ -1,6 +1,9 @@
 package model.dungeonsanddragons;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 /**
@@ -145,6 +148,22 @@ public class LoggingGameImpl implements Game {
     return;
   }
 
+  /**
+   * Goes down the stairs to the next level.
+   */
+  @Override
+  public void descend() {
+    return;
+  }
+
+  /**
+   * Climbs the stairs to the level above.
+   */
+  @Override
+  public void climb() {
+    return;
+  }
+
   /**
    * Gets the arrows currently in the player bag.
    *
@@ -167,30 +186,193 @@ public class LoggingGameImpl implements Game {
     return Smell.PUNGENT;
   }
 
+  /**
+   * Gets the sound the player can hear, which is never any in the mock.
+   *
+   * @return null as there is no sound.
+   */
   @Override
   public Sound getSound() {
     return null;
   }
 
+  /**
+   * Gets how strongly the player senses the given sense.
+   *
+   * @param sense represents the sense.
+   * @return 0 as nothing is sensed.
+   */
+  @Override
+  public int getIntensity(Sense sense) {
+    return 0;
+  }
+
+  /**
+   * Checks if the thief has stolen the treasure, which never happens in the mock.
+   *
+   * @param time represents the current system time.
+   */
   @Override
   public void checkTreasureStolen(Long time) {
     return;
   }
 
+  /**
+   * Checks if the player has fallen into the pit.
+   *
+   * @return false as the player never falls.
+   */
   @Override
   public boolean isFallen() {
     return false;
   }
 
+  /**
+   * Gets the number of rows of the dungeon.
+   *
+   * @return 0 as the mock has no dungeon.
+   */
   @Override
   public int getRows() {
     return 0;
   }
 
+  /**
+   * Gets the number of columns of the dungeon.
+   *
+   * @return 0 as the mock has no dungeon.
+   */
   @Override
   public int getColumns() {
     return 0;
   }
 
+  /**
+   * Gets the number of moves left to reach the end cave.
+   *
+   * @return 5 moves.
+   */
+  @Override
+  public int getDistanceToEnd() {
+    return 5;
+  }
 
+  /**
+   * Gets the move towards the end cave.
+   *
+   * @return LEFT as the move towards the end cave.
+   */
+  @Override
+  public Direction getNextStepToEnd() {
+    return Direction.LEFT;
+  }
+
+  /**
+   * Gets the number of moves between two locations.
+   *
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @return 5 moves.
+   */
+  @Override
+  public int getDistanceBetween(int source, int destination) {
+    return 5;
+  }
+
+  /**
+   * Gets the memory footprint of the game.
+   *
+   * @return an empty memory footprint.
+   */
+  @Override
+  public MemoryFootprint getMemoryFootprint() {
+    return new MemoryFootprint(new LinkedHashMap<>());
+  }
+
+  /**
+   * Gets the difficulty of the dungeon.
+   *
+   * @return the difficulty of an empty dungeon.
+   */
+  @Override
+  public DifficultyEstimate getDifficulty() {
+    return new DifficultyEstimate(0, 0, true, 0, 1, 1);
+  }
+
+  /**
+   * Adds a listener, which is never told anything by the mock.
+   *
+   * @param listener represents the listener to add.
+   */
+  @Override
+  public void addGameListener(GameListener listener) {
+  }
+
+  /**
+   * Removes a listener, which is never told anything by the mock.
+   *
+   * @param listener represents the listener to remove.
+   */
+  @Override
+  public void removeGameListener(GameListener listener) {
+  }
+
+  /**
+   * Takes the timer wheel, which is never used by the mock.
+   *
+   * @param timers represents the timer wheel that fires the timed rules.
+   * @param idleTimeoutMillis represents the time the player may not act for.
+   */
+  @Override
+  public void useTimerWheel(TimerWheel timers, long idleTimeoutMillis) {
+  }
+
+  /**
+   * Stops using the timer wheel, which is never used by the mock.
+   */
+  @Override
+  public void detachTimerWheel() {
+  }
+
+  /**
+   * Exports the dungeon to a writer, which writes nothing in the mock.
+   *
+   * @param format represents the format to write.
+   * @param out represents the writer to write to.
+   */
+  @Override
+  public void exportDungeon(GraphFormat format, Writer out) {
+  }
+
+  /**
+   * Exports the dungeon to a stream, which writes nothing in the mock.
+   *
+   * @param format represents the format to write.
+   * @param out represents the stream to write to.
+   */
+  @Override
+  public void exportDungeon(GraphFormat format, OutputStream out) {
+  }
+
+  /**
+   * Runs the action without keeping any of its changes.
+   *
+   * @param action represents the action to run.
+   * @return an empty edit.
+   */
+  @Override
+  public GameEdit record(Runnable action) {
+    action.run();
+    return new GameEdit();
+  }
+
+  /**
+   * Hands back the mock itself as its fork.
+   *
+   * @return the mock.
+   */
+  @Override
+  public Game fork() {
+    return this;
+  }
 }
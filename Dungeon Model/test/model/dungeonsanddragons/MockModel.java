@@ -1,6 +1,9 @@
 package model.dungeonsanddragons;
 
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 /**
@@ -148,6 +151,22 @@ public class MockModel implements Game {
     return;
   }
 
+  /**
+   * Goes down the stairs to the next level.
+   */
+  @Override
+  public void descend() {
+    log.add("descend");
+  }
+
+  /**
+   * Climbs the stairs to the level above.
+   */
+  @Override
+  public void climb() {
+    log.add("climb");
+  }
+
   /**
    * Gets the arrows currently in the player bag.
    *
@@ -170,30 +189,206 @@ public class MockModel implements Game {
     return Smell.PUNGENT;
   }
 
+  /**
+   * Gets the sound the player can hear, which is never any in the mock.
+   *
+   * @return null as there is no sound.
+   */
   @Override
   public Sound getSound() {
     return null;
   }
 
+  /**
+   * Gets how strongly the player senses the given sense, logging the call.
+   *
+   * @param sense represents the sense.
+   * @return 0 as nothing is sensed.
+   */
+  @Override
+  public int getIntensity(Sense sense) {
+    log.add("getIntensity");
+    return 0;
+  }
+
+  /**
+   * Logs that the game was asked if the treasure was stolen.
+   *
+   * @param time represents the current system time.
+   */
   @Override
   public void checkTreasureStolen(Long time) {
     log.add("checkTreasureStolen");
   }
 
+  /**
+   * Checks if the player has fallen into the pit, logging the call.
+   *
+   * @return false as the player never falls.
+   */
   @Override
   public boolean isFallen() {
     log.add("checkIsFallen");
     return false;
   }
 
+  /**
+   * Gets the number of rows of the dungeon.
+   *
+   * @return 0 as the mock has no dungeon.
+   */
   @Override
   public int getRows() {
     return 0;
   }
 
+  /**
+   * Gets the number of columns of the dungeon.
+   *
+   * @return 0 as the mock has no dungeon.
+   */
   @Override
   public int getColumns() {
     return 0;
   }
 
+  /**
+   * Gets the number of moves left to reach the end cave, logging the call.
+   *
+   * @return 5 moves.
+   */
+  @Override
+  public int getDistanceToEnd() {
+    log.add("getDistanceToEnd");
+    return 5;
+  }
+
+  /**
+   * Gets the move towards the end cave.
+   *
+   * @return LEFT as the move towards the end cave.
+   */
+  @Override
+  public Direction getNextStepToEnd() {
+    return Direction.LEFT;
+  }
+
+  /**
+   * Gets the number of moves between two locations, logging the call.
+   *
+   * @param source represents the identifier of the first location.
+   * @param destination represents the identifier of the second location.
+   * @return 5 moves.
+   */
+  @Override
+  public int getDistanceBetween(int source, int destination) {
+    log.add("getDistanceBetween");
+    return 5;
+  }
+
+  /**
+   * Gets the memory footprint of the game, logging the call.
+   *
+   * @return an empty memory footprint.
+   */
+  @Override
+  public MemoryFootprint getMemoryFootprint() {
+    log.add("getMemoryFootprint");
+    return new MemoryFootprint(new LinkedHashMap<>());
+  }
+
+  /**
+   * Gets the difficulty of the dungeon, logging the call.
+   *
+   * @return the difficulty of an empty dungeon.
+   */
+  @Override
+  public DifficultyEstimate getDifficulty() {
+    log.add("getDifficulty");
+    return new DifficultyEstimate(0, 0, true, 0, 1, 1);
+  }
+
+  /**
+   * Logs that a listener was added.
+   *
+   * @param listener represents the listener to add.
+   */
+  @Override
+  public void addGameListener(GameListener listener) {
+    log.add("addGameListener");
+  }
+
+  /**
+   * Logs that a listener was removed.
+   *
+   * @param listener represents the listener to remove.
+   */
+  @Override
+  public void removeGameListener(GameListener listener) {
+    log.add("removeGameListener");
+  }
+
+  /**
+   * Logs that the game was given a timer wheel.
+   *
+   * @param timers represents the timer wheel that fires the timed rules.
+   * @param idleTimeoutMillis represents the time the player may not act for.
+   */
+  @Override
+  public void useTimerWheel(TimerWheel timers, long idleTimeoutMillis) {
+    log.add("useTimerWheel");
+  }
+
+  /**
+   * Logs that the game was detached from its timer wheel.
+   */
+  @Override
+  public void detachTimerWheel() {
+    log.add("detachTimerWheel");
+  }
+
+  /**
+   * Logs that the dungeon was exported to a writer.
+   *
+   * @param format represents the format to write.
+   * @param out represents the writer to write to.
+   */
+  @Override
+  public void exportDungeon(GraphFormat format, Writer out) {
+    log.add("exportDungeon");
+  }
+
+  /**
+   * Logs that the dungeon was exported to a stream.
+   *
+   * @param format represents the format to write.
+   * @param out represents the stream to write to.
+   */
+  @Override
+  public void exportDungeon(GraphFormat format, OutputStream out) {
+    log.add("exportDungeon");
+  }
+
+  /**
+   * Runs the action without keeping any of its changes.
+   *
+   * @param action represents the action to run.
+   * @return an empty edit.
+   */
+  @Override
+  public GameEdit record(Runnable action) {
+    action.run();
+    return new GameEdit();
+  }
+
+  /**
+   * Logs that the game was forked and hands back the mock itself.
+   *
+   * @return the mock.
+   */
+  @Override
+  public Game fork() {
+    log.add("fork");
+    return this;
+  }
 }
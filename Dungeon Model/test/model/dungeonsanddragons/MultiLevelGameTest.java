@@ -0,0 +1,196 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A JUnit test class for the MultiLevelGame class.
+ */
+public class MultiLevelGameTest {
+
+  /**
+   * Testing that the stairs in the ending cave of a level lead down to the next level with the
+   * bag of the player, and that the ending cave of the last level wins the game.
+   */
+  @Test
+  public void testDescendToTheExit() {
+    MultiLevelGame game = new MultiLevelGame(8, 8, false, 4, 100, 1, 0, 0, 7, 3, 2);
+    assertEquals(0, game.getDepth());
+
+    clearLevel(game);
+    assertEquals(1, game.getDepth());
+    assertFalse(game.isReachedEnd());
+    int treasure = game.getTreasureCollectedByPlayer().size();
+    assertTrue(treasure > 0);
+
+    clearLevel(game);
+    assertEquals(2, game.getDepth());
+    assertTrue(game.getTreasureCollectedByPlayer().size() >= treasure);
+
+    clearLevel(game);
+    assertEquals(2, game.getDepth());
+    assertTrue(game.isReachedEnd());
+  }
+
+  /**
+   * Testing that only the given number of levels are kept in memory, and that a level put away
+   * comes back with its progress when the player climbs back up.
+   */
+  @Test
+  public void testLevelsArePutAway() {
+    MultiLevelGame game = new MultiLevelGame(8, 8, false, 4, 100, 1, 0, 0, 7, 6, 1);
+    for (int level = 1; level <= 3; level++) {
+      clearLevel(game);
+      assertEquals(level, game.getDepth());
+      assertEquals(1, game.getResidentLevels());
+      assertEquals(level, game.getSavedLevels());
+    }
+
+    game.climb();
+    assertEquals(2, game.getDepth());
+    assertEquals(0, game.getDistanceToEnd());
+    assertEquals(0, game.gameState().getMonsterHealth());
+    assertTrue(game.gameState().getVisitedLocations().cardinality() > 1);
+    assertEquals(1, game.getResidentLevels());
+    assertEquals(3, game.getSavedLevels());
+    assertTrue(game.getMemoryFootprint().getBreakdown().get("savedLevels") > 0);
+
+    assertFalse(game.isKilled());
+    assertEquals(2, game.getDepth());
+  }
+
+  /**
+   * Testing that levels are generated from the seed the same way every time.
+   */
+  @Test
+  public void testLevelsAreSeeded() {
+    MultiLevelGame first = new MultiLevelGame(8, 8, false, 4, 100, 1, 0, 0, 11, 3, 2);
+    MultiLevelGame second = new MultiLevelGame(8, 8, false, 4, 100, 1, 0, 0, 11, 3, 2);
+    clearLevel(first);
+    clearLevel(second);
+    assertEquals(first.printDungeonAs2D(), second.printDungeonAs2D());
+    assertEquals(first.gameState().getLocationId(), second.gameState().getLocationId());
+  }
+
+  /**
+   * Testing that going down in a fork leaves the game on its level.
+   */
+  @Test
+  public void testFork() {
+    MultiLevelGame game = new MultiLevelGame(8, 8, false, 4, 100, 1, 0, 0, 7, 3, 2);
+    MultiLevelGame fork = (MultiLevelGame) game.fork();
+    clearLevel(fork);
+    assertEquals(1, fork.getDepth());
+    assertEquals(0, game.getDepth());
+    assertEquals(1, game.getResidentLevels());
+  }
+
+  /**
+   * Testing that a level the player left no longer waits on the timer wheel, so only the level
+   * the player is on is reported idle.
+   */
+  @Test
+  public void testDepartedLevelLeavesTheTimerWheel() {
+    MultiLevelGame game = new MultiLevelGame(8, 8, false, 4, 100, 1, 0, 0, 7, 3, 2);
+    TimerWheel wheel = new TimerWheel(100, 64);
+    List<GameEvent> events = new ArrayList<>();
+    game.addGameListener(events::add);
+    game.useTimerWheel(wheel, 8000);
+
+    clearLevel(game);
+    assertEquals(1, game.getDepth());
+    assertEquals(1, wheel.getPendingTimeouts());
+
+    events.clear();
+    assertEquals(1, wheel.advance(8000));
+    assertEquals(1, events.size());
+    assertEquals(GameEventType.IDLE_TIMEOUT, events.get(0).getType());
+    assertEquals(game.gameState().getLocationId(), events.get(0).getLocation());
+  }
+
+  /**
+   * Testing that asking whether the player was killed or won doesn't take the player down the
+   * stairs, and that there are no stairs down away from the ending cave.
+   */
+  @Test
+  public void testQueriesDontDescend() {
+    MultiLevelGame game = new MultiLevelGame(8, 8, false, 4, 100, 1, 0, 0, 7, 3, 2);
+    try {
+      game.descend();
+      fail("There are no stairs down in the starting cave!");
+    } catch (IllegalStateException e) {
+      assertEquals(0, game.getDepth());
+    }
+
+    walkToEnd(game);
+    assertFalse(game.isReachedEnd());
+    assertFalse(game.isKilled());
+    assertEquals(0, game.getDepth());
+    assertEquals(0, game.getDistanceToEnd());
+
+    game.descend();
+    assertEquals(1, game.getDepth());
+  }
+
+  /**
+   * Testing that the player can't climb up from the first level or away from the stairs.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testNoStairsUp() {
+    new MultiLevelGame(8, 8, false, 4, 100, 1, 0, 0, 7, 3, 2).climb();
+  }
+
+  /**
+   * Testing that a game needs at least one level, kept in memory.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalLevels() {
+    new MultiLevelGame(8, 8, false, 4, 100, 1, 0, 0, 7, 3, 0);
+  }
+
+  /**
+   * Private helper method to clear the level and go down the stairs, unless it is the last level.
+   *
+   * @param game represents the game.
+   */
+  private static void clearLevel(MultiLevelGame game) {
+    walkToEnd(game);
+    if (game.getDepth() < game.getLevels() - 1) {
+      game.descend();
+    }
+  }
+
+  /**
+   * Private helper method to walk the player to the ending cave of the level, picking up
+   * everything along the way and slaying every monster in the way before going in, which is
+   * looked at by trying the step in a fork first.
+   *
+   * @param game represents the game.
+   */
+  private static void walkToEnd(MultiLevelGame game) {
+    while (game.getDistanceToEnd() > 0) {
+      while (game.gameState().getArrowCount() > 0) {
+        game.pickArrow();
+      }
+      while (!game.gameState().getTreasure().isEmpty()) {
+        game.pickTreasure(game.gameState().getTreasure().get(0));
+      }
+      Direction next = game.getNextStepToEnd();
+      Game ahead = game.fork();
+      ahead.movePlayer(next);
+      if (ahead.gameState().getMonsterHealth() > 0) {
+        game.shootArrow(1, next);
+        game.shootArrow(1, next);
+      }
+      game.movePlayer(next);
+      assertFalse(game.isKilled());
+    }
+  }
+}
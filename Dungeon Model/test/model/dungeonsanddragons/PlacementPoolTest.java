@@ -0,0 +1,108 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import random.FixedRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A JUnit test class for the PlacementPool class.
+ */
+public class PlacementPoolTest {
+
+  /**
+   * Testing that taking positions from the pool picks the same locations as removing the same
+   * positions from a list.
+   */
+  @Test
+  public void testTakeMatchesListRemove() {
+    Random random = new Random(7);
+    int[] candidates = new int[1000];
+    List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < candidates.length; i++) {
+      candidates[i] = i * 3;
+      expected.add(i * 3);
+    }
+
+    PlacementPool pool = new PlacementPool(candidates);
+    while (pool.size() > 0) {
+      int index = random.nextInt(pool.size());
+      assertEquals((int) expected.remove(index), pool.take(index));
+      assertEquals(expected.size(), pool.size());
+    }
+  }
+
+  /**
+   * Testing that removing a location skips it in later picks and can only happen once.
+   */
+  @Test
+  public void testRemove() {
+    PlacementPool pool = new PlacementPool(new int[]{2, 4, 6, 8});
+
+    assertTrue(pool.remove(4));
+    assertFalse(pool.remove(4));
+    assertFalse(pool.remove(5));
+    assertEquals(3, pool.size());
+    assertEquals(6, pool.take(1));
+    assertEquals(8, pool.take(1));
+    assertEquals(2, pool.take(0));
+  }
+
+  /**
+   * Testing that taking a position outside the free locations isn't allowed.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testTakeOutsidePool() {
+    PlacementPool pool = new PlacementPool(new int[]{1, 2});
+    pool.take(0);
+    pool.take(1);
+  }
+
+  /**
+   * Testing that locations which aren't in increasing order aren't allowed.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnorderedCandidates() {
+    new PlacementPool(new int[]{3, 1});
+  }
+
+  /**
+   * Testing that the pools hold every cave unless a constraint is asked for, and that constrained
+   * pools only hold locations that satisfy the constraint.
+   */
+  @Test
+  public void testConstrainedPools() {
+    DungeonImpl dungeon = new DungeonImpl(6, 6, false, new FixedRandom());
+    dungeon.create(2, 50, 3, 0, 0);
+    PlacementEngine engine = new PlacementEngine(dungeon.getDungeonNodes());
+    DistanceOracle oracle = dungeon.getDistanceOracle();
+    int start = dungeon.getStartingCave().getDungeonNodeIdentifier();
+
+    assertEquals(engine.getNoOfCaves(), engine.caves().size());
+    PlacementPool far = engine.caves(PlacementEngine.awayFrom(oracle, start, 3));
+    assertTrue(far.size() > 0);
+    assertTrue(far.size() < engine.getNoOfCaves());
+    while (far.size() > 0) {
+      int cave = far.take(0);
+      assertTrue(oracle.distance(start, cave) >= 3);
+      assertEquals(DungeonNodeType.CAVE, dungeon.getDungeonNodes().get(cave).getNodeIsA());
+    }
+
+    PlacementPool quiet = engine.locations(
+        PlacementEngine.noHazardAdjacent(oracle, dungeon.getDungeonNodes()));
+    while (quiet.size() > 0) {
+      int location = quiet.take(0);
+      for (DungeonNode node : dungeon.getDungeonNodes()) {
+        if (node.getMonster() != null || node.getPit() != null) {
+          assertTrue(oracle.distance(node.getDungeonNodeIdentifier(), location) > 1);
+        }
+      }
+    }
+  }
+}
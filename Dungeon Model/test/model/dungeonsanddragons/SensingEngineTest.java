@@ -0,0 +1,177 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import random.FixedRandom;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.UnaryOperator;
+
+/**
+ * A JUnit test class for the SensingEngine class.
+ */
+public class SensingEngineTest {
+
+  /**
+   * Testing that the smell and sound worked out by the engine are the same as the ones worked out
+   * from the monsters and pits one and two locations away, for every location of a few dungeons.
+   */
+  @Test
+  public void testSameAsNearbyHazards() {
+    for (long seed = 0; seed < 10; seed++) {
+      Dungeon dungeon = new DungeonImpl(12, 15, seed % 2 == 0, new SplittableGameRandom(seed),
+          MazeAlgorithm.KRUSKAL);
+      dungeon.create(10, 50, 8, 2, 4, DifficultyBand.ANY);
+      DungeonNode[][] grid = dungeon.getDungeonAs2D();
+      SensingEngine engine = new SensingEngine(grid);
+
+      int[] smell = new int[12 * 15];
+      boolean[] crackling = new boolean[12 * 15];
+      for (DungeonNode node : dungeon.getDungeonNodes()) {
+        if (node.getMonster() == null && node.getPit() == null) {
+          continue;
+        }
+        int[] moves = distancesFrom(grid, node.getDungeonNodeIdentifier());
+        for (int id = 0; id < moves.length; id++) {
+          if (node.getMonster() != null) {
+            smell[id] += moves[id] == 1 ? 2 : moves[id] == 2 ? 1 : 0;
+          }
+          crackling[id] |= node.getPit() != null && moves[id] == 1;
+        }
+      }
+
+      for (int id = 0; id < 12 * 15; id++) {
+        assertEquals(smell[id], engine.getIntensity(Sense.SMELL, id, UnaryOperator.identity()));
+        assertEquals(crackling[id],
+            engine.getIntensity(Sense.SOUND, id, UnaryOperator.identity()) > 0);
+      }
+    }
+  }
+
+  /**
+   * Testing that a sense of any radius and decay adds up the strengths of every thing it senses.
+   */
+  @Test
+  public void testCustomSense() {
+    Dungeon dungeon = new DungeonImpl(10, 10, false, new SplittableGameRandom(3),
+        MazeAlgorithm.KRUSKAL);
+    dungeon.create(5, 50, 4, 3, 0, DifficultyBand.ANY);
+    Sense hearing = new Sense("hearing", SensedEntity.THIEF, 3, 5, 2);
+    SensingEngine engine = new SensingEngine(dungeon.getDungeonAs2D());
+    DistanceOracle oracle = dungeon.getDistanceOracle();
+
+    for (int id = 0; id < 100; id++) {
+      int expected = 0;
+      for (DungeonNode node : dungeon.getDungeonNodes()) {
+        if (node.getThief() != null) {
+          int moves = oracle.distance(node.getDungeonNodeIdentifier(), id);
+          expected += moves == 1 ? 5 : moves == 2 ? 3 : moves == 3 ? 1 : 0;
+        }
+      }
+      assertEquals(expected, engine.getIntensity(hearing, id, UnaryOperator.identity()));
+    }
+  }
+
+  /**
+   * Testing that a copy shares the strengths with the engine it was copied from until either of
+   * them changes, and that a change made by one is never seen by the other.
+   */
+  @Test
+  public void testCopiesShareUntilChanged() {
+    Dungeon dungeon = new DungeonImpl(10, 10, true, new SplittableGameRandom(5),
+        MazeAlgorithm.KRUSKAL);
+    dungeon.create(5, 50, 6, 0, 0, DifficultyBand.ANY);
+    SensingEngine engine = new SensingEngine(dungeon.getDungeonAs2D());
+    engine.prepare(Sense.SMELL, UnaryOperator.identity());
+    int[] before = new int[100];
+    for (int id = 0; id < 100; id++) {
+      before[id] = engine.getIntensity(Sense.SMELL, id, UnaryOperator.identity());
+    }
+
+    SensingEngine copy = engine.copy();
+    SensingEngine other = engine.copy();
+    copy.sourceChanged(SensedEntity.MONSTER, 0, true);
+    engine.sourceChanged(SensedEntity.MONSTER, 99, true);
+    for (int id = 0; id < 100; id++) {
+      DistanceOracle oracle = dungeon.getDistanceOracle();
+      assertEquals(before[id] + Sense.SMELL.strengthAt(oracle.distance(0, id)),
+          copy.getIntensity(Sense.SMELL, id, UnaryOperator.identity()));
+      assertEquals(before[id] + Sense.SMELL.strengthAt(oracle.distance(99, id)),
+          engine.getIntensity(Sense.SMELL, id, UnaryOperator.identity()));
+      assertEquals(before[id], other.getIntensity(Sense.SMELL, id, UnaryOperator.identity()));
+    }
+  }
+
+  /**
+   * Testing that slaying a monster takes its smell away, that taking the shot back brings it
+   * back, and that a fork keeps its own smells.
+   */
+  @Test
+  public void testSmellFollowsTheMonster() {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    while (game.getDistanceToEnd() > 1) {
+      game.movePlayer(game.getNextStepToEnd());
+    }
+    Direction last = game.getNextStepToEnd();
+    assertEquals(Smell.MOREPUNGENT, game.getSmell());
+    assertEquals(2, game.getIntensity(Sense.SMELL));
+
+    Game fork = game.fork();
+    game.shootArrow(1, last);
+    assertEquals(Smell.MOREPUNGENT, game.getSmell());
+    GameEdit kill = game.record(() -> game.shootArrow(1, last));
+    assertNull(game.getSmell());
+    assertEquals(Smell.MOREPUNGENT, fork.getSmell());
+
+    kill.undo();
+    assertEquals(Smell.MOREPUNGENT, game.getSmell());
+    kill.redo();
+    assertNull(game.getSmell());
+    assertTrue(game.getMemoryFootprint().getBreakdown().get("senses") > 0);
+  }
+
+  /**
+   * Testing that a sense can't reach less than one location away.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalSense() {
+    new Sense("touch", SensedEntity.MONSTER, 0, 1, 0);
+  }
+
+  /**
+   * Private helper method to find the number of moves from a location to every location of the
+   * dungeon with a breadth first search of its own.
+   *
+   * @param grid represents the 2d representation of the dungeon.
+   * @param source represents the identifier of the location to measure from.
+   * @return the number of moves to every location, -1 for a location that can't be reached.
+   */
+  private static int[] distancesFrom(DungeonNode[][] grid, int source) {
+    int rows = grid.length;
+    int columns = grid[0].length;
+    int[] moves = new int[rows * columns];
+    Arrays.fill(moves, -1);
+    Deque<Integer> queue = new ArrayDeque<>();
+    moves[source] = 0;
+    queue.add(source);
+    while (!queue.isEmpty()) {
+      int current = queue.poll();
+      DungeonNode node = grid[current / columns][current % columns];
+      for (Direction direction : Direction.values()) {
+        int next = DistanceField.neighbour(node, direction, current / columns,
+            current % columns, rows, columns);
+        if (next >= 0 && moves[next] < 0) {
+          moves[next] = moves[current] + 1;
+          queue.add(next);
+        }
+      }
+    }
+    return moves;
+  }
+}
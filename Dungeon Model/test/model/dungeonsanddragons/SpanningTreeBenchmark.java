@@ -0,0 +1,146 @@
+package model.dungeonsanddragons;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * Compares the maze algorithms on large grids. For every algorithm and grid size this prints the
+ * time to carve the grid, the memory allocated while doing so, and the shape of the resulting
+ * maze: the share of dead ends and the average length of the corridors between junctions or dead
+ * ends. The dungeon itself is limited to 100 x 100, so the strategies are run directly on the
+ * grid edges which lets the larger 1000 x 1000 grid be measured too. Run it with a few hundred
+ * megabytes of heap, for example java -Xmx1g model.dungeonsanddragons.SpanningTreeBenchmark.
+ */
+public class SpanningTreeBenchmark {
+
+  private static final int[] SIZES = {100, 1000};
+  private static final int RUNS = 3;
+
+  /**
+   * Runs the benchmark and prints one line for every algorithm and grid size.
+   *
+   * @param args are not used.
+   */
+  public static void main(String[] args) {
+    System.out.println("algorithm     size        ms/run   MB/run   dead ends  corridor");
+
+    for (int size : SIZES) {
+      int nodes = size * size;
+      int[][] grid = GridEdges.of(size, size);
+
+      for (MazeAlgorithm algorithm : MazeAlgorithm.values()) {
+        SpanningTreeStrategy strategy = algorithm.createStrategy();
+        strategy.orderEdges(nodes, grid[0], grid[1], new SplittableGameRandom(1));
+
+        long allocated = allocatedBytes();
+        long started = System.nanoTime();
+        int[] order = null;
+        for (int run = 0; run < RUNS; run++) {
+          order = strategy.orderEdges(nodes, grid[0], grid[1], new SplittableGameRandom(run));
+        }
+        double millis = (System.nanoTime() - started) / 1e6 / RUNS;
+        double megabytes = (allocatedBytes() - allocated) / 1048576.0 / RUNS;
+
+        int[] degree = new int[nodes];
+        for (int i = 0; i < nodes - 1; i++) {
+          degree[grid[0][order[i]]]++;
+          degree[grid[1][order[i]]]++;
+        }
+
+        System.out.println(String.format(Locale.ROOT, "%-12s %5dx%-5d %8.1f %8.1f %9.1f%% %9.2f",
+            algorithm, size, size, millis, megabytes, 100.0 * deadEnds(degree) / nodes,
+            corridorLength(grid, order, degree)));
+      }
+    }
+  }
+
+  /**
+   * Counts the dead ends of the maze, the locations with a single door.
+   *
+   * @param degree represents the number of tree edges of every location.
+   * @return the number of dead ends.
+   */
+  private static int deadEnds(int[] degree) {
+    int count = 0;
+    for (int d : degree) {
+      if (d == 1) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Finds the average length of the corridors, walking from every location that isn't part of a
+   * corridor along each of its doors until the next such location.
+   *
+   * @param grid represents the sources and the destinations of the grid edges.
+   * @param order represents the edges in the order the algorithm picked them.
+   * @param degree represents the number of tree edges of every location.
+   * @return the average number of edges in a corridor.
+   */
+  private static double corridorLength(int[][] grid, int[] order, int[] degree) {
+    int nodes = degree.length;
+    int[] tree = new int[nodes - 1];
+    System.arraycopy(order, 0, tree, 0, nodes - 1);
+    EdgeIncidence incidence = new EdgeIncidence(nodes, pick(grid[0], tree), pick(grid[1], tree));
+
+    long total = 0;
+    long corridors = 0;
+    for (int node = 0; node < nodes; node++) {
+      if (degree[node] == 2) {
+        continue;
+      }
+      for (int i = 0; i < incidence.degree(node); i++) {
+        int previous = node;
+        int edge = incidence.edge(node, i);
+        int current = incidence.other(edge, node);
+        int length = 1;
+        while (degree[current] == 2) {
+          int next = incidence.edge(current, 0);
+          if (next == edge) {
+            next = incidence.edge(current, 1);
+          }
+          previous = current;
+          edge = next;
+          current = incidence.other(edge, previous);
+          length++;
+        }
+        total += length;
+        corridors++;
+      }
+    }
+    return corridors == 0 ? 0 : (double) total / corridors;
+  }
+
+  /**
+   * Picks the values at the given indices.
+   *
+   * @param values represents the values to pick from.
+   * @param indices represents the indices to pick.
+   * @return the picked values in the order of the indices.
+   */
+  private static int[] pick(int[] values, int[] indices) {
+    int[] picked = new int[indices.length];
+    for (int i = 0; i < indices.length; i++) {
+      picked[i] = values[indices[i]];
+    }
+    return picked;
+  }
+
+  /**
+   * Gets the bytes allocated by the current thread so far, or 0 when the virtual machine can't
+   * tell.
+   *
+   * @return the allocated bytes.
+   */
+  private static long allocatedBytes() {
+    ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+    if (bean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) bean)
+          .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+    return 0;
+  }
+}
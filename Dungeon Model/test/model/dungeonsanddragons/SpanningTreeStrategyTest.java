@@ -0,0 +1,100 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import random.FixedRandom;
+
+import java.util.Random;
+
+/**
+ * A JUnit test class for the spanning tree strategies that carve the dungeon out of the grid.
+ */
+public class SpanningTreeStrategyTest {
+
+  /**
+   * Testing that every algorithm orders all the edges and that the first nodes - 1 edges connect
+   * every location without a loop.
+   */
+  @Test
+  public void testEveryAlgorithmBuildsSpanningTree() {
+    int rows = 12;
+    int columns = 9;
+    int[][] grid = GridEdges.of(rows, columns);
+
+    for (MazeAlgorithm algorithm : MazeAlgorithm.values()) {
+      int[] order = algorithm.createStrategy()
+          .orderEdges(rows * columns, grid[0], grid[1], new SharedGameRandom(new Random(3)));
+
+      assertEquals(grid[0].length, order.length);
+      boolean[] seen = new boolean[order.length];
+      for (int edge : order) {
+        assertTrue(!seen[edge]);
+        seen[edge] = true;
+      }
+
+      int[] parent = new int[rows * columns];
+      for (int i = 0; i < parent.length; i++) {
+        parent[i] = i;
+      }
+      for (int i = 0; i < rows * columns - 1; i++) {
+        int x = find(parent, grid[0][order[i]]);
+        int y = find(parent, grid[1][order[i]]);
+        assertTrue(algorithm + " picked a loop", x != y);
+        parent[y] = x;
+      }
+    }
+  }
+
+  /**
+   * Testing that a disconnected grid can't be carved.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testDisconnectedGrid() {
+    new PrimStrategy().orderEdges(4, new int[]{0, 2}, new int[]{1, 3},
+        new SharedGameRandom(new Random(1)));
+  }
+
+  /**
+   * Testing that a random walk which never reaches the tree is stopped.
+   */
+  @Test(expected = IllegalStateException.class)
+  public void testWilsonWithoutRandomness() {
+    new WilsonStrategy().orderEdges(3, new int[]{1, 0}, new int[]{2, 1},
+        new SharedGameRandom(new FixedRandom()));
+  }
+
+  /**
+   * Testing that a game can be created and won with every algorithm.
+   */
+  @Test
+  public void testGameWithEveryAlgorithm() {
+    for (MazeAlgorithm algorithm : MazeAlgorithm.values()) {
+      Game game = new FantasyRolePlayingGame(8, 8, false, 3, 50, 1, 0, 0,
+          SharedGameRandom.wrap(new Random(11)), algorithm, Long.MAX_VALUE,
+          DifficultyBand.ANY);
+
+      int distance = game.getDistanceToEnd();
+      assertTrue(distance >= 5);
+      for (int i = 0; i < distance; i++) {
+        game.movePlayer(game.getNextStepToEnd());
+      }
+      assertTrue(game.isReachedEnd());
+    }
+  }
+
+  /**
+   * Private helper method to find the representative of the set holding a location.
+   *
+   * @param parent represents the parent of every location in the sets.
+   * @param node represents the location.
+   * @return the representative of its set.
+   */
+  private int find(int[] parent, int node) {
+    while (parent[node] != node) {
+      node = parent[node];
+    }
+    return node;
+  }
+}
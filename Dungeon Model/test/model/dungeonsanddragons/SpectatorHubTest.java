@@ -0,0 +1,191 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import random.FixedRandom;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JUnit test class for the SpectatorHub and Spectator classes.
+ */
+public class SpectatorHubTest {
+
+  /**
+   * Testing that the changes made during a command reach every spectator as one delta.
+   */
+  @Test
+  public void testDeltaPerCommand() throws InterruptedException {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    SpectatorHub hub = new SpectatorHub();
+    hub.watch(game);
+    Spectator coach = hub.subscribe(8);
+    Spectator overlay = hub.subscribe(8);
+
+    game.movePlayer(game.getNextStepToEnd());
+    hub.publish();
+    game.movePlayer(game.getNextStepToEnd());
+    hub.publish();
+    hub.publish();
+
+    for (Spectator spectator : new Spectator[] {coach, overlay}) {
+      GameDelta first = spectator.poll(5, TimeUnit.SECONDS);
+      GameDelta second = spectator.poll(5, TimeUnit.SECONDS);
+      assertEquals(1, first.getSequence());
+      assertEquals(2, second.getSequence());
+      assertEquals(1, second.getEvents().size());
+      assertEquals(GameEventType.PLAYER_MOVED, second.getEvents().get(0).getType());
+      assertEquals(game.gameState().getLocationId(), second.getEvents().get(0).getLocation());
+      assertNull(spectator.poll(50, TimeUnit.MILLISECONDS));
+    }
+    hub.close();
+  }
+
+  /**
+   * Testing that a spectator that doesn't keep up has its oldest deltas dropped while the other
+   * spectators get every delta.
+   */
+  @Test
+  public void testSlowSpectatorDropsOldest() throws InterruptedException {
+    SpectatorHub hub = new SpectatorHub();
+    Spectator slow = hub.subscribe(2);
+    Spectator fast = hub.subscribe(16);
+
+    for (int i = 0; i < 10; i++) {
+      hub.gameChanged(new GameEvent(GameEventType.ARROW_PICKED, i, 0, i, ""));
+      hub.publish();
+    }
+
+    for (int i = 1; i <= 10; i++) {
+      assertEquals(i, fast.poll(5, TimeUnit.SECONDS).getSequence());
+    }
+    assertEquals(2, slow.getPending());
+    assertEquals(8, slow.getDropped());
+    assertEquals(9, slow.poll(1, TimeUnit.SECONDS).getSequence());
+    assertEquals(10, slow.poll(1, TimeUnit.SECONDS).getSequence());
+    assertEquals(0, fast.getDropped());
+    hub.close();
+  }
+
+  /**
+   * Testing that the deltas waiting for a delivery thread that stopped are bounded, dropping the
+   * oldest ones.
+   */
+  @Test
+  public void testStalledDeliveryDropsOldest() {
+    SpectatorHub hub = new SpectatorHub(2);
+    hub.subscribe(16);
+    hub.close();
+
+    for (int i = 0; i < 5; i++) {
+      hub.gameChanged(new GameEvent(GameEventType.ARROW_PICKED, i, 0, i, ""));
+      hub.publish();
+    }
+    assertEquals(3, hub.getDropped());
+  }
+
+  /**
+   * Testing that nothing is gathered while nobody watches, and that a closed spectator stops
+   * getting deltas.
+   */
+  @Test
+  public void testNoSpectators() throws InterruptedException {
+    SpectatorHub hub = new SpectatorHub();
+    hub.gameChanged(new GameEvent(GameEventType.ARROW_PICKED, 0, 0, 0, ""));
+    hub.publish();
+
+    Spectator spectator = hub.subscribe(4);
+    hub.gameChanged(new GameEvent(GameEventType.ARROW_SHOT, 1, 0, 1, "NORTH"));
+    hub.publish();
+    GameDelta delta = spectator.poll(5, TimeUnit.SECONDS);
+    assertEquals(1, delta.getSequence());
+    assertEquals(GameEventType.ARROW_SHOT, delta.getEvents().get(0).getType());
+
+    spectator.close();
+    assertTrue(spectator.isClosed());
+    assertEquals(0, hub.getSpectators());
+    hub.gameChanged(new GameEvent(GameEventType.ARROW_SHOT, 1, 0, 1, "NORTH"));
+    hub.publish();
+    assertNull(spectator.poll(50, TimeUnit.MILLISECONDS));
+    hub.close();
+  }
+
+  /**
+   * Testing that watching another game leaves the game watched before.
+   */
+  @Test
+  public void testWatchAnotherGame() throws InterruptedException {
+    Game first = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    Game second = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    SpectatorHub hub = new SpectatorHub();
+    Spectator spectator = hub.subscribe(4);
+    hub.watch(first);
+    hub.watch(second);
+
+    first.movePlayer(first.getNextStepToEnd());
+    hub.publish();
+    assertNull(spectator.poll(50, TimeUnit.MILLISECONDS));
+
+    second.movePlayer(second.getNextStepToEnd());
+    hub.publish();
+    assertEquals(1, spectator.poll(5, TimeUnit.SECONDS).getSequence());
+    hub.close();
+  }
+
+  /**
+   * Testing that taking a move back and making it again reach the spectators as deltas holding
+   * where the player is now.
+   */
+  @Test
+  public void testUndoRedoDelta() throws InterruptedException {
+    Game game = new FantasyRolePlayingGame(8, 8, true, 6, 50, 1, 0, 0, new FixedRandom());
+    SpectatorHub hub = new SpectatorHub();
+    hub.watch(game);
+    Spectator spectator = hub.subscribe(8);
+
+    int start = game.gameState().getLocationId();
+    GameEdit edit = game.record(() -> game.movePlayer(game.getNextStepToEnd()));
+    int moved = game.gameState().getLocationId();
+    hub.publish();
+    assertEquals(moved, spectator.poll(5, TimeUnit.SECONDS).getEvents().get(0).getLocation());
+
+    edit.undo();
+    hub.publish();
+    GameDelta undone = spectator.poll(5, TimeUnit.SECONDS);
+    assertEquals(2, undone.getSequence());
+    assertEquals(1, undone.getEvents().size());
+    GameEvent event = undone.getEvents().get(0);
+    assertEquals(GameEventType.UNDONE, event.getType());
+    assertEquals(GameEventType.PLAYER_MOVED.name(), event.getDetail());
+    assertEquals(start, event.getLocation());
+    assertEquals(start, game.gameState().getLocationId());
+
+    edit.redo();
+    hub.publish();
+    event = spectator.poll(5, TimeUnit.SECONDS).getEvents().get(0);
+    assertEquals(GameEventType.REDONE, event.getType());
+    assertEquals(moved, event.getLocation());
+    assertNull(spectator.poll(50, TimeUnit.MILLISECONDS));
+    hub.close();
+  }
+
+  /**
+   * Testing that a spectator can't subscribe without room for a delta.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalCapacity() {
+    new SpectatorHub().subscribe(0);
+  }
+
+  /**
+   * Testing that the hub can't watch a missing game.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalGame() {
+    new SpectatorHub().watch(null);
+  }
+}
@@ -0,0 +1,126 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import random.FixedRandom;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * A JUnit test class for the SplittableGameRandom and SharedGameRandom classes.
+ */
+public class SplittableGameRandomTest {
+
+  /**
+   * Testing that the same seed gives the same numbers.
+   */
+  @Test
+  public void testSameSeedSameNumbers() {
+    assertEquals(Arrays.toString(draw(new SplittableGameRandom(42), 20)),
+        Arrays.toString(draw(new SplittableGameRandom(42), 20)));
+    assertNotEquals(Arrays.toString(draw(new SplittableGameRandom(42), 20)),
+        Arrays.toString(draw(new SplittableGameRandom(43), 20)));
+  }
+
+  /**
+   * Testing that a stream gives the same numbers no matter how much was drawn from the generator
+   * or the other streams before it was split off.
+   */
+  @Test
+  public void testStreamsAreIndependent() {
+    GameRandom quiet = new SplittableGameRandom(7);
+    String expected = Arrays.toString(draw(quiet.split(RandomStream.TREASURE), 20));
+
+    GameRandom busy = new SplittableGameRandom(7);
+    draw(busy, 100);
+    draw(busy.split(RandomStream.MAZE), 1000);
+    assertEquals(expected, Arrays.toString(draw(busy.split(RandomStream.TREASURE), 20)));
+
+    assertNotEquals(expected, Arrays.toString(draw(busy.split(RandomStream.ARROWS), 20)));
+  }
+
+  /**
+   * Testing that a stream gives the numbers it always gave, so that adding or reordering streams
+   * can't change them, and that no two streams share a key.
+   */
+  @Test
+  public void testStreamsArePinned() {
+    assertEquals("[94, 771, 939, 280, 356]", Arrays.toString(
+        draw(new SplittableGameRandom(7).split(RandomStream.TREASURE), 5)));
+
+    Set<Integer> keys = new HashSet<>();
+    for (RandomStream stream : RandomStream.values()) {
+      assertTrue(keys.add(stream.getKey()));
+    }
+  }
+
+  /**
+   * Testing that the same seed creates the same game with a generator of independent streams.
+   */
+  @Test
+  public void testSameSeedSameGame() {
+    Game first = new FantasyRolePlayingGame(8, 8, false, 4, 50, 3, 2, 2,
+        new SplittableGameRandom(11));
+    Game second = new FantasyRolePlayingGame(8, 8, false, 4, 50, 3, 2, 2,
+        new SplittableGameRandom(11));
+
+    assertEquals(first.printDungeonAs2D(), second.printDungeonAs2D());
+    assertEquals(first.getDifficulty().toString(), second.getDifficulty().toString());
+    assertEquals(first.getDistanceToEnd(), second.getDistanceToEnd());
+  }
+
+  /**
+   * Testing that a generator adapted from a random keeps drawing from the random in order.
+   */
+  @Test
+  public void testSharedStreamKeepsOrder() {
+    Random expected = new Random(5);
+    GameRandom shared = new SharedGameRandom(new Random(5));
+
+    assertSame(shared, shared.split(RandomStream.COMBAT));
+    for (RandomStream stream : RandomStream.values()) {
+      assertEquals(expected.nextInt(100), shared.split(stream).nextInt(100));
+    }
+    assertEquals(0, new SharedGameRandom(new FixedRandom()).split(RandomStream.MAZE)
+        .nextInt(10));
+  }
+
+  /**
+   * Testing that a stream can't be split off without its name.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalStream() {
+    new SplittableGameRandom(1).split(null);
+  }
+
+  /**
+   * Testing that a generator can't be adapted from a missing random.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalSharedRandom() {
+    new SharedGameRandom(null);
+  }
+
+  /**
+   * Private helper method to draw numbers from the generator.
+   *
+   * @param random represents the generator to draw from.
+   * @param count represents the number of numbers to draw.
+   * @return the numbers drawn.
+   */
+  private static int[] draw(GameRandom random, int count) {
+    int[] numbers = new int[count];
+    for (int i = 0; i < count; i++) {
+      numbers[i] = random.nextInt(1000);
+    }
+    return numbers;
+  }
+}
@@ -0,0 +1,100 @@
+package model.dungeonsanddragons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A JUnit test class for the TimerWheel class.
+ */
+public class TimerWheelTest {
+
+  /**
+   * Testing that a timeout fires on the first tick after its delay has passed and never early.
+   */
+  @Test
+  public void testTimeoutFiresAfterDelay() {
+    TimerWheel wheel = new TimerWheel(10, 8);
+    List<String> fired = new ArrayList<>();
+    wheel.schedule(() -> fired.add("first"), 25);
+
+    assertEquals(0, wheel.advance(20));
+    assertTrue(fired.isEmpty());
+    assertEquals(1, wheel.advance(10));
+    assertEquals(1, fired.size());
+    assertEquals(0, wheel.getPendingTimeouts());
+  }
+
+  /**
+   * Testing that a timeout further away than one turn of the wheel waits for its own tick.
+   */
+  @Test
+  public void testTimeoutBeyondOneTurn() {
+    TimerWheel wheel = new TimerWheel(10, 8);
+    List<Integer> fired = new ArrayList<>();
+    wheel.schedule(() -> fired.add(1000), 1000);
+    wheel.schedule(() -> fired.add(40), 40);
+
+    assertEquals(1, wheel.advance(990));
+    assertEquals(40, (int) fired.get(0));
+    assertEquals(1, wheel.advance(10));
+    assertEquals(1000, (int) fired.get(1));
+  }
+
+  /**
+   * Testing that a cancelled timeout doesn't fire and can't be cancelled twice.
+   */
+  @Test
+  public void testCancelledTimeoutDoesNotFire() {
+    TimerWheel wheel = new TimerWheel(10, 8);
+    List<String> fired = new ArrayList<>();
+    TimerWheel.Timeout timeout = wheel.schedule(() -> fired.add("cancelled"), 30);
+    wheel.schedule(() -> fired.add("kept"), 30);
+
+    assertTrue(timeout.cancel());
+    assertFalse(timeout.cancel());
+    assertTrue(timeout.isCancelled());
+    assertEquals(1, wheel.getPendingTimeouts());
+    assertEquals(1, wheel.advance(100));
+    assertEquals("kept", fired.get(0));
+    assertEquals(1, fired.size());
+  }
+
+  /**
+   * Testing that a started wheel fires the timeouts with the system clock.
+   */
+  @Test
+  public void testStartedWheelFiresWithClock() throws InterruptedException {
+    TimerWheel wheel = new TimerWheel(5, 64);
+    CountDownLatch latch = new CountDownLatch(1);
+    TimerWheel.Timeout timeout = wheel.schedule(latch::countDown, 20);
+    wheel.start();
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertTrue(timeout.isExpired());
+    wheel.stop();
+  }
+
+  /**
+   * Testing that a wheel without slots can't be created.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalWheel() {
+    new TimerWheel(10, 0);
+  }
+
+  /**
+   * Testing that a timeout with a negative delay can't be scheduled.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void testIllegalDelay() {
+    new TimerWheel(10, 8).schedule(() -> { }, -1);
+  }
+}